@@ -0,0 +1,91 @@
+package study.blog.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 Access Token 인증 비용 비교.
+ *
+ * - legacyTwoParses: 변경 전 필터 동작 (getMemberIdFromJWT + getAuthorities, 매번 키/파서 생성 후 2회 파싱)
+ * - singleParse: 미리 만든 파서로 1회 파싱 (검증 캐시 비활성화)
+ * - cachedAuthenticate: 검증 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String ACCESS_KEY = "benchmark-access-secret-key-must-be-32-characters!!";
+    private static final String REFRESH_KEY = "benchmark-refresh-secret-key-must-be-32-characters!";
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        uncachedProvider = provider(0);
+        cachedProvider = provider(30_000);
+        token = cachedProvider.generateAccessToken(1L, new UsernamePasswordAuthenticationToken(
+                "principal", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @Benchmark
+    public void legacyTwoParses(Blackhole blackhole) {
+        Claims subjectClaims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(ACCESS_KEY.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        Claims authorityClaims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(ACCESS_KEY.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        blackhole.consume(Long.valueOf(subjectClaims.getSubject()));
+        blackhole.consume(authorityClaims.get("authorities", String.class));
+    }
+
+    @Benchmark
+    public JwtPrincipal singleParse() {
+        return uncachedProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedAuthenticate() {
+        return cachedProvider.authenticate(token);
+    }
+
+    private static JwtTokenProvider provider(long verificationCacheTtlMs) throws Exception {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        setField(provider, "accessKey", ACCESS_KEY);
+        setField(provider, "refreshKey", REFRESH_KEY);
+        setField(provider, "jwtExpirationInMs", 900_000L);
+        setField(provider, "refreshExpirationInMs", 604_800_000L);
+        setField(provider, "verificationCacheTtlMs", verificationCacheTtlMs);
+        return provider;
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
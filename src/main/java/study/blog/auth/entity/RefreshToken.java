@@ -1,46 +1,38 @@
 package study.blog.auth.entity;
 
-import study.blog.auth.exception.TokenTamperedException;
-
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 기기(세션)별 Refresh Token.
+ *
+ * 로그인할 때마다 새로운 세션(sessionId)이 만들어지며, 재발급은 같은 세션 안에서 토큰만 교체(rotate)한다.
+ * 저장소에는 토큰 원문이 아니라 SHA-256 해시만 보관한다.
+ */
 public class RefreshToken {
 
     private final Long memberId;
-    private String token;
+    private final String sessionId;
+    private final String token;
 
-    private RefreshToken(Long memberId, String token) {
+    private RefreshToken(Long memberId, String sessionId, String token) {
         this.memberId = memberId;
+        this.sessionId = sessionId;
         this.token = token;
     }
 
-    public static RefreshToken issue(Long memberId, String token) {
-        return new RefreshToken(memberId, token);
-    }
-
-    public static RefreshToken restore(Long memberId, String token) {
-        return new RefreshToken(memberId, token);
-    }
-
-    /**
-     * Refresh Token을 회전(rotating)한다.
-     *
-     * 현재 저장된 토큰과 전달된 토큰이 일치하는 경우에만
-     * 새로운 토큰으로 교체한다.
-     *
-     * 이는 토큰 재사용(replay attack)을 방지하기 위한 보안 정책이며,
-     * 탈취된 이전 토큰으로는 재발급이 불가능하도록 보장한다.
-     *
-     * @param incomingToken 클라이언트가 보유한 기존 Refresh Token
-     * @param newToken 새로 발급된 Refresh Token
-     * @throws TokenTamperedException 토큰이 일치하지 않는 경우
-     */
-    public void rotate(String incomingToken, String newToken) {
-        validateMatch(incomingToken);
-        this.token = newToken;
+    public static RefreshToken issue(Long memberId, String sessionId, String token) {
+        return new RefreshToken(memberId, sessionId, token);
     }
 
-    private void validateMatch(String incomingToken) {
-        if (!this.token.equals(incomingToken)) {
-            throw new TokenTamperedException("토큰이 탈취되었을 가능성이 있습니다. 다시 로그인해주세요.");
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
@@ -48,7 +40,15 @@ public class RefreshToken {
         return memberId;
     }
 
+    public String getSessionId() {
+        return sessionId;
+    }
+
     public String getToken() {
         return token;
     }
+
+    public String getTokenHash() {
+        return hash(token);
+    }
 }
@@ -0,0 +1,28 @@
+package study.blog.auth.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import study.blog.auth.repository.TokenBlacklistBloomFilter;
+
+@Configuration
+@RequiredArgsConstructor
+public class AuthPubSubConfig {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final TokenBlacklistPubSubListener tokenBlacklistPubSubListener;
+
+    @Bean
+    public RedisMessageListenerContainer authListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                tokenBlacklistPubSubListener,
+                new ChannelTopic(TokenBlacklistBloomFilter.CHANNEL)
+        );
+        return container;
+    }
+}
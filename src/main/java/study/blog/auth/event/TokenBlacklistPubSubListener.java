@@ -0,0 +1,27 @@
+package study.blog.auth.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import study.blog.auth.repository.TokenBlacklistBloomFilter;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistPubSubListener implements MessageListener {
+
+    private final TokenBlacklistBloomFilter tokenBlacklistBloomFilter;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            tokenBlacklistBloomFilter.put(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.error("블랙리스트 Bloom filter 반영 실패", e);
+        }
+    }
+}
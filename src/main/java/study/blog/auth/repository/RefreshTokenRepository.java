@@ -2,34 +2,119 @@ package study.blog.auth.repository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import study.blog.auth.entity.RefreshToken;
 
 import java.time.Duration;
-import java.util.Optional;
+import java.util.List;
 
+/**
+ * 회원별 Refresh Token 세션 저장소.
+ *
+ * 처리 정책
+ * - Redis key: RT:{memberId} (HASH, field = sessionId, value = "{토큰 SHA-256}|{마지막 사용 시각 epoch millis}")
+ * - 기기마다 세션이 따로 유지되므로 다른 기기에서 로그인해도 기존 기기의 세션은 끊기지 않는다.
+ * - 회원당 최대 MAX_SESSIONS 개의 세션만 유지하며, 넘치면 가장 오래 사용되지 않은 세션을 제거한다.
+ * - 재발급(rotate)은 "저장된 해시와 비교 → 교체"를 Lua 스크립트로 원자적으로 수행한다.
+ *   (같은 토큰으로 동시에 재발급 요청이 와도 하나만 성공한다)
+ * - 이미 교체된(이전) 토큰이 다시 사용되면 탈취로 보고 해당 세션을 제거한다.
+ * - 이전 형식(RT:{memberId} STRING) 키는 로그인 시 삭제하고, 재발급 시에는 세션 없음으로 처리한다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class RefreshTokenRepository {
 
+    static final int MAX_SESSIONS = 5;
     private static final String KEY_PREFIX = "RT:";
 
+    /**
+     * KEYS[1] = RT:{memberId}
+     * ARGV[1] = sessionId, ARGV[2] = 토큰 해시, ARGV[3] = now, ARGV[4] = TTL(ms), ARGV[5] = MAX_SESSIONS
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('TYPE', KEYS[1]).ok == 'string' then
+                redis.call('DEL', KEYS[1])
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. ARGV[3])
+            local evicted = 0
+            while redis.call('HLEN', KEYS[1]) > tonumber(ARGV[5]) do
+                local sessions = redis.call('HGETALL', KEYS[1])
+                local oldestField, oldestTime
+                for i = 1, #sessions, 2 do
+                    local value = sessions[i + 1]
+                    local usedAt = tonumber(string.sub(value, string.find(value, '|', 1, true) + 1))
+                    if oldestTime == nil or usedAt < oldestTime then
+                        oldestField, oldestTime = sessions[i], usedAt
+                    end
+                end
+                redis.call('HDEL', KEYS[1], oldestField)
+                evicted = evicted + 1
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return evicted
+            """, Long.class);
+
+    /**
+     * KEYS[1] = RT:{memberId}
+     * ARGV[1] = sessionId, ARGV[2] = 요청 토큰 해시, ARGV[3] = 새 토큰 해시, ARGV[4] = now, ARGV[5] = TTL(ms)
+     * return 1 = 교체 성공, 0 = 세션 없음, -1 = 재사용 감지(세션 제거)
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('TYPE', KEYS[1]).ok ~= 'hash' then
+                return 0
+            end
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if not current then
+                return 0
+            end
+            local storedHash = string.sub(current, 1, string.find(current, '|', 1, true) - 1)
+            if storedHash ~= ARGV[2] then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                return -1
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
+    public enum RotateResult {
+        ROTATED, SESSION_NOT_FOUND, REUSED
+    }
+
     public void save(RefreshToken refreshToken, Duration ttl) {
-        redisTemplate.opsForValue().set(
-                KEY_PREFIX + refreshToken.getMemberId(),
-                refreshToken.getToken(),
-                ttl
-        );
+        redisTemplate.execute(SAVE_SCRIPT, List.of(KEY_PREFIX + refreshToken.getMemberId()),
+                refreshToken.getSessionId(),
+                refreshToken.getTokenHash(),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(ttl.toMillis()),
+                String.valueOf(MAX_SESSIONS));
+    }
+
+    /**
+     * 세션의 토큰이 incomingToken 과 일치할 때만 newToken 으로 교체한다.
+     */
+    public RotateResult rotate(RefreshToken incomingToken, String newToken, Duration ttl) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + incomingToken.getMemberId()),
+                incomingToken.getSessionId(),
+                incomingToken.getTokenHash(),
+                RefreshToken.hash(newToken),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(ttl.toMillis()));
+
+        if (result == null || result == 0L) return RotateResult.SESSION_NOT_FOUND;
+        if (result < 0) return RotateResult.REUSED;
+        return RotateResult.ROTATED;
     }
 
-    public Optional<RefreshToken> findByMemberId(Long memberId) {
-        return Optional.ofNullable(redisTemplate.opsForValue().get(KEY_PREFIX + memberId))
-                .map(token -> RefreshToken.restore(memberId, token));
+    public void delete(Long memberId, String sessionId) {
+        redisTemplate.opsForHash().delete(KEY_PREFIX + memberId, sessionId);
     }
 
-    public void delete(Long memberId) {
+    public void deleteAll(Long memberId) {
         redisTemplate.delete(KEY_PREFIX + memberId);
     }
 }
@@ -0,0 +1,107 @@
+package study.blog.auth.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블랙리스트 tokenId 의 로컬 Bloom filter.
+ *
+ * 모든 인증 요청마다 Redis EXISTS 를 호출하지 않기 위해, 필터가 "있을 수 있다"고 답한 경우에만 Redis 를 확인한다.
+ *
+ * 처리 정책
+ * - 로그아웃 시 register 로 로컬 필터에 추가하고, Redis Pub/Sub 으로 다른 인스턴스에 tokenId 를 전파한다.
+ * - 기동 시와 주기적으로 Redis(BL:*) 를 SCAN 하여 필터를 새로 만든다.
+ *   (Bloom filter 는 삭제가 불가하므로 만료된 tokenId 는 재구성 시점에 빠진다)
+ * - 재구성이 한 번도 성공하지 못한 상태에서는 필터를 신뢰하지 않고 항상 Redis 를 확인한다.
+ *
+ * 트레이드 오프
+ * - 다른 인스턴스에서 로그아웃한 토큰은 Pub/Sub 전파 전까지(수 ms), 메시지 유실 시 다음 재구성 전까지 통과할 수 있다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklistBloomFilter {
+
+    public static final String CHANNEL = "auth:blacklist";
+
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter pending;
+    private volatile boolean ready = false;
+
+    public TokenBlacklistBloomFilter(TokenBlacklistRepository tokenBlacklistRepository,
+                                     StringRedisTemplate redisTemplate,
+                                     @Value("${auth.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+                                     @Value("${auth.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * false 면 블랙리스트에 없는 토큰이므로 Redis 확인을 생략해도 된다.
+     */
+    public boolean mightContain(String tokenId) {
+        return !ready || filter.mightContain(tokenId);
+    }
+
+    /**
+     * 로그아웃한 인스턴스에서 호출한다. 로컬 필터에 즉시 반영하고 다른 인스턴스에 전파한다.
+     */
+    public void register(String tokenId) {
+        put(tokenId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tokenId);
+        } catch (Exception e) {
+            log.warn("블랙리스트 전파 실패 - 다음 재구성 시 반영됩니다.", e);
+        }
+    }
+
+    /**
+     * Pub/Sub 으로 전달받은 tokenId 를 로컬 필터에 추가한다.
+     * 재구성 중이면 새로 만들고 있는 필터에도 추가하여, 교체 후 빠지지 않게 한다.
+     */
+    public void put(String tokenId) {
+        BloomFilter rebuilding = pending;
+        filter.put(tokenId);
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Redis 블랙리스트 기준으로 필터를 새로 만들어 교체한다.
+     * Redis 저장 → Pub/Sub 전파 순서이므로, 재구성 시작 이전에 등록된 tokenId 는 SCAN 결과에 포함된다.
+     */
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.MINUTES)
+    public synchronized void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+        pending = rebuilt;
+        try {
+            tokenBlacklistRepository.forEachTokenId(rebuilt::put);
+            filter = rebuilt;
+            ready = true;
+        } catch (Exception e) {
+            log.warn("블랙리스트 Bloom filter 재구성 실패", e);
+        } finally {
+            pending = null;
+        }
+    }
+}
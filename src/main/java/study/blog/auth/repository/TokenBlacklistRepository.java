@@ -1,11 +1,25 @@
 package study.blog.auth.repository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.function.Consumer;
 
+/**
+ * 로그아웃된 Access Token 블랙리스트.
+ *
+ * Redis key: BL:{tokenId} — 토큰 문자열 전체가 아니라 jti(토큰 ID)로 저장하여 키 크기를 줄인다.
+ * TTL 은 토큰의 남은 만료 시간이며, 만료된 토큰은 서명 검증 단계에서 거부되므로 함께 사라져도 된다.
+ *
+ * 이전 키 호환
+ * - jti 도입 이전에는 BL:{토큰 문자열} 로 저장했다. jti 가 없는 토큰은 이전 키도 함께 쓰고 확인한다.
+ *   (배포 직전에 로그아웃한 토큰, 배포 중 이전 버전 인스턴스에서 로그아웃한 토큰이 다시 통과하지 않도록)
+ * - jti 가 없는 토큰은 Access Token 최대 만료 시간이 지나면 모두 만료되므로, 그 이후에는 이전 키가 쓰이지 않는다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class TokenBlacklistRepository {
@@ -15,11 +29,35 @@ public class TokenBlacklistRepository {
 
     private final StringRedisTemplate redisTemplate;
 
-    public void add(String accessToken, Duration remainingTtl) {
-        redisTemplate.opsForValue().set(KEY_PREFIX + accessToken, BLACKLISTED_VALUE, remainingTtl);
+    public void add(String tokenId, Duration remainingTtl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, BLACKLISTED_VALUE, remainingTtl);
     }
 
-    public boolean isBlacklisted(String accessToken) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + accessToken));
+    public boolean isBlacklisted(String tokenId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    /**
+     * jti 가 없는 토큰을 이전 키(BL:{토큰 문자열})로도 등록한다.
+     */
+    public void addLegacy(String token, Duration remainingTtl) {
+        add(token, remainingTtl);
+    }
+
+    /**
+     * jti 가 없는 토큰이 이전 키(BL:{토큰 문자열})로 등록되어 있는지 확인한다.
+     */
+    public boolean isLegacyBlacklisted(String token) {
+        return isBlacklisted(token);
+    }
+
+    /**
+     * 블랙리스트에 등록된 모든 tokenId 를 SCAN 으로 순회한다. (로컬 Bloom filter 재구성용)
+     */
+    public void forEachTokenId(Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> consumer.accept(key.substring(KEY_PREFIX.length())));
+        }
     }
 }
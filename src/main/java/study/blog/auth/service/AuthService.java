@@ -1,5 +1,6 @@
 package study.blog.auth.service;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,6 +14,8 @@ import study.blog.auth.entity.RefreshToken;
 import study.blog.auth.exception.InvalidRefreshTokenException;
 import study.blog.auth.exception.TokenTamperedException;
 import study.blog.auth.repository.RefreshTokenRepository;
+import study.blog.auth.repository.RefreshTokenRepository.RotateResult;
+import study.blog.auth.repository.TokenBlacklistBloomFilter;
 import study.blog.auth.repository.TokenBlacklistRepository;
 import study.blog.global.security.jwt.JwtTokenProvider;
 import study.blog.global.security.jwt.TokenType;
@@ -23,6 +26,7 @@ import study.blog.member.exception.MemberNotFoundException;
 import study.blog.member.repository.MemberRepository;
 
 import java.time.Duration;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -33,8 +37,13 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TokenBlacklistBloomFilter tokenBlacklistBloomFilter;
     private final MemberRepository memberRepository;
 
+    /**
+     * 로그인할 때마다 새로운 세션(기기)을 만든다.
+     * 다른 기기의 세션은 유지되며, 세션 수가 상한을 넘으면 가장 오래 사용되지 않은 세션이 제거된다.
+     */
     @Transactional
     public LoginResult login(LoginRequest request) {
         Authentication authenticate = authenticationManager.authenticate(
@@ -43,11 +52,12 @@ public class AuthService {
 
         MemberUserDetails userDetails = (MemberUserDetails) authenticate.getPrincipal();
         Long memberId = userDetails.getMemberId();
+        String sessionId = UUID.randomUUID().toString();
 
-        String accessToken = jwtTokenProvider.generateAccessToken(memberId, authenticate);
+        String accessToken = jwtTokenProvider.generateAccessToken(memberId, sessionId, authenticate);
 
         RefreshToken refreshToken = RefreshToken.issue(
-                memberId, jwtTokenProvider.generateRefreshToken(memberId));
+                memberId, sessionId, jwtTokenProvider.generateRefreshToken(memberId, sessionId));
         refreshTokenRepository.save(refreshToken,
                 Duration.ofMillis(jwtTokenProvider.getRefreshExpirationInMs()));
 
@@ -55,27 +65,36 @@ public class AuthService {
                 MemberResponse.from(userDetails.getMember()));
     }
 
+    /**
+     * 같은 세션 안에서 Refresh Token 을 교체하고 Access Token 을 재발급한다.
+     *
+     * 예외 처리
+     * - 세션이 없으면(로그아웃 / 세션 수 초과로 제거 / 이전 형식 토큰) InvalidRefreshTokenException
+     * - 이미 교체된 토큰이 다시 사용되면 해당 세션을 제거하고 TokenTamperedException
+     */
     @Transactional
     public ReissueResult reissue(String incomingToken) {
-        Long memberId = jwtTokenProvider.getMemberIdFromJWT(incomingToken, TokenType.REFRESH);
+        Claims claims = jwtTokenProvider.parseClaims(incomingToken, TokenType.REFRESH);
+        Long memberId = jwtTokenProvider.getMemberId(claims);
+        String sessionId = jwtTokenProvider.getSessionId(claims);
+        if (sessionId == null) {
+            throw new InvalidRefreshTokenException("로그아웃된 사용자입니다.");
+        }
 
-        RefreshToken storedToken = refreshTokenRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new InvalidRefreshTokenException("로그아웃된 사용자입니다."));
+        String newToken = jwtTokenProvider.generateRefreshToken(memberId, sessionId);
 
-        String newToken = jwtTokenProvider.generateRefreshToken(memberId);
+        // 토큰 교체 (비교 + 교체를 원자적으로 수행)
+        RotateResult result = refreshTokenRepository.rotate(
+                RefreshToken.issue(memberId, sessionId, incomingToken),
+                newToken,
+                Duration.ofMillis(jwtTokenProvider.getRefreshExpirationInMs()));
 
-        // 토큰 교체
-        try {
-            storedToken.rotate(incomingToken, newToken);
-        } catch (TokenTamperedException e) {
-            // 예외 발생 시 Redis에서 기존 토큰 삭제 처리
-            refreshTokenRepository.delete(memberId);
-            throw e;
+        if (result == RotateResult.SESSION_NOT_FOUND) {
+            throw new InvalidRefreshTokenException("로그아웃된 사용자입니다.");
+        }
+        if (result == RotateResult.REUSED) {
+            throw new TokenTamperedException("토큰이 탈취되었을 가능성이 있습니다. 다시 로그인해주세요.");
         }
-
-        // 새로운 토큰 저장
-        refreshTokenRepository.save(storedToken,
-                Duration.ofMillis(jwtTokenProvider.getRefreshExpirationInMs()));
 
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다."));
@@ -85,18 +104,32 @@ public class AuthService {
                 userDetails, null, userDetails.getAuthorities());
 
         // 새 토큰 발행
-        String newAccessToken = jwtTokenProvider.generateAccessToken(memberId, authentication);
-        return new ReissueResult(newAccessToken, storedToken.getToken());
+        String newAccessToken = jwtTokenProvider.generateAccessToken(memberId, sessionId, authentication);
+        return new ReissueResult(newAccessToken, newToken);
     }
 
     @Transactional
     public void logout(String accessToken) {
-        Duration remainingTtl = jwtTokenProvider.getRemainingExpiry(accessToken, TokenType.ACCESS);
+        // 서명 검증과 파싱은 한 번만 하고, 필요한 값은 같은 Claims 에서 꺼낸다.
+        Claims claims = jwtTokenProvider.parseClaims(accessToken, TokenType.ACCESS);
+
+        Duration remainingTtl = jwtTokenProvider.getRemainingExpiry(claims);
         if (!remainingTtl.isZero()) {
-            tokenBlacklistRepository.add(accessToken, remainingTtl);
+            String tokenId = jwtTokenProvider.getTokenId(accessToken, claims);
+            tokenBlacklistRepository.add(tokenId, remainingTtl);
+            if (jwtTokenProvider.isLegacyToken(claims)) {
+                tokenBlacklistRepository.addLegacy(accessToken, remainingTtl);
+            }
+            tokenBlacklistBloomFilter.register(tokenId);
         }
 
-        Long memberId = jwtTokenProvider.getMemberIdFromJWT(accessToken, TokenType.ACCESS);
-        refreshTokenRepository.delete(memberId);
+        // 현재 세션(기기)만 종료한다. 세션 정보가 없는 이전 토큰이면 모든 세션을 종료한다.
+        Long memberId = jwtTokenProvider.getMemberId(claims);
+        String sessionId = jwtTokenProvider.getSessionId(claims);
+        if (sessionId != null) {
+            refreshTokenRepository.delete(memberId, sessionId);
+        } else {
+            refreshTokenRepository.deleteAll(memberId);
+        }
     }
 }
@@ -7,6 +7,7 @@ import study.blog.comment.domain.entity.Comment;
 import study.blog.comment.infrastructure.persistence.command.CommentCommandRepository;
 import study.blog.comment.presentation.request.CreateCommentRequest;
 import study.blog.comment.presentation.response.CommentResponse;
+import study.blog.global.web.version.ContentVersionTracker;
 
 @Service
 @Transactional
@@ -14,11 +15,13 @@ import study.blog.comment.presentation.response.CommentResponse;
 public class CommentCommandService {
 
     private final CommentCommandRepository commentCommandRepository;
+    private final ContentVersionTracker contentVersionTracker;
 
     public CommentResponse createComment(Long postId, Long memberId,
                                          CreateCommentRequest request) {
         Comment comment = Comment.createComment(postId, memberId, request.content(), request.parentId());
         commentCommandRepository.save(comment);
+        contentVersionTracker.trackComment(postId);
         return CommentResponse.from(comment);
     }
 }
@@ -1,5 +1,6 @@
 package study.blog.comment.presentation;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -7,29 +8,43 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import study.blog.comment.presentation.response.CommentResponse;
 import study.blog.comment.presentation.response.CommentViewResponse;
 import study.blog.comment.application.CommentQueryService;
 import study.blog.global.common.dto.ApiResponse;
+import study.blog.global.web.version.CacheScope;
+import study.blog.global.web.version.ConditionalGetHandler;
 
 import java.util.List;
 
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generateCommentKey;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/posts/{postId}/comments")
 public class CommentQueryController {
 
     private final CommentQueryService queryService;
+    private final ConditionalGetHandler conditionalGetHandler;
 
     /**
      * 특정 게시글의 댓글 목록을 페이징하여 조회한다.
      *
-     * @param postId   댓글을 조회할 게시글 ID
-     * @param pageable 페이징 정보 (page, size, sort)
+     * 게시글의 댓글 버전이 바뀌지 않았으면 목록을 조회하지 않고 304 로 응답한다.
+     * (회원별 값이 없는 응답이므로 로그인 여부와 관계없이 같은 ETag 를 사용한다)
+     *
+     * @param postId     댓글을 조회할 게시글 ID
+     * @param pageable   페이징 정보 (page, size, sort)
+     * @param webRequest 조건부 요청(If-None-Match) 처리에 사용하는 요청 객체
      * @return 댓글 목록
      */
     @GetMapping
-    public ApiResponse<List<CommentViewResponse>> findAllCommentWithPaging(@PathVariable Long postId, @PageableDefault Pageable pageable) {
+    public ApiResponse<List<CommentViewResponse>> findAllCommentWithPaging(@PathVariable Long postId, @PageableDefault Pageable pageable,
+                                                                           WebRequest webRequest, HttpServletResponse response) {
+        if (conditionalGetHandler.checkNotModified(webRequest, response, null, CacheScope.SHARED, generateCommentKey(postId))) {
+            return null;
+        }
         List<CommentViewResponse> comments = queryService.findAllCommentWithPaging(postId, pageable);
         return ApiResponse.success(comments);
     }
@@ -42,7 +57,11 @@ public class CommentQueryController {
      * @return 댓글 상세 정보
      */
     @GetMapping("/{commentId}")
-    public ApiResponse<CommentResponse> findComment(@PathVariable Long postId, @PathVariable Long commentId) {
+    public ApiResponse<CommentResponse> findComment(@PathVariable Long postId, @PathVariable Long commentId,
+                                                    WebRequest webRequest, HttpServletResponse response) {
+        if (conditionalGetHandler.checkNotModified(webRequest, response, null, CacheScope.SHARED, generateCommentKey(postId))) {
+            return null;
+        }
         CommentResponse comment = queryService.findComment(postId, commentId);
         return ApiResponse.success(comment);
     }
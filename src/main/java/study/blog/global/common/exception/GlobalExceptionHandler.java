@@ -9,6 +9,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import study.blog.auth.exception.InvalidRefreshTokenException;
 import study.blog.auth.exception.TokenTamperedException;
 import study.blog.global.common.dto.ApiResponse;
+import study.blog.global.lock.LockAcquisitionException;
+import study.blog.post.domain.exception.DraftBufferUnavailableException;
+import study.blog.post.domain.exception.DraftVersionConflictException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -19,6 +22,24 @@ public class GlobalExceptionHandler {
         return ApiResponse.error("이메일 또는 비밀번호가 올바르지 않습니다.");
     }
 
+    @ExceptionHandler(DraftVersionConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiResponse<Void> handleDraftVersionConflict(DraftVersionConflictException e) {
+        return ApiResponse.error(e.getMessage());
+    }
+
+    @ExceptionHandler(DraftBufferUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ApiResponse<Void> handleDraftBufferUnavailable(DraftBufferUnavailableException e) {
+        return ApiResponse.error(e.getMessage());
+    }
+
+    @ExceptionHandler(LockAcquisitionException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiResponse<Void> handleLockAcquisition(LockAcquisitionException e) {
+        return ApiResponse.error(e.getMessage());
+    }
+
     @ExceptionHandler(DomainException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiResponse<Void> handleDomainException(DomainException e) {
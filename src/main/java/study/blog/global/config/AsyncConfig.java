@@ -23,4 +23,84 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 게시글 리비전(diff 계산 + 압축) 저장 전용 풀.
+     */
+    @Bean(name = "postRevisionExecutor")
+    public Executor postRevisionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("post-revision-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 게시글 마크다운 렌더링(HTML 정제 + 목차) 저장 전용 풀.
+     */
+    @Bean(name = "postRenderingExecutor")
+    public Executor postRenderingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("post-rendering-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 조회 API 가 요청하는 pull 알림 생성 전용 풀.
+     * 다음 조회 때 다시 요청되므로 큐가 가득 차면 호출자에게 넘기지 않고 버린다. (조회 응답이 느려지지 않도록)
+     */
+    @Bean(name = "notificationPullExecutor")
+    public Executor notificationPullExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("notification-pull-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 업로드 이미지 리사이즈 전용 풀.
+     * 디코딩이 메모리와 CPU 를 많이 쓰므로 동시 처리 수를 고정하고,
+     * 큐가 가득 차면 거절하여 호출자가 PENDING 으로 남기고 재시도 스케줄러에 맡긴다.
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 링크 미리보기 외부 요청 전용 풀.
+     * 느린 외부 사이트가 요청 스레드나 다른 비동기 작업을 잡아두지 않도록 분리하고,
+     * 큐가 가득 차면 CallerRuns 대신 거절하여 호출자가 빈 미리보기로 즉시 응답하게 한다.
+     */
+    @Bean(name = "linkPreviewExecutor")
+    public ThreadPoolTaskExecutor linkPreviewExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("link-preview-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
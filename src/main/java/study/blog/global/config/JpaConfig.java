@@ -1,9 +1,47 @@
 package study.blog.global.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
+
+    private static final String BATCH_SIZE = "50";
+
+    /**
+     * SEQUENCE id 엔티티를 saveAll / cascade 로 저장할 때 insert 를 JDBC batch 로 묶는다.
+     * (알림 일괄 저장, 게시글 저장 시 PostTag / PostImage insert)
+     * - order_inserts: 같은 엔티티의 insert 를 모아 batch 가 끊기지 않게 한다.
+     * - 설정 파일에 값이 있으면 그 값을 우선한다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", BATCH_SIZE);
+            properties.putIfAbsent("hibernate.order_inserts", "true");
+        };
+    }
+
+    /**
+     * MySQL 드라이버는 rewriteBatchedStatements=true 일 때만 batch insert 를 multi-row insert 한 문장으로 재작성한다.
+     * (없으면 batch 로 보내도 insert 가 한 건씩 실행된다)
+     */
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && !dataSource.getDataSourceProperties().containsKey("rewriteBatchedStatements")) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
 }
@@ -28,8 +28,12 @@ import study.blog.global.security.handler.CustomAuthenticationEntryPoint;
 
 import jakarta.servlet.DispatcherType;
 import org.springframework.http.HttpMethod;
+import study.blog.auth.repository.TokenBlacklistBloomFilter;
 import study.blog.auth.repository.TokenBlacklistRepository;
+import study.blog.global.ratelimit.RateLimitFilter;
+import study.blog.global.ratelimit.RateLimiter;
 import study.blog.global.security.jwt.JwtTokenProvider;
+import study.blog.global.web.ClientIpResolver;
 
 import java.util.List;
 
@@ -40,6 +44,9 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TokenBlacklistBloomFilter tokenBlacklistBloomFilter;
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final CustomAccessDeniedHandler accessDeniedHandler;
 
@@ -57,12 +64,15 @@ public class SecurityConfig {
                         .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/members").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/members/*/profile").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/subscription/*/followers", "/api/v1/subscription/*/followings").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/link-preview").permitAll()
                         .requestMatchers("/api/admin/**").hasAuthority("ROLE_ADMIN")
                         .anyRequest().authenticated())
                 .addFilterBefore(new JwtExceptionHandlerFilter(), UsernamePasswordAuthenticationFilter.class)
-                .addFilterAt(new JwtAuthenticationFilter(jwtTokenProvider, tokenBlacklistRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterAt(new JwtAuthenticationFilter(jwtTokenProvider, tokenBlacklistRepository, tokenBlacklistBloomFilter), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimiter, clientIpResolver), JwtAuthenticationFilter.class);
 
         return http.build();
     }
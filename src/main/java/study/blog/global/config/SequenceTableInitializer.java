@@ -0,0 +1,80 @@
+package study.blog.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IDENTITY → SEQUENCE 로 바꾼 엔티티의 시퀀스 테이블(MySQL 에서는 테이블로 에뮬레이션)을 준비한다.
+ *
+ * 기존 테이블은 AUTO_INCREMENT 로 id 가 이미 쌓여 있으므로, 시퀀스를 1 부터 시작하면 기존 id 와 충돌한다.
+ *
+ * 처리 정책
+ * - 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 실행한다.
+ * - 시퀀스 테이블이 없으면 만들고, 비어 있으면 한 행을 넣는다.
+ * - next_val 을 max(id) + allocationSize + 1 이상으로 올린다. (pooled optimizer 가 next_val 을 구간의 상한으로 읽어도
+ *   첫 id 가 max(id) 보다 크다. 이미 더 크면 그대로 둔다)
+ * - 매 기동마다 실행해도 결과가 같으며, 여러 인스턴스가 동시에 기동해도 분산 락으로 한 번에 하나만 실행한다.
+ *
+ * 트레이드 오프
+ * - IDENTITY 로 insert 하는 구 버전 인스턴스와 함께 운영하면 다시 충돌할 수 있으므로, 전환 배포 시 구 버전을 먼저 내린다.
+ */
+@Slf4j
+@Component
+public class SequenceTableInitializer implements SmartInitializingSingleton {
+
+    private static final String LOCK_KEY = "lock:sequence-table-init";
+
+    private static final List<SequenceTable> SEQUENCE_TABLES = List.of(
+            new SequenceTable("notification_seq", "notification", 50),
+            new SequenceTable("post_tag_seq", "post_tag", 50),
+            new SequenceTable("post_image_seq", "post_image", 50)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedissonClient redisson;
+
+    public SequenceTableInitializer(JdbcTemplate jdbcTemplate, RedissonClient redisson) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisson = redisson;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        RLock lock = redisson.getLock(LOCK_KEY);
+        try {
+            if (!lock.tryLock(30, 60, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("시퀀스 테이블 초기화 락을 얻지 못했습니다.");
+            }
+            try {
+                SEQUENCE_TABLES.forEach(this::initialize);
+            } finally {
+                if (lock.isHeldByCurrentThread()) lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("시퀀스 테이블 초기화 중 인터럽트", e);
+        }
+    }
+
+    private void initialize(SequenceTable sequence) {
+        String seed = "(select coalesce(max(id), 0) + " + (sequence.allocationSize() + 1) + " from " + sequence.entityTable() + ")";
+
+        jdbcTemplate.execute("create table if not exists " + sequence.name() + " (next_val bigint)");
+        jdbcTemplate.update("insert into " + sequence.name() + " (next_val) select " + seed
+                + " from dual where not exists (select 1 from " + sequence.name() + ")");
+        jdbcTemplate.update("update " + sequence.name() + " set next_val = greatest(next_val, " + seed + ")");
+
+        log.info("시퀀스 테이블 준비 완료 - sequence={}, next_val={}", sequence.name(),
+                jdbcTemplate.queryForObject("select next_val from " + sequence.name(), Long.class));
+    }
+
+    private record SequenceTable(String name, String entityTable, int allocationSize) {
+    }
+}
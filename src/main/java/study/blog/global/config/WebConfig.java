@@ -21,7 +21,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:3000", "https://my-devlog.duckdns.org")
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
-                .exposedHeaders("X-Total-Count")
+                .exposedHeaders("X-Total-Count", "ETag", "Last-Modified")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
@@ -1,14 +1,23 @@
 package study.blog.global.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import study.blog.global.common.dto.ApiResponse;
+import study.blog.global.infra.PresignedUploadSlot;
+import study.blog.global.infra.PresignedUrlBatchRequest;
 import study.blog.global.infra.PresignedUrlRequest;
 import study.blog.global.infra.PresignedUrlResponse;
 import study.blog.global.infra.S3ImageUploader;
+import study.blog.global.web.resolver.LoginMember;
+import study.blog.image.application.ImageUploadService;
+import study.blog.image.presentation.request.ImageConfirmRequest;
+import study.blog.image.presentation.response.ImageConfirmResponse;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,12 +25,33 @@ import study.blog.global.infra.S3ImageUploader;
 public class ImageController {
 
     private final S3ImageUploader s3ImageUploader;
+    private final ImageUploadService imageUploadService;
 
     @PostMapping("/presigned-url")
-    public ApiResponse<PresignedUrlResponse> getPresignedUrl(@RequestBody PresignedUrlRequest request) {
+    public ApiResponse<PresignedUrlResponse> getPresignedUrl(@RequestBody @Valid PresignedUrlRequest request) {
         PresignedUrlResponse response = s3ImageUploader.generatePresignedUrl(
                 request.fileName(), request.contentType(), request.imageType()
         );
         return ApiResponse.success(response);
     }
+
+    /**
+     * 여러 이미지의 업로드 주소를 한 번에 발급한다. (최대 20개, 요청 순서대로 응답)
+     */
+    @PostMapping("/presigned-urls")
+    public ApiResponse<List<PresignedUploadSlot>> getPresignedUrls(@RequestBody @Valid PresignedUrlBatchRequest request) {
+        return ApiResponse.success(s3ImageUploader.generatePresignedUrls(request.files(), request.usePost()));
+    }
+
+    /**
+     * presigned URL 로 업로드를 마친 이미지를 확인한다.
+     *
+     * 확인된 이미지는 비동기로 규격별(320 / 768 / 1280) JPEG 으로 리사이즈되며,
+     * 응답의 variantUrls 는 status 가 READY 가 된 이후부터 사용할 수 있다.
+     */
+    @PostMapping("/confirm")
+    public ApiResponse<ImageConfirmResponse> confirmUpload(@LoginMember Long memberId,
+                                                           @RequestBody ImageConfirmRequest request) {
+        return ApiResponse.success(imageUploadService.confirm(memberId, request.imageUrl()));
+    }
 }
@@ -0,0 +1,43 @@
+package study.blog.global.infra;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 이미지 원본 / 리사이즈 결과 저장소.
+ *
+ * 운영은 S3(S3ImageStorage)를 사용하고, 테스트는 메모리 구현으로 대체한다.
+ */
+public interface ImageStorage {
+
+    /**
+     * 객체 메타데이터만 조회한다. (없으면 empty)
+     */
+    Optional<StoredObject> head(String key);
+
+    /**
+     * 객체 본문을 스트림으로 연다. 호출자가 닫아야 한다.
+     */
+    InputStream open(String key) throws IOException;
+
+    void put(String key, byte[] bytes, String contentType);
+
+    /**
+     * prefix 아래 객체를 key 순으로 최대 size 건씩 조회한다. (첫 페이지는 continuationToken = null)
+     */
+    StoredObjectPage list(String prefix, String continuationToken, int size);
+
+    /**
+     * 객체를 삭제한다. 없는 key 는 무시한다.
+     */
+    void delete(Collection<String> keys);
+
+    String urlOf(String key);
+
+    /**
+     * 이 저장소가 발급한 URL 이면 객체 key 를 반환한다.
+     */
+    Optional<String> keyOf(String url);
+}
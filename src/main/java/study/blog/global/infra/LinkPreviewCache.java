@@ -0,0 +1,116 @@
+package study.blog.global.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 링크 미리보기 캐시.
+ *
+ * 처리 정책
+ * - 1차: 인스턴스 로컬 LRU (최대 localMaxSize 건)
+ * - 2차: Redis key: link-preview:{sha256(url)} (JSON)
+ * - 성공한 미리보기는 ttl 동안, 실패한 URL(빈 미리보기)은 negativeTtl 동안 캐싱한다.
+ *   (응답이 없는 사이트를 에디터 입력마다 다시 요청하지 않도록 실패도 캐싱한다)
+ * - 로컬 캐시는 localTtl 과 Redis TTL 중 짧은 쪽이 지나면 만료된다.
+ *
+ * 예외 처리
+ * - Redis 장애 시 로컬 캐시만 사용한다.
+ */
+@Slf4j
+@Component
+public class LinkPreviewCache {
+
+    private static final String KEY_PREFIX = "link-preview:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Duration localTtl;
+    private final Map<String, LocalEntry> localCache;
+
+    public LinkPreviewCache(StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${link-preview.cache.ttl-hours:24}") long ttlHours,
+                            @Value("${link-preview.cache.negative-ttl-seconds:600}") long negativeTtlSeconds,
+                            @Value("${link-preview.cache.local-max-size:1000}") int localMaxSize,
+                            @Value("${link-preview.cache.local-ttl-seconds:300}") long localTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        this.localTtl = Duration.ofSeconds(localTtlSeconds);
+        this.localCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > localMaxSize;
+            }
+        };
+    }
+
+    public Optional<LinkPreviewResponse> get(String url) {
+        long now = System.nanoTime();
+        synchronized (localCache) {
+            LocalEntry entry = localCache.get(url);
+            if (entry != null && entry.expiresAt() > now) return Optional.of(entry.preview());
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(generateKey(url));
+            if (value == null) return Optional.empty();
+
+            LinkPreviewResponse preview = objectMapper.readValue(value, LinkPreviewResponse.class);
+            putLocal(url, preview);
+            return Optional.of(preview);
+        } catch (Exception e) {
+            log.warn("링크 미리보기 캐시 조회 실패 - url={}", url, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String url, LinkPreviewResponse preview) {
+        putLocal(url, preview);
+        try {
+            redisTemplate.opsForValue().set(generateKey(url), objectMapper.writeValueAsString(preview), ttlOf(preview));
+        } catch (Exception e) {
+            log.warn("링크 미리보기 캐시 저장 실패 - url={}", url, e);
+        }
+    }
+
+    private void putLocal(String url, LinkPreviewResponse preview) {
+        Duration expiresIn = ttlOf(preview).compareTo(localTtl) < 0 ? ttlOf(preview) : localTtl;
+        long expiresAt = System.nanoTime() + expiresIn.toNanos();
+        synchronized (localCache) {
+            localCache.put(url, new LocalEntry(preview, expiresAt));
+        }
+    }
+
+    private Duration ttlOf(LinkPreviewResponse preview) {
+        return preview.isEmpty() ? negativeTtl : ttl;
+    }
+
+    // URL 길이가 제각각이므로 해시로 키 길이를 고정한다.
+    static String generateKey(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record LocalEntry(LinkPreviewResponse preview, long expiresAt) {
+    }
+}
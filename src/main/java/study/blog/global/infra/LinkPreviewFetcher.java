@@ -0,0 +1,99 @@
+package study.blog.global.infra;
+
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * 링크 미리보기용 HTML 의 head 영역만 내려받는다.
+ *
+ * 처리 정책
+ * - 응답 본문을 스트림으로 읽다가 </head> 또는 <body 가 보이면 즉시 읽기를 멈춘다.
+ *   (미리보기에 필요한 og 메타 태그와 favicon 은 모두 head 에 있으므로 본문은 받을 필요가 없다)
+ * - 최대 maxHeadBytes 까지만 읽고, 그 안에서 head 가 끝나지 않으면 읽은 만큼만 파싱한다.
+ * - 문자셋은 Content-Type 헤더 → BOM / meta charset 순으로 결정한다. (Jsoup 기본 동작)
+ *
+ * 예외 처리
+ * - 2xx 가 아닌 응답, HTML 이 아닌 Content-Type, 연결/읽기 타임아웃은 IOException 으로 전파한다.
+ */
+@Component
+public class LinkPreviewFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36";
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+    private static final byte[] HEAD_END = "</head".getBytes();
+    private static final byte[] BODY_START = "<body".getBytes();
+
+    private final int timeoutMs;
+    private final int maxHeadBytes;
+
+    public LinkPreviewFetcher(@Value("${link-preview.fetch-timeout-ms:3000}") int timeoutMs,
+                              @Value("${link-preview.max-head-bytes:262144}") int maxHeadBytes) {
+        this.timeoutMs = timeoutMs;
+        this.maxHeadBytes = maxHeadBytes;
+    }
+
+    public Document fetchHead(String url) throws IOException {
+        Connection.Response response = Jsoup.connect(url)
+                .userAgent(USER_AGENT)
+                .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
+                .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
+                .timeout(timeoutMs)
+                .maxBodySize(maxHeadBytes)
+                .execute();
+
+        byte[] head;
+        try (InputStream in = response.bodyStream()) {
+            head = readHead(in);
+        }
+        return Jsoup.parse(new ByteArrayInputStream(head), response.charset(), url);
+    }
+
+    private byte[] readHead(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(READ_BUFFER_SIZE);
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+
+        int read;
+        while (out.size() < maxHeadBytes && (read = in.read(buffer, 0, Math.min(buffer.length, maxHeadBytes - out.size()))) != -1) {
+            // 태그가 버퍼 경계에 걸칠 수 있으므로 직전 청크의 끝 일부부터 다시 검사한다.
+            int from = Math.max(0, out.size() - HEAD_END.length);
+            out.write(buffer, 0, read);
+
+            byte[] bytes = out.toByteArray();
+            int end = headEndIndex(bytes, from);
+            if (end >= 0) {
+                // 같은 청크에 함께 읽힌 본문은 버리고 head 까지만 파싱한다.
+                return Arrays.copyOf(bytes, end);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static int headEndIndex(byte[] bytes, int from) {
+        int headEnd = indexOfIgnoreCase(bytes, HEAD_END, from);
+        int bodyStart = indexOfIgnoreCase(bytes, BODY_START, from);
+        if (headEnd < 0) return bodyStart;
+        if (bodyStart < 0) return headEnd;
+        return Math.min(headEnd, bodyStart);
+    }
+
+    // ASCII 태그 이름만 비교하므로 바이트 단위 대소문자 무시 비교로 충분하다.
+    static int indexOfIgnoreCase(byte[] source, byte[] target, int from) {
+        outer:
+        for (int i = from; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (Character.toLowerCase(source[i + j]) != target[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -1,9 +1,21 @@
 package study.blog.global.infra;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public record LinkPreviewResponse(
         String title,
         String description,
         String image,
         String favicon,
         String url
-) {}
+) {
+
+    public static LinkPreviewResponse empty(String url) {
+        return new LinkPreviewResponse("", "", "", "", url);
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return title.isEmpty() && description.isEmpty() && image.isEmpty() && favicon.isEmpty();
+    }
+}
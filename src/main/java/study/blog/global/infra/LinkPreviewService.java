@@ -1,58 +1,142 @@
 package study.blog.global.infra;
 
-import lombok.RequiredArgsConstructor;
-import org.jsoup.Jsoup;
+import lombok.extern.slf4j.Slf4j;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import study.blog.post.infrastructure.persistence.query.PostQueryRepository;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * 링크 미리보기 조회.
+ *
+ * 처리 정책
+ * - 자체 블로그 포스트 URL 은 외부 요청 없이 DB 에서 조회한다.
+ * - 외부 URL 은 LinkPreviewCache(로컬 → Redis) 를 먼저 확인하고, 없을 때만 외부 요청을 보낸다.
+ * - 같은 URL 에 대한 동시 요청은 하나의 외부 요청을 공유한다. (single-flight)
+ * - 외부 요청은 linkPreviewExecutor 에서 수행하고, 호출자는 최대 waitTimeoutMs 까지만 기다린다.
+ *
+ * 트레이드 오프
+ * - 대기 시간을 넘기면 빈 미리보기를 응답하지만 외부 요청은 계속 진행되어 결과가 캐시에 저장된다.
+ *   (에디터가 같은 URL 을 다시 요청하면 캐시에서 바로 응답된다)
+ *
+ * 예외 처리
+ * - 외부 요청 실패(타임아웃, 4xx/5xx, HTML 아님)는 빈 미리보기를 negative 캐시에 저장한다.
+ * - 풀이 가득 차 거절되면 캐시하지 않고 빈 미리보기를 응답한다. (일시적 과부하이므로)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class LinkPreviewService {
 
-    private static final int TIMEOUT_MS = 5_000;
     private static final Pattern POST_PATH_PATTERN = Pattern.compile("/posts/(\\d+)$");
 
     private final PostQueryRepository postQueryRepository;
+    private final LinkPreviewFetcher linkPreviewFetcher;
+    private final LinkPreviewCache linkPreviewCache;
+    private final Executor linkPreviewExecutor;
+    private final long waitTimeoutMs;
+    private final ConcurrentHashMap<String, CompletableFuture<LinkPreviewResponse>> inFlight = new ConcurrentHashMap<>();
 
     @Value("${app.base-url:}")
     private String appBaseUrl;
 
+    public LinkPreviewService(PostQueryRepository postQueryRepository,
+                              LinkPreviewFetcher linkPreviewFetcher,
+                              LinkPreviewCache linkPreviewCache,
+                              @Qualifier("linkPreviewExecutor") Executor linkPreviewExecutor,
+                              @Value("${link-preview.wait-timeout-ms:4000}") long waitTimeoutMs) {
+        this.postQueryRepository = postQueryRepository;
+        this.linkPreviewFetcher = linkPreviewFetcher;
+        this.linkPreviewCache = linkPreviewCache;
+        this.linkPreviewExecutor = linkPreviewExecutor;
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
     public LinkPreviewResponse fetchPreview(String url) {
         if (!url.startsWith("http://") && !url.startsWith("https://")) {
-            return empty(url);
+            return LinkPreviewResponse.empty(url);
         }
 
         LinkPreviewResponse selfPreview = tryResolveSelfPost(url);
         if (selfPreview != null) return selfPreview;
 
-        try {
-            Document doc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36")
-                    .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
-                    .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
-                    .timeout(TIMEOUT_MS)
-                    .get();
+        return linkPreviewCache.get(url)
+                .orElseGet(() -> await(url, fetchOnce(url)));
+    }
 
-            String title = ogOrFallback(doc, "og:title", null);
-            if (title.isEmpty()) title = doc.title();
+    /**
+     * 진행 중인 외부 요청이 있으면 그 Future 를 공유하고, 없으면 새로 시작한다.
+     * Future 가 완료되기 전에 inFlight 에서 제거하여, 완료 이후의 요청은 캐시에서 응답되도록 한다.
+     */
+    private CompletableFuture<LinkPreviewResponse> fetchOnce(String url) {
+        CompletableFuture<LinkPreviewResponse> created = new CompletableFuture<>();
+        CompletableFuture<LinkPreviewResponse> existing = inFlight.putIfAbsent(url, created);
+        if (existing != null) return existing;
 
-            String description = ogOrFallback(doc, "og:description", "description");
-            String image       = ogOrFallbackAbsUrl(doc, "og:image", url);
-            String favicon     = extractFavicon(doc, url);
+        try {
+            CompletableFuture.supplyAsync(() -> fetchAndCache(url), linkPreviewExecutor)
+                    .whenComplete((preview, e) -> {
+                        inFlight.remove(url, created);
+                        if (e != null) {
+                            created.completeExceptionally(e);
+                        } else {
+                            created.complete(preview);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            log.warn("링크 미리보기 요청 거절 (풀 포화) - url={}", url);
+            inFlight.remove(url, created);
+            created.complete(LinkPreviewResponse.empty(url));
+        }
+        return created;
+    }
 
-            return new LinkPreviewResponse(title, description, image, favicon, url);
+    private LinkPreviewResponse fetchAndCache(String url) {
+        LinkPreviewResponse preview;
+        try {
+            preview = toPreview(linkPreviewFetcher.fetchHead(url), url);
         } catch (Exception e) {
-            return empty(url);
+            log.debug("링크 미리보기 외부 요청 실패 - url={}, reason={}", url, e.toString());
+            preview = LinkPreviewResponse.empty(url);
+        }
+        linkPreviewCache.put(url, preview);
+        return preview;
+    }
+
+    private LinkPreviewResponse await(String url, CompletableFuture<LinkPreviewResponse> future) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return LinkPreviewResponse.empty(url);
+        } catch (TimeoutException | ExecutionException e) {
+            return LinkPreviewResponse.empty(url);
         }
     }
 
+    private LinkPreviewResponse toPreview(Document doc, String url) {
+        String title = ogOrFallback(doc, "og:title", null);
+        if (title.isEmpty()) title = doc.title();
+
+        String description = ogOrFallback(doc, "og:description", "description");
+        String image       = ogOrFallbackAbsUrl(doc, "og:image", url);
+        String favicon     = extractFavicon(doc, url);
+
+        return new LinkPreviewResponse(title, description, image, favicon, url);
+    }
+
     // 자체 블로그 포스트 URL이면 DB에서 직접 조회
     private LinkPreviewResponse tryResolveSelfPost(String url) {
         try {
@@ -67,13 +151,11 @@ public class LinkPreviewService {
             if (!m.find()) return null;
 
             long postId = Long.parseLong(m.group(1));
-            return postQueryRepository.findById(postId)
-                    .map(post -> new LinkPreviewResponse(
-                            post.getTitle(),
-                            post.getContent() != null
-                                    ? post.getContent().replaceAll("[#*`>\\-\\n]", " ").strip().substring(0, Math.min(150, post.getContent().length()))
-                                    : "",
-                            post.getThumbnailUrl() != null ? post.getThumbnailUrl() : "",
+            return postQueryRepository.findPostPreview(postId)
+                    .map(preview -> new LinkPreviewResponse(
+                            preview.title(),
+                            preview.excerpt() != null ? preview.excerpt() : "",
+                            preview.thumbnailUrl() != null ? preview.thumbnailUrl() : "",
                             "",
                             url
                     ))
@@ -121,8 +203,4 @@ public class LinkPreviewService {
             return "";
         }
     }
-
-    private LinkPreviewResponse empty(String url) {
-        return new LinkPreviewResponse("", "", "", "", url);
-    }
 }
@@ -0,0 +1,12 @@
+package study.blog.global.infra;
+
+import java.util.Map;
+
+/**
+ * @param url    multipart/form-data 로 POST 할 버킷 URL
+ * @param fields 파일 파트보다 먼저 보내야 하는 폼 필드 (key, policy, 서명 등)
+ */
+public record PresignedPost(
+        String url,
+        Map<String, String> fields
+) {}
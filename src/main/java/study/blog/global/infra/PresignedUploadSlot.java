@@ -0,0 +1,19 @@
+package study.blog.global.infra;
+
+import java.util.Map;
+
+public record PresignedUploadSlot(
+        String method,               // "PUT" | "POST"
+        String uploadUrl,            // PUT: 서명된 URL, POST: 버킷 URL
+        Map<String, String> fields,  // POST 일 때 파일보다 먼저 보낼 폼 필드 (PUT 이면 비어 있음)
+        String imageUrl              // 업로드 완료 후 사용할 최종 이미지 URL
+) {
+
+    public static PresignedUploadSlot put(String presignedUrl, String imageUrl) {
+        return new PresignedUploadSlot("PUT", presignedUrl, Map.of(), imageUrl);
+    }
+
+    public static PresignedUploadSlot post(PresignedPost post, String imageUrl) {
+        return new PresignedUploadSlot("POST", post.url(), post.fields(), imageUrl);
+    }
+}
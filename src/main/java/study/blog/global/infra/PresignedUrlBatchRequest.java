@@ -0,0 +1,16 @@
+package study.blog.global.infra;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PresignedUrlBatchRequest(
+        @NotEmpty(message = "업로드할 파일은 최소 1개 이상이어야 합니다.")
+        @Size(max = 20, message = "한 번에 최대 20개까지 업로드할 수 있습니다.")
+        @Valid
+        List<PresignedUrlRequest> files,
+
+        boolean usePost   // true 면 크기 상한이 걸린 presigned POST 로 발급
+) {}
@@ -1,7 +1,16 @@
 package study.blog.global.infra;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
 public record PresignedUrlRequest(
+        @NotBlank(message = "파일명은 필수입니다.")
         String fileName,
+
+        @NotBlank(message = "Content-Type 은 필수입니다.")
+        @Pattern(regexp = "image/(jpeg|png|webp|gif)", message = "지원하지 않는 Content-Type 입니다. (image/jpeg, image/png, image/webp, image/gif)")
         String contentType,
+
+        @NotBlank(message = "이미지 종류는 필수입니다.")
         String imageType   // "thumbnail" | "post-image"
 ) {}
@@ -0,0 +1,110 @@
+package study.blog.global.infra;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class S3ImageStorage implements ImageStorage {
+
+    /**
+     * 리사이즈 결과는 key 에 UUID 가 포함되어 내용이 바뀌지 않으므로 브라우저 / CDN 이 오래 캐싱하게 한다.
+     */
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    /**
+     * DeleteObjects 한 번에 보낼 수 있는 최대 key 수
+     */
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String baseUrl;
+
+    public S3ImageStorage(S3Client s3Client,
+                          @Value("${cloud.aws.s3.bucket}") String bucket,
+                          @Value("${cloud.aws.region}") String region) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.baseUrl = "https://" + bucket + ".s3." + region + ".amazonaws.com/";
+    }
+
+    @Override
+    public Optional<StoredObject> head(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(r -> r.bucket(bucket).key(key));
+            return Optional.of(new StoredObject(key, response.contentLength(), response.contentType(), response.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return Optional.empty();
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return s3Client.getObject(r -> r.bucket(bucket).key(key));
+    }
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        s3Client.putObject(r -> r
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .cacheControl(IMMUTABLE_CACHE_CONTROL),
+                RequestBody.fromBytes(bytes));
+    }
+
+    @Override
+    public StoredObjectPage list(String prefix, String continuationToken, int size) {
+        ListObjectsV2Response response = s3Client.listObjectsV2(r -> r
+                .bucket(bucket)
+                .prefix(prefix)
+                .maxKeys(size)
+                .continuationToken(continuationToken));
+
+        List<StoredObject> objects = response.contents().stream()
+                .map(object -> new StoredObject(object.key(), object.size(), null, object.lastModified()))
+                .toList();
+        return new StoredObjectPage(objects, Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null);
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        List<ObjectIdentifier> identifiers = new ArrayList<>(keys.size());
+        keys.forEach(key -> identifiers.add(ObjectIdentifier.builder().key(key).build()));
+
+        for (int from = 0; from < identifiers.size(); from += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> batch = identifiers.subList(from, Math.min(from + DELETE_BATCH_SIZE, identifiers.size()));
+            s3Client.deleteObjects(r -> r
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(batch).quiet(true).build()));
+        }
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + key;
+    }
+
+    @Override
+    public Optional<String> keyOf(String url) {
+        if (url == null || !url.startsWith(baseUrl) || url.length() == baseUrl.length()) return Optional.empty();
+        return Optional.of(url.substring(baseUrl.length()));
+    }
+}
@@ -7,19 +7,33 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class S3ImageUploader {
 
+    private static final Duration SIGNATURE_DURATION = Duration.ofMinutes(5);
+    private static final Map<String, String> CONTENT_TYPE_BY_EXTENSION = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "webp", "image/webp",
+            "gif", "image/gif"
+    );
+
     private final S3Presigner s3Presigner;
+    private final S3PostPolicySigner postPolicySigner;
+    private final ImageStorage imageStorage;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    @Value("${cloud.aws.region}")
-    private String region;
+    @Value("${image.max-bytes:10485760}")
+    private long maxBytes;
 
     /**
      * Presigned URL 발급
@@ -30,35 +44,72 @@ public class S3ImageUploader {
      * @param imageType   "thumbnail" | "post-image"
      */
     public PresignedUrlResponse generatePresignedUrl(String fileName, String contentType, String imageType) {
-        validateExtension(fileName);
+        String key = generateKey(fileName, contentType, imageType);
+        return new PresignedUrlResponse(
+                presignPut(key, contentType),
+                imageStorage.urlOf(key)
+        );
+    }
 
-        String prefix = "thumbnail".equals(imageType) ? "thumbnail" : "post-images";
-        String key = prefix + "/" + UUID.randomUUID() + "." + extractExtension(fileName);
+    /**
+     * 여러 이미지의 업로드 주소를 한 번에 발급한다. (에디터에 이미지를 여러 장 붙여넣는 경우)
+     *
+     * 처리 정책
+     * - 모든 파일의 확장자와 Content-Type 을 먼저 검증한 뒤 서명한다. (하나라도 잘못되면 아무것도 발급하지 않는다)
+     * - usePost 면 presigned POST 로 발급하여 업로드 크기 상한(maxBytes)을 S3 가 직접 검사하게 한다.
+     * - 응답 순서는 요청 순서와 같다.
+     *
+     * 트레이드 오프
+     * - 서명은 네트워크 호출 없는 로컬 계산이라 병렬로 나누지 않고 요청 스레드에서 순서대로 처리한다.
+     *   (HMAC 자체는 건당 수 μs, 정책 JSON 직렬화와 Base64 를 합쳐도 건당 수십 μs 이내로 20건이어도 1ms 미만)
+     */
+    public List<PresignedUploadSlot> generatePresignedUrls(List<PresignedUrlRequest> requests, boolean usePost) {
+        List<String> keys = requests.stream()
+                .map(request -> generateKey(request.fileName(), request.contentType(), request.imageType()))
+                .toList();
 
+        List<PresignedUploadSlot> slots = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            String contentType = requests.get(i).contentType();
+            String imageUrl = imageStorage.urlOf(key);
+            slots.add(usePost
+                    ? PresignedUploadSlot.post(postPolicySigner.sign(key, contentType, maxBytes, SIGNATURE_DURATION), imageUrl)
+                    : PresignedUploadSlot.put(presignPut(key, contentType), imageUrl));
+        }
+        return slots;
+    }
+
+    private String presignPut(String key, String contentType) {
         PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(r -> r
-                .signatureDuration(Duration.ofMinutes(5))
+                .signatureDuration(SIGNATURE_DURATION)
                 .putObjectRequest(p -> p
                         .bucket(bucket)
                         .key(key)
                         .contentType(contentType)
                 )
         );
-
-        return new PresignedUrlResponse(
-                presignedRequest.url().toString(),
-                buildUrl(key)
-        );
+        return presignedRequest.url().toString();
     }
 
-    private String buildUrl(String key) {
-        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+    private String generateKey(String fileName, String contentType, String imageType) {
+        validateExtension(fileName, contentType);
+        String prefix = "thumbnail".equals(imageType) ? "thumbnail" : "post-images";
+        return prefix + "/" + UUID.randomUUID() + "." + extractExtension(fileName);
     }
 
-    private void validateExtension(String fileName) {
-        String extension = extractExtension(fileName).toLowerCase();
-        if (!extension.matches("jpg|jpeg|png|webp|gif")) {
+    /**
+     * 확장자와 Content-Type 이 같은 형식인지 확인한다.
+     * (서명된 Content-Type 으로 저장되므로, 다른 형식의 파일을 이미지 확장자로 올리지 못하게 한다)
+     */
+    private void validateExtension(String fileName, String contentType) {
+        String expected = CONTENT_TYPE_BY_EXTENSION.get(extractExtension(fileName).toLowerCase());
+        if (expected == null) {
             throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (jpg, jpeg, png, webp, gif)");
         }
+        if (!expected.equals(contentType)) {
+            throw new IllegalArgumentException("파일 확장자와 Content-Type 이 일치하지 않습니다.");
+        }
     }
 
     private String extractExtension(String filename) {
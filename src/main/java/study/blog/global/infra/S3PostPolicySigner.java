@@ -0,0 +1,139 @@
+package study.blog.global.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * S3 브라우저 업로드(POST Object)용 SigV4 정책 서명기.
+ *
+ * AWS SDK v2 의 S3Presigner 는 presigned POST 를 지원하지 않아 정책 문서와 서명을 직접 만든다.
+ * presigned PUT 은 Content-Length 를 정확한 값으로만 고정할 수 있지만,
+ * POST 정책은 content-length-range 조건으로 업로드 크기 상한을 S3 가 직접 검사하게 할 수 있다.
+ *
+ * 처리 정책
+ * - 조건: bucket, key(정확히 일치), Content-Type(정확히 일치), content-length-range [1, maxBytes]
+ * - 서명 키(HMAC(HMAC(HMAC(HMAC("AWS4" + secret, date), region), "s3"), "aws4_request"))는 날짜별로 한 번만 계산한다.
+ *
+ * 예외 처리
+ * - key / Content-Type 이 비어 있으면 IllegalArgumentException (정책 조건을 만들 수 없다)
+ */
+@Component
+public class S3PostPolicySigner {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper;
+    private final String accessKey;
+    private final String secretKey;
+    private final String region;
+    private final String bucket;
+    private final String bucketUrl;
+
+    private volatile SigningKey signingKey;
+
+    public S3PostPolicySigner(ObjectMapper objectMapper,
+                              @Value("${cloud.aws.credentials.access-key}") String accessKey,
+                              @Value("${cloud.aws.credentials.secret-key}") String secretKey,
+                              @Value("${cloud.aws.region}") String region,
+                              @Value("${cloud.aws.s3.bucket}") String bucket) {
+        this.objectMapper = objectMapper;
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.region = region;
+        this.bucket = bucket;
+        this.bucketUrl = "https://" + bucket + ".s3." + region + ".amazonaws.com/";
+    }
+
+    public PresignedPost sign(String key, String contentType, long maxBytes, Duration expiresIn) {
+        if (!hasText(key) || !hasText(contentType)) {
+            throw new IllegalArgumentException("업로드 key 와 Content-Type 은 필수입니다.");
+        }
+
+        Instant now = Instant.now();
+        String date = DATE.format(now);
+        String amzDate = DATE_TIME.format(now);
+        String credential = accessKey + "/" + date + "/" + region + "/" + SERVICE + "/aws4_request";
+
+        Map<String, Object> policy = new LinkedHashMap<>();
+        policy.put("expiration", DateTimeFormatter.ISO_INSTANT.format(now.plus(expiresIn).truncatedTo(ChronoUnit.SECONDS)));
+        policy.put("conditions", List.of(
+                Map.of("bucket", bucket),
+                Map.of("key", key),
+                Map.of("Content-Type", contentType),
+                List.of("content-length-range", 1, maxBytes),
+                Map.of("x-amz-algorithm", ALGORITHM),
+                Map.of("x-amz-credential", credential),
+                Map.of("x-amz-date", amzDate)
+        ));
+        String encodedPolicy = Base64.getEncoder().encodeToString(toJson(policy).getBytes(StandardCharsets.UTF_8));
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("key", key);
+        fields.put("Content-Type", contentType);
+        fields.put("x-amz-algorithm", ALGORITHM);
+        fields.put("x-amz-credential", credential);
+        fields.put("x-amz-date", amzDate);
+        fields.put("policy", encodedPolicy);
+        fields.put("x-amz-signature", HexFormat.of().formatHex(hmac(signingKeyOf(date), encodedPolicy)));
+        return new PresignedPost(bucketUrl, fields);
+    }
+
+    private byte[] signingKeyOf(String date) {
+        SigningKey current = signingKey;
+        if (current != null && current.date().equals(date)) return current.key();
+
+        byte[] key = deriveSigningKey(secretKey, date, region, SERVICE);
+        signingKey = new SigningKey(date, key);
+        return key;
+    }
+
+    static byte[] deriveSigningKey(String secretKey, String date, String region, String service) {
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), date);
+        key = hmac(key, region);
+        key = hmac(key, service);
+        return hmac(key, "aws4_request");
+    }
+
+    static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String toJson(Map<String, Object> policy) {
+        try {
+            return objectMapper.writeValueAsString(policy);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("업로드 정책 직렬화 실패", e);
+        }
+    }
+
+    private record SigningKey(String date, byte[] key) {
+    }
+}
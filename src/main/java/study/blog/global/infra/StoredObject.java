@@ -0,0 +1,11 @@
+package study.blog.global.infra;
+
+import java.time.Instant;
+
+public record StoredObject(
+        String key,
+        long size,
+        String contentType,
+        Instant lastModified
+) {
+}
@@ -0,0 +1,17 @@
+package study.blog.global.infra;
+
+import java.util.List;
+
+/**
+ * @param objects           key 순으로 정렬된 객체 목록 (contentType 은 채워지지 않는다)
+ * @param continuationToken 다음 페이지 조회 토큰 (마지막 페이지면 null)
+ */
+public record StoredObjectPage(
+        List<StoredObject> objects,
+        String continuationToken
+) {
+
+    public boolean hasNext() {
+        return continuationToken != null;
+    }
+}
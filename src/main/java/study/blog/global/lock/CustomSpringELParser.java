@@ -1,18 +1,35 @@
 package study.blog.global.lock;
 
-import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
-public class CustomSpringELParser {
+/**
+ * 락 key SpEL 파서.
+ *
+ * 파서는 스레드 안전하므로 하나만 두고, 파싱 결과(Expression)는 호출자가 메서드별로 캐싱한다.
+ * MIXED 모드로 몇 번 해석 실행된 식은 바이트코드로 컴파일되고, 컴파일할 수 없는 식은 해석 실행으로 돌아간다.
+ */
+public final class CustomSpringELParser {
 
-    public static Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
-        ExpressionParser expressionParser = new SpelExpressionParser();
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, CustomSpringELParser.class.getClassLoader()));
+
+    private CustomSpringELParser() {
+    }
+
+    public static Expression parse(String key) {
+        return PARSER.parseExpression(key);
+    }
+
+    public static Object getDynamicValue(String[] parameterNames, Object[] args, Expression expression) {
         StandardEvaluationContext context = new StandardEvaluationContext();
 
         for (int i = 0; i < parameterNames.length; i++) {
             context.setVariable(parameterNames[i], args[i]);
         }
-        return expressionParser.parseExpression(key).getValue(context , Object.class);
+        return expression.getValue(context, Object.class);
     }
 }
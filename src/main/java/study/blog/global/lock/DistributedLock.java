@@ -25,7 +25,23 @@ public @interface DistributedLock {
     long waitTime() default 5L;
 
     /**
-     * 락 유지 시간
+     * 락 유지 시간 (autoRenew 이면 무시한다)
      */
     long leaseTime() default 3L;
+
+    /**
+     * 메서드가 끝날 때까지 Redisson watchdog 이 락 만료 시간을 연장한다.
+     * (실행 시간을 예측하기 어려운 작업용, 인스턴스가 죽으면 lockWatchdogTimeout 뒤에 풀린다)
+     */
+    boolean autoRenew() default false;
+
+    /**
+     * 락 획득 시 단조 증가하는 fencing token 을 발급한다. (FencingToken.current() 로 조회)
+     */
+    boolean fencing() default false;
+
+    /**
+     * 락 획득 실패 시 처리 방식
+     */
+    LockFailurePolicy onFailure() default LockFailurePolicy.SKIP;
 }
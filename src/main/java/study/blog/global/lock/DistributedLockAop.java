@@ -1,5 +1,8 @@
 package study.blog.global.lock;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -7,43 +10,204 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.expression.Expression;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 처리 정책
+ * - 메서드별로 SpEL 파싱 결과와 파라미터 이름, 지표를 한 번만 만들어 캐싱한다.
+ * - 인스턴스 로컬 락(LocalKeyLocks, key 별) → Redis 락 순서로 획득하고, 두 대기 시간의 합이 waitTime 을 넘지 않게 한다.
+ * - 해제는 Redis 락 → 로컬 락 순서로 하고, 로컬 락 참조는 획득 여부와 관계없이 반납한다.
+ * - autoRenew 면 leaseTime 없이(-1) 획득하여 Redisson watchdog 이 만료 시간을 계속 연장하게 한다.
+ * - fencing 이면 획득 직후 key 별 카운터(lock{key}:fencing)를 올려 FencingToken 으로 메서드에 넘긴다.
+ *   - 카운터는 max(현재 값 + 1, 현재 시각(ms) × 1000) 으로 올리고, 마지막 획득 후 FENCING_TTL 이 지나면 만료시킨다.
+ *     (게시글마다 키가 영원히 남지 않도록. 만료 후에도 시각 기반 하한에서 다시 시작하므로 이미 반영된 token 보다 작아지지 않는다)
+ *   - 인스턴스 간 시계 차이가 FENCING_TTL 보다 크면 만료 직후의 token 이 작아질 수 있으나, 하루 단위로는 일어나지 않는다고 본다.
+ * - 지표 (tag: lock = 클래스.메서드)
+ *   - distributed.lock.wait (result = acquired | local_timeout | timeout): 락 획득까지 걸린 시간
+ *     (local_timeout: 같은 인스턴스의 다른 스레드가 로컬 락을 놓지 않음, timeout: Redis 락 대기 초과)
+ *   - distributed.lock.skipped (stage = local | redis): SKIP 정책으로 실행하지 않은 횟수
+ *   - distributed.lock.held: 락을 잡고 메서드(REQUIRES_NEW 트랜잭션 포함)를 실행한 시간
+ *
+ * 예외 처리
+ * - 대기 시간 안에 획득하지 못하면 annotation 의 onFailure 를 따른다. (SKIP: 기본값 반환, THROW: LockAcquisitionException)
+ *   SKIP 은 작업이 조용히 사라지므로 어느 단계에서 시간이 초과됐는지 경고 로그와 skipped 지표로 남긴다.
+ * - 대기 중 인터럽트되면 인터럽트 상태를 복원한 뒤 InterruptedException 을 그대로 던진다.
+ */
 @Slf4j
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class DistributedLockAop {
     private static final String LOCK_KEY = "lock";
+    private static final String FENCING_SUFFIX = ":fencing";
+    private static final long WATCHDOG_LEASE = -1L;
+    private static final Duration FENCING_TTL = Duration.ofDays(1);
+    private static final long FENCING_FLOOR_PER_MILLI = 1000L;
+
+    /**
+     * KEYS[1] = 카운터 키, ARGV[1] = 하한(현재 시각 기반), ARGV[2] = TTL(ms)
+     */
+    private static final String NEXT_FENCING_TOKEN_SCRIPT = """
+            local current = redis.call('GET', KEYS[1])
+            if current == false or tonumber(current) < tonumber(ARGV[1]) then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return tonumber(ARGV[1])
+            end
+            local token = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return token
+            """;
 
     private final RedissonClient redisson;
     private final AopForTransaction aopForTransaction;
+    private final LocalKeyLocks localKeyLocks;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, LockMetadata> metadataCache = new ConcurrentHashMap<>();
 
     @Around("@annotation(study.blog.global.lock.DistributedLock)")
     public Object around(final ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        DistributedLock annotation = method.getAnnotation(DistributedLock.class);
+        LockMetadata metadata = metadataCache.computeIfAbsent(signature.getMethod(), method -> createMetadata(method, signature));
+        DistributedLock annotation = metadata.annotation();
 
-        String key = LOCK_KEY + CustomSpringELParser.getDynamicValue(signature.getParameterNames(), joinPoint.getArgs(), annotation.key());
+        String key = LOCK_KEY + CustomSpringELParser.getDynamicValue(metadata.parameterNames(), joinPoint.getArgs(), metadata.keyExpression());
+        ReentrantLock localLock = localKeyLocks.retain(key);
         RLock rLock = redisson.getLock(key);
 
-        try{
-            boolean available = rLock.tryLock(annotation.waitTime(), annotation.leaseTime(), annotation.timeUnit());
-            if(!available){
-                return false;
+        long waitNanos = annotation.timeUnit().toNanos(annotation.waitTime());
+        long startedAt = System.nanoTime();
+        boolean localLocked = false;
+        try {
+            localLocked = localLock.tryLock(waitNanos, TimeUnit.NANOSECONDS);
+            if (!localLocked) {
+                metadata.localTimeout().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return onFailure(metadata, key, FailureStage.LOCAL);
             }
 
-            return aopForTransaction.proceed(joinPoint);
-        }catch (InterruptedException e){
-            throw new InterruptedException();
-        }finally {
-            if(rLock.isHeldByCurrentThread()){
+            long remainingNanos = waitNanos - (System.nanoTime() - startedAt);
+            boolean available = rLock.tryLock(
+                    TimeUnit.NANOSECONDS.toMillis(Math.max(0, remainingNanos)),
+                    annotation.autoRenew() ? WATCHDOG_LEASE : annotation.timeUnit().toMillis(annotation.leaseTime()),
+                    TimeUnit.MILLISECONDS);
+
+            long acquiredAt = System.nanoTime();
+            (available ? metadata.acquired() : metadata.timeout()).record(acquiredAt - startedAt, TimeUnit.NANOSECONDS);
+            if (!available) {
+                return onFailure(metadata, key, FailureStage.REDIS);
+            }
+
+            if (annotation.fencing()) {
+                FencingToken.push(nextFencingToken(key));
+            }
+            try {
+                return aopForTransaction.proceed(joinPoint);
+            } finally {
+                if (annotation.fencing()) FencingToken.pop();
+                metadata.held().record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } finally {
+            if (rLock.isHeldByCurrentThread()) {
                 rLock.unlock();
             }
+            if (localLocked) {
+                localLock.unlock();
+            }
+            localKeyLocks.release(key);
+        }
+    }
+
+    private long nextFencingToken(String key) {
+        Long token = redisson.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, NEXT_FENCING_TOKEN_SCRIPT,
+                RScript.ReturnType.INTEGER, List.of(key + FENCING_SUFFIX),
+                String.valueOf(System.currentTimeMillis() * FENCING_FLOOR_PER_MILLI), String.valueOf(FENCING_TTL.toMillis()));
+        return token;
+    }
+
+    private Object onFailure(LockMetadata metadata, String key, FailureStage stage) {
+        if (metadata.annotation().onFailure() == LockFailurePolicy.THROW) {
+            throw new LockAcquisitionException("다른 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
         }
+        (stage == FailureStage.LOCAL ? metadata.localSkipped() : metadata.redisSkipped()).increment();
+        log.warn("락 획득 실패로 실행을 건너뜀 - key={}, stage={}", key, stage.tag);
+        return metadata.returnsBoolean() ? false : null;
+    }
+
+    private LockMetadata createMetadata(Method method, MethodSignature signature) {
+        DistributedLock annotation = method.getAnnotation(DistributedLock.class);
+        String lockName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        return new LockMetadata(
+                annotation,
+                CustomSpringELParser.parse(annotation.key()),
+                signature.getParameterNames(),
+                method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class,
+                waitTimer(lockName, "acquired"),
+                waitTimer(lockName, "local_timeout"),
+                waitTimer(lockName, "timeout"),
+                skippedCounter(lockName, FailureStage.LOCAL),
+                skippedCounter(lockName, FailureStage.REDIS),
+                Timer.builder("distributed.lock.held")
+                        .description("분산 락 점유 시간")
+                        .tag("lock", lockName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+        );
+    }
+
+    private Timer waitTimer(String lockName, String result) {
+        return Timer.builder("distributed.lock.wait")
+                .description("분산 락 획득 대기 시간")
+                .tag("lock", lockName)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter skippedCounter(String lockName, FailureStage stage) {
+        return Counter.builder("distributed.lock.skipped")
+                .description("락 획득 실패로 건너뛴 실행 수")
+                .tag("lock", lockName)
+                .tag("stage", stage.tag)
+                .register(meterRegistry);
+    }
+
+    private enum FailureStage {
+        LOCAL("local"),
+        REDIS("redis");
+
+        private final String tag;
+
+        FailureStage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private record LockMetadata(
+            DistributedLock annotation,
+            Expression keyExpression,
+            String[] parameterNames,
+            boolean returnsBoolean,
+            Timer acquired,
+            Timer localTimeout,
+            Timer timeout,
+            Counter localSkipped,
+            Counter redisSkipped,
+            Timer held
+    ) {
     }
 }
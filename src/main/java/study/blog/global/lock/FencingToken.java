@@ -0,0 +1,43 @@
+package study.blog.global.lock;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * fencing = true 인 분산 락 안에서 현재 락의 fencing token 을 꺼내 쓰는 홀더.
+ *
+ * 락 만료 후에도 실행을 이어 간 이전 보유자(GC 정지, 긴 트랜잭션)의 쓰기를 막으려면,
+ * 보호 대상 자원이 마지막으로 반영한 token 보다 큰 token 의 쓰기만 받아들여야 한다. (조건부 UPDATE 등)
+ *
+ * 처리 정책
+ * - token 은 락 key 별 Redis 카운터(lock{key}:fencing)에서 받아 획득 순서대로 단조 증가한다. (카운터 만료 후에도, DistributedLockAop 참고)
+ * - 락이 중첩되면 가장 안쪽 락의 token 을 돌려준다.
+ */
+public final class FencingToken {
+
+    private static final ThreadLocal<Deque<Long>> TOKENS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private FencingToken() {
+    }
+
+    /**
+     * @throws IllegalStateException fencing 락 밖에서 호출한 경우
+     */
+    public static long current() {
+        Long token = TOKENS.get().peek();
+        if (token == null) {
+            throw new IllegalStateException("fencing 이 활성화된 분산 락 안에서만 사용할 수 있습니다.");
+        }
+        return token;
+    }
+
+    static void push(long token) {
+        TOKENS.get().push(token);
+    }
+
+    static void pop() {
+        Deque<Long> tokens = TOKENS.get();
+        tokens.pop();
+        if (tokens.isEmpty()) TOKENS.remove();
+    }
+}
@@ -0,0 +1,48 @@
+package study.blog.global.lock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 분산 락 앞단의 인스턴스 로컬 락. (key 별 참조 카운트 락)
+ *
+ * 같은 인스턴스의 여러 스레드가 같은 key 로 Redisson 에 동시에 tryLock 하면
+ * 각자 pub/sub 구독과 재시도로 Redis 를 두드리므로, 로컬에서 먼저 한 스레드만 통과시킨다.
+ *
+ * 처리 정책
+ * - key 마다 ReentrantLock 하나를 쓴다. (서로 다른 key 가 같은 락에 걸려 메서드 실행 내내 서로를 막지 않도록)
+ * - retain 으로 참조를 늘리고 release 로 줄이며, 대기 / 보유 중인 스레드가 없으면 맵에서 제거한다.
+ *   (참조가 남아 있는 동안에는 같은 key 가 항상 같은 락을 받는다)
+ * - 참조 증감은 ConcurrentHashMap.compute 안에서 하므로 제거와 새 참조가 엇갈리지 않는다.
+ */
+@Component
+public class LocalKeyLocks {
+
+    private final ConcurrentHashMap<String, RefCountedLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 반드시 같은 key 로 release 를 호출해야 한다. (락을 얻지 못했더라도)
+     */
+    public ReentrantLock retain(String key) {
+        return locks.compute(key, (k, current) -> {
+            RefCountedLock lock = current != null ? current : new RefCountedLock();
+            lock.refs++;
+            return lock;
+        }).lock;
+    }
+
+    public void release(String key) {
+        locks.computeIfPresent(key, (k, current) -> --current.refs == 0 ? null : current);
+    }
+
+    int size() {
+        return locks.size();
+    }
+
+    private static final class RefCountedLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int refs;
+    }
+}
@@ -0,0 +1,9 @@
+package study.blog.global.lock;
+
+import study.blog.global.common.exception.DomainException;
+
+public class LockAcquisitionException extends DomainException {
+    public LockAcquisitionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package study.blog.global.lock;
+
+/**
+ * 락 획득 대기 시간이 지났을 때의 처리 방식
+ */
+public enum LockFailurePolicy {
+    /**
+     * 메서드를 실행하지 않고 기본값을 반환한다. (boolean 반환형이면 false, 그 외 null)
+     * 다른 스레드/인스턴스가 같은 작업을 처리 중이어서 건너뛰어도 되는 경우에 사용한다.
+     */
+    SKIP,
+
+    /**
+     * LockAcquisitionException 을 던진다. (409 응답)
+     * 호출자가 실패를 알아야 하는 경우에 사용한다.
+     */
+    THROW
+}
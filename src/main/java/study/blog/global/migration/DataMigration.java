@@ -0,0 +1,14 @@
+package study.blog.global.migration;
+
+/**
+ * 배포 후 한 번만 실행하는 데이터 보정 작업.
+ *
+ * - id 는 실행 순서를 겸한다. (V{요청 번호}_{설명} 형식, 사전 순으로 실행)
+ * - migrate 는 중간에 실패해 다시 실행되어도 결과가 같도록 작성한다.
+ */
+public interface DataMigration {
+
+    String id();
+
+    void migrate();
+}
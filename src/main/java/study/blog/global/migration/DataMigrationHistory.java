@@ -0,0 +1,38 @@
+package study.blog.global.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 완료한 DataMigration 기록. (data_migration 테이블)
+ */
+@Repository
+public class DataMigrationHistory {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DataMigrationHistory(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void createTableIfAbsent() {
+        jdbcTemplate.execute("create table if not exists data_migration ("
+                + "id varchar(100) not null primary key, "
+                + "completed_at datetime(6) not null)");
+    }
+
+    public boolean isCompleted(String migrationId) {
+        try {
+            Integer count = jdbcTemplate.queryForObject(
+                    "select count(*) from data_migration where id = ?", Integer.class, migrationId);
+            return count != null && count > 0;
+        } catch (Exception e) {
+            // 테이블이 아직 없으면 완료되지 않은 것으로 본다.
+            return false;
+        }
+    }
+
+    void markCompleted(String migrationId) {
+        jdbcTemplate.update("insert into data_migration (id, completed_at) values (?, now(6))", migrationId);
+    }
+}
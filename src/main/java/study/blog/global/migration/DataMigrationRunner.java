@@ -0,0 +1,76 @@
+package study.blog.global.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아직 실행하지 않은 DataMigration 을 기동 후 순서대로 실행한다.
+ *
+ * 처리 정책
+ * - 여러 인스턴스가 동시에 기동하면 락을 잡은 한 인스턴스만 실행하고, 나머지는 건너뛴다.
+ *   (락은 watchdog 으로 작업이 끝날 때까지 연장된다)
+ * - 완료한 작업은 data_migration 에 기록해 다시 실행하지 않는다.
+ *
+ * 예외 처리
+ * - 한 작업이 실패하면 뒤의 작업은 실행하지 않는다. (앞 작업의 결과에 기대는 작업이 있을 수 있다)
+ *   실패한 작업은 다음 기동 시 처음부터 다시 실행된다.
+ */
+@Slf4j
+@Component
+public class DataMigrationRunner {
+
+    private static final String LOCK_KEY = "lock:data-migration";
+
+    private final List<DataMigration> migrations;
+    private final DataMigrationHistory history;
+    private final RedissonClient redisson;
+
+    public DataMigrationRunner(List<DataMigration> migrations, DataMigrationHistory history, RedissonClient redisson) {
+        this.migrations = migrations.stream().sorted(Comparator.comparing(DataMigration::id)).toList();
+        this.history = history;
+        this.redisson = redisson;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runPendingMigrations() {
+        RLock lock = redisson.getLock(LOCK_KEY);
+        try {
+            if (!lock.tryLock(0, -1, TimeUnit.SECONDS)) {
+                log.info("다른 인스턴스가 데이터 보정 작업을 실행 중이어서 건너뜀");
+                return;
+            }
+            try {
+                history.createTableIfAbsent();
+                for (DataMigration migration : migrations) {
+                    if (history.isCompleted(migration.id())) continue;
+                    if (!run(migration)) return;
+                }
+            } finally {
+                if (lock.isHeldByCurrentThread()) lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean run(DataMigration migration) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            migration.migrate();
+            history.markCompleted(migration.id());
+            log.info("데이터 보정 완료 - id={}, elapsedMs={}", migration.id(), System.currentTimeMillis() - startedAt);
+            return true;
+        } catch (Exception e) {
+            log.error("데이터 보정 실패, 이후 작업은 다음 기동 시 실행 - id={}", migration.id(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package study.blog.global.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 큰 테이블을 id 구간으로 나눠 보정한다. (한 번의 UPDATE 로 테이블 전체에 오래 락을 잡지 않도록)
+ */
+public final class IdRange {
+
+    private IdRange() {
+    }
+
+    /**
+     * [min(id), max(id)] 를 chunkSize 구간으로 나눠 (from, to) 를 순서대로 넘긴다. (양 끝 포함)
+     */
+    public static void forEachChunk(JdbcTemplate jdbcTemplate, String table, long chunkSize, BiConsumer<Long, Long> chunk) {
+        Long min = jdbcTemplate.queryForObject("select min(id) from " + table, Long.class);
+        Long max = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        if (min == null || max == null) return;
+
+        for (long from = min; from <= max; from += chunkSize) {
+            chunk.accept(from, Math.min(from + chunkSize - 1, max));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package study.blog.global.ratelimit;
+
+/**
+ * 인스턴스 로컬 토큰 버킷.
+ *
+ * Redis 버킷과 같은 크기 / 충전 속도를 사용한다.
+ * 로컬 버킷은 이 인스턴스로 들어온 요청만 세므로, 로컬 버킷이 비었다면 전체(Redis) 버킷도 반드시 비어 있다.
+ * 따라서 로컬에서 거절된 요청은 Redis 를 확인하지 않고 바로 거절할 수 있다.
+ */
+final class LocalTokenBucket {
+
+    private final long capacity;
+    private final double refillPerMillis;
+
+    private double tokens;
+    private long lastRefillAt;
+
+    LocalTokenBucket(long capacity, double refillPerMillis, long now) {
+        this.capacity = capacity;
+        this.refillPerMillis = refillPerMillis;
+        this.tokens = capacity;
+        this.lastRefillAt = now;
+    }
+
+    /**
+     * 토큰 하나를 소비한다.
+     *
+     * @return 0 이면 허용, 양수면 다음 토큰까지 기다려야 하는 시간(ms)
+     */
+    synchronized long tryConsume(long now) {
+        refill(now);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerMillis);
+    }
+
+    /**
+     * tryConsume 으로 소비한 토큰 하나를 돌려준다. (Redis 버킷에서 거절된 경우)
+     */
+    synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    /**
+     * 버킷이 가득 찬 상태로 충분히 오래 사용되지 않았는지 확인한다. (정리 대상)
+     */
+    synchronized boolean isIdle(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        if (now <= lastRefillAt) return;
+        tokens = Math.min(capacity, tokens + (now - lastRefillAt) * refillPerMillis);
+        lastRefillAt = now;
+    }
+}
@@ -0,0 +1,67 @@
+package study.blog.global.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import study.blog.global.web.ClientIpResolver;
+import study.blog.global.web.resolver.LoginMemberId;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 수 제한 필터.
+ *
+ * JwtAuthenticationFilter 뒤에서 실행되어 로그인 회원은 회원 ID 기준, 비회원은 IP 기준으로 제한한다.
+ * 비회원 IP 는 신뢰하는 프록시가 넘긴 값만 쓴다. (ClientIpResolver)
+ * 한도를 넘으면 429 와 Retry-After(초) 헤더로 응답한다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long waitMillis = rateLimiter.tryAcquire(
+                request.getMethod(), request.getRequestURI(), extractMemberId(), clientIpResolver.resolve(request));
+
+        if (waitMillis > 0) {
+            sendTooManyRequestsResponse(response, waitMillis);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Long extractMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof LoginMemberId loginMemberId) {
+            return loginMemberId.memberId();
+        }
+        return null;
+    }
+
+    private void sendTooManyRequestsResponse(HttpServletResponse response, long waitMillis) throws IOException {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitMillis + 999) / 1000)));
+        response.getWriter().write("""
+                {
+                    "success": false,
+                    "message": "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                    "data": null
+                }
+                """);
+    }
+}
@@ -0,0 +1,8 @@
+package study.blog.global.ratelimit;
+
+public enum RateLimitKeyType {
+    /** 클라이언트 IP 기준 (로그인 등 인증 전 요청) */
+    IP,
+    /** 로그인 회원 기준, 비회원이면 IP 기준 */
+    MEMBER_OR_IP
+}
@@ -0,0 +1,30 @@
+package study.blog.global.ratelimit;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 엔드포인트별 토큰 버킷 규칙.
+ *
+ * @param name         규칙 이름 (Redis 키 / 설정 키에 사용)
+ * @param methods      대상 HTTP 메서드
+ * @param pathPattern  대상 경로 (Ant 패턴)
+ * @param keyType      버킷을 나누는 기준
+ * @param capacity     버킷 크기 (순간 최대 요청 수)
+ * @param refillPeriod 빈 버킷이 가득 차는 데 걸리는 시간
+ */
+public record RateLimitRule(
+        String name,
+        Set<String> methods,
+        String pathPattern,
+        RateLimitKeyType keyType,
+        long capacity,
+        Duration refillPeriod
+) {
+    /**
+     * 1ms 당 채워지는 토큰 수
+     */
+    public double refillPerMillis() {
+        return (double) capacity / refillPeriod.toMillis();
+    }
+}
@@ -0,0 +1,111 @@
+package study.blog.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 요청 수 제한. (토큰 버킷)
+ *
+ * 처리 정책
+ * - 요청 경로 / 메서드에 맞는 규칙이 없으면 제한하지 않는다.
+ * - 1차로 인스턴스 로컬 버킷을 확인하고, 로컬에서 거절되면 Redis 를 호출하지 않고 바로 거절한다.
+ * - 로컬에서 허용되면 Redis 버킷(전체 인스턴스 공유)으로 최종 판단한다.
+ *   Redis 에서 거절되면 로컬에서 소비한 토큰을 돌려준다. (돌려주지 않으면 로컬 버킷이 실제보다 먼저 비어
+ *   전체 한도가 남아 있어도 로컬에서 거절하게 된다)
+ * - 규칙별 크기 / 충전 시간은 rate-limit.{규칙 이름}.capacity / refill-seconds 로 바꿀 수 있다.
+ *
+ * 예외 처리
+ * - Redis 장애 시 로컬 버킷 결과만으로 판단한다. (장애 중에는 인스턴스 수만큼 한도가 느슨해진다)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final RedisTokenBucket redisTokenBucket;
+    private final boolean enabled;
+    private final List<RateLimitRule> rules;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, LocalTokenBucket> localBuckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(RedisTokenBucket redisTokenBucket, Environment environment) {
+        this.redisTokenBucket = redisTokenBucket;
+        this.enabled = environment.getProperty("rate-limit.enabled", Boolean.class, true);
+        this.rules = List.of(
+                rule(environment, "auth-login", Set.of("POST"), "/api/v1/auth/login", RateLimitKeyType.IP, 10, 60),
+                rule(environment, "post-like", Set.of("POST", "DELETE"), "/api/v1/posts/*/likes", RateLimitKeyType.MEMBER_OR_IP, 30, 60),
+                rule(environment, "comment-write", Set.of("POST"), "/api/v1/posts/*/comments/**", RateLimitKeyType.MEMBER_OR_IP, 20, 60),
+                rule(environment, "link-preview", Set.of("GET"), "/api/v1/link-preview", RateLimitKeyType.MEMBER_OR_IP, 30, 60)
+        );
+    }
+
+    /**
+     * 요청을 허용할지 판단한다.
+     *
+     * @param method   HTTP 메서드
+     * @param path     요청 경로
+     * @param memberId 로그인 회원 ID (비회원이면 null)
+     * @param ip       클라이언트 IP
+     * @return 0 이면 허용, 양수면 재시도까지 기다려야 하는 시간(ms)
+     */
+    public long tryAcquire(String method, String path, Long memberId, String ip) {
+        if (!enabled) return 0;
+
+        for (RateLimitRule rule : rules) {
+            if (!rule.methods().contains(method) || !pathMatcher.match(rule.pathPattern(), path)) continue;
+
+            String subject = (rule.keyType() == RateLimitKeyType.MEMBER_OR_IP && memberId != null)
+                    ? "m:" + memberId
+                    : "ip:" + ip;
+            long wait = tryAcquire(rule, subject);
+            if (wait > 0) return wait;
+        }
+        return 0;
+    }
+
+    private long tryAcquire(RateLimitRule rule, String subject) {
+        long now = System.currentTimeMillis();
+        LocalTokenBucket localBucket = localBuckets.computeIfAbsent(rule.name() + ":" + subject,
+                key -> new LocalTokenBucket(rule.capacity(), rule.refillPerMillis(), now));
+
+        long localWait = localBucket.tryConsume(now);
+        if (localWait > 0) return localWait;
+
+        long wait;
+        try {
+            wait = redisTokenBucket.tryConsume(rule, subject);
+        } catch (Exception e) {
+            log.warn("Redis 요청 제한 확인 실패, 로컬 버킷으로 판단 - rule={}", rule.name(), e);
+            return 0;
+        }
+
+        // 거절된 요청은 로컬 버킷에서도 세지 않는다. (로컬 버킷은 이 인스턴스에서 허용된 요청만 센다)
+        if (wait > 0) localBucket.refund();
+        return wait;
+    }
+
+    /**
+     * 가득 찬(오래 사용되지 않은) 로컬 버킷을 정리한다.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void evictIdleBuckets() {
+        long now = System.currentTimeMillis();
+        localBuckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+    }
+
+    private static RateLimitRule rule(Environment environment, String name, Set<String> methods, String pathPattern,
+                                      RateLimitKeyType keyType, long defaultCapacity, long defaultRefillSeconds) {
+        long capacity = environment.getProperty("rate-limit." + name + ".capacity", Long.class, defaultCapacity);
+        long refillSeconds = environment.getProperty("rate-limit." + name + ".refill-seconds", Long.class, defaultRefillSeconds);
+        return new RateLimitRule(name, methods, pathPattern, keyType, capacity, Duration.ofSeconds(refillSeconds));
+    }
+}
@@ -0,0 +1,64 @@
+package study.blog.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 분산 토큰 버킷.
+ *
+ * 처리 정책
+ * - Redis key: ratelimit:{규칙 이름}:{회원 ID 또는 IP} (HASH: tokens, ts)
+ * - 충전 → 소비 → 저장을 Lua 스크립트 하나로 원자적으로 수행한다.
+ * - 시각은 Redis TIME 을 사용하여 인스턴스 간 시계 차이의 영향을 받지 않는다.
+ * - 키는 버킷이 가득 차는 시간이 지나면 만료된다. (가득 찬 버킷은 키가 없는 것과 같다)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTokenBucket {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    /**
+     * KEYS[1] = 버킷 키, ARGV[1] = capacity, ARGV[2] = 1ms 당 충전량
+     * return 0 = 허용, 양수 = 다음 토큰까지 대기 시간(ms)
+     */
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refillPerMs = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            if now > ts then
+                tokens = math.min(capacity, tokens + (now - ts) * refillPerMs)
+            end
+
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.ceil((1 - tokens) / refillPerMs)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refillPerMs))
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public long tryConsume(RateLimitRule rule, String subject) {
+        Long wait = redisTemplate.execute(CONSUME_SCRIPT,
+                List.of(KEY_PREFIX + rule.name() + ":" + subject),
+                String.valueOf(rule.capacity()),
+                String.valueOf(rule.refillPerMillis()));
+        return wait == null ? 0 : wait;
+    }
+}
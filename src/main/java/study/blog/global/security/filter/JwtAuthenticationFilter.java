@@ -7,51 +7,61 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
+import study.blog.auth.repository.TokenBlacklistBloomFilter;
 import study.blog.auth.repository.TokenBlacklistRepository;
+import study.blog.global.security.jwt.JwtPrincipal;
 import study.blog.global.security.jwt.JwtTokenProvider;
 import study.blog.global.security.jwt.JwtErrorType;
 import study.blog.global.web.resolver.LoginMemberId;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.Optional;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.util.StringUtils.hasText;
-import static study.blog.global.security.jwt.TokenType.ACCESS;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TokenBlacklistBloomFilter tokenBlacklistBloomFilter;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = extractJwtToken(request);
 
         if (hasText(token)) {
-            if (tokenBlacklistRepository.isBlacklisted(token)) {
+            JwtPrincipal principal = tokenProvider.authenticate(token);
+
+            if (isBlacklisted(token, principal)) {
                 sendUnauthorizedResponse(response, JwtErrorType.BLACKLISTED_TOKEN);
                 return;
             }
 
-            Long memberId = tokenProvider.getMemberIdFromJWT(token, ACCESS);
-            List<SimpleGrantedAuthority> authorities = tokenProvider.getAuthorities(token, ACCESS);
-
-            LoginMemberId loginMemberId = new LoginMemberId(memberId);
+            LoginMemberId loginMemberId = new LoginMemberId(principal.memberId());
             UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(loginMemberId, null, authorities);
+                    new UsernamePasswordAuthenticationToken(loginMemberId, null, principal.authorities());
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private boolean isBlacklisted(String token, JwtPrincipal principal) {
+        // 로컬 Bloom filter 에 없으면 블랙리스트에 없는 토큰이므로 Redis 확인을 생략한다.
+        if (tokenBlacklistBloomFilter.mightContain(principal.tokenId())
+                && tokenBlacklistRepository.isBlacklisted(principal.tokenId())) {
+            return true;
+        }
+        // jti 도입 이전 토큰은 이전 키(BL:{토큰 문자열})도 확인한다.
+        // 이전 버전 인스턴스가 등록한 키는 Bloom filter 에 전파되지 않으므로 Redis 를 직접 확인한다.
+        return principal.legacyToken() && tokenBlacklistRepository.isLegacyBlacklisted(token);
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException{
         String path = request.getRequestURI();
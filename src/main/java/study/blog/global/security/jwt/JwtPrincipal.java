@@ -0,0 +1,23 @@
+package study.blog.global.security.jwt;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * 검증이 끝난 Access Token 의 인증 정보.
+ *
+ * @param memberId    토큰 subject
+ * @param tokenId     토큰 ID(jti), 블랙리스트 키
+ * @param legacyToken jti 도입 이전에 발급된 토큰 여부 (tokenId 가 토큰 문자열의 SHA-256 해시)
+ * @param authorities 토큰 권한 정보
+ * @param cachedUntil 검증 캐시에 보관할 수 있는 시각(epoch millis, 토큰 만료 시각을 넘지 않음)
+ */
+public record JwtPrincipal(
+        Long memberId,
+        String tokenId,
+        boolean legacyToken,
+        List<SimpleGrantedAuthority> authorities,
+        long cachedUntil
+) {
+}
@@ -1,6 +1,7 @@
 package study.blog.global.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -12,16 +13,26 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String SESSION_ID_CLAIM = "sid";
+
     @Value("${jwt.accessKey}")
     private String accessKey;
 
@@ -34,13 +45,30 @@ public class JwtTokenProvider {
     @Value("${jwt.refreshExpirationInMs}")
     private long refreshExpirationInMs;
 
+    @Value("${jwt.verification-cache.ttl-ms:30000}")
+    private long verificationCacheTtlMs = 30_000;
+
+    @Value("${jwt.verification-cache.max-size:10000}")
+    private int verificationCacheMaxSize = 10_000;
+
+    /**
+     * 토큰 타입별 서명 키 / 파서.
+     * 키 문자열은 기동 이후 바뀌지 않으므로 최초 사용 시 한 번만 만들고 재사용한다.
+     * (JwtParser 는 불변 객체라 여러 스레드에서 공유해도 안전하다)
+     */
+    private volatile Map<TokenType, SecretKey> signingKeys;
+    private volatile Map<TokenType, JwtParser> parsers;
+
+    private volatile Map<String, JwtPrincipal> verificationCache;
+
     /**
-     * AccessToken 생성
+     * AccessToken 생성 (로그인 세션 포함)
      *
-     * @param memberId      인증된 사용자 식별자 (토큰 subject로 사용)
+     * @param memberId       인증된 사용자 식별자 (토큰 subject로 사용)
+     * @param sessionId      로그인 세션(기기) 식별자, 로그아웃 시 해당 세션만 종료하기 위해 사용
      * @param authentication Spring Security 인증 객체 (권한 정보 추출용)
      */
-    public String generateAccessToken(Long memberId, Authentication authentication) {
+    public String generateAccessToken(Long memberId, String sessionId, Authentication authentication) {
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
@@ -49,8 +77,10 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(issueDate.getTime() + jwtExpirationInMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(memberId))
                 .claim("authorities", authorities)
+                .claim(SESSION_ID_CLAIM, sessionId)
                 .issuedAt(issueDate)
                 .expiration(expiryDate)
                 .signWith(getSigningKey(TokenType.ACCESS))
@@ -60,14 +90,19 @@ public class JwtTokenProvider {
     /**
      * Refresh Token 생성
      *
-     * @param memberId 인증된 사용자 식별자 (토큰 subject로 사용)
+     * 같은 초에 재발급되어도 토큰이 달라지도록 jti 를 넣는다.
+     *
+     * @param memberId  인증된 사용자 식별자 (토큰 subject로 사용)
+     * @param sessionId 로그인 세션(기기) 식별자
      */
-    public String generateRefreshToken(Long memberId) {
+    public String generateRefreshToken(Long memberId, String sessionId) {
         Date issueDate = new Date(System.currentTimeMillis());
         Date expiryDate = new Date(issueDate.getTime() + refreshExpirationInMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(memberId))
+                .claim(SESSION_ID_CLAIM, sessionId)
                 .issuedAt(issueDate)
                 .expiration(expiryDate)
                 .signWith(getSigningKey(TokenType.REFRESH))
@@ -81,7 +116,13 @@ public class JwtTokenProvider {
      * @param tokenType  ACCESS 또는 REFRESH
      */
     public Duration getRemainingExpiry(String token, TokenType tokenType) {
-        Claims claims = parseClaims(token, tokenType);
+        return getRemainingExpiry(parseClaims(token, tokenType));
+    }
+
+    /**
+     * 이미 파싱한 Claims 의 남은 유효시간 반환
+     */
+    public Duration getRemainingExpiry(Claims claims) {
         long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
         return Duration.ofMillis(Math.max(remainingMillis, 0));
     }
@@ -90,6 +131,46 @@ public class JwtTokenProvider {
         return refreshExpirationInMs;
     }
 
+    /**
+     * Access Token 을 한 번만 파싱하여 memberId 와 권한 정보를 함께 반환한다. (인증 필터용)
+     *
+     * 처리 정책
+     * - 검증이 끝난 토큰은 짧은 시간(verificationCacheTtlMs) 동안 로컬 캐시에 보관하여
+     *   같은 토큰으로 연속된 요청은 서명 검증(HMAC)과 JSON 파싱을 생략한다.
+     * - 캐시 항목은 토큰 만료 시각을 넘겨서 유지되지 않는다.
+     * - 캐시 크기는 verificationCacheMaxSize 로 제한하며, 넘치면 가장 오래 사용되지 않은 항목부터 제거한다.
+     *
+     * 트레이드 오프
+     * - 블랙리스트 확인은 캐시와 무관하게 필터에서 매 요청 수행하므로 로그아웃은 즉시 반영된다.
+     *
+     * @param token Access Token
+     */
+    public JwtPrincipal authenticate(String token) {
+        long now = System.currentTimeMillis();
+
+        if (verificationCacheTtlMs > 0) {
+            JwtPrincipal cached = getVerificationCache().get(token);
+            if (cached != null && cached.cachedUntil() > now) {
+                return cached;
+            }
+        }
+
+        Claims claims = parseClaims(token, TokenType.ACCESS);
+        long cachedUntil = Math.min(claims.getExpiration().getTime(), now + verificationCacheTtlMs);
+        JwtPrincipal principal = new JwtPrincipal(
+                Long.valueOf(claims.getSubject()),
+                tokenIdOf(token, claims),
+                claims.getId() == null,
+                toAuthorities(claims),
+                cachedUntil
+        );
+
+        if (verificationCacheTtlMs > 0) {
+            getVerificationCache().put(token, principal);
+        }
+        return principal;
+    }
+
     /**
      * JWT 토큰에서 MemberId(subject) 추출
      *
@@ -97,10 +178,54 @@ public class JwtTokenProvider {
      * @param tokenType  ACCESS 또는 REFRESH
      */
     public Long getMemberIdFromJWT(String token, TokenType tokenType) {
-        Claims claims = parseClaims(token, tokenType);
+        return getMemberId(parseClaims(token, tokenType));
+    }
+
+    /**
+     * 이미 파싱한 Claims 에서 MemberId(subject) 추출
+     */
+    public Long getMemberId(Claims claims) {
         return Long.valueOf(claims.getSubject());
     }
 
+    /**
+     * 로그인 세션 ID 추출 (세션 도입 이전에 발급된 토큰은 null)
+     */
+    public String getSessionId(Claims claims) {
+        return claims.get(SESSION_ID_CLAIM, String.class);
+    }
+
+    /**
+     * JWT 토큰 ID(jti) 추출 (블랙리스트 키로 사용)
+     *
+     * jti 가 없는 토큰(jti 도입 이전 발급분)은 토큰 문자열의 SHA-256 해시를 대신 사용한다.
+     *
+     * @param token  JWT 문자열 (해시 계산용)
+     * @param claims token 을 파싱한 Claims
+     */
+    public String getTokenId(String token, Claims claims) {
+        return tokenIdOf(token, claims);
+    }
+
+    /**
+     * jti 도입 이전에 발급된 토큰인지 확인한다. (블랙리스트가 토큰 문자열 전체를 키로 쓰던 시기의 토큰)
+     */
+    public boolean isLegacyToken(Claims claims) {
+        return claims.getId() == null;
+    }
+
+    private String tokenIdOf(String token, Claims claims) {
+        if (claims.getId() != null) {
+            return claims.getId();
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * JWT 토큰에서 권한 정보 추출
      *
@@ -108,7 +233,10 @@ public class JwtTokenProvider {
      * @param tokenType  ACCESS 또는 REFRESH
      */
     public List<SimpleGrantedAuthority> getAuthorities(String token, TokenType tokenType) {
-        Claims claims = parseClaims(token, tokenType);
+        return toAuthorities(parseClaims(token, tokenType));
+    }
+
+    private List<SimpleGrantedAuthority> toAuthorities(Claims claims) {
         String authorities = claims.get("authorities", String.class);
 
         return Arrays.stream(authorities.split(","))
@@ -122,23 +250,75 @@ public class JwtTokenProvider {
      * 내부적으로:
      * - 서명 검증
      * - 만료 시간 검증
+     *
+     * 같은 토큰에서 여러 값을 꺼낼 때는 한 번 파싱한 Claims 를 Claims 인자 메서드에 넘긴다.
      */
-    private Claims parseClaims(String token, TokenType tokenType) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey(tokenType))
-                .build()
+    public Claims parseClaims(String token, TokenType tokenType) {
+        return getParsers().get(tokenType)
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
     /**
-     * 토큰 타입에 따라 서명 키 생성
+     * 토큰 타입에 따른 서명 키 반환
      *
      * ACCESS → accessKey
      * REFRESH → refreshKey
      */
     private SecretKey getSigningKey(TokenType tokenType) {
-        String secret = (tokenType == TokenType.ACCESS) ? accessKey : refreshKey;
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return getSigningKeys().get(tokenType);
+    }
+
+    private Map<TokenType, SecretKey> getSigningKeys() {
+        Map<TokenType, SecretKey> keys = signingKeys;
+        if (keys == null) {
+            synchronized (this) {
+                keys = signingKeys;
+                if (keys == null) {
+                    keys = new EnumMap<>(TokenType.class);
+                    keys.put(TokenType.ACCESS, Keys.hmacShaKeyFor(accessKey.getBytes(StandardCharsets.UTF_8)));
+                    keys.put(TokenType.REFRESH, Keys.hmacShaKeyFor(refreshKey.getBytes(StandardCharsets.UTF_8)));
+                    signingKeys = keys;
+                }
+            }
+        }
+        return keys;
+    }
+
+    private Map<TokenType, JwtParser> getParsers() {
+        Map<TokenType, JwtParser> built = parsers;
+        if (built == null) {
+            synchronized (this) {
+                built = parsers;
+                if (built == null) {
+                    built = new EnumMap<>(TokenType.class);
+                    for (Map.Entry<TokenType, SecretKey> entry : getSigningKeys().entrySet()) {
+                        built.put(entry.getKey(), Jwts.parser().verifyWith(entry.getValue()).build());
+                    }
+                    parsers = built;
+                }
+            }
+        }
+        return built;
+    }
+
+    private Map<String, JwtPrincipal> getVerificationCache() {
+        Map<String, JwtPrincipal> cache = verificationCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = verificationCache;
+                if (cache == null) {
+                    int maxSize = verificationCacheMaxSize;
+                    cache = Collections.synchronizedMap(new LinkedHashMap<String, JwtPrincipal>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, JwtPrincipal> eldest) {
+                            return size() > maxSize;
+                        }
+                    });
+                    verificationCache = cache;
+                }
+            }
+        }
+        return cache;
     }
 }
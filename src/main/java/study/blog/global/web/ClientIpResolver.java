@@ -0,0 +1,69 @@
+package study.blog.global.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 요청한 클라이언트 IP 를 구한다. (비회원 요청 수 제한, 조회수 중복 판단용)
+ *
+ * 처리 정책
+ * - 직접 연결한 주소(remoteAddr)가 신뢰하는 프록시(web.trusted-proxies, CIDR)일 때만 프록시 헤더를 읽는다.
+ *   그 외에는 remoteAddr 를 그대로 쓴다. (클라이언트가 보낸 헤더로 IP 를 바꿀 수 없도록)
+ * - nginx 가 덮어쓰는 X-Real-IP 를 먼저 쓰고, 없으면 X-Forwarded-For 를 오른쪽부터 읽어
+ *   신뢰하는 프록시가 아닌 첫 주소를 쓴다. (왼쪽 값은 클라이언트가 임의로 붙일 수 있다)
+ *
+ * 트레이드 오프
+ * - 기본값은 사설 대역과 loopback 이다. (nginx 와 앱이 같은 docker 네트워크에 있는 배포 구성 기준)
+ *   프록시 없이 사설망에서 직접 접근하는 클라이언트는 헤더를 위조할 수 있으므로, 그런 구성에서는 대역을 좁힌다.
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String REAL_IP = "X-Real-IP";
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(
+            @Value("${web.trusted-proxies:127.0.0.0/8,::1/128,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16}") String trustedProxies) {
+        this.trustedProxies = Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(cidr -> !cidr.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) return remoteAddr;
+
+        String realIp = request.getHeader(REAL_IP);
+        if (hasText(realIp)) return realIp.trim();
+
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (!hasText(forwardedFor)) return remoteAddr;
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrustedProxy(hop)) return hop;
+        }
+        return remoteAddr;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        try {
+            return trustedProxies.stream().anyMatch(matcher -> matcher.matches(address));
+        } catch (IllegalArgumentException e) {
+            // IP 형식이 아닌 값(위조된 헤더 등)은 신뢰하지 않는다.
+            return false;
+        }
+    }
+}
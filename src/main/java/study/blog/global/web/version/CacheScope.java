@@ -0,0 +1,13 @@
+package study.blog.global.web.version;
+
+public enum CacheScope {
+    /**
+     * 브라우저만 저장하고 매 요청마다 서버에 재검증한다. (회원별 응답, 조회수처럼 요청마다 서버 처리가 필요한 응답)
+     */
+    PRIVATE,
+
+    /**
+     * 비로그인 응답은 nginx 가 짧게(sharedMaxAge) 저장하고, 이후 조건부 요청으로 재검증한다.
+     */
+    SHARED
+}
@@ -0,0 +1,77 @@
+package study.blog.global.web.version;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generateGlobalKey;
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generateViewerKey;
+
+/**
+ * 리소스 버전 기반 조건부 GET 처리.
+ *
+ * 처리 정책
+ * - ETag = W/"{global}.{리소스 버전...}.{viewer}-m{memberId}" (비로그인은 viewer 없이 m0)
+ *   회원별 값이 섞인 응답이므로 memberId 를 포함해 다른 회원의 캐시와 일치하지 않게 한다.
+ * - Last-Modified = 리소스 중 가장 마지막 변경 시각
+ * - If-None-Match / If-Modified-Since 가 현재 버전과 같으면 304 를 응답하고, 호출자는 응답 본문을 만들지 않는다.
+ * - Cache-Control
+ *   - 로그인 요청 또는 PRIVATE: private, no-cache (브라우저만 저장, 매번 재검증)
+ *   - 비로그인 SHARED: public, max-age=0, s-maxage={sharedMaxAge} (nginx 가 잠깐 저장 후 재검증)
+ *
+ * 예외 처리
+ * - 버전 조회 실패(Redis 장애) 시 ETag 없이 전체 응답을 내려준다.
+ */
+@Slf4j
+@Component
+public class ConditionalGetHandler {
+
+    private final ContentVersionStore versionStore;
+    private final long sharedMaxAgeSeconds;
+
+    public ConditionalGetHandler(ContentVersionStore versionStore,
+                                 @Value("${http-cache.shared-max-age-seconds:5}") long sharedMaxAgeSeconds) {
+        this.versionStore = versionStore;
+        this.sharedMaxAgeSeconds = sharedMaxAgeSeconds;
+    }
+
+    public boolean checkNotModified(WebRequest webRequest, HttpServletResponse response,
+                                    Long memberId, CacheScope scope, String... keys) {
+        writeCacheControl(response, memberId, scope);
+
+        List<String> versionKeys = new ArrayList<>();
+        versionKeys.add(generateGlobalKey());
+        versionKeys.addAll(List.of(keys));
+        if (memberId != null) versionKeys.add(generateViewerKey(memberId));
+
+        ContentVersion version;
+        try {
+            version = versionStore.read(versionKeys);
+        } catch (Exception e) {
+            log.warn("리소스 버전 조회 실패, 조건부 응답 생략 - keys={}", versionKeys, e);
+            return false;
+        }
+
+        String etag = "W/\"" + version.tag() + "-m" + (memberId == null ? 0 : memberId) + "\"";
+        return webRequest.checkNotModified(etag, version.lastModified());
+    }
+
+    /**
+     * 별도 ETag(본문 해시 등)를 쓰는 응답도 같은 캐시 정책을 따르도록 Cache-Control 만 기록한다.
+     * (지정하지 않으면 Spring Security 기본값 no-store 가 붙어 브라우저가 응답을 저장하지 않는다)
+     */
+    public void writeCacheControl(HttpServletResponse response, Long memberId, CacheScope scope) {
+        if (memberId != null || scope == CacheScope.PRIVATE) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+            return;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=0, s-maxage=" + sharedMaxAgeSeconds);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+    }
+}
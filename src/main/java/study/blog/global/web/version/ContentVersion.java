@@ -0,0 +1,13 @@
+package study.blog.global.web.version;
+
+/**
+ * 응답을 구성하는 리소스들의 현재 버전.
+ *
+ * @param tag          리소스별 버전을 이어 붙인 값 (ETag 본문)
+ * @param lastModified 리소스 중 가장 마지막으로 변경된 시각 (epoch ms, Last-Modified)
+ */
+public record ContentVersion(
+        String tag,
+        long lastModified
+) {
+}
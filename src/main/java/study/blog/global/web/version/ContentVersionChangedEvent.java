@@ -0,0 +1,8 @@
+package study.blog.global.web.version;
+
+import java.util.List;
+
+public record ContentVersionChangedEvent(
+        List<String> keys
+) {
+}
@@ -0,0 +1,34 @@
+package study.blog.global.web.version;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentVersionEventListener {
+
+    private final ContentVersionStore versionStore;
+
+    /**
+     * 변경 커밋 이후 리소스 버전을 올린다.
+     *
+     * 처리 정책
+     * - 트랜잭션 밖(스케줄러, 다른 AFTER_COMMIT 리스너)에서 발행된 이벤트는 즉시 처리한다. (fallbackExecution)
+     *
+     * 예외 처리
+     * - 실패해도 변경 처리에는 영향을 주지 않는다. 버전이 오르지 않은 동안은 이전 응답이 304 로 재사용될 수 있으며,
+     *   다음 변경 또는 키 만료(TTL) 이후 새 버전으로 갱신된다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ContentVersionChangedEvent event) {
+        try {
+            versionStore.bump(event.keys());
+        } catch (Exception e) {
+            log.warn("리소스 버전 갱신 실패 - keys={}", event.keys(), e);
+        }
+    }
+}
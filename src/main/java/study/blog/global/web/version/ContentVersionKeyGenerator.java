@@ -0,0 +1,31 @@
+package study.blog.global.web.version;
+
+public final class ContentVersionKeyGenerator {
+    private ContentVersionKeyGenerator(){}
+
+    /**
+     * 모든 응답에 공통으로 영향을 주는 변경. (닉네임 변경 등)
+     */
+    public static String generateGlobalKey(){
+        return "content-version:global";
+    }
+
+    public static String generatePostKey(Long postId){
+        return "content-version:post:" + postId;
+    }
+
+    public static String generatePostListKey(){
+        return "content-version:post-list";
+    }
+
+    public static String generateCommentKey(Long postId){
+        return "content-version:comment:" + postId;
+    }
+
+    /**
+     * 회원별로 달라지는 응답 필드(구독 여부 등)의 변경.
+     */
+    public static String generateViewerKey(Long memberId){
+        return "content-version:viewer:" + memberId;
+    }
+}
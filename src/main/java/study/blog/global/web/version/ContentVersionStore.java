@@ -0,0 +1,80 @@
+package study.blog.global.web.version;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 조건부 GET(ETag / Last-Modified)용 리소스 버전 저장소.
+ *
+ * 처리 정책
+ * - Redis key: content-version:{resource} (HASH: v = 버전, t = 마지막 변경 시각(ms)), TTL 7일 (조회/변경 시 연장)
+ * - 키가 없으면 버전을 현재 시각(ms)으로 시작한다.
+ *   (키가 만료/유실된 뒤 다시 만들어져도 이전에 발급한 버전과 겹치지 않는다)
+ * - 여러 리소스의 버전을 Lua 스크립트 한 번으로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentVersionStore {
+
+    private static final Duration TTL = Duration.ofDays(7);
+
+    /**
+     * KEYS = 버전 키 목록, ARGV[1] = now(ms), ARGV[2] = TTL(s)
+     * return {v1, t1, v2, t2, ...}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            local result = {}
+            for i, key in ipairs(KEYS) do
+                if redis.call('HSETNX', key, 'v', ARGV[1]) == 1 then
+                    redis.call('HSET', key, 't', ARGV[1])
+                end
+                redis.call('EXPIRE', key, ARGV[2])
+                local fields = redis.call('HMGET', key, 'v', 't')
+                result[#result + 1] = fields[1]
+                result[#result + 1] = fields[2] or ARGV[1]
+            end
+            return result
+            """, List.class);
+
+    /**
+     * KEYS = 버전 키 목록, ARGV[1] = now(ms), ARGV[2] = TTL(s)
+     */
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            for i, key in ipairs(KEYS) do
+                if redis.call('HSETNX', key, 'v', ARGV[1]) == 0 then
+                    redis.call('HINCRBY', key, 'v', 1)
+                end
+                redis.call('HSET', key, 't', ARGV[1])
+                redis.call('EXPIRE', key, ARGV[2])
+            end
+            return #KEYS
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ContentVersion read(List<String> keys) {
+        List<?> result = redisTemplate.execute(READ_SCRIPT, keys,
+                String.valueOf(System.currentTimeMillis()), String.valueOf(TTL.toSeconds()));
+
+        StringJoiner tag = new StringJoiner(".");
+        long lastModified = 0;
+        for (int i = 0; i < result.size(); i += 2) {
+            tag.add(String.valueOf(result.get(i)));
+            lastModified = Math.max(lastModified, Long.parseLong(String.valueOf(result.get(i + 1))));
+        }
+        return new ContentVersion(tag.toString(), lastModified);
+    }
+
+    public void bump(List<String> keys) {
+        redisTemplate.execute(BUMP_SCRIPT, keys,
+                String.valueOf(System.currentTimeMillis()), String.valueOf(TTL.toSeconds()));
+    }
+}
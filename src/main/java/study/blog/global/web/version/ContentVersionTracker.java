@@ -0,0 +1,55 @@
+package study.blog.global.web.version;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static study.blog.global.web.version.ContentVersionKeyGenerator.*;
+
+/**
+ * 조회 응답에 영향을 주는 변경을 기록한다.
+ *
+ * 실제 버전 증가는 커밋 이후 ContentVersionEventListener 에서 처리된다.
+ * (커밋 전에 버전을 올리면 새 ETag 로 이전 데이터가 캐싱될 수 있다)
+ * AFTER_COMMIT 리스너 안에서는 새로 발행한 트랜잭션 이벤트가 실행되지 않으므로 ContentVersionStore 를 직접 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentVersionTracker {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 상세와 목록에 모두 보이는 값(제목, 상태, 태그, 좋아요 수 등)이 바뀐 경우
+     */
+    public void trackPost(Long postId) {
+        publish(generatePostKey(postId), generatePostListKey());
+    }
+
+    /**
+     * 게시글 상세에만 보이는 값(본문, 자동 저장 내용 등)이 바뀐 경우
+     */
+    public void trackPostDetail(Long postId) {
+        publish(generatePostKey(postId));
+    }
+
+    /**
+     * 목록에만 보이는 값(요약, 정렬 기준인 조회수 등)이 바뀐 경우
+     */
+    public void trackPostList() {
+        publish(generatePostListKey());
+    }
+
+    /**
+     * 댓글이 바뀐 경우 (게시글 상세 / 목록의 댓글 수 포함)
+     */
+    public void trackComment(Long postId) {
+        publish(generateCommentKey(postId), generatePostKey(postId), generatePostListKey());
+    }
+
+    private void publish(String... keys) {
+        eventPublisher.publishEvent(new ContentVersionChangedEvent(List.of(keys)));
+    }
+}
@@ -0,0 +1,69 @@
+package study.blog.image.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import study.blog.global.infra.ImageStorage;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.domain.entity.ImageAsset;
+import study.blog.image.domain.event.ImageVariantsReadyEvent;
+import study.blog.image.infrastructure.persistence.command.ImageAssetRepository;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 처리 정책:
+ *   - 리사이즈(다운로드 / 디코딩 / 업로드)는 트랜잭션 밖에서 수행하고, 상태 변경만 짧은 트랜잭션으로 처리한다.
+ *   - 시도 횟수가 MAX_ATTEMPTS 를 넘은 이미지는 FAILED 로 바꾸고 더 이상 처리하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageAssetUpdater {
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private final ImageAssetRepository assetRepository;
+    private final ImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 처리할 이미지면 시도 횟수를 올리고 원본 key 를 반환한다.
+     */
+    @Transactional
+    public Optional<String> begin(Long assetId) {
+        return assetRepository.findById(assetId)
+                .filter(ImageAsset::isPending)
+                .map(asset -> {
+                    if (asset.getAttempts() >= MAX_ATTEMPTS) {
+                        asset.markFailed();
+                        return null;
+                    }
+                    asset.startAttempt();
+                    return asset.getOriginalKey();
+                });
+    }
+
+    /**
+     * 리사이즈 결과가 모두 업로드된 이미지를 READY 로 바꾸고, 원본을 참조하는 곳에 결과 URL 을 기록하도록 이벤트를 발행한다.
+     */
+    @Transactional
+    public void complete(Long assetId, int width, int height) {
+        assetRepository.findById(assetId).ifPresent(asset -> {
+            asset.markReady(width, height);
+
+            Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+            for (ImageVariant variant : ImageVariant.values()) {
+                variantUrls.put(variant, imageStorage.urlOf(variant.keyOf(asset.getOriginalKey())));
+            }
+            eventPublisher.publishEvent(new ImageVariantsReadyEvent(imageStorage.urlOf(asset.getOriginalKey()), variantUrls));
+        });
+    }
+
+    @Transactional
+    public void fail(Long assetId) {
+        assetRepository.findById(assetId).ifPresent(ImageAsset::markFailed);
+    }
+}
@@ -0,0 +1,78 @@
+package study.blog.image.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import study.blog.global.infra.ImageStorage;
+import study.blog.global.infra.StoredObject;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.domain.entity.ImageAsset;
+import study.blog.image.domain.event.ImageUploadedEvent;
+import study.blog.image.domain.exception.InvalidImageException;
+import study.blog.image.infrastructure.persistence.command.ImageAssetRepository;
+import study.blog.image.presentation.response.ImageConfirmResponse;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ImageUploadService {
+
+    private static final List<String> UPLOAD_PREFIXES = List.of("thumbnail/", "post-images/");
+
+    private final ImageAssetRepository assetRepository;
+    private final ImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${image.max-bytes:10485760}")
+    private long maxBytes;
+
+    /**
+     * presigned URL 로 업로드를 마친 이미지를 확인하고 리사이즈를 요청한다.
+     *
+     * 처리 정책
+     * - 저장소에 실제로 올라온 객체인지 HEAD 로 확인한 뒤 ImageAsset(PENDING) 으로 기록한다.
+     * - 리사이즈는 커밋 이후 이미지 처리 전용 풀에서 비동기로 진행한다.
+     * - 이미 확인된 이미지면 현재 처리 상태를 그대로 응답한다.
+     *   (같은 이미지를 동시에 확인하면 먼저 저장된 행을 응답하고, 리사이즈는 먼저 저장한 요청만 맡긴다)
+     *
+     * 예외 처리
+     * - 이 서비스가 발급한 업로드 경로가 아니거나, 객체가 없거나, maxBytes 를 넘으면 InvalidImageException
+     */
+    public ImageConfirmResponse confirm(Long memberId, String imageUrl) {
+        String key = imageStorage.keyOf(imageUrl)
+                .filter(k -> UPLOAD_PREFIXES.stream().anyMatch(k::startsWith))
+                .orElseThrow(() -> new InvalidImageException("업로드한 이미지 주소가 올바르지 않습니다."));
+
+        ImageAsset asset = assetRepository.findByOriginalKey(key).orElse(null);
+        if (asset != null) return toResponse(asset);
+
+        StoredObject object = imageStorage.head(key)
+                .orElseThrow(() -> new InvalidImageException("업로드된 이미지를 찾을 수 없습니다."));
+        if (object.size() > maxBytes) {
+            throw new InvalidImageException("이미지는 최대 " + (maxBytes / 1024 / 1024) + "MB 까지 업로드할 수 있습니다.");
+        }
+
+        if (assetRepository.insertIfAbsent(key, memberId) == 0) {
+            return assetRepository.findWithLockByOriginalKey(key)
+                    .map(this::toResponse)
+                    .orElseThrow(() -> new InvalidImageException("업로드된 이미지를 찾을 수 없습니다."));
+        }
+        asset = assetRepository.findByOriginalKey(key).orElseThrow();
+        eventPublisher.publishEvent(new ImageUploadedEvent(asset.getId()));
+        return toResponse(asset);
+    }
+
+    private ImageConfirmResponse toResponse(ImageAsset asset) {
+        Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            variantUrls.put(variant, imageStorage.urlOf(variant.keyOf(asset.getOriginalKey())));
+        }
+        return new ImageConfirmResponse(imageStorage.urlOf(asset.getOriginalKey()), asset.getStatus(), variantUrls);
+    }
+}
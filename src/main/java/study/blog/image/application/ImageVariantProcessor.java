@@ -0,0 +1,85 @@
+package study.blog.image.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import study.blog.global.infra.ImageStorage;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.domain.exception.InvalidImageException;
+import study.blog.image.infrastructure.processing.GeneratedImage;
+import study.blog.image.infrastructure.processing.ImageVariantGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Component
+public class ImageVariantProcessor {
+
+    private static final String JPEG = "image/jpeg";
+
+    private final ImageAssetUpdater assetUpdater;
+    private final ImageStorage imageStorage;
+    private final ImageVariantGenerator generator;
+    private final Executor executor;
+
+    public ImageVariantProcessor(ImageAssetUpdater assetUpdater,
+                                 ImageStorage imageStorage,
+                                 ImageVariantGenerator generator,
+                                 @Qualifier("imageProcessingExecutor") Executor executor) {
+        this.assetUpdater = assetUpdater;
+        this.imageStorage = imageStorage;
+        this.generator = generator;
+        this.executor = executor;
+    }
+
+    /**
+     * 이미지 처리 전용 풀에 리사이즈를 맡긴다.
+     *
+     * 디코딩은 메모리를 많이 쓰므로 동시에 처리하는 이미지 수를 풀 크기로 제한한다.
+     * 큐가 가득 차면 요청 스레드에서 대신 처리하지 않고 PENDING 으로 남겨 ImageVariantRetryScheduler 가 다시 맡긴다.
+     *
+     * @return 풀에 등록되었으면 true
+     */
+    public boolean submit(Long assetId) {
+        try {
+            executor.execute(() -> process(assetId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 처리 대기열 초과, 재시도 스케줄러로 이월 - assetId={}", assetId);
+            return false;
+        }
+    }
+
+    /**
+     * 원본을 내려받아 규격별 JPEG 을 만들고 원본 옆에 저장한다.
+     *
+     * 예외 처리
+     * - 이미지로 읽을 수 없으면 FAILED (재시도하지 않는다)
+     * - 저장소 입출력 실패는 PENDING 으로 남겨 재시도한다.
+     */
+    public void process(Long assetId) {
+        Optional<String> originalKey = assetUpdater.begin(assetId);
+        if (originalKey.isEmpty()) return;
+
+        try {
+            GeneratedImage generated;
+            try (InputStream in = imageStorage.open(originalKey.get())) {
+                generated = generator.generate(in);
+            }
+            for (Map.Entry<ImageVariant, byte[]> variant : generated.variants().entrySet()) {
+                imageStorage.put(variant.getKey().keyOf(originalKey.get()), variant.getValue(), JPEG);
+            }
+            assetUpdater.complete(assetId, generated.width(), generated.height());
+        } catch (InvalidImageException e) {
+            log.warn("이미지 리사이즈 불가 - assetId={}, reason={}", assetId, e.getMessage());
+            assetUpdater.fail(assetId);
+        } catch (IOException | RuntimeException e) {
+            log.error("이미지 리사이즈 실패, 재시도 예정 - assetId={}", assetId, e);
+        }
+    }
+}
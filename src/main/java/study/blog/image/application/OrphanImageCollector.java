@@ -0,0 +1,129 @@
+package study.blog.image.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import study.blog.global.infra.ImageStorage;
+import study.blog.global.infra.StoredObject;
+import study.blog.global.infra.StoredObjectPage;
+import study.blog.global.migration.DataMigrationHistory;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.infrastructure.persistence.command.ImageAssetRepository;
+import study.blog.post.infrastructure.migration.PostImageBackfill;
+import study.blog.post.infrastructure.persistence.query.PostImageReader;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 어떤 게시글에서도 사용하지 않는 업로드 이미지(고아 이미지)를 저장소에서 삭제한다.
+ *
+ * presigned URL 은 게시글 저장 전에 발급되므로, 업로드 후 글을 저장하지 않았거나
+ * 본문에서 이미지를 지운 경우 원본과 리사이즈 결과가 저장소에 계속 남는다.
+ *
+ * 처리 정책
+ * - post_image 보정(PostImageBackfill)이 끝나기 전에는 실행하지 않는다.
+ *   (보정 전 게시글은 post_image 가 비어 있어 사용 중인 이미지도 고아로 보이기 때문)
+ * - thumbnail/, post-images/ 아래 객체를 key 순으로 PAGE_SIZE 건씩 조회한다. (전체 목록을 메모리에 올리지 않는다)
+ * - 업로드 후 grace 기간이 지난 원본만 대상으로 한다. (아직 작성 중인 글의 이미지를 지우지 않도록)
+ * - 원본 URL 또는 대표 이미지로 쓰이는 MEDIUM 결과 URL 이 게시글에서 참조되면 사용 중으로 본다. (페이지당 조회 2회)
+ * - 사용하지 않는 원본은 리사이즈 결과와 ImageAsset 행까지 함께 삭제한다.
+ * - 리사이즈 결과 key 는 단독으로 판단하지 않고 원본과 함께 정리한다.
+ *
+ * 트레이드 오프
+ * - 참조 확인과 삭제 사이에 grace 기간보다 오래된 이미지를 새로 참조하는 저장이 끼어들면 해당 이미지가 지워질 수 있다.
+ *   업로드 후 하루 넘게 저장하지 않은 이미지를 다시 쓰는 경우만 해당하므로 허용한다.
+ * - 아직 DB 에 반영되지 않은 자동 저장 버퍼(DraftBuffer)의 본문은 보지 않는다. 버퍼는 늦어도 1분(DraftFlushScheduler 의 MAX_DELAY)
+ *   안에 반영되고, 그 전에 올린 이미지는 grace 기간 안이라 지워지지 않는다는 점에 기댄다.
+ *   DB 반영이 계속 실패해도 버퍼는 TTL(1일) 뒤 사라지므로, grace 는 버퍼 TTL 보다 짧게 잡지 않는다.
+ * - 여러 인스턴스에서 동시에 실행되어도 같은 객체를 중복 삭제할 뿐 결과는 같다.
+ *
+ * 예외 처리
+ * - 한 페이지 처리 실패는 로그만 남기고 다음 페이지로 넘어간다. (다음 실행에서 다시 대상이 된다)
+ */
+@Slf4j
+@Component
+public class OrphanImageCollector {
+
+    private static final List<String> UPLOAD_PREFIXES = List.of("thumbnail/", "post-images/");
+    private static final int PAGE_SIZE = 500;
+
+    private final ImageStorage imageStorage;
+    private final ImageAssetRepository assetRepository;
+    private final PostImageReader postImageReader;
+    private final DataMigrationHistory migrationHistory;
+    private final Duration grace;
+
+    public OrphanImageCollector(ImageStorage imageStorage,
+                                ImageAssetRepository assetRepository,
+                                PostImageReader postImageReader,
+                                DataMigrationHistory migrationHistory,
+                                @Value("${image.orphan.grace-hours:24}") long graceHours) {
+        this.imageStorage = imageStorage;
+        this.assetRepository = assetRepository;
+        this.postImageReader = postImageReader;
+        this.migrationHistory = migrationHistory;
+        this.grace = Duration.ofHours(graceHours);
+    }
+
+    /**
+     * @return 삭제한 원본 이미지 수
+     */
+    public int collect() {
+        if (!migrationHistory.isCompleted(PostImageBackfill.ID)) {
+            log.warn("게시글 이미지 보정이 끝나지 않아 고아 이미지 정리를 건너뜀 - migration={}", PostImageBackfill.ID);
+            return 0;
+        }
+
+        Instant uploadedBefore = Instant.now().minus(grace);
+        int deleted = 0;
+        for (String prefix : UPLOAD_PREFIXES) {
+            String continuationToken = null;
+            do {
+                StoredObjectPage page = imageStorage.list(prefix, continuationToken, PAGE_SIZE);
+                try {
+                    deleted += collectPage(page.objects(), uploadedBefore);
+                } catch (Exception e) {
+                    log.warn("고아 이미지 정리 실패 - prefix={}", prefix, e);
+                }
+                continuationToken = page.continuationToken();
+            } while (continuationToken != null);
+        }
+        return deleted;
+    }
+
+    private int collectPage(List<StoredObject> objects, Instant uploadedBefore) {
+        // 원본 URL, 대표 이미지로 쓰이는 MEDIUM URL → 원본 key
+        Map<String, String> originalKeyByUrl = new HashMap<>();
+        for (StoredObject object : objects) {
+            if (ImageVariant.isVariantKey(object.key()) || !object.lastModified().isBefore(uploadedBefore)) continue;
+            originalKeyByUrl.put(imageStorage.urlOf(object.key()), object.key());
+            originalKeyByUrl.put(imageStorage.urlOf(ImageVariant.MEDIUM.keyOf(object.key())), object.key());
+        }
+        if (originalKeyByUrl.isEmpty()) return 0;
+
+        Set<String> referencedUrls = postImageReader.findReferencedUrls(originalKeyByUrl.keySet());
+        List<String> orphanKeys = originalKeyByUrl.values().stream()
+                .distinct()
+                .filter(key -> !referencedUrls.contains(imageStorage.urlOf(key))
+                        && !referencedUrls.contains(imageStorage.urlOf(ImageVariant.MEDIUM.keyOf(key))))
+                .toList();
+        if (orphanKeys.isEmpty()) return 0;
+
+        List<String> keys = new ArrayList<>(orphanKeys.size() * (ImageVariant.values().length + 1));
+        for (String key : orphanKeys) {
+            keys.add(key);
+            for (ImageVariant variant : ImageVariant.values()) {
+                keys.add(variant.keyOf(key));
+            }
+        }
+        imageStorage.delete(keys);
+        assetRepository.deleteByOriginalKeys(orphanKeys);
+        return orphanKeys.size();
+    }
+}
@@ -0,0 +1,5 @@
+package study.blog.image.domain;
+
+public enum ImageAssetStatus {
+    PENDING, READY, FAILED
+}
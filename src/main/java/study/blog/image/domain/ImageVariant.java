@@ -0,0 +1,42 @@
+package study.blog.image.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지의 리사이즈 규격. (가로 기준, 원본보다 크게 늘리지 않는다)
+ *
+ * 결과는 원본 옆에 {원본 key 에서 확장자를 뺀 값}_w{width}.jpg 로 저장한다.
+ * (원본 key 만으로 결과 위치를 알 수 있어 별도로 저장하지 않는다)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    SMALL(320),
+    MEDIUM(768),
+    LARGE(1280);
+
+    private static final Pattern VARIANT_KEY = Pattern.compile(".+_w\\d+\\.jpg$");
+
+    private final int width;
+
+    public String keyOf(String originalKey) {
+        int dot = originalKey.lastIndexOf('.');
+        int slash = originalKey.lastIndexOf('/');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return base + "_w" + width + ".jpg";
+    }
+
+    /**
+     * 리사이즈 결과 key 인지 확인한다. (원본과 함께 정리되므로 단독으로 판단하지 않는다)
+     */
+    public static boolean isVariantKey(String key) {
+        return VARIANT_KEY.matcher(key).matches();
+    }
+
+    public static ImageVariant largest() {
+        return LARGE;
+    }
+}
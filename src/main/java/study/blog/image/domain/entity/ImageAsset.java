@@ -0,0 +1,67 @@
+package study.blog.image.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import study.blog.global.common.entity.BaseEntity;
+import study.blog.image.domain.ImageAssetStatus;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 업로드가 확인된 이미지 원본과 리사이즈 처리 상태.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "image_asset",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_asset_original_key", columnNames = "original_key"),
+        indexes = @Index(name = "idx_image_asset_status_edited_at", columnList = "status, edited_at"))
+public class ImageAsset extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String originalKey;
+
+    @Column(nullable = false)
+    private Long uploaderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImageAssetStatus status;
+
+    private Integer width;
+
+    private Integer height;
+
+    private int attempts;
+
+    public static ImageAsset create(String originalKey, Long uploaderId) {
+        ImageAsset asset = new ImageAsset();
+        asset.originalKey = originalKey;
+        asset.uploaderId = uploaderId;
+        asset.status = ImageAssetStatus.PENDING;
+        return asset;
+    }
+
+    public void startAttempt() {
+        this.attempts++;
+    }
+
+    public void markReady(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.status = ImageAssetStatus.READY;
+    }
+
+    public void markFailed() {
+        this.status = ImageAssetStatus.FAILED;
+    }
+
+    public boolean isPending() {
+        return status == ImageAssetStatus.PENDING;
+    }
+}
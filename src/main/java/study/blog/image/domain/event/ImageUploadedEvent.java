@@ -0,0 +1,6 @@
+package study.blog.image.domain.event;
+
+public record ImageUploadedEvent(
+        Long assetId
+) {
+}
@@ -0,0 +1,14 @@
+package study.blog.image.domain.event;
+
+import study.blog.image.domain.ImageVariant;
+
+import java.util.Map;
+
+/**
+ * 리사이즈 결과 업로드가 끝난 이미지. (원본 URL 을 참조하는 게시글 / 게시글 이미지에 결과 URL 을 기록한다)
+ */
+public record ImageVariantsReadyEvent(
+        String originalUrl,
+        Map<ImageVariant, String> variantUrls
+) {
+}
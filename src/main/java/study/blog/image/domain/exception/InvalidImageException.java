@@ -0,0 +1,9 @@
+package study.blog.image.domain.exception;
+
+import study.blog.global.common.exception.DomainException;
+
+public class InvalidImageException extends DomainException {
+    public InvalidImageException(String message) {
+        super(message);
+    }
+}
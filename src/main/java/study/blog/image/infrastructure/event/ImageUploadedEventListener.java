@@ -0,0 +1,23 @@
+package study.blog.image.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import study.blog.image.application.ImageVariantProcessor;
+import study.blog.image.domain.event.ImageUploadedEvent;
+
+@Component
+@RequiredArgsConstructor
+public class ImageUploadedEventListener {
+
+    private final ImageVariantProcessor variantProcessor;
+
+    /**
+     * 업로드 확인 커밋 이후 리사이즈를 이미지 처리 전용 풀에 맡긴다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ImageUploadedEvent event) {
+        variantProcessor.submit(event.assetId());
+    }
+}
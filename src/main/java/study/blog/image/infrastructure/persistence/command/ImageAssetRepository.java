@@ -0,0 +1,57 @@
+package study.blog.image.infrastructure.persistence.command;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import study.blog.image.domain.ImageAssetStatus;
+import study.blog.image.domain.entity.ImageAsset;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageAssetRepository extends JpaRepository<ImageAsset, Long> {
+
+    Optional<ImageAsset> findByOriginalKey(String originalKey);
+
+    /**
+     * 공유 잠금으로 읽는다. (트랜잭션 시작 후 다른 트랜잭션이 커밋한 행도 보인다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<ImageAsset> findWithLockByOriginalKey(String originalKey);
+
+    /**
+     * 같은 원본 key 의 행이 없을 때만 PENDING 으로 insert 한다.
+     *
+     * 처리 정책
+     * - 유니크 제약 위반을 예외로 받으면 트랜잭션이 rollback-only 가 되므로 insert ignore 로 무시한다.
+     *   (동시에 insert 하면 먼저 insert 한 트랜잭션이 끝날 때까지 기다린다)
+     * - on duplicate key update 는 드라이버 기본 설정(found rows)에서 중복이어도 1 을 반환하므로 쓰지 않는다.
+     * - native 쿼리라 auditing 이 동작하지 않으므로 created_at / edited_at 을 직접 채운다.
+     *
+     * @return insert 했으면 1, 이미 있으면 0
+     */
+    @Modifying
+    @Query(value = """
+            insert ignore into image_asset (original_key, uploader_id, status, attempts, created_at, edited_at)
+            values (:originalKey, :uploaderId, 'PENDING', 0, now(6), now(6))
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("originalKey") String originalKey, @Param("uploaderId") Long uploaderId);
+
+    boolean existsByOriginalKeyAndStatus(String originalKey, ImageAssetStatus status);
+
+    List<ImageAsset> findByOriginalKeyInAndStatus(Collection<String> originalKeys, ImageAssetStatus status);
+
+    List<ImageAsset> findByStatusAndEditedAtBeforeOrderByIdAsc(ImageAssetStatus status, LocalDateTime editedAt, Limit limit);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ImageAsset a where a.originalKey in :originalKeys")
+    int deleteByOriginalKeys(@Param("originalKeys") Collection<String> originalKeys);
+}
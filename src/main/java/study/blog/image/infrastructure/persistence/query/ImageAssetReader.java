@@ -0,0 +1,54 @@
+package study.blog.image.infrastructure.persistence.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import study.blog.global.infra.ImageStorage;
+import study.blog.image.domain.ImageAssetStatus;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.domain.entity.ImageAsset;
+import study.blog.image.infrastructure.persistence.command.ImageAssetRepository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ImageAssetReader {
+
+    private final ImageAssetRepository assetRepository;
+    private final ImageStorage imageStorage;
+
+    /**
+     * 리사이즈가 끝난 업로드 이미지면 해당 규격의 URL 을 반환한다.
+     * (리사이즈 전이거나 이 서비스로 업로드한 이미지가 아니면 empty)
+     */
+    public Optional<String> findVariantUrl(String originalUrl, ImageVariant variant) {
+        return imageStorage.keyOf(originalUrl)
+                .filter(key -> assetRepository.existsByOriginalKeyAndStatus(key, ImageAssetStatus.READY))
+                .map(key -> imageStorage.urlOf(variant.keyOf(key)));
+    }
+
+    /**
+     * 원본 URL 목록 중 리사이즈가 끝난 이미지의 규격별 URL 을 한 번의 조회로 반환한다.
+     *
+     * @return 원본 URL → (규격 → URL) Map (리사이즈 전이거나 이 서비스로 업로드한 이미지가 아니면 포함되지 않는다)
+     */
+    public Map<String, Map<ImageVariant, String>> findVariantUrls(Collection<String> originalUrls) {
+        Map<String, String> urlByKey = new HashMap<>();
+        originalUrls.forEach(url -> imageStorage.keyOf(url).ifPresent(key -> urlByKey.put(key, url)));
+        if (urlByKey.isEmpty()) return Map.of();
+
+        Map<String, Map<ImageVariant, String>> result = new HashMap<>();
+        for (ImageAsset asset : assetRepository.findByOriginalKeyInAndStatus(urlByKey.keySet(), ImageAssetStatus.READY)) {
+            Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+            for (ImageVariant variant : ImageVariant.values()) {
+                variantUrls.put(variant, imageStorage.urlOf(variant.keyOf(asset.getOriginalKey())));
+            }
+            result.put(urlByKey.get(asset.getOriginalKey()), variantUrls);
+        }
+        return result;
+    }
+}
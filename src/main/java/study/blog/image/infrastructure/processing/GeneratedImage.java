@@ -0,0 +1,17 @@
+package study.blog.image.infrastructure.processing;
+
+import study.blog.image.domain.ImageVariant;
+
+import java.util.Map;
+
+/**
+ * @param width    원본 가로 크기
+ * @param height   원본 세로 크기
+ * @param variants 규격별 JPEG 바이트
+ */
+public record GeneratedImage(
+        int width,
+        int height,
+        Map<ImageVariant, byte[]> variants
+) {
+}
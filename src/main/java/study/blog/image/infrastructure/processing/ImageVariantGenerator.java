@@ -0,0 +1,120 @@
+package study.blog.image.infrastructure.processing;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.domain.exception.InvalidImageException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 업로드 이미지 → 규격별 JPEG 변환기.
+ *
+ * 처리 정책
+ * - 원본 스트림을 ImageInputStream 으로 감싸 헤더(가로/세로)만 먼저 읽고, maxPixels 를 넘으면 디코딩하지 않는다.
+ * - 가장 큰 규격보다 충분히 큰 원본은 source subsampling 으로 줄여서 디코딩한다.
+ *   (12MP 원본을 그대로 펼치면 약 48MB 이므로, 필요한 해상도만 최대 MAX_DECODE_PIXELS 까지 메모리에 올린다)
+ * - 투명도가 있는 이미지는 흰 배경에 합성한 뒤 JPEG 으로 저장한다.
+ * - 원본보다 큰 규격은 늘리지 않고 원본 크기로 저장한다. (모든 규격의 결과가 항상 존재한다)
+ * - 애니메이션 GIF 는 첫 프레임만 사용한다.
+ *
+ * 트레이드 오프
+ * - JDK ImageIO 에 WebP 인코더가 없어 JPEG 만 생성한다.
+ *
+ * 예외 처리
+ * - 이미지로 읽을 수 없거나 해상도가 너무 크면 InvalidImageException (재시도하지 않는다)
+ * - 스트림 읽기 실패는 IOException 으로 전파한다. (재시도 대상)
+ */
+@Component
+public class ImageVariantGenerator {
+
+    /**
+     * 한 번에 메모리에 펼칠 최대 픽셀 수 (RGB 기준 약 32MB)
+     */
+    private static final long MAX_DECODE_PIXELS = 8_000_000L;
+
+    private final long maxPixels;
+    private final float quality;
+
+    public ImageVariantGenerator(@Value("${image.max-pixels:40000000}") long maxPixels,
+                                 @Value("${image.jpeg-quality:0.85}") float quality) {
+        this.maxPixels = maxPixels;
+        this.quality = quality;
+    }
+
+    public GeneratedImage generate(InputStream in) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            if (input == null) throw new InvalidImageException("이미지를 읽을 수 없습니다.");
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) throw new InvalidImageException("지원하지 않는 이미지 형식입니다.");
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new InvalidImageException("이미지 해상도가 너무 큽니다. (" + width + "x" + height + ")");
+                }
+
+                BufferedImage source = toRgb(reader.read(0, subsampling(reader, width, height)));
+                return new GeneratedImage(width, height, resize(source));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private ImageReadParam subsampling(ImageReader reader, int width, int height) {
+        ImageReadParam param = reader.getDefaultReadParam();
+        // 디코딩 결과가 가장 큰 규격보다 작아지지 않는 선에서 건너뛰되, 아주 긴 이미지는 디코딩 픽셀 상한을 우선한다.
+        int byWidth = width / ImageVariant.largest().getWidth();
+        int byBudget = (int) Math.ceil(Math.sqrt((double) width * height / MAX_DECODE_PIXELS));
+        int step = Math.max(1, Math.max(byWidth, byBudget));
+        param.setSourceSubsampling(step, step, 0, 0);
+        return param;
+    }
+
+    private Map<ImageVariant, byte[]> resize(BufferedImage source) throws IOException {
+        Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Thumbnails.of(source)
+                    .width(Math.min(variant.getWidth(), source.getWidth()))
+                    .outputFormat("jpg")
+                    .outputQuality(quality)
+                    .toOutputStream(out);
+            variants.put(variant, out.toByteArray());
+        }
+        return variants;
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) return image;
+
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+}
@@ -0,0 +1,42 @@
+package study.blog.image.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.blog.image.application.ImageVariantProcessor;
+import study.blog.image.domain.ImageAssetStatus;
+import study.blog.image.domain.entity.ImageAsset;
+import study.blog.image.infrastructure.persistence.command.ImageAssetRepository;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class ImageVariantRetryScheduler {
+
+    private static final int STALE_MINUTES = 10;
+    private static final int BATCH_SIZE = 50;
+
+    private final ImageAssetRepository assetRepository;
+    private final ImageVariantProcessor variantProcessor;
+
+    /**
+     * 처리되지 않은 업로드 이미지의 리사이즈를 다시 요청하는 스케줄러.
+     *
+     * 처리 정책
+     * - 스케줄 주기: 10분
+     * - 마지막 상태 변경 후 10분이 지나도 PENDING 인 이미지를 다시 맡긴다.
+     *   (대기열 초과로 거절되었거나, 저장소 오류로 실패했거나, 처리 중 인스턴스가 종료된 경우)
+     * - 풀이 가득 차면 남은 이미지는 다음 스케줄로 넘긴다.
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void retryPendingImages() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(STALE_MINUTES);
+        for (ImageAsset asset : assetRepository.findByStatusAndEditedAtBeforeOrderByIdAsc(
+                ImageAssetStatus.PENDING, staleBefore, Limit.of(BATCH_SIZE))) {
+            if (!variantProcessor.submit(asset.getId())) return;
+        }
+    }
+}
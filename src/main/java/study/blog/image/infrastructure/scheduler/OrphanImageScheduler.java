@@ -0,0 +1,32 @@
+package study.blog.image.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.blog.image.application.OrphanImageCollector;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanImageScheduler {
+
+    private final OrphanImageCollector orphanImageCollector;
+
+    /**
+     * 사용하지 않는 업로드 이미지를 정리하는 스케줄러.
+     *
+     * 처리 정책
+     * - 스케줄 주기: 매일 04:30 (트래픽이 적은 시간대)
+     * - 실제 정리 기준은 OrphanImageCollector 에 위임한다.
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void collectOrphanImages() {
+        try {
+            int deleted = orphanImageCollector.collect();
+            log.info("고아 이미지 정리 완료 - deleted={}", deleted);
+        } catch (Exception e) {
+            log.error("고아 이미지 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package study.blog.image.presentation.request;
+
+public record ImageConfirmRequest(
+        String imageUrl   // presigned URL 발급 시 받은 최종 이미지 URL
+) {}
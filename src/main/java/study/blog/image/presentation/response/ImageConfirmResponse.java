@@ -0,0 +1,13 @@
+package study.blog.image.presentation.response;
+
+import study.blog.image.domain.ImageAssetStatus;
+import study.blog.image.domain.ImageVariant;
+
+import java.util.Map;
+
+public record ImageConfirmResponse(
+        String imageUrl,
+        ImageAssetStatus status,
+        Map<ImageVariant, String> variantUrls   // READY 이후 사용 가능한 규격별 URL
+) {
+}
@@ -7,7 +7,9 @@ import org.springframework.web.bind.annotation.*;
 import study.blog.global.common.dto.ApiResponse;
 import study.blog.global.web.resolver.LoginMember;
 import study.blog.member.service.MemberService;
+import study.blog.member.dto.MemberProfileResponse;
 import study.blog.member.dto.MemberResponse;
+import study.blog.member.dto.NicknameChangeRequest;
 import study.blog.member.dto.SignupRequest;
 
 @RestController
@@ -29,4 +31,17 @@ public class MemberController {
         MemberResponse response = memberService.findMember(memberId);
         return ApiResponse.success(response);
     }
+
+    @PatchMapping("/me/nickname")
+    public ApiResponse<MemberResponse> changeNickname(@LoginMember Long memberId,
+                                                      @Valid @RequestBody NicknameChangeRequest request) {
+        MemberResponse response = memberService.changeNickname(memberId, request);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/{memberId}/profile")
+    public ApiResponse<MemberProfileResponse> getProfile(@PathVariable Long memberId) {
+        MemberProfileResponse response = memberService.getProfile(memberId);
+        return ApiResponse.success(response);
+    }
 }
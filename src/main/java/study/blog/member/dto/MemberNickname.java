@@ -0,0 +1,14 @@
+package study.blog.member.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record MemberNickname(
+        Long memberId,
+        String nickname
+) {
+    @QueryProjection
+    public MemberNickname(Long memberId, String nickname) {
+        this.memberId = memberId;
+        this.nickname = nickname;
+    }
+}
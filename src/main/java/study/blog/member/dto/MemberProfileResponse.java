@@ -0,0 +1,19 @@
+package study.blog.member.dto;
+
+import study.blog.member.entity.Member;
+
+public record MemberProfileResponse(
+        Long memberId,
+        String nickname,
+        long followerCount,
+        long followingCount
+) {
+    public static MemberProfileResponse from(Member member) {
+        return new MemberProfileResponse(
+                member.getId(),
+                member.getNickname(),
+                member.getFollowerCount(),
+                member.getFollowingCount()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package study.blog.member.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record NicknameChangeRequest(
+        @NotBlank(message = "닉네임은 필수입니다.")
+        @Size(max = 20, message = "닉네임은 최대 20자까지 가능합니다.")
+        String nickname
+) {
+}
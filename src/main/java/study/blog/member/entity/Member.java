@@ -35,6 +35,14 @@ public class Member extends BaseEntity {
     @Column(nullable = false)
     private MemberRole role;
 
+    /**
+     * 구독자 수 / 구독 중인 수 비정규화 컬럼.
+     * 프로필 조회 시 subscription 테이블을 COUNT 하지 않기 위해 구독/구독 취소 커밋 이후 원자적으로 증감한다.
+     */
+    private long followerCount;
+
+    private long followingCount;
+
     public static Member createMember(String email, String encodedPassword, String nickname) {
         validateEmail(email);
         validatePassword(encodedPassword);
@@ -48,6 +56,11 @@ public class Member extends BaseEntity {
         return member;
     }
 
+    public void changeNickname(String nickname) {
+        validateNickname(nickname);
+        this.nickname = nickname;
+    }
+
     private static void validateEmail(String email) {
         if (!hasText(email)) {
             throw new InvalidMemberException("이메일은 필수입니다.");
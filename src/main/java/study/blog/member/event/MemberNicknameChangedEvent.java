@@ -0,0 +1,4 @@
+package study.blog.member.event;
+
+public record MemberNicknameChangedEvent(Long memberId) {
+}
@@ -0,0 +1,54 @@
+package study.blog.member.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import study.blog.global.web.version.ContentVersionStore;
+import study.blog.member.repository.MemberNicknameCache;
+import study.blog.member.repository.MemberProfileCacheRepository;
+
+import java.util.List;
+
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generateGlobalKey;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberNicknameEventListener {
+
+    static final String CHANNEL = "member:nickname-invalidate";
+
+    private final MemberNicknameCache nicknameCache;
+    private final MemberProfileCacheRepository profileCacheRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ContentVersionStore contentVersionStore;
+
+    /**
+     * 닉네임 변경 커밋 이후 닉네임 / 프로필 캐시를 무효화한다.
+     *
+     * 처리 정책
+     * - Redis Hash field 와 현재 인스턴스의 로컬 캐시를 삭제한다.
+     * - 다른 인스턴스의 로컬 캐시는 Pub/Sub 으로 memberId 를 전파하여 삭제한다.
+     * - 닉네임은 게시글 / 댓글 응답 전반에 포함되므로 전체 응답 버전을 올린다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(MemberNicknameChangedEvent event) {
+        nicknameCache.evict(event.memberId());
+        profileCacheRepository.evict(List.of(event.memberId()));
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(event.memberId()));
+        } catch (Exception e) {
+            log.warn("닉네임 캐시 무효화 전파 실패 - memberId={}", event.memberId(), e);
+        }
+
+        try {
+            contentVersionStore.bump(List.of(generateGlobalKey()));
+        } catch (Exception e) {
+            log.warn("전체 응답 버전 갱신 실패 - memberId={}", event.memberId(), e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package study.blog.member.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import study.blog.member.repository.MemberNicknameCache;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberNicknamePubSubListener implements MessageListener {
+
+    private final MemberNicknameCache nicknameCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long memberId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+            nicknameCache.evictLocal(memberId);
+        } catch (Exception e) {
+            log.error("닉네임 로컬 캐시 무효화 실패", e);
+        }
+    }
+}
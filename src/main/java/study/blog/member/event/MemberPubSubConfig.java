@@ -0,0 +1,27 @@
+package study.blog.member.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@RequiredArgsConstructor
+public class MemberPubSubConfig {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final MemberNicknamePubSubListener memberNicknamePubSubListener;
+
+    @Bean
+    public RedisMessageListenerContainer memberListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                memberNicknamePubSubListener,
+                new ChannelTopic(MemberNicknameEventListener.CHANNEL)
+        );
+        return container;
+    }
+}
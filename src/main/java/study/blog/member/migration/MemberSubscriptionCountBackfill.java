@@ -0,0 +1,51 @@
+package study.blog.member.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import study.blog.global.migration.DataMigration;
+import study.blog.global.migration.IdRange;
+import study.blog.member.repository.MemberProfileCacheRepository;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Member.followerCount / followingCount 를 subscription 테이블 기준으로 다시 센다.
+ *
+ * 처리 정책
+ * - 비정규화 컬럼 도입 전의 구독은 카운트에 반영되어 있지 않으므로 회원 id 구간마다 COUNT 로 덮어쓴다.
+ *   (subscription 의 (target_id, id), (subscriber_id, id) 인덱스로 회원마다 범위 스캔한다)
+ * - 구간마다 프로필 캐시를 삭제해 다시 센 값이 바로 보이게 한다.
+ *
+ * 트레이드 오프
+ * - 다시 세는 도중 커밋된 구독은 COUNT 와 SubscriptionCountEventListener 의 증감에 모두 반영되어 1 차이가 날 수 있다.
+ *   발행 전파 방식(push / pull) 판단과 프로필 표시에만 쓰이는 값이라 허용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberSubscriptionCountBackfill implements DataMigration {
+
+    private static final long CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberProfileCacheRepository profileCacheRepository;
+
+    @Override
+    public String id() {
+        return "V032_member_subscription_counts";
+    }
+
+    @Override
+    public void migrate() {
+        IdRange.forEachChunk(jdbcTemplate, "member", CHUNK_SIZE, (from, to) -> {
+            jdbcTemplate.update("update member m set "
+                    + "m.follower_count = (select count(*) from subscription s where s.target_id = m.id), "
+                    + "m.following_count = (select count(*) from subscription s where s.subscriber_id = m.id) "
+                    + "where m.id between ? and ?", from, to);
+
+            List<Long> memberIds = LongStream.rangeClosed(from, to).boxed().toList();
+            profileCacheRepository.evict(memberIds);
+        });
+    }
+}
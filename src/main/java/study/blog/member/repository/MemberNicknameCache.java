@@ -0,0 +1,238 @@
+package study.blog.member.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 닉네임 캐시.
+ *
+ * 처리 정책
+ * - 1차: 인스턴스 로컬 LRU (최대 localMaxSize 건, localTtl 경과 시 만료)
+ * - 2차: Redis Hash(member:nickname, field = memberId) 를 HMGET 한 번으로 일괄 조회한다.
+ * - 닉네임 변경 시 Redis field 를 삭제하고, Pub/Sub 으로 모든 인스턴스의 로컬 캐시를 무효화한다.
+ *
+ * 무효화 버전
+ * - 삭제할 때마다 회원별 버전 키(member:nickname:version:{memberId}) 를 1 올린다.
+ * - 조회자는 DB 를 읽기 전에 버전을 읽어두고(readVersions), 저장 시 버전이 그대로일 때만 field 를 쓴다.
+ *   (삭제 전에 DB 에서 읽은 이전 닉네임이 삭제 후에 저장되어 계속 남는 것을 막는다)
+ * - 버전 키는 회원마다 따로 두고 삭제 시점마다 VERSION_TTL 을 건다. 닉네임을 바꾸지 않는 회원의 버전은 만료되어 사라진다.
+ *   VERSION_TTL 은 조회자가 버전을 읽고 저장하기까지의 시간보다 충분히 길다.
+ *   (읽은 뒤 버전 키가 만료되어도 '0' 과 달라 저장을 거부하므로 안전한 쪽으로만 틀린다)
+ * - 닉네임 Hash 에는 처음 저장할 때 REMOTE_TTL 을 건다. (EXPIRE NX, 이후 저장으로 연장하지 않는다)
+ *   어떤 이유로든 남은 이전 값은 최대 REMOTE_TTL 뒤 Hash 와 함께 사라진다.
+ *
+ * 트레이드 오프
+ * - Pub/Sub 메시지가 유실되면 다른 인스턴스의 로컬 캐시에는 최대 localTtl 동안 이전 닉네임이 남는다.
+ * - REMOTE_TTL 마다 Hash 전체가 만료되어 한 번씩 DB 조회가 몰린다. (닉네임 컬럼만 IN 조회하므로 가볍다)
+ *
+ * 예외 처리
+ * - Redis 장애 시 로컬 캐시만 사용하고, 나머지는 호출자가 DB 에서 조회한다.
+ */
+@Slf4j
+@Component
+public class MemberNicknameCache {
+
+    static final String KEY = "member:nickname";
+    static final String VERSION_KEY_PREFIX = "member:nickname:version:";
+    private static final Duration REMOTE_TTL = Duration.ofDays(1);
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+    private static final String NO_VERSION = "0";
+
+    /**
+     * KEYS[1] = 닉네임 Hash, KEYS[2..] = 회원별 버전 키 (ARGV 의 회원 순서와 같다)
+     * ARGV[1] = 닉네임 Hash TTL(s), ARGV[2..] = (memberId, 읽어둔 버전, 닉네임) 반복
+     * return 저장한 memberId 목록
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PUT_IF_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            local stored = {}
+            local k = 2
+            for i = 2, #ARGV, 3 do
+                local current = redis.call('GET', KEYS[k]) or '0'
+                if current == ARGV[i + 1] then
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 2])
+                    stored[#stored + 1] = ARGV[i]
+                end
+                k = k + 1
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1], 'NX')
+            return stored
+            """, List.class);
+
+    /**
+     * KEYS[1] = 닉네임 Hash, KEYS[2] = 회원 버전 키, ARGV[1] = memberId, ARGV[2] = 버전 키 TTL(s)
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return redis.call('HDEL', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration localTtl;
+    private final Map<Long, LocalEntry> localCache;
+
+    public MemberNicknameCache(StringRedisTemplate redisTemplate,
+                               @Value("${member.nickname-cache.local-max-size:10000}") int localMaxSize,
+                               @Value("${member.nickname-cache.local-ttl-seconds:300}") long localTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.localTtl = Duration.ofSeconds(localTtlSeconds);
+        this.localCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LocalEntry> eldest) {
+                return size() > localMaxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 있는 닉네임만 반환한다. (없는 id 는 결과에 포함되지 않는다)
+     */
+    public Map<Long, String> getAll(Collection<Long> memberIds) {
+        Map<Long, String> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+
+        long now = System.nanoTime();
+        synchronized (localCache) {
+            for (Long memberId : memberIds) {
+                LocalEntry entry = localCache.get(memberId);
+                if (entry != null && entry.expiresAt() > now) {
+                    result.put(memberId, entry.nickname());
+                } else {
+                    misses.add(memberId);
+                }
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, String> remote = getFromRedis(misses);
+            putLocal(remote);
+            result.putAll(remote);
+        }
+        return result;
+    }
+
+    /**
+     * DB 에서 닉네임을 읽기 전에 호출해 무효화 버전을 읽어둔다. (putAll 에 그대로 넘긴다)
+     * Redis 장애 시 빈 Map 을 반환하며, 이 경우 putAll 은 로컬 캐시에만 저장한다.
+     */
+    public Map<Long, String> readVersions(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return Map.of();
+
+        List<Long> ids = List.copyOf(memberIds);
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(ids.stream().map(MemberNicknameCache::versionKey).toList());
+            if (values == null) return Map.of();
+
+            Map<Long, String> versions = new HashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                String value = values.get(i);
+                versions.put(ids.get(i), value != null ? value : NO_VERSION);
+            }
+            return versions;
+        } catch (Exception e) {
+            log.warn("닉네임 캐시 버전 조회 실패 - size={}", ids.size(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 읽어둔 버전이 그대로인 닉네임만 Redis 와 로컬 캐시에 저장한다.
+     */
+    @SuppressWarnings("unchecked")
+    public void putAll(Map<Long, String> nicknames, Map<Long, String> versions) {
+        if (nicknames.isEmpty()) return;
+        if (versions.isEmpty()) {
+            putLocal(nicknames);
+            return;
+        }
+
+        try {
+            List<String> keys = new ArrayList<>(nicknames.size() + 1);
+            List<String> args = new ArrayList<>(nicknames.size() * 3 + 1);
+            keys.add(KEY);
+            args.add(String.valueOf(REMOTE_TTL.toSeconds()));
+            nicknames.forEach((memberId, nickname) -> {
+                String version = versions.get(memberId);
+                if (version == null) return;
+                keys.add(versionKey(memberId));
+                args.add(String.valueOf(memberId));
+                args.add(version);
+                args.add(nickname);
+            });
+            if (keys.size() == 1) return;
+
+            List<Object> stored = redisTemplate.execute(PUT_IF_VERSION_SCRIPT, keys, args.toArray());
+            if (stored == null) return;
+
+            Map<Long, String> accepted = new HashMap<>();
+            stored.forEach(memberId -> {
+                Long id = Long.valueOf((String) memberId);
+                accepted.put(id, nicknames.get(id));
+            });
+            putLocal(accepted);
+        } catch (Exception e) {
+            log.warn("닉네임 캐시 저장 실패 - size={}", nicknames.size(), e);
+        }
+    }
+
+    public void evict(Long memberId) {
+        evictLocal(memberId);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY, versionKey(memberId)),
+                    String.valueOf(memberId), String.valueOf(VERSION_TTL.toSeconds()));
+        } catch (Exception e) {
+            log.warn("닉네임 캐시 삭제 실패 - memberId={}", memberId, e);
+        }
+    }
+
+    public void evictLocal(Long memberId) {
+        synchronized (localCache) {
+            localCache.remove(memberId);
+        }
+    }
+
+    static String versionKey(Long memberId) {
+        return VERSION_KEY_PREFIX + memberId;
+    }
+
+    private Map<Long, String> getFromRedis(List<Long> memberIds) {
+        try {
+            List<Object> values = redisTemplate.opsForHash()
+                    .multiGet(KEY, memberIds.stream().map(String::valueOf).map(Object.class::cast).toList());
+
+            Map<Long, String> result = new HashMap<>();
+            for (int i = 0; i < memberIds.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) result.put(memberIds.get(i), (String) value);
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("닉네임 캐시 조회 실패 - size={}", memberIds.size(), e);
+            return Map.of();
+        }
+    }
+
+    private void putLocal(Map<Long, String> nicknames) {
+        long expiresAt = System.nanoTime() + localTtl.toNanos();
+        synchronized (localCache) {
+            nicknames.forEach((memberId, nickname) -> localCache.put(memberId, new LocalEntry(nickname, expiresAt)));
+        }
+    }
+
+    private record LocalEntry(String nickname, long expiresAt) {
+    }
+}
@@ -0,0 +1,62 @@
+package study.blog.member.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import study.blog.member.dto.MemberProfileResponse;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 프로필 카드(닉네임, 구독자 수, 구독 중인 수) 캐시.
+ *
+ * 처리 정책
+ * - Redis key: member:profile:{memberId} (JSON), TTL 10분
+ * - 구독/구독 취소로 카운트가 바뀌면 해당 회원들의 캐시를 삭제하고, 다음 조회 시 DB 값으로 다시 채운다.
+ * - Redis 장애 시 캐시를 건너뛰고 DB 에서 조회한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MemberProfileCacheRepository {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Optional<MemberProfileResponse> get(Long memberId) {
+        try {
+            String value = redisTemplate.opsForValue().get(generateKey(memberId));
+            if (value == null) return Optional.empty();
+            return Optional.of(objectMapper.readValue(value, MemberProfileResponse.class));
+        } catch (Exception e) {
+            log.warn("프로필 캐시 조회 실패 - memberId={}", memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(MemberProfileResponse profile) {
+        try {
+            redisTemplate.opsForValue().set(generateKey(profile.memberId()), objectMapper.writeValueAsString(profile), TTL);
+        } catch (Exception e) {
+            log.warn("프로필 캐시 저장 실패 - memberId={}", profile.memberId(), e);
+        }
+    }
+
+    public void evict(Collection<Long> memberIds) {
+        try {
+            redisTemplate.delete(memberIds.stream().map(MemberProfileCacheRepository::generateKey).toList());
+        } catch (Exception e) {
+            log.warn("프로필 캐시 삭제 실패 - memberIds={}", memberIds, e);
+        }
+    }
+
+    private static String generateKey(Long memberId) {
+        return "member:profile:" + memberId;
+    }
+}
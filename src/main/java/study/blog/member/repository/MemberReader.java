@@ -2,8 +2,9 @@ package study.blog.member.repository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
-import study.blog.member.entity.Member;
+import study.blog.member.dto.MemberNickname;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -12,6 +13,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MemberReader {
     private final MemberRepository memberRepository;
+    private final MemberNicknameCache nicknameCache;
 
     /**
      * 게시글 목록에 포함된 작성자의 닉네임을 조회한다.
@@ -19,6 +21,9 @@ public class MemberReader {
      * 작성자 ID → 닉네임 형태의 Map으로 반환한다.
      * 이를 통해 게시글마다 Member를 조회하는 N+1 문제를 방지한다.
      *
+     * 닉네임 캐시(로컬 LRU → Redis Hash)를 먼저 조회하고,
+     * 캐시에 없는 id 만 닉네임 컬럼만 조회하는 쿼리로 DB 에서 가져와 캐시에 채운다.
+     *
      * @param authorIds 게시글 직상지 ID 목록
      * @return 작성자 ID → 닉네임 Map
      */
@@ -27,9 +32,24 @@ public class MemberReader {
             return Map.of();
         }
 
-        return memberRepository.findAllById(authorIds)
+        List<Long> distinctIds = authorIds.stream().distinct().toList();
+        Map<Long, String> nicknames = new HashMap<>(nicknameCache.getAll(distinctIds));
+
+        List<Long> misses = distinctIds.stream()
+                .filter(id -> !nicknames.containsKey(id))
+                .toList();
+        if (misses.isEmpty()) {
+            return nicknames;
+        }
+
+        // DB 를 읽는 동안 닉네임이 바뀌면 이전 닉네임을 캐시에 저장하지 않도록, 읽기 전에 무효화 버전을 잡아둔다.
+        Map<Long, String> versions = nicknameCache.readVersions(misses);
+        Map<Long, String> loaded = memberRepository.findNicknames(misses)
                 .stream()
-                .collect(Collectors.toMap(Member::getId, Member::getNickname));
+                .collect(Collectors.toMap(MemberNickname::memberId, MemberNickname::nickname));
+        nicknameCache.putAll(loaded, versions);
+        nicknames.putAll(loaded);
+        return nicknames;
     }
 
     /**
@@ -38,9 +58,16 @@ public class MemberReader {
      * @return 사용자 닉네임
      */
     public String getNickName(Long memberId) {
-        return memberRepository.findById(memberId)
-                .map(Member::getNickname)
-                .orElse("익명");
+        return getNicknames(List.of(memberId)).getOrDefault(memberId, "익명");
+    }
+
+    /**
+     * 구독자 수를 비정규화 컬럼(Member.followerCount)으로 조회한다. (subscription 테이블 COUNT 없이)
+     * @return 구독자 수, 회원이 없으면 0
+     */
+    public long getFollowerCount(Long memberId) {
+        Long followerCount = memberRepository.findFollowerCount(memberId);
+        return followerCount != null ? followerCount : 0;
     }
 
 }
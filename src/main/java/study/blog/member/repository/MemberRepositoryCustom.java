@@ -0,0 +1,13 @@
+package study.blog.member.repository;
+
+import study.blog.member.dto.MemberNickname;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MemberRepositoryCustom {
+    long incrementFollowerCount(Long memberId, long delta);
+    long incrementFollowingCount(Long memberId, long delta);
+    List<MemberNickname> findNicknames(Collection<Long> memberIds);
+    Long findFollowerCount(Long memberId);
+}
@@ -0,0 +1,60 @@
+package study.blog.member.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import study.blog.member.dto.MemberNickname;
+import study.blog.member.dto.QMemberNickname;
+
+import java.util.Collection;
+import java.util.List;
+
+import static study.blog.member.entity.QMember.member;
+
+@RequiredArgsConstructor
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public long incrementFollowerCount(Long memberId, long delta) {
+        // 구독자 수를 원자적으로 증감
+        // (조회 후 엔티티 수정하는 방식이 아니라, DB 레벨에서 원자적으로 update를 수행하여 동시성 환경에서 안전하게 처리하기 위함)
+        return queryFactory
+                .update(member)
+                .set(member.followerCount, member.followerCount.add(delta))
+                .where(member.id.eq(memberId))
+                .execute();
+    }
+
+    @Override
+    public long incrementFollowingCount(Long memberId, long delta) {
+        return queryFactory
+                .update(member)
+                .set(member.followingCount, member.followingCount.add(delta))
+                .where(member.id.eq(memberId))
+                .execute();
+    }
+
+    /**
+     * 닉네임만 조회한다. (Member 엔티티 전체를 영속성 컨텍스트에 올리지 않기 위함)
+     */
+    @Override
+    public List<MemberNickname> findNicknames(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return List.of();
+
+        return queryFactory
+                .select(new QMemberNickname(member.id, member.nickname))
+                .from(member)
+                .where(member.id.in(memberIds))
+                .fetch();
+    }
+
+    @Override
+    public Long findFollowerCount(Long memberId) {
+        return queryFactory
+                .select(member.followerCount)
+                .from(member)
+                .where(member.id.eq(memberId))
+                .fetchOne();
+    }
+}
@@ -1,15 +1,20 @@
 package study.blog.member.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import study.blog.member.entity.Member;
+import study.blog.member.dto.MemberProfileResponse;
 import study.blog.member.dto.MemberResponse;
+import study.blog.member.dto.NicknameChangeRequest;
 import study.blog.member.dto.SignupRequest;
+import study.blog.member.event.MemberNicknameChangedEvent;
 import study.blog.member.exception.DuplicateEmailException;
 import study.blog.member.exception.DuplicateNicknameException;
 import study.blog.member.exception.MemberNotFoundException;
+import study.blog.member.repository.MemberProfileCacheRepository;
 import study.blog.member.repository.MemberRepository;
 
 @Service
@@ -19,6 +24,8 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberProfileCacheRepository profileCacheRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MemberResponse signup(SignupRequest request) {
@@ -38,6 +45,40 @@ public class MemberService {
         return MemberResponse.from(member);
     }
 
+    /**
+     * 닉네임을 변경한다.
+     * 커밋 이후 MemberNicknameChangedEvent 로 닉네임 / 프로필 캐시를 무효화한다.
+     */
+    @Transactional
+    public MemberResponse changeNickname(Long memberId, NicknameChangeRequest request) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다."));
+
+        if (member.getNickname().equals(request.nickname())) {
+            return MemberResponse.from(member);
+        }
+
+        validateDuplicateNickname(request.nickname());
+        member.changeNickname(request.nickname());
+        eventPublisher.publishEvent(new MemberNicknameChangedEvent(memberId));
+
+        return MemberResponse.from(member);
+    }
+
+    /**
+     * 프로필 카드를 조회한다.
+     * Redis 캐시를 우선 조회하고, 없으면 DB(비정규화된 구독자 수 컬럼)에서 조회하여 캐시한다.
+     */
+    public MemberProfileResponse getProfile(Long memberId) {
+        return profileCacheRepository.get(memberId).orElseGet(() -> {
+            Member member = memberRepository.findById(memberId)
+                    .orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다."));
+            MemberProfileResponse profile = MemberProfileResponse.from(member);
+            profileCacheRepository.put(profile);
+            return profile;
+        });
+    }
+
     private void validateDuplicateEmail(String email) {
         if (memberRepository.existsByEmail(email)) {
             throw new DuplicateEmailException("이미 사용 중인 이메일입니다.");
@@ -1,28 +1,93 @@
 package study.blog.notification.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import study.blog.notification.domain.NotificationType;
 import study.blog.notification.domain.entity.Notification;
-import study.blog.notification.infrastructure.persistence.query.NotificationQueryRepository;
+import study.blog.notification.domain.event.UnreadCountChangedEvent;
+import study.blog.notification.infrastructure.persistence.command.NotificationCommandRepository;
 import study.blog.notification.presentation.response.NotificationResponse;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class NotificationCommandService {
 
-    private final NotificationQueryRepository notificationQueryRepository;
+    private final NotificationCommandRepository notificationCommandRepository;
+    private final NotificationPullSource notificationPullSource;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NotificationResponse create(Long receiverId, Long senderId, NotificationType type, String actorName, String messageId) {
         Notification notification = Notification.createNotification(receiverId, senderId, type, actorName, messageId);
-        Notification savedNotification = notificationQueryRepository.save(notification);
+        Notification savedNotification = notificationCommandRepository.save(notification);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(receiverId, 1));
         return NotificationResponse.from(savedNotification);
     }
 
+    /**
+     * 알림을 일괄 생성한다.
+     *
+     * 처리 정책
+     * - streamMessageId 로 이미 저장된 알림과 같은 요청 안의 중복을 먼저 걸러낸다. (스트림 재전달 시 중복 생성 방지)
+     * - 남은 알림은 saveAll 로 저장하며, SEQUENCE id + hibernate.jdbc.batch_size 로 batch insert 된다.
+     * - 동시에 같은 메시지가 처리되는 경우 streamMessageId unique 제약으로 트랜잭션이 실패하고,
+     *   재처리 시 이미 저장된 알림으로 걸러진다.
+     */
+    public List<NotificationResponse> createAll(List<NotificationCreateCommand> commands) {
+        if (commands.isEmpty()) return List.of();
+
+        Set<String> seenMessageIds = new HashSet<>(notificationCommandRepository.findStreamMessageIdsIn(
+                commands.stream().map(NotificationCreateCommand::streamMessageId).toList()));
+
+        List<Notification> notifications = commands.stream()
+                .filter(command -> command.streamMessageId() == null || seenMessageIds.add(command.streamMessageId()))
+                .map(command -> Notification.createNotification(
+                        command.receiverId(),
+                        command.senderId(),
+                        command.type(),
+                        command.actorName(),
+                        command.streamMessageId()))
+                .toList();
+
+        if (notifications.isEmpty()) return List.of();
+
+        List<Notification> savedNotifications = notificationCommandRepository.saveAll(notifications);
+
+        savedNotifications.stream()
+                .collect(Collectors.groupingBy(Notification::getReceiverId, Collectors.counting()))
+                .forEach((receiverId, count) -> eventPublisher.publishEvent(new UnreadCountChangedEvent(receiverId, count)));
+
+        return savedNotifications.stream()
+                .map(NotificationResponse::from)
+                .toList();
+    }
+
+    /**
+     * pull 방식 알림(구독자가 많은 작성자의 새 글)을 생성한다. (PulledNotificationSyncer 가 조회 요청과 분리해 호출)
+     * createAll 이 streamMessageId 로 중복을 걸러내므로 여러 번 호출해도 안전하다.
+     */
+    public void syncPulledNotifications(Long memberId) {
+        createAll(notificationPullSource.pull(memberId));
+    }
+
     public void markAsRead(Long notificationId, Long memberId) {
-        notificationQueryRepository.findByIdAndReceiverId(notificationId, memberId)
-                .ifPresent(Notification::markAsRead);
+        long updated = notificationCommandRepository.markAsRead(notificationId, memberId);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new UnreadCountChangedEvent(memberId, -updated));
+        }
+    }
+
+    public void markAllAsRead(Long memberId) {
+        long updated = notificationCommandRepository.markAllAsRead(memberId);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new UnreadCountChangedEvent(memberId, -updated));
+        }
     }
-}
\ No newline at end of file
+}
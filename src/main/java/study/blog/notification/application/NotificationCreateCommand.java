@@ -0,0 +1,12 @@
+package study.blog.notification.application;
+
+import study.blog.notification.domain.NotificationType;
+
+public record NotificationCreateCommand(
+        Long receiverId,
+        Long senderId,
+        NotificationType type,
+        String actorName,
+        String streamMessageId
+) {
+}
@@ -0,0 +1,14 @@
+package study.blog.notification.application;
+
+import java.util.List;
+
+/**
+ * 읽기 시점에 생성(pull)해야 하는 알림을 제공한다.
+ *
+ * 구독자가 많은 작성자의 새 글 알림은 발행 시점에 구독자 전원에게 저장(push)하지 않고,
+ * 구독자가 알림을 조회할 때 필요한 만큼만 생성한다.
+ */
+public interface NotificationPullSource {
+
+    List<NotificationCreateCommand> pull(Long memberId);
+}
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import study.blog.notification.infrastructure.persistence.query.NotificationQueryRepository;
 import study.blog.notification.presentation.response.NotificationViewResponse;
+import study.blog.notification.presentation.response.UnreadCountResponse;
 import study.blog.notification.presentation.response.UnreadNotificationResponse;
 
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.List;
 public class NotificationQueryService {
 
     private final NotificationQueryRepository notificationQueryRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     public List<UnreadNotificationResponse> getUnread(Long memberId) {
         return notificationQueryRepository
@@ -24,6 +26,22 @@ public class NotificationQueryService {
                 .toList();
     }
 
+    /**
+     * 미읽음 알림 수 조회.
+     * Redis 캐시를 우선 조회하고, 캐시가 없으면 DB count 결과로 캐시를 채운다.
+     */
+    public UnreadCountResponse getUnreadCount(Long memberId) {
+        long unreadCount = unreadNotificationCounter.get(memberId)
+                .orElseGet(() -> loadUnreadCount(memberId));
+        return UnreadCountResponse.of(unreadCount);
+    }
+
+    public long loadUnreadCount(Long memberId) {
+        long unreadCount = notificationQueryRepository.countByReceiverIdAndIsReadFalse(memberId);
+        unreadNotificationCounter.set(memberId, unreadCount);
+        return unreadCount;
+    }
+
     public List<NotificationViewResponse> getAll(Long memberId) {
         return notificationQueryRepository
                 .findByReceiverIdOrderByCreatedAtDesc(memberId)
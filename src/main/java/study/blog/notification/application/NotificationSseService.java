@@ -45,6 +45,10 @@ public class NotificationSseService {
     }
 
     public void send(Long memberId, NotificationType type, Object data) {
+        send(memberId, type.name(), data);
+    }
+
+    public void send(Long memberId, String eventName, Object data) {
         SseEmitter emitter = sseEmitterRepository.get(memberId);
 
         if (emitter == null) {
@@ -54,7 +58,7 @@ public class NotificationSseService {
 
         try {
             emitter.send(SseEmitter.event()
-                    .name(type.name())
+                    .name(eventName)
                     .data(data));
         } catch (IOException e) {
             log.warn("SSE 전송 실패 - memberId={}", memberId, e);
@@ -0,0 +1,37 @@
+package study.blog.notification.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * pull 방식 알림 생성을 조회 요청과 분리해 비동기로 수행한다.
+ *
+ * 처리 정책
+ * - 알림 조회 API 는 읽기만 하고, 생성 요청만 notificationPullExecutor 에 넘긴다.
+ * - 새로 생성된 알림은 UnreadCountChangedEvent → SSE 로 전달되므로 다음 조회나 실시간 카운트에 반영된다.
+ *
+ * 트레이드 오프
+ * - 조회 직전에 생성하던 방식과 달리, 첫 조회 응답에는 방금 pull 된 알림이 빠질 수 있다.
+ *   조회 API 가 쓰기 트랜잭션과 외부 조회(Redis, 회원 닉네임)에 묶이지 않는 쪽을 택했다.
+ *
+ * 예외 처리
+ * - 실패는 로그만 남긴다. 같은 회원의 다음 조회에서 다시 요청된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PulledNotificationSyncer {
+
+    private final NotificationCommandService notificationCommandService;
+
+    @Async("notificationPullExecutor")
+    public void requestSync(Long memberId) {
+        try {
+            notificationCommandService.syncPulledNotifications(memberId);
+        } catch (Exception e) {
+            log.warn("pull 알림 생성 실패 - memberId={}", memberId, e);
+        }
+    }
+}
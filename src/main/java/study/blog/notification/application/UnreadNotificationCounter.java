@@ -0,0 +1,20 @@
+package study.blog.notification.application;
+
+import java.util.Optional;
+
+public interface UnreadNotificationCounter {
+
+    /**
+     * 캐시된 미읽음 알림 수를 조회한다.
+     * 캐시가 없으면(최초 조회, 만료, Redis 장애) 빈 값을 반환하며 호출자가 DB 값으로 채워야 한다.
+     */
+    Optional<Long> get(Long memberId);
+
+    void set(Long memberId, long count);
+
+    /**
+     * 캐시가 존재하는 경우에만 미읽음 알림 수를 증감한다.
+     * 캐시가 없으면 아무것도 하지 않고 빈 값을 반환한다. (다음 조회 시 DB 값으로 채워진다)
+     */
+    Optional<Long> add(Long memberId, long delta);
+}
@@ -21,6 +21,13 @@ public enum NotificationType {
         public String createMessage(String actorName) {
             return actorName + "님이 좋아요를 눌렀습니다.";
         }
+    },
+
+    NEW_POST {
+        @Override
+        public String createMessage(String actorName) {
+            return actorName + "님이 새 글을 발행했습니다.";
+        }
     };
 
     public abstract String createMessage(String actorName);
@@ -7,7 +7,7 @@ import study.blog.global.common.entity.BaseEntity;
 import study.blog.notification.domain.NotificationType;
 
 import static jakarta.persistence.EnumType.STRING;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 import static lombok.AccessLevel.PROTECTED;
 import static study.blog.notification.domain.NotificationType.SUBSCRIBED;
 
@@ -16,7 +16,15 @@ import static study.blog.notification.domain.NotificationType.SUBSCRIBED;
 @NoArgsConstructor(access = PROTECTED)
 public class Notification extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = IDENTITY)
+    /**
+     * IDENTITY 는 insert 시점에 id 를 받아야 하므로 JDBC batch insert 가 불가능하다.
+     * SEQUENCE(MySQL 에서는 notification_seq 테이블로 에뮬레이션)로 id 를 allocationSize 만큼 미리 할당받아
+     * 여러 알림을 한 번에 insert 할 수 있게 한다.
+     * (기존 AUTO_INCREMENT id 와 겹치지 않도록 SequenceTableInitializer 가 max(id) 기준으로 시작 값을 맞춘다)
+     */
+    @Id
+    @GeneratedValue(strategy = SEQUENCE, generator = "notification_seq_generator")
+    @SequenceGenerator(name = "notification_seq_generator", sequenceName = "notification_seq", allocationSize = 50)
     private Long id;
 
     private Long receiverId;
@@ -0,0 +1,7 @@
+package study.blog.notification.domain.event;
+
+public record UnreadCountSseEvent(
+        Long receiverId,
+        long unreadCount
+) {
+}
@@ -13,6 +13,7 @@ public class NotificationPubSubConfig {
 
     private final RedisConnectionFactory redisConnectionFactory;
     private final NotificationPubSubListener notificationPubSubListener;
+    private final UnreadCountPubSubListener unreadCountPubSubListener;
 
     @Bean
     public RedisMessageListenerContainer notificationListenerContainer() {
@@ -22,6 +23,10 @@ public class NotificationPubSubConfig {
                 notificationPubSubListener,
                 new ChannelTopic(NotificationPubSubPublisher.CHANNEL)
         );
+        container.addMessageListener(
+                unreadCountPubSubListener,
+                new ChannelTopic(NotificationPubSubPublisher.UNREAD_COUNT_CHANNEL)
+        );
         return container;
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import study.blog.notification.domain.event.NotificationSseEvent;
+import study.blog.notification.domain.event.UnreadCountSseEvent;
 
 @Slf4j
 @Component
@@ -14,6 +15,7 @@ import study.blog.notification.domain.event.NotificationSseEvent;
 public class NotificationPubSubPublisher {
 
     static final String CHANNEL = "notification:sse";
+    static final String UNREAD_COUNT_CHANNEL = "notification:unread-count";
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
@@ -27,4 +29,13 @@ public class NotificationPubSubPublisher {
             log.error("SSE 알림 직렬화 실패 - receiverId={}", event.receiverId(), e);
         }
     }
+
+    public void publishUnreadCount(UnreadCountSseEvent event) {
+        try {
+            String message = objectMapper.writeValueAsString(event);
+            redisTemplate.convertAndSend(UNREAD_COUNT_CHANNEL, message);
+        } catch (JsonProcessingException e) {
+            log.error("미읽음 알림 수 직렬화 실패 - receiverId={}", event.receiverId(), e);
+        }
+    }
 }
\ No newline at end of file
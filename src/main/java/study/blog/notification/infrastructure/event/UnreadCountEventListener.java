@@ -0,0 +1,41 @@
+package study.blog.notification.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import study.blog.notification.application.NotificationQueryService;
+import study.blog.notification.application.UnreadNotificationCounter;
+import study.blog.notification.domain.event.UnreadCountChangedEvent;
+import study.blog.notification.domain.event.UnreadCountSseEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountEventListener {
+
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationQueryService notificationQueryService;
+    private final NotificationPubSubPublisher pubSubPublisher;
+
+    /**
+     * 알림 생성/읽음 처리 트랜잭션 커밋 이후 미읽음 카운터를 갱신하고 SSE 로 새 값을 전달한다.
+     *
+     * 처리 정책
+     * - AFTER_COMMIT: 롤백된 변경이 카운터에 반영되지 않도록 커밋 이후에 증감
+     * - 캐시가 없으면 증감하지 않고 DB count 로 캐시를 채운다.
+     * - 카운터와 DB 사이의 오차는 UnreadNotificationCountReconciler 가 주기적으로 보정한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(UnreadCountChangedEvent event) {
+        try {
+            long unreadCount = unreadNotificationCounter.add(event.receiverId(), event.delta())
+                    .orElseGet(() -> notificationQueryService.loadUnreadCount(event.receiverId()));
+
+            pubSubPublisher.publishUnreadCount(new UnreadCountSseEvent(event.receiverId(), unreadCount));
+        } catch (Exception e) {
+            log.warn("미읽음 알림 수 갱신 실패 - receiverId={}, delta={}", event.receiverId(), event.delta(), e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package study.blog.notification.infrastructure.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import study.blog.notification.application.NotificationSseService;
+import study.blog.notification.domain.event.UnreadCountSseEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountPubSubListener implements MessageListener {
+
+    static final String EVENT_NAME = "UNREAD_COUNT";
+
+    private final NotificationSseService notificationSseService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            UnreadCountSseEvent event = objectMapper.readValue(message.getBody(), UnreadCountSseEvent.class);
+            notificationSseService.send(event.receiverId(), EVENT_NAME, event);
+        } catch (Exception e) {
+            log.error("미읽음 알림 수 SSE 전송 실패", e);
+        }
+    }
+}
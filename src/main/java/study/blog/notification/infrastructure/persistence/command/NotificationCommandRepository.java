@@ -0,0 +1,15 @@
+package study.blog.notification.infrastructure.persistence.command;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import study.blog.notification.domain.entity.Notification;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationCommandRepository extends JpaRepository<Notification, Long>, NotificationCommandRepositoryCustom {
+
+    @Query("select n.streamMessageId from Notification n where n.streamMessageId in :streamMessageIds")
+    List<String> findStreamMessageIdsIn(@Param("streamMessageIds") Collection<String> streamMessageIds);
+}
@@ -0,0 +1,6 @@
+package study.blog.notification.infrastructure.persistence.command;
+
+public interface NotificationCommandRepositoryCustom {
+    long markAsRead(Long notificationId, Long receiverId);
+    long markAllAsRead(Long receiverId);
+}
@@ -0,0 +1,40 @@
+package study.blog.notification.infrastructure.persistence.command;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import static study.blog.notification.domain.entity.QNotification.notification;
+
+@RequiredArgsConstructor
+public class NotificationCommandRepositoryCustomImpl implements NotificationCommandRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public long markAsRead(Long notificationId, Long receiverId) {
+        // 미읽음 상태인 경우에만 읽음 처리하고 변경된 row 수를 반환
+        // (동시에 같은 알림을 읽음 처리해도 1건만 반영되므로, 반환값으로 미읽음 카운터를 정확히 감소시킬 수 있다)
+        return queryFactory
+                .update(notification)
+                .set(notification.isRead, true)
+                .where(
+                        notification.id.eq(notificationId),
+                        notification.receiverId.eq(receiverId),
+                        notification.isRead.isFalse()
+                )
+                .execute();
+    }
+
+    @Override
+    public long markAllAsRead(Long receiverId) {
+        // 엔티티를 모두 로딩하지 않고 단일 update 로 일괄 읽음 처리
+        return queryFactory
+                .update(notification)
+                .set(notification.isRead, true)
+                .where(
+                        notification.receiverId.eq(receiverId),
+                        notification.isRead.isFalse()
+                )
+                .execute();
+    }
+}
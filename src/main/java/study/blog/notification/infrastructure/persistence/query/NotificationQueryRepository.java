@@ -13,4 +13,6 @@ public interface NotificationQueryRepository extends JpaRepository<Notification,
     List<Notification> findByReceiverIdOrderByCreatedAtDesc(Long receiverId);
 
     Optional<Notification> findByIdAndReceiverId(Long id, Long receiverId);
+
+    long countByReceiverIdAndIsReadFalse(Long receiverId);
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package study.blog.notification.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import study.blog.notification.application.UnreadNotificationCounter;
+
+import java.util.List;
+import java.util.Optional;
+
+import static study.blog.notification.infrastructure.redis.UnreadNotificationRedisKeyGenerator.generateUnreadCountKey;
+import static study.blog.notification.infrastructure.redis.UnreadNotificationRedisKeyGenerator.generateUnreadCountTTL;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationRedisCounter implements UnreadNotificationCounter {
+
+    /**
+     * 키가 있을 때만 증감하고, 음수가 되면 0으로 보정한다.
+     * 키가 없을 때 INCRBY 하면 DB와 무관한 값(1, -1 등)으로 캐시가 생성되므로 반드시 존재 여부를 함께 확인한다.
+     */
+    private static final RedisScript<Long> ADD_IF_PRESENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if count < 0 then
+                redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+                return 0
+            end
+            return count
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<Long> get(Long memberId) {
+        try {
+            String value = redisTemplate.opsForValue().get(generateUnreadCountKey(memberId));
+            return Optional.ofNullable(value).map(Long::parseLong);
+        } catch (Exception e) {
+            log.warn("미읽음 알림 수 캐시 조회 실패 - memberId={}", memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void set(Long memberId, long count) {
+        try {
+            redisTemplate.opsForValue().set(
+                    generateUnreadCountKey(memberId),
+                    String.valueOf(count),
+                    generateUnreadCountTTL()
+            );
+        } catch (Exception e) {
+            log.warn("미읽음 알림 수 캐시 저장 실패 - memberId={}", memberId, e);
+        }
+    }
+
+    @Override
+    public Optional<Long> add(Long memberId, long delta) {
+        try {
+            Long count = redisTemplate.execute(
+                    ADD_IF_PRESENT_SCRIPT,
+                    List.of(generateUnreadCountKey(memberId)),
+                    String.valueOf(delta)
+            );
+            return Optional.ofNullable(count);
+        } catch (Exception e) {
+            log.warn("미읽음 알림 수 캐시 증감 실패 - memberId={}, delta={}", memberId, delta, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package study.blog.notification.infrastructure.redis;
+
+import java.time.Duration;
+
+public final class UnreadNotificationRedisKeyGenerator {
+    private UnreadNotificationRedisKeyGenerator(){}
+
+    public static final String KEY_PATTERN = "notification:unread:*";
+
+    public static String generateUnreadCountKey(Long memberId){
+        return "notification:unread:" + memberId;
+    }
+
+    public static Long extractMemberId(String key){
+        return Long.parseLong(key.substring(key.lastIndexOf(':') + 1));
+    }
+
+    public static Duration generateUnreadCountTTL(){
+        return Duration.ofDays(1);
+    }
+}
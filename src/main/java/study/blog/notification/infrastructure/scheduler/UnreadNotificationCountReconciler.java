@@ -0,0 +1,58 @@
+package study.blog.notification.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.blog.notification.application.NotificationQueryService;
+
+import java.util.concurrent.TimeUnit;
+
+import static study.blog.notification.infrastructure.redis.UnreadNotificationRedisKeyGenerator.KEY_PATTERN;
+import static study.blog.notification.infrastructure.redis.UnreadNotificationRedisKeyGenerator.extractMemberId;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCountReconciler {
+
+    private static final long SCAN_COUNT = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationQueryService notificationQueryService;
+
+    /**
+     * Redis 에 캐시된 미읽음 알림 수를 DB(MySQL) 기준으로 주기적으로 보정하는 스케줄러.
+     *
+     * 카운터는 커밋 이후 증감되므로 Redis 장애, 서버 종료 등으로 증감이 누락되면 DB 와 어긋날 수 있다.
+     *
+     * 처리 정책
+     * - Redis key: notification:unread:{memberId}
+     * - 스케줄 주기: 10분
+     * - SCAN 으로 캐시된 회원만 순회하며 DB count 로 덮어쓴다. (캐시가 없는 회원은 조회 시점에 채워진다)
+     *
+     * 트레이드 오프
+     * - DB count 와 SET 사이에 발생한 증감은 덮어써질 수 있으나, 다음 주기에 다시 보정된다.
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void reconcile() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(KEY_PATTERN)
+                .count(SCAN_COUNT)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                try {
+                    notificationQueryService.loadUnreadCount(extractMemberId(key));
+                } catch (Exception e) {
+                    log.warn("미읽음 알림 수 보정 실패 - key={}", key, e);
+                }
+            }
+        }
+    }
+}
@@ -6,7 +6,9 @@ import study.blog.global.common.dto.ApiResponse;
 import study.blog.global.web.resolver.LoginMember;
 import study.blog.notification.application.NotificationCommandService;
 import study.blog.notification.application.NotificationQueryService;
+import study.blog.notification.application.PulledNotificationSyncer;
 import study.blog.notification.presentation.response.NotificationViewResponse;
+import study.blog.notification.presentation.response.UnreadCountResponse;
 import study.blog.notification.presentation.response.UnreadNotificationResponse;
 
 import java.util.List;
@@ -18,17 +20,32 @@ public class NotificationQueryController {
 
     private final NotificationQueryService notificationQueryService;
     private final NotificationCommandService notificationCommandService;
+    private final PulledNotificationSyncer pulledNotificationSyncer;
 
     @GetMapping
     public ApiResponse<List<NotificationViewResponse>> getAll(@LoginMember Long memberId) {
+        pulledNotificationSyncer.requestSync(memberId);
         return ApiResponse.success(notificationQueryService.getAll(memberId));
     }
 
     @GetMapping("/unread")
     public ApiResponse<List<UnreadNotificationResponse>> getUnread(@LoginMember Long memberId) {
+        pulledNotificationSyncer.requestSync(memberId);
         return ApiResponse.success(notificationQueryService.getUnread(memberId));
     }
 
+    @GetMapping("/unread/count")
+    public ApiResponse<UnreadCountResponse> getUnreadCount(@LoginMember Long memberId) {
+        pulledNotificationSyncer.requestSync(memberId);
+        return ApiResponse.success(notificationQueryService.getUnreadCount(memberId));
+    }
+
+    @PatchMapping("/read-all")
+    public ApiResponse<Void> markAllAsRead(@LoginMember Long memberId) {
+        notificationCommandService.markAllAsRead(memberId);
+        return ApiResponse.success(null);
+    }
+
     @PatchMapping("/{notificationId}/read")
     public ApiResponse<Void> markAsRead(@LoginMember Long memberId, @PathVariable Long notificationId) {
         notificationCommandService.markAsRead(notificationId, memberId);
@@ -0,0 +1,9 @@
+package study.blog.notification.presentation.response;
+
+public record UnreadCountResponse(
+        long unreadCount
+) {
+    public static UnreadCountResponse of(long unreadCount) {
+        return new UnreadCountResponse(unreadCount);
+    }
+}
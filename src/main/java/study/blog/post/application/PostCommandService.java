@@ -1,11 +1,25 @@
 package study.blog.post.application;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import study.blog.global.web.version.ContentVersionTracker;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.infrastructure.persistence.query.ImageAssetReader;
+import study.blog.post.domain.PostStatus;
 import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.exception.DraftBufferUnavailableException;
+import study.blog.post.domain.exception.DraftVersionConflictException;
 import study.blog.post.domain.exception.PostNotFoundException;
 import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+import study.blog.post.infrastructure.redis.DraftBuffer;
+import study.blog.post.infrastructure.redis.DraftBuffer.DraftWriteResult;
+import study.blog.post.infrastructure.redis.DraftBuffer.DraftWriteStatus;
+import study.blog.post.infrastructure.redis.DraftSnapshot;
 import study.blog.post.presentation.requset.CreatePostRequest;
 import study.blog.post.presentation.requset.SaveDraftRequest;
 import study.blog.post.presentation.requset.UpdatePostRequest;
@@ -14,16 +28,24 @@ import study.blog.post.presentation.response.PostStatusUpdateResponse;
 
 import java.util.List;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class PostCommandService {
     private final PostCommandRepository commandRepository;
+    private final PostPublishTracker postPublishTracker;
+    private final PostContentTracker postContentTracker;
+    private final DraftBuffer draftBuffer;
+    private final ContentVersionTracker contentVersionTracker;
+    private final ImageAssetReader imageAssetReader;
+    private final PostImageAttacher postImageAttacher;
 
     /**
      * 게시글을 생성한다.
      *
      * 게시글 생성 시 tag와 image도 같이 생성된다.
+     * (image 는 본문에서 사용 중인 업로드 이미지를 추출한다)
      */
     public PostSaveResponse createPost(Long authorId, CreatePostRequest createPostRequest) {
         Post post = Post.createPost(
@@ -32,10 +54,14 @@ public class PostCommandService {
                 createPostRequest.content(),
                 createPostRequest.postStatus(),
                 createPostRequest.tagNames(),
-                createPostRequest.thumbnailUrl(),
+                resolveThumbnail(createPostRequest.thumbnailUrl()),
                 List.of()
         );
+        postImageAttacher.attach(post);
         Post savedPost = commandRepository.save(post);
+        postPublishTracker.track(false, savedPost);
+        postContentTracker.track(null, savedPost);
+        contentVersionTracker.trackPost(savedPost.getId());
         return PostSaveResponse.from(savedPost);
     }
 
@@ -44,35 +70,123 @@ public class PostCommandService {
      *
      * postId가 없으면 신규 생성, 있으면 기존 임시저장 게시글을 수정한다.
      * 제목만 필수이며 내용, 태그, 썸네일은 선택이다.
+     *
+     * 처리 정책
+     * - 신규 생성은 postId 가 필요하므로 DB 에 바로 저장한다.
+     * - DRAFT 게시글의 자동 저장은 DraftBuffer(Redis) 에만 기록하고, DraftFlushScheduler 가 모아서 DB 에 반영한다.
+     * - 버퍼가 없으면 게시글을 한 번 조회해 draftVersion 으로 버퍼를 만든 뒤 기록한다.
+     * - 버퍼 version 이 DB draftVersion 보다 낮으면 Redis 장애 중 DB 에 바로 반영하고 남은 이전 버퍼이므로,
+     *   버리고 DB draftVersion 으로 다시 만든다. (충돌 판단은 둘 중 큰 version 기준)
+     * - DRAFT 가 아닌 게시글(발행/숨김 글을 다시 임시저장)은 기존처럼 DB 에 바로 반영한다.
+     * - 제목은 버퍼에 기록하기 전에 검증한다. (잘못된 제목이 버퍼에 쌓이면 flush 때에야 실패하므로)
+     * - 대표 이미지는 버퍼에 기록하기 전에 리사이즈 결과로 교체한다. (버퍼 경로도 DB 저장과 같은 URL 을 남기도록)
+     *
+     * 예외 처리
+     * - 요청 version 이 현재 임시저장 버전과 다르면 DraftVersionConflictException (다른 탭/기기에서 먼저 저장됨)
+     * - Redis 장애 시 DB 에 바로 반영한다. (saveDraftWithoutBuffer)
+     *
+     * 버퍼에만 기록한 경우 목록에 보이는 값은 아직 바뀌지 않았으므로 게시글 상세 버전만 올린다.
+     * 응답은 다른 저장 API 와 같은 PostSaveResponse 이며, 버퍼에 기록한 경우 게시글을 조회하지 않고 버퍼 내용과 요청으로 만든다.
      */
     public PostSaveResponse saveDraft(Long authorId, SaveDraftRequest request) {
         if (request.postId() == null) {
-            Post post = Post.createDraft(authorId, request.title(), request.content(), request.tagNames(), request.thumbnailUrl());
-            return PostSaveResponse.from(commandRepository.save(post));
+            Post post = Post.createDraft(authorId, request.title(), request.content(), request.tagNames(), resolveThumbnail(request.thumbnailUrl()));
+            postImageAttacher.attach(post);
+            Post savedPost = commandRepository.save(post);
+            contentVersionTracker.trackPost(savedPost.getId());
+            return PostSaveResponse.from(savedPost);
         }
 
-        Post post = commandRepository.findById(request.postId())
-                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
-        post.updateDraft(request.title(), request.content(), request.tagNames(), request.thumbnailUrl());
+        Post.validateTitle(request.title());
+        String thumbnailUrl = resolveThumbnail(request.thumbnailUrl());
+
+        DraftWriteResult buffered = tryWriteDraft(request, thumbnailUrl);
+        if (buffered != null && buffered.status() == DraftWriteStatus.SAVED) {
+            contentVersionTracker.trackPostDetail(request.postId());
+            return bufferedDraftResponse(authorId, request, thumbnailUrl, buffered.version());
+        }
+
+        Post post = findPost(request.postId());
+        if (buffered != null && buffered.status() == DraftWriteStatus.CONFLICT) {
+            if (buffered.version() >= post.getDraftVersion()) throw conflict(buffered.version());
+            discardDraftBuffer(post.getId());
+        }
+
+        // NOT_SEEDED(또는 이전 버퍼를 버린 경우): DB draftVersion 으로 버퍼를 만든 뒤 다시 기록한다.
+        if (buffered != null && post.getPostStatus() == PostStatus.DRAFT && seedDraftBuffer(post)) {
+            DraftWriteResult result = tryWriteDraft(request, thumbnailUrl);
+            if (result != null && result.status() == DraftWriteStatus.SAVED) {
+                contentVersionTracker.trackPostDetail(request.postId());
+                return bufferedDraftResponse(authorId, request, thumbnailUrl, result.version());
+            }
+            if (result != null && result.status() == DraftWriteStatus.CONFLICT) {
+                throw conflict(Math.max(result.version(), post.getDraftVersion()));
+            }
+        }
+
+        if (post.getPostStatus() == PostStatus.DRAFT) {
+            return saveDraftWithoutBuffer(post, request, thumbnailUrl);
+        }
+
+        if (request.version() != null && request.version() != post.getDraftVersion()) {
+            throw conflict(post.getDraftVersion());
+        }
+        post.updateDraft(request.title(), request.content(), request.tagNames(), thumbnailUrl);
+        postImageAttacher.attach(post);
+        contentVersionTracker.trackPost(post.getId());
+        return PostSaveResponse.from(post);
+    }
+
+    /**
+     * Redis 장애로 버퍼를 쓸 수 없을 때 DRAFT 게시글의 임시저장을 DB 에 바로 반영한다.
+     *
+     * 처리 정책
+     * - 클라이언트의 version 은 버퍼에서 받은 값이라 DB draftVersion 보다 클 수 있다.
+     *   버퍼를 읽을 수 없으므로 DB draftVersion 보다 작을 때만(장애 중 다른 탭이 먼저 저장) 충돌로 본다.
+     * - DB draftVersion 을 max(DB, 요청 version) + 1 로 올린다. 장애 전 버퍼에 남은 내용(version ≤ 요청 version)은
+     *   DraftFlusher 의 조건부 update 와 상세 조회 / 발행 시 version 비교에서 걸러지고, 다음 저장 때 이전 버퍼로 판단해 버린다.
+     * - 기록 전에 버퍼 폐기를 먼저 시도한다. (일시적인 실패였다면 이전 버퍼가 바로 사라진다)
+     *
+     * 트레이드 오프
+     * - 장애 직전 다른 탭이 이 요청보다 높은 version 까지 버퍼에 저장했다면 그 탭의 내용과의 충돌은 감지하지 못한다.
+     */
+    private PostSaveResponse saveDraftWithoutBuffer(Post post, SaveDraftRequest request, String thumbnailUrl) {
+        long requestVersion = request.version() != null ? request.version() : post.getDraftVersion();
+        if (requestVersion < post.getDraftVersion()) {
+            throw conflict(post.getDraftVersion());
+        }
+
+        discardDraftBuffer(post.getId());
+        post.applyDraft(request.title(), request.content(), request.tagNames(), thumbnailUrl,
+                Math.max(post.getDraftVersion(), requestVersion) + 1);
+        postImageAttacher.attach(post);
+        contentVersionTracker.trackPost(post.getId());
         return PostSaveResponse.from(post);
     }
 
     /**
      * 게시글을 수정한다.
      *
-     * tag 및 image 수정 필요
+     * tag 와 image 는 기존 목록과의 차집합만 반영한다.
      */
     public PostSaveResponse modifyPost(Long authorId, UpdatePostRequest updatePostRequest) {
         Post findPost = commandRepository.findById(updatePostRequest.postId())
                 .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다"));
+        boolean publishedBefore = findPost.hasBeenPublished();
+        String previousContent = findPost.getContent();
+        discardDraftBuffer(findPost.getId());
 
         findPost.modifyPost(
                 updatePostRequest.title(),
                 updatePostRequest.content(),
                 updatePostRequest.postStatus(),
                 updatePostRequest.tagNames(),
-                updatePostRequest.thumbnailUrl()
+                resolveThumbnail(updatePostRequest.thumbnailUrl())
         );
+        postImageAttacher.attach(findPost);
+        postPublishTracker.track(publishedBefore, findPost);
+        postContentTracker.track(previousContent, findPost);
+        contentVersionTracker.trackPost(findPost.getId());
 
         return PostSaveResponse.from(findPost);
     }
@@ -87,7 +201,16 @@ public class PostCommandService {
     public PostStatusUpdateResponse changeStatusToPublish(Long postId) {
         Post post = commandRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
+        boolean publishedBefore = post.hasBeenPublished();
+        String previousContent = post.getContent();
+        applyDraftBuffer(post);
+        String thumbnailUrl = post.getThumbnailUrl();
+        post.replaceThumbnailUrl(thumbnailUrl, resolveThumbnail(thumbnailUrl));
+        postImageAttacher.attach(post);
         post.publish();
+        postPublishTracker.track(publishedBefore, post);
+        postContentTracker.track(previousContent, post);
+        contentVersionTracker.trackPost(postId);
         return PostStatusUpdateResponse.from(postId, post.getPostStatus());
     }
 
@@ -101,6 +224,7 @@ public class PostCommandService {
         Post post = commandRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
         post.hide();
+        contentVersionTracker.trackPost(postId);
         return PostStatusUpdateResponse.from(postId, post.getPostStatus());
     }
 
@@ -114,6 +238,115 @@ public class PostCommandService {
         Post post = commandRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
         post.delete();
+        discardDraftBuffer(postId);
+        contentVersionTracker.trackPost(postId);
         return PostStatusUpdateResponse.from(postId, post.getPostStatus());
     }
+
+    /**
+     * 리사이즈가 끝난 업로드 이미지를 대표 이미지로 지정하면 원본 대신 리사이즈 결과를 저장한다.
+     * (리사이즈가 나중에 끝나면 ImageVariantsReadyEventListener 가 교체한다)
+     */
+    private String resolveThumbnail(String thumbnailUrl) {
+        if (thumbnailUrl == null) return null;
+        return imageAssetReader.findVariantUrl(thumbnailUrl, ImageVariant.MEDIUM).orElse(thumbnailUrl);
+    }
+
+    /**
+     * Redis 장애면 null 을 반환한다. (호출자가 DB 에 바로 반영)
+     */
+    private DraftWriteResult tryWriteDraft(SaveDraftRequest request, String thumbnailUrl) {
+        try {
+            return draftBuffer.write(request.postId(), request.version(), request.title(), request.content(),
+                    request.tagNames(), thumbnailUrl);
+        } catch (DataAccessException e) {
+            log.warn("임시저장 버퍼 기록 실패, DB 에 바로 반영 - postId={}", request.postId(), e);
+            return null;
+        }
+    }
+
+    private boolean seedDraftBuffer(Post post) {
+        try {
+            draftBuffer.seed(post.getId(), post.getDraftVersion());
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("임시저장 버퍼 생성 실패 - postId={}", post.getId(), e);
+            return false;
+        }
+    }
+
+    private Post findPost(Long postId) {
+        return commandRepository.findById(postId)
+                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 게시글을 조회하지 않고 버퍼 내용(없으면 요청 값)으로 응답을 만든다.
+     * version 은 이번 요청이 저장한 값을 쓴다. (그 사이 다른 탭이 저장했다면 다음 요청에서 충돌로 드러나도록)
+     */
+    private PostSaveResponse bufferedDraftResponse(Long authorId, SaveDraftRequest request, String thumbnailUrl, long version) {
+        DraftSnapshot draft = null;
+        try {
+            draft = draftBuffer.find(request.postId()).orElse(null);
+        } catch (DataAccessException e) {
+            log.warn("임시저장 버퍼 조회 실패 - postId={}", request.postId(), e);
+        }
+        if (draft == null) {
+            draft = new DraftSnapshot(version, request.title(), request.content(), request.tagNames(), thumbnailUrl);
+        }
+
+        List<String> imageUrls = draft.content() != null ? postImageAttacher.extractImageUrls(draft.content()) : List.of();
+        return PostSaveResponse.fromDraft(request.postId(), authorId, draft, imageUrls, version);
+    }
+
+    /**
+     * 발행 직전 아직 DB 에 반영되지 않은 자동 저장 내용을 먼저 반영한다.
+     *
+     * 예외 처리
+     * - 버퍼를 읽지 못하면 마지막 자동 저장 내용 없이 발행되지 않도록 발행을 실패시킨다. (DraftBufferUnavailableException)
+     * - 버퍼 폐기는 커밋 후에 한다. (발행이 롤백되면 자동 저장 내용이 남아 있어야 하므로)
+     *   폐기에 실패해도 DraftFlusher 가 DRAFT 가 아닌 글의 버퍼를 버린다.
+     */
+    private void applyDraftBuffer(Post post) {
+        if (post.getPostStatus() != PostStatus.DRAFT) return;
+        try {
+            draftBuffer.find(post.getId())
+                    .filter(draft -> draft.version() > post.getDraftVersion())
+                    .ifPresent(draft -> post.applyDraft(draft.title(), draft.content(), draft.tagNames(),
+                            draft.thumbnailUrl(), draft.version()));
+        } catch (DataAccessException e) {
+            log.warn("임시저장 버퍼 반영 실패, 발행 중단 - postId={}", post.getId(), e);
+            throw new DraftBufferUnavailableException("임시저장본을 확인하지 못해 발행하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        discardDraftBufferAfterCommit(post.getId());
+    }
+
+    private void discardDraftBufferAfterCommit(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            discardDraftBuffer(postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                discardDraftBuffer(postId);
+            }
+        });
+    }
+
+    /**
+     * 수정/삭제 요청이 최신 본이므로 버퍼에 남은 자동 저장 내용은 버린다.
+     */
+    private void discardDraftBuffer(Long postId) {
+        try {
+            draftBuffer.discard(postId);
+        } catch (DataAccessException e) {
+            log.warn("임시저장 버퍼 폐기 실패 - postId={}", postId, e);
+        }
+    }
+
+    private DraftVersionConflictException conflict(long currentVersion) {
+        return new DraftVersionConflictException(
+                "다른 곳에서 먼저 저장된 임시저장본이 있습니다. 새로고침 후 다시 시도해주세요. (현재 버전: " + currentVersion + ")");
+    }
 }
@@ -0,0 +1,27 @@
+package study.blog.post.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.event.PostContentModifiedEvent;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class PostContentTracker {
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 본문 변경 이벤트 발행
+     *
+     * 본문이 실제로 바뀐 경우에만 발행하며 (신규 작성 시 previousContent 는 null),
+     * 리비전 저장과 HTML / 목차 렌더링은 커밋 이후 비동기로 처리된다.
+     */
+    public void track(String previousContent, Post post) {
+        if (Objects.equals(previousContent, post.getContent())) return;
+
+        eventPublisher.publishEvent(new PostContentModifiedEvent(post.getId(), previousContent, post.getContent()));
+    }
+}
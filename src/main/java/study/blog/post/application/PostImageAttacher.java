@@ -0,0 +1,84 @@
+package study.blog.post.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import study.blog.global.infra.ImageStorage;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.infrastructure.persistence.query.ImageAssetReader;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostImage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 본문에서 사용 중인 업로드 이미지를 PostImage 로 반영한다.
+ *
+ * 처리 정책
+ * - 마크다운 이미지(![alt](url "title"))와 HTML img 태그의 src 를 추출한다.
+ * - 이 서비스의 저장소에 업로드한 이미지(thumbnail/, post-images/)만 반영한다. (외부 이미지 링크는 제외)
+ * - 기존 PostImage 와의 차집합만 insert / delete 한다. (Post.modifyPostImages)
+ * - 새로 추가되었거나 아직 리사이즈 URL 이 없는 이미지는 ImageAssetReader 로 한 번에 조회해 채운다.
+ *   (리사이즈가 나중에 끝나면 ImageVariantsReadyEventListener 가 채운다)
+ *
+ * 트레이드 오프
+ * - 코드 블록 안의 이미지 문법도 참조로 본다. 고아 이미지 정리(OrphanImageCollector)가
+ *   실제로 쓰이는 이미지를 지우지 않도록 넓게 잡는 쪽을 택했다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostImageAttacher {
+
+    private static final List<String> UPLOAD_PREFIXES = List.of("thumbnail/", "post-images/");
+    private static final Pattern MARKDOWN_IMAGE = Pattern.compile("!\\[[^\\]]*]\\(\\s*<?([^)\\s>]+)");
+    private static final Pattern HTML_IMAGE = Pattern.compile("<img\\b[^>]*?\\bsrc\\s*=\\s*[\"']([^\"']+)[\"']", Pattern.CASE_INSENSITIVE);
+
+    private final ImageStorage imageStorage;
+    private final ImageAssetReader imageAssetReader;
+
+    /**
+     * 본문이 없으면(내용 없는 임시저장) 기존 이미지를 그대로 둔다.
+     */
+    public void attach(Post post) {
+        if (!hasText(post.getContent())) return;
+
+        post.modifyPostImages(extractImageUrls(post.getContent()));
+
+        List<PostImage> pending = post.getPostImages().stream()
+                .filter(image -> !image.hasVariants())
+                .toList();
+        if (pending.isEmpty()) return;
+
+        Map<String, Map<ImageVariant, String>> variantUrls =
+                imageAssetReader.findVariantUrls(pending.stream().map(PostImage::getImageUrl).toList());
+        for (PostImage image : pending) {
+            Map<ImageVariant, String> urls = variantUrls.get(image.getImageUrl());
+            if (urls == null) continue;
+            image.recordVariants(urls.get(ImageVariant.SMALL), urls.get(ImageVariant.MEDIUM), urls.get(ImageVariant.LARGE));
+        }
+    }
+
+    List<String> extractImageUrls(String content) {
+        Set<String> urls = new LinkedHashSet<>();
+        collect(MARKDOWN_IMAGE.matcher(content), urls);
+        collect(HTML_IMAGE.matcher(content), urls);
+        return new ArrayList<>(urls);
+    }
+
+    private void collect(Matcher matcher, Set<String> urls) {
+        while (matcher.find()) {
+            String url = matcher.group(1);
+            boolean uploaded = imageStorage.keyOf(url)
+                    .filter(key -> UPLOAD_PREFIXES.stream().anyMatch(key::startsWith))
+                    .isPresent();
+            if (uploaded) urls.add(url);
+        }
+    }
+}
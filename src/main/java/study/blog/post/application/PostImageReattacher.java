@@ -0,0 +1,26 @@
+package study.blog.post.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+
+/**
+ * 이미 저장된 게시글의 본문 이미지를 PostImage 로 다시 반영한다. (PostImageBackfill 의 구간 단위 트랜잭션)
+ *
+ * 처리 정책
+ * - 상태와 관계없이(임시저장, 숨김, 삭제 포함) id 구간의 모든 게시글을 PostImageAttacher 로 반영한다.
+ *   (삭제된 글도 복구 전까지 이미지를 지우지 않는다)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostImageReattacher {
+
+    private final PostCommandRepository postCommandRepository;
+    private final PostImageAttacher postImageAttacher;
+
+    @Transactional
+    public void reattach(Long fromId, Long toId) {
+        postCommandRepository.findByIdBetween(fromId, toId).forEach(postImageAttacher::attach);
+    }
+}
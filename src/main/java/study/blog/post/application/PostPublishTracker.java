@@ -0,0 +1,25 @@
+package study.blog.post.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.event.PostPublishedEvent;
+
+@Component
+@RequiredArgsConstructor
+public class PostPublishTracker {
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 최초 발행 이벤트 발행
+     *
+     * 발행 전에는 publishedAt 이 없고, 발행 후에 생긴 경우에만 최초 발행으로 본다.
+     * (숨김 → 재발행, 발행된 글 수정 시에는 구독자에게 다시 알리지 않는다)
+     */
+    public void track(boolean publishedBefore, Post post) {
+        if (publishedBefore || !post.hasBeenPublished()) return;
+
+        eventPublisher.publishEvent(new PostPublishedEvent(post.getId(), post.getAuthorId(), post.getPublishedAt()));
+    }
+}
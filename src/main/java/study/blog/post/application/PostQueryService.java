@@ -2,6 +2,8 @@ package study.blog.post.application;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -11,16 +13,24 @@ import study.blog.comment.infrastructure.persistence.query.CommentReader;
 import study.blog.subscription.infrastructure.persistence.query.SubscriptionReader;
 import study.blog.postlike.infrastructure.persistence.query.PostLikeReader;
 import study.blog.member.repository.MemberReader;
+import study.blog.post.domain.PostStatus;
 import study.blog.post.domain.entity.Post;
 import study.blog.post.domain.exception.PostNotFoundException;
 import study.blog.post.infrastructure.persistence.query.PostQueryRepository;
+import study.blog.post.infrastructure.persistence.query.PostSummaryRow;
+import study.blog.post.infrastructure.redis.DraftBuffer;
 import study.blog.post.presentation.requset.PostSearchCondition;
 import study.blog.post.presentation.response.PostDetailResponse;
 import study.blog.post.presentation.response.PostSummaryResponse;
+import study.blog.post.presentation.response.PublishedPostResponse;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -32,28 +42,34 @@ public class PostQueryService {
     private final CommentReader commentReader;
     private final MemberReader memberReader;
     private final SubscriptionReader subscriptionReader;
+    private final DraftBuffer draftBuffer;
 
     /**
      * 게시글 목록 조회 (메인 화면 정렬순)
      *
      * @param pageable 정렬 조건(최신순, 조회순, 좋아요순)
+     * @param memberId 사용자 ID (비회원인 경우 null, 작성자 구독 여부 표시에 사용)
      * @return
      */
-    public Page<PostSummaryResponse> getMainPostsBySort(Pageable pageable) {
-        List<Post> posts = queryRepository.findMainPosts(pageable);
+    public Page<PostSummaryResponse> getMainPostsBySort(Pageable pageable, Long memberId) {
+        List<PostSummaryRow> posts = queryRepository.findMainPosts(pageable);
         long total = queryRepository.countMainPosts();
 
-        List<Long> postIds = posts.stream().map(Post::getId).toList();
-        List<Long> authorIds = posts.stream().map(Post::getAuthorId).distinct().toList();
+        List<Long> postIds = posts.stream().map(PostSummaryRow::postId).toList();
+        List<Long> authorIds = posts.stream().map(PostSummaryRow::authorId).distinct().toList();
 
+        Map<Long, List<String>> tagNames = queryRepository.findTagNames(postIds);
         Map<Long, Long> commentCounts = commentReader.getCommentCounts(postIds);
         Map<Long, String> nicknameMap = memberReader.getNicknames(authorIds);
+        Set<Long> subscribedAuthorIds = subscriptionReader.findSubscribedTargetIds(memberId, authorIds);
 
         List<PostSummaryResponse> content = posts.stream()
                 .map(post -> PostSummaryResponse.from(
                         post,
-                        nicknameMap.getOrDefault(post.getAuthorId(), "익명"),
-                        commentCounts.getOrDefault(post.getId(), 0L)
+                        tagNames.getOrDefault(post.postId(), List.of()),
+                        nicknameMap.getOrDefault(post.authorId(), "익명"),
+                        commentCounts.getOrDefault(post.postId(), 0L),
+                        subscribedAuthorIds.contains(post.authorId())
                 ))
                 .toList();
         return new PageImpl<>(content, pageable, total);
@@ -69,20 +85,33 @@ public class PostQueryService {
      * @param pageable - 페이징 조건
      */
     public Page<PostSummaryResponse> searchPostByCondition(PostSearchCondition condition, Pageable pageable) {
-        List<Post> posts = queryRepository.searchPostsByCondition(condition, pageable);
+        return searchPostByCondition(condition, pageable, null);
+    }
+
+    /**
+     * 게시글 목록 조회 (작성자 구독 여부 포함)
+     *
+     * @param memberId - 사용자 ID (비회원인 경우 null)
+     */
+    public Page<PostSummaryResponse> searchPostByCondition(PostSearchCondition condition, Pageable pageable, Long memberId) {
+        List<PostSummaryRow> posts = queryRepository.searchPostsByCondition(condition, pageable);
         long total = queryRepository.countPostByCondition(condition);
 
-        List<Long> postIds = posts.stream().map(Post::getId).toList();
-        List<Long> authorIds = posts.stream().map(Post::getAuthorId).distinct().toList();
+        List<Long> postIds = posts.stream().map(PostSummaryRow::postId).toList();
+        List<Long> authorIds = posts.stream().map(PostSummaryRow::authorId).distinct().toList();
 
+        Map<Long, List<String>> tagNames = queryRepository.findTagNames(postIds);
         Map<Long, Long> commentCounts = commentReader.getCommentCounts(postIds);
         Map<Long, String> nicknameMap = memberReader.getNicknames(authorIds);
+        Set<Long> subscribedAuthorIds = subscriptionReader.findSubscribedTargetIds(memberId, authorIds);
 
         List<PostSummaryResponse> content = posts.stream()
                 .map(post -> PostSummaryResponse.from(
                         post,
-                        nicknameMap.getOrDefault(post.getAuthorId(), "익명"),
-                        commentCounts.getOrDefault(post.getId(), 0L)
+                        tagNames.getOrDefault(post.postId(), List.of()),
+                        nicknameMap.getOrDefault(post.authorId(), "익명"),
+                        commentCounts.getOrDefault(post.postId(), 0L),
+                        subscribedAuthorIds.contains(post.authorId())
                 ))
                 .toList();
         return new PageImpl<>(content, pageable, total);
@@ -90,27 +119,75 @@ public class PostQueryService {
 
     /**
      * MyPage 게시글 목록 조회
+     * 작성자 구독 여부도 다른 목록과 같이 SubscriptionReader 로 계산한다. (조회자 = 작성자)
      * @param memberId - 사용자 ID
      * @param condition - 검색 조건
      * @param pageable - 페이징 조건
      */
     public Page<PostSummaryResponse> findPostsByAuthorId(Long memberId, PostSearchCondition condition, Pageable pageable) {
-        List<Post> posts = queryRepository.searchMemberPosts(memberId, condition, pageable);
+        List<PostSummaryRow> posts = queryRepository.searchMemberPosts(memberId, condition, pageable);
         long total = queryRepository.countMemberPosts(memberId, condition);
 
-        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        List<Long> postIds = posts.stream().map(PostSummaryRow::postId).toList();
         String authorNickname = memberReader.getNickName(memberId);
+        Map<Long, List<String>> tagNames = queryRepository.findTagNames(postIds);
         Map<Long, Long> commentCounts = commentReader.getCommentCounts(postIds);
+        boolean isSubscribe = !posts.isEmpty() && subscriptionReader.isSubscribe(memberId, memberId);
 
         List<PostSummaryResponse> content = posts.stream()
                 .map(post -> PostSummaryResponse.from(
                         post,
+                        tagNames.getOrDefault(post.postId(), List.of()),
                         authorNickname,
-                        commentCounts.getOrDefault(post.getId(), 0L)))
+                        commentCounts.getOrDefault(post.postId(), 0L),
+                        isSubscribe))
                 .toList();
         return new PageImpl<>(content, pageable, total);
     }
 
+    /**
+     * id 목록으로 발행된 게시글 요약을 일괄 조회한다. (타임라인 등)
+     *
+     * - 게시글, 태그, 작성자 닉네임, 댓글 수를 각각 한 번의 쿼리로 조회한다.
+     * - 입력된 id 순서를 유지하며, 삭제/숨김 등으로 발행 상태가 아닌 게시글은 결과에서 제외된다.
+     *
+     * @param memberId 사용자 ID (작성자 구독 여부 표시에 사용)
+     * @param postIds 게시글 ID 목록
+     */
+    public List<PostSummaryResponse> findPublishedPostSummaries(Long memberId, List<Long> postIds) {
+        if (postIds.isEmpty()) return List.of();
+
+        List<PostSummaryRow> posts = queryRepository.findPublishedPostsByIds(postIds);
+
+        List<Long> foundIds = posts.stream().map(PostSummaryRow::postId).toList();
+        List<Long> authorIds = posts.stream().map(PostSummaryRow::authorId).distinct().toList();
+        Map<Long, List<String>> tagNames = queryRepository.findTagNames(foundIds);
+        Map<Long, Long> commentCounts = commentReader.getCommentCounts(foundIds);
+        Map<Long, String> nicknameMap = memberReader.getNicknames(authorIds);
+        Set<Long> subscribedAuthorIds = subscriptionReader.findSubscribedTargetIds(memberId, authorIds);
+
+        Map<Long, PostSummaryResponse> summaries = posts.stream()
+                .collect(Collectors.toMap(PostSummaryRow::postId, post -> PostSummaryResponse.from(
+                        post,
+                        tagNames.getOrDefault(post.postId(), List.of()),
+                        nicknameMap.getOrDefault(post.authorId(), "익명"),
+                        commentCounts.getOrDefault(post.postId(), 0L),
+                        subscribedAuthorIds.contains(post.authorId())
+                )));
+
+        return postIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 작성자들의 최근 발행 게시글(id, 발행 시각)을 발행 시각 내림차순으로 조회한다.
+     */
+    public List<PublishedPostResponse> findRecentPublishedPosts(List<Long> authorIds, int limit) {
+        return queryRepository.findRecentPublishedPosts(authorIds, limit);
+    }
+
     /**
      * 게시글 단건을 조회한다.
      *
@@ -133,10 +210,36 @@ public class PostQueryService {
         boolean isLikedByMe = memberId != null && postLikeReader.hasLiked(memberId, postId);
         long commentCount = commentReader.getCommentCount(postId);
         String authorNickname = memberReader.getNickName(post.getAuthorId());
-        boolean isSubscribe = memberId != null ? subscriptionReader.isSubscribe(memberId, post.getAuthorId()) : false;
+        boolean isSubscribe = subscriptionReader.isSubscribe(memberId, post.getAuthorId());
 
         viewTracker.track(memberId, postId, request);
 
-        return PostDetailResponse.from(post, authorNickname, isLikedByMe, commentCount, isSubscribe);
+        PostDetailResponse response = PostDetailResponse.from(post, authorNickname, isLikedByMe, commentCount, isSubscribe);
+        return mergeBufferedDraft(post, memberId, response);
+    }
+
+    /**
+     * 게시글 조회를 기록한다. (조건부 요청으로 상세 응답을 만들지 않은 경우에도 조회수는 증가한다)
+     */
+    public void trackView(Long postId, Long memberId, HttpServletRequest request) {
+        viewTracker.track(memberId, postId, request);
+    }
+
+    /**
+     * 작성자가 자신의 DRAFT 게시글을 조회하면 아직 DB 에 반영되지 않은 자동 저장 내용을 합쳐서 응답한다.
+     * (버퍼 조회 실패 시 DB 값만 응답한다)
+     */
+    private PostDetailResponse mergeBufferedDraft(Post post, Long memberId, PostDetailResponse response) {
+        if (post.getPostStatus() != PostStatus.DRAFT || !post.getAuthorId().equals(memberId)) return response;
+
+        try {
+            return draftBuffer.find(post.getId())
+                    .filter(draft -> draft.version() > post.getDraftVersion())
+                    .map(response::mergeDraft)
+                    .orElse(response);
+        } catch (DataAccessException e) {
+            log.warn("임시저장 버퍼 조회 실패 - postId={}", post.getId(), e);
+            return response;
+        }
     }
 }
@@ -0,0 +1,42 @@
+package study.blog.post.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회 시점에 렌더링 결과가 없거나 오래된 게시글의 렌더링 저장을 비동기로 요청한다.
+ *
+ * 처리 정책
+ * - 조회 API 는 응답용으로만 렌더링하고, 저장은 postRenderingExecutor 에서 PostRenderer 로 처리한다.
+ *   (커밋 후 렌더링 이벤트가 실패했거나 유실된 게시글도 다음 조회에서 결과가 저장된다)
+ * - 같은 게시글의 렌더링이 이 인스턴스에서 이미 진행 중이면 건너뛴다. (인기 글 조회마다 락 대기가 쌓이지 않도록)
+ *
+ * 예외 처리
+ * - 실패는 로그만 남긴다. 같은 게시글의 다음 조회에서 다시 요청된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRenderRequester {
+
+    private final PostRenderer renderer;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Async("postRenderingExecutor")
+    public void requestRender(Long postId) {
+        if (!inFlight.add(postId)) return;
+        try {
+            renderer.render(postId);
+        } catch (Exception e) {
+            log.warn("게시글 렌더링 저장 실패 - postId={}", postId, e);
+        } finally {
+            inFlight.remove(postId);
+        }
+    }
+}
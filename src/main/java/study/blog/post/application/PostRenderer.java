@@ -0,0 +1,59 @@
+package study.blog.post.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import study.blog.global.lock.DistributedLock;
+import study.blog.global.lock.FencingToken;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostRendering;
+import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+import study.blog.post.infrastructure.persistence.command.PostRenderingRepository;
+import study.blog.post.infrastructure.rendering.MarkdownRenderer;
+import study.blog.post.infrastructure.rendering.RenderedContent;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class PostRenderer {
+
+    private final PostCommandRepository postRepository;
+    private final PostRenderingRepository renderingRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 게시글 본문을 HTML / 목차 / 요약으로 렌더링해 저장한다.
+     *
+     * 처리 정책
+     * - 이벤트의 본문이 아니라 현재 DB 의 본문을 렌더링한다. (연속 수정 시 처리 순서가 뒤바뀌어도 최신 본문으로 수렴)
+     * - 저장된 결과의 contentHash 가 현재 본문과 같으면 다시 렌더링하지 않는다.
+     * - Post.excerpt 는 건드리지 않는다. (작성 시점에 같은 규칙(PostExcerpt)으로 이미 채워져 있다)
+     * - 같은 게시글의 렌더링이 겹치지 않도록 게시글 단위 분산 락 안에서 처리한다.
+     * - 긴 본문은 렌더링 시간을 예측하기 어려우므로 락을 자동 연장하고,
+     *   그래도 락이 풀린 뒤 늦게 끝난 렌더링은 fencing token 비교로 버린다. (최초 저장 포함, saveIfNewer)
+     */
+    @DistributedLock(key = "'post:rendering:' + #postId", waitTime = 10L, autoRenew = true, fencing = true)
+    public void render(Long postId) {
+        Optional<Post> found = postRepository.findById(postId);
+        if (found.isEmpty()) return;
+
+        Post post = found.get();
+        String contentHash = MarkdownRenderer.contentHash(post.getContent());
+        Optional<PostRendering> saved = renderingRepository.findById(postId);
+        if (saved.isPresent() && saved.get().isRenderedFrom(contentHash)) return;
+
+        RenderedContent rendered = markdownRenderer.render(post.getContent());
+        String toc = toJson(rendered);
+        renderingRepository.saveIfNewer(postId, contentHash, rendered.html(), toc, rendered.excerpt(), FencingToken.current());
+    }
+
+    private String toJson(RenderedContent rendered) {
+        try {
+            return objectMapper.writeValueAsString(rendered.toc());
+        } catch (Exception e) {
+            throw new IllegalStateException("목차 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package study.blog.post.application;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostRendering;
+import study.blog.post.domain.exception.PostNotFoundException;
+import study.blog.post.infrastructure.persistence.command.PostRenderingRepository;
+import study.blog.post.infrastructure.persistence.query.PostQueryRepository;
+import study.blog.post.infrastructure.rendering.MarkdownRenderer;
+import study.blog.post.infrastructure.rendering.RenderedContent;
+import study.blog.post.infrastructure.rendering.TocEntry;
+import study.blog.post.presentation.response.PostRenderedResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostRenderingService {
+
+    private static final TypeReference<List<TocEntry>> TOC_TYPE = new TypeReference<>() {};
+
+    private final PostQueryRepository postRepository;
+    private final PostRenderingRepository renderingRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final PostRenderRequester renderRequester;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 렌더링된 본문을 조회한다.
+     *
+     * 처리 정책
+     * - 저장된 결과가 현재 본문과 같으면 그대로 반환한다.
+     * - 아직 렌더링 전이거나(커밋 직후) 결과가 오래되었으면 요청 스레드에서 렌더링해 반환하고,
+     *   저장은 PostRenderRequester 로 비동기 요청한다. (다음 조회부터는 저장된 결과를 쓴다)
+     *
+     * 예외 처리
+     * - 게시글이 없으면 PostNotFoundException
+     */
+    public PostRenderedResponse getRendered(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
+        String contentHash = MarkdownRenderer.contentHash(post.getContent());
+
+        Optional<PostRendering> saved = renderingRepository.findById(postId)
+                .filter(rendering -> rendering.isRenderedFrom(contentHash));
+        if (saved.isPresent()) {
+            PostRendering rendering = saved.get();
+            return new PostRenderedResponse(postId, rendering.getHtml(), fromJson(rendering.getToc()),
+                    rendering.getExcerpt(), contentHash);
+        }
+
+        renderRequester.requestRender(postId);
+        RenderedContent rendered = markdownRenderer.render(post.getContent());
+        return new PostRenderedResponse(postId, rendered.html(), rendered.toc(), rendered.excerpt(), contentHash);
+    }
+
+    private List<TocEntry> fromJson(String toc) {
+        try {
+            return objectMapper.readValue(toc, TOC_TYPE);
+        } catch (Exception e) {
+            throw new IllegalStateException("목차 역직렬화 실패", e);
+        }
+    }
+}
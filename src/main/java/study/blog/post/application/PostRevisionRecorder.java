@@ -0,0 +1,85 @@
+package study.blog.post.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import study.blog.global.lock.DistributedLock;
+import study.blog.global.lock.LockFailurePolicy;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostRevision;
+import study.blog.post.domain.revision.RevisionDeltaCodec;
+import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+import study.blog.post.infrastructure.persistence.command.PostRevisionRepository;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class PostRevisionRecorder {
+
+    static final int SNAPSHOT_INTERVAL = 20;
+
+    private final PostCommandRepository postRepository;
+    private final PostRevisionRepository revisionRepository;
+    private final PostRevisionService revisionService;
+
+    /**
+     * 게시글의 현재 본문을 새 리비전으로 저장한다.
+     *
+     * 처리 정책
+     * - 이벤트의 본문이 아니라 락 안에서 읽은 현재 DB 본문을 저장한다.
+     *   (여러 스레드가 이벤트를 처리하므로 처리 순서가 뒤바뀌어도 리비전이 최신 본문으로 수렴한다)
+     * - 현재 본문이 마지막 리비전과 같으면 저장하지 않는다. (이미 다른 이벤트가 같은 본문을 기록함)
+     * - 첫 리비전이면 수정 전 본문을 1번 스냅샷으로 먼저 남긴다. (리비전 도입 이전 게시글의 원본 보존)
+     * - SNAPSHOT_INTERVAL 번째마다 스냅샷을, 그 사이에는 직전 리비전 대비 델타를 저장한다.
+     * - 델타가 스냅샷보다 크거나 diff 를 계산할 수 없을 만큼 많이 바뀌었으면 스냅샷으로 저장한다.
+     * - 같은 게시글의 리비전 번호가 겹치지 않도록 게시글 단위 분산 락 안에서 처리한다.
+     *   (복원 / 델타 계산 시간이 본문 길이에 비례하므로 락을 자동 연장한다.
+     *    락이 풀린 뒤 겹친 저장은 (post_id, revision_number) 유니크 제약이 막는다)
+     *
+     * 예외 처리
+     * - 락을 얻지 못하면 건너뛰지 않고 LockAcquisitionException 을 던진다. (호출자가 재시도)
+     */
+    @DistributedLock(key = "'post:revision:' + #postId", waitTime = 10L, autoRenew = true, onFailure = LockFailurePolicy.THROW)
+    public void record(Long postId, String previousContent) {
+        String content = postRepository.findById(postId).map(Post::getContent).orElse(null);
+        if (content == null) return;
+
+        Optional<PostRevision> latest = revisionRepository.findTopByPostIdOrderByRevisionNumberDesc(postId);
+
+        if (latest.isEmpty()) {
+            if (previousContent == null || previousContent.equals(content)) {
+                saveSnapshot(postId, 1, content);
+                return;
+            }
+            saveSnapshot(postId, 1, previousContent);
+            saveNext(postId, 1, 1, previousContent, content);
+            return;
+        }
+
+        PostRevision last = latest.get();
+        String lastContent = revisionService.reconstruct(postId, last.getRevisionNumber());
+        if (lastContent.equals(content)) return;
+
+        saveNext(postId, last.getRevisionNumber(), last.getSnapshotNumber(), lastContent, content);
+    }
+
+    private void saveNext(Long postId, int lastNumber, int snapshotNumber, String lastContent, String content) {
+        int number = lastNumber + 1;
+        if ((number - 1) % SNAPSHOT_INTERVAL == 0) {
+            saveSnapshot(postId, number, content);
+            return;
+        }
+
+        byte[] delta = RevisionDeltaCodec.encodeDelta(lastContent, content);
+        byte[] snapshot = RevisionDeltaCodec.encodeSnapshot(content);
+        if (delta == null || delta.length >= snapshot.length) {
+            revisionRepository.save(PostRevision.snapshot(postId, number, content.length(), snapshot));
+            return;
+        }
+        revisionRepository.save(PostRevision.delta(postId, number, snapshotNumber, content.length(), delta));
+    }
+
+    private void saveSnapshot(Long postId, int number, String content) {
+        revisionRepository.save(PostRevision.snapshot(postId, number, content.length(), RevisionDeltaCodec.encodeSnapshot(content)));
+    }
+}
@@ -0,0 +1,110 @@
+package study.blog.post.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import study.blog.post.domain.RevisionType;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostRevision;
+import study.blog.post.domain.exception.PostNotFoundException;
+import study.blog.post.domain.exception.PostRevisionNotFoundException;
+import study.blog.post.domain.revision.LineDiff;
+import study.blog.post.domain.revision.LineDiff.Edit;
+import study.blog.post.domain.revision.LineDiff.Op;
+import study.blog.post.domain.revision.RevisionDeltaCodec;
+import study.blog.post.infrastructure.persistence.command.PostRevisionRepository;
+import study.blog.post.infrastructure.persistence.query.PostQueryRepository;
+import study.blog.post.presentation.response.PostRevisionContentResponse;
+import study.blog.post.presentation.response.PostRevisionDiffResponse;
+import study.blog.post.presentation.response.PostRevisionDiffResponse.DiffLine;
+import study.blog.post.presentation.response.PostRevisionResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostRevisionService {
+
+    private final PostRevisionRepository revisionRepository;
+    private final PostQueryRepository postQueryRepository;
+
+    /**
+     * 게시글의 리비전 목록을 최신순으로 조회한다. (작성자만 조회 가능)
+     */
+    public List<PostRevisionResponse> getRevisions(Long memberId, Long postId) {
+        validateAuthor(memberId, postId);
+        return revisionRepository.findRevisionSummaries(postId);
+    }
+
+    /**
+     * 특정 리비전의 본문을 복원한다. (작성자만 조회 가능)
+     */
+    public PostRevisionContentResponse getRevisionContent(Long memberId, Long postId, int revisionNumber) {
+        validateAuthor(memberId, postId);
+        return new PostRevisionContentResponse(postId, revisionNumber, reconstruct(postId, revisionNumber));
+    }
+
+    /**
+     * 두 리비전 본문의 줄 단위 차이를 계산한다. (작성자만 조회 가능)
+     *
+     * 트레이드 오프
+     * - 변경량이 너무 커서 diff 를 포기한 경우 이전 본문 전체 삭제 + 이후 본문 전체 추가로 응답한다.
+     */
+    public PostRevisionDiffResponse diff(Long memberId, Long postId, int fromRevision, int toRevision) {
+        validateAuthor(memberId, postId);
+
+        List<String> before = LineDiff.splitLines(reconstruct(postId, fromRevision));
+        List<String> after = LineDiff.splitLines(reconstruct(postId, toRevision));
+        List<Edit> edits = LineDiff.diff(before, after);
+        if (edits == null) edits = replaceAll(before, after);
+
+        List<DiffLine> lines = new ArrayList<>(edits.size());
+        for (Edit edit : edits) {
+            String text = edit.op() == Op.INSERT ? after.get(edit.newIndex()) : before.get(edit.oldIndex());
+            lines.add(new DiffLine(
+                    edit.op(),
+                    edit.oldIndex() < 0 ? null : edit.oldIndex() + 1,
+                    edit.newIndex() < 0 ? null : edit.newIndex() + 1,
+                    text
+            ));
+        }
+        return new PostRevisionDiffResponse(postId, fromRevision, toRevision, lines);
+    }
+
+    /**
+     * revisionNumber 의 기준 스냅샷부터 해당 리비전까지의 델타를 순서대로 적용하여 본문을 복원한다.
+     * (스냅샷 주기만큼만 델타를 적용하므로 리비전 수와 관계없이 복원 비용이 일정하다)
+     */
+    public String reconstruct(Long postId, int revisionNumber) {
+        PostRevision target = revisionRepository.findByPostIdAndRevisionNumber(postId, revisionNumber)
+                .orElseThrow(() -> new PostRevisionNotFoundException("리비전을 찾을 수 없습니다."));
+
+        List<PostRevision> chain = revisionRepository.findByPostIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(
+                postId, target.getSnapshotNumber(), revisionNumber);
+
+        String content = null;
+        for (PostRevision revision : chain) {
+            content = revision.getRevisionType() == RevisionType.SNAPSHOT
+                    ? RevisionDeltaCodec.decodeSnapshot(revision.getData())
+                    : RevisionDeltaCodec.applyDelta(content, revision.getData());
+        }
+        return content;
+    }
+
+    private void validateAuthor(Long memberId, Long postId) {
+        // 다른 사람의 게시글은 리비전 존재 여부도 드러내지 않도록 404 와 같은 메시지로 응답한다.
+        postQueryRepository.findById(postId)
+                .map(Post::getAuthorId)
+                .filter(authorId -> authorId.equals(memberId))
+                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
+    }
+
+    private static List<Edit> replaceAll(List<String> before, List<String> after) {
+        List<Edit> edits = new ArrayList<>(before.size() + after.size());
+        for (int i = 0; i < before.size(); i++) edits.add(new Edit(Op.DELETE, i, -1));
+        for (int i = 0; i < after.size(); i++) edits.add(new Edit(Op.INSERT, -1, i));
+        return edits;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import study.blog.global.web.ClientIpResolver;
 import study.blog.post.domain.event.PostViewedEvent;
 import study.blog.post.domain.policy.ViewCountDeDuplicationPolicy;
 
@@ -12,6 +13,7 @@ import study.blog.post.domain.policy.ViewCountDeDuplicationPolicy;
 public class PostViewTracker {
     private final ApplicationEventPublisher eventPublisher;
     private final ViewCountDeDuplicationPolicy policy;
+    private final ClientIpResolver clientIpResolver;
 
     /**
      * 게시글 조회 이벤트 발행
@@ -20,7 +22,7 @@ public class PostViewTracker {
      * 조회수 증가 정책(IP, 사용자 중복 체크 등)은 ViewCountDeDuplicationPolicy 에서 검사한다.
      */
     public void track(Long memberId, Long postId, HttpServletRequest request){
-        String ip = extractIp(request);
+        String ip = clientIpResolver.resolve(request);
         PostViewedEvent event = new PostViewedEvent(memberId, postId, ip);
 
         if(policy.allow(event)){
@@ -28,9 +30,4 @@ public class PostViewTracker {
         }
 
     }
-
-    private String extractIp(HttpServletRequest request){
-        String ip = request.getHeader("X-Forwarded-For");
-        return (ip == null || ip.isEmpty()) ? request.getRemoteAddr() : ip;
-    }
 }
@@ -0,0 +1,42 @@
+package study.blog.post.domain;
+
+import java.util.regex.Pattern;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 게시글 목록 / 미리보기 / 렌더링 결과에 쓰는 요약 추출.
+ *
+ * 처리 정책
+ * - 작성 시점(Post), 렌더링(MarkdownRenderer), 기존 글 보정(PostExcerptBackfill)이 모두 이 규칙 하나만 쓴다.
+ *   (경로마다 요약이 달라 목록과 상세의 요약이 어긋나지 않도록)
+ * - 코드 블록과 이미지는 제거하고, 링크는 텍스트만 남긴 뒤 HTML 태그와 마크다운 기호를 지워 LENGTH 자(code point)로 자른다.
+ */
+public final class PostExcerpt {
+
+    public static final int LENGTH = 150;
+
+    private static final Pattern CODE_BLOCK = Pattern.compile("```[\\s\\S]*?(```|$)");
+    private static final Pattern IMAGE = Pattern.compile("!\\[[^\\]]*]\\([^)]*\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern MARKDOWN_SYMBOLS = Pattern.compile("[#*`>_~|\\-]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private PostExcerpt() {
+    }
+
+    public static String extract(String markdown) {
+        if (!hasText(markdown)) return "";
+
+        String text = CODE_BLOCK.matcher(markdown).replaceAll(" ");
+        text = IMAGE.matcher(text).replaceAll(" ");
+        text = LINK.matcher(text).replaceAll("$1");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = MARKDOWN_SYMBOLS.matcher(text).replaceAll(" ");
+        text = WHITESPACE.matcher(text).replaceAll(" ").strip();
+
+        if (text.codePointCount(0, text.length()) <= LENGTH) return text;
+        return text.substring(0, text.offsetByCodePoints(0, LENGTH));
+    }
+}
@@ -0,0 +1,6 @@
+package study.blog.post.domain;
+
+public enum RevisionType {
+    SNAPSHOT,   // 본문 전체
+    DELTA       // 직전 리비전 대비 변경분
+}
@@ -4,11 +4,17 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import study.blog.global.common.entity.BaseEntity;
+import study.blog.post.domain.PostExcerpt;
 import study.blog.post.domain.PostStatus;
 import study.blog.post.domain.exception.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import static jakarta.persistence.CascadeType.ALL;
 import static jakarta.persistence.GenerationType.IDENTITY;
@@ -18,7 +24,11 @@ import static org.springframework.util.StringUtils.hasText;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
-@Table(name = "post", indexes = @Index(name = "idx_view_count", columnList = "view_count"))
+@Table(name = "post", indexes = {
+        @Index(name = "idx_view_count", columnList = "view_count"),
+        @Index(name = "idx_post_author_published", columnList = "author_id, published_at"),
+        @Index(name = "idx_post_thumbnail_url", columnList = "thumbnail_url")
+})
 public class Post extends BaseEntity {
 
     @Id @GeneratedValue(strategy = IDENTITY)
@@ -31,6 +41,13 @@ public class Post extends BaseEntity {
     @Lob
     private String content;
 
+    /**
+     * 본문 앞부분을 마크다운 문법을 제거한 평문으로 잘라 둔 요약.
+     * 링크 미리보기 / 목록 요약에서 @Lob 본문을 읽지 않도록 본문이 바뀔 때마다 함께 갱신한다.
+     */
+    @Column(length = PostExcerpt.LENGTH * 2)
+    private String excerpt;
+
     @Enumerated(EnumType.STRING)
     private PostStatus postStatus;
 
@@ -40,6 +57,17 @@ public class Post extends BaseEntity {
 
     private String thumbnailUrl;
 
+    /**
+     * 최초 발행 시각. 숨김 → 재발행 시에는 변경되지 않는다.
+     * (구독자 새 글 알림은 최초 발행 시 한 번만 발송한다)
+     */
+    private LocalDateTime publishedAt;
+
+    /**
+     * 임시저장 버전. 자동 저장 충돌 감지에 사용하며, 임시저장이 DB 에 반영될 때마다 증가한다.
+     */
+    private long draftVersion;
+
     @OneToMany(mappedBy = "post", cascade = ALL, orphanRemoval = true)
     private List<PostTag> tags = new ArrayList<>();
 
@@ -57,12 +85,14 @@ public class Post extends BaseEntity {
         post.authorId = authorId;
         post.title = title;
         post.content = content;
+        post.excerpt = PostExcerpt.extract(content);
         post.postStatus = postStatus;
         post.thumbnailUrl = thumbnailUrl;
         post.viewCount = 0L;
         post.likeCount = 0L;
         post.addTags(tagNames);
         post.addPostImages(imageUrls);
+        if (postStatus == PostStatus.PUBLISHED) post.markPublished();
         return post;
     }
 
@@ -73,6 +103,7 @@ public class Post extends BaseEntity {
         post.authorId = authorId;
         post.title = title;
         post.content = content;
+        post.excerpt = PostExcerpt.extract(content);
         post.postStatus = PostStatus.DRAFT;
         post.thumbnailUrl = thumbnailUrl;
         post.viewCount = 0L;
@@ -86,10 +117,29 @@ public class Post extends BaseEntity {
         validateTitle(title);
 
         this.title = title;
-        if (hasText(content)) this.content = content;
+        if (hasText(content)) {
+            this.content = content;
+            this.excerpt = PostExcerpt.extract(content);
+        }
         if (hasText(thumbnailUrl)) this.thumbnailUrl = thumbnailUrl;
         if (tagNames != null && !tagNames.isEmpty()) modifyTags(tagNames);
         this.postStatus = PostStatus.DRAFT;
+        this.draftVersion++;
+    }
+
+    /**
+     * Redis 버퍼에 쌓인 임시저장본을 반영한다. (버퍼의 version 을 그대로 이어받는다)
+     */
+    public void applyDraft(String title, String content, List<String> tagNames, String thumbnailUrl, long version) {
+        updateDraft(title, content, tagNames, thumbnailUrl);
+        this.draftVersion = version;
+    }
+
+    /**
+     * 조건부 update(PostCommandRepository.applyDraft)로 본문을 반영한 임시저장본의 태그만 반영한다.
+     */
+    public void modifyDraftTags(List<String> tagNames) {
+        if (tagNames != null && !tagNames.isEmpty()) modifyTags(tagNames);
     }
 
     public void modifyPost(String title, String content, PostStatus postStatus, List<String> tags, String thumbnailUrl){
@@ -101,9 +151,32 @@ public class Post extends BaseEntity {
 
         this.title = title;
         this.content = content;
+        this.excerpt = PostExcerpt.extract(content);
         this.postStatus = postStatus;
         if (hasText(thumbnailUrl)) this.thumbnailUrl = thumbnailUrl;
         modifyTags(tags);
+        if (postStatus == PostStatus.PUBLISHED) markPublished();
+    }
+
+    /**
+     * 대표 이미지가 아직 원본(from)이면 리사이즈 결과(to)로 교체한다.
+     */
+    public void replaceThumbnailUrl(String from, String to) {
+        if (Objects.equals(this.thumbnailUrl, from)) this.thumbnailUrl = to;
+    }
+
+    /**
+     * publishedAt 도입 전에 발행된 글은 publishedAt 이 비어 있을 수 있으므로 상태도 함께 본다.
+     * (숨김은 발행 상태에서만 가능하므로 HIDDEN 도 발행된 적이 있는 글이다)
+     */
+    public boolean hasBeenPublished() {
+        return this.publishedAt != null
+                || this.postStatus == PostStatus.PUBLISHED
+                || this.postStatus == PostStatus.HIDDEN;
+    }
+
+    private void markPublished() {
+        if (this.publishedAt == null) this.publishedAt = LocalDateTime.now();
     }
 
     private static void validatePostStatusForModify(PostStatus postStatus) {
@@ -115,9 +188,34 @@ public class Post extends BaseEntity {
         }
     }
 
-    private void modifyTags(List<String> tags){
-        this.tags.clear();
-        addTags(tags);
+    /**
+     * 요청 태그와 현재 태그의 차집합만 반영한다.
+     * clear() 후 전부 다시 추가하면 수정/자동저장마다 모든 PostTag 가 delete → insert 되므로,
+     * 빠진 태그만 orphanRemoval 로 삭제하고 새로 생긴 태그만 insert 한다.
+     */
+    private void modifyTags(List<String> tagNames){
+        Set<String> requested = new LinkedHashSet<>(tagNames);
+        Set<String> retained = new HashSet<>();
+        this.tags.removeIf(tag -> !requested.contains(tag.getName()) || !retained.add(tag.getName()));
+
+        requested.stream()
+                .filter(name -> !retained.contains(name))
+                .forEach(name -> tags.add(PostTag.createPostTag(name, this)));
+    }
+
+    /**
+     * 본문에서 사용 중인 이미지 목록을 태그와 같은 방식(차집합)으로 반영한다.
+     */
+    public void modifyPostImages(List<String> imageUrls) {
+        if (imageUrls == null) return;
+
+        Set<String> requested = new LinkedHashSet<>(imageUrls);
+        Set<String> retained = new HashSet<>();
+        this.postImages.removeIf(image -> !requested.contains(image.getImageUrl()) || !retained.add(image.getImageUrl()));
+
+        requested.stream()
+                .filter(url -> !retained.contains(url))
+                .forEach(url -> postImages.add(PostImage.createPostImage(url, this)));
     }
 
     private void addPostImages(List<String> imageUrls) {
@@ -148,7 +246,10 @@ public class Post extends BaseEntity {
         }
     }
 
-    private static void validateTitle(String title){
+    /**
+     * 제목 규칙(필수, 최대 100자). 임시저장을 버퍼에 기록하기 전에도 같은 규칙으로 검증한다.
+     */
+    public static void validateTitle(String title){
         if(!hasText(title)){
             throw new InValidPostTitleException("제목은 필수입니다.");
         }
@@ -217,6 +318,7 @@ public class Post extends BaseEntity {
     public void publish() {
         validatePostStatusToPublish(this.postStatus);
         this.postStatus = PostStatus.PUBLISHED;
+        markPublished();
     }
 
     public void hide() {
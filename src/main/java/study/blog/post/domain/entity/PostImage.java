@@ -5,20 +5,37 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
-@Table(name = "post_image", indexes = @Index(name = "idx_post_image_post_id", columnList = "post_id"))
+@Table(name = "post_image", indexes = {
+        @Index(name = "idx_post_image_post_id", columnList = "post_id"),
+        @Index(name = "idx_post_image_image_url", columnList = "image_url")
+})
 public class PostImage {
 
-    @Id @GeneratedValue(strategy = IDENTITY)
+    /**
+     * PostTag 와 같은 이유로 SEQUENCE 를 사용한다.
+     */
+    @Id
+    @GeneratedValue(strategy = SEQUENCE, generator = "post_image_seq_generator")
+    @SequenceGenerator(name = "post_image_seq_generator", sequenceName = "post_image_seq", allocationSize = 50)
     private Long id;
 
     private String imageUrl;
 
+    /**
+     * 리사이즈 결과 URL (320 / 768 / 1280). 리사이즈가 끝나기 전에는 null 이며, 클라이언트는 imageUrl 을 사용한다.
+     */
+    private String smallUrl;
+
+    private String mediumUrl;
+
+    private String largeUrl;
+
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
@@ -29,4 +46,14 @@ public class PostImage {
         postImage.post = post;
         return postImage;
     }
+
+    public boolean hasVariants() {
+        return mediumUrl != null;
+    }
+
+    public void recordVariants(String smallUrl, String mediumUrl, String largeUrl) {
+        this.smallUrl = smallUrl;
+        this.mediumUrl = mediumUrl;
+        this.largeUrl = largeUrl;
+    }
 }
@@ -0,0 +1,47 @@
+package study.blog.post.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import study.blog.global.common.entity.BaseEntity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 게시글 본문 렌더링 결과. (게시글당 1건, 본문이 바뀔 때마다 갱신)
+ *
+ * contentHash 는 렌더링 원본 마크다운의 SHA-256 이며, 원본과 다르면 오래된 결과로 보고 ETag 로도 사용한다.
+ * fencingToken 은 마지막으로 반영한 렌더링 락의 token 이며, 더 작은 token 의 갱신은 반영하지 않는다.
+ * 저장은 token 비교를 거치는 PostRenderingRepository.saveIfNewer 로만 한다. (save 는 merge 라 비교 없이 덮어쓴다)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "post_rendering")
+public class PostRendering extends BaseEntity {
+
+    @Id
+    private Long postId;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Lob
+    private String html;
+
+    /**
+     * 목차 JSON ([{level, id, text}, ...])
+     */
+    @Lob
+    private String toc;
+
+    @Column(length = 300)
+    private String excerpt;
+
+    @Column(nullable = false)
+    private long fencingToken;
+
+    public boolean isRenderedFrom(String contentHash) {
+        return this.contentHash.equals(contentHash);
+    }
+}
@@ -0,0 +1,72 @@
+package study.blog.post.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import study.blog.global.common.entity.BaseEntity;
+import study.blog.post.domain.RevisionType;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 게시글 본문 리비전.
+ *
+ * SNAPSHOT 은 본문 전체를, DELTA 는 직전 리비전 대비 줄 단위 변경분을 압축해서 저장한다.
+ * 임의 리비전은 snapshotNumber 의 스냅샷부터 해당 리비전까지의 델타를 순서대로 적용하여 복원한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "post_revision", uniqueConstraints = @UniqueConstraint(
+        name = "uk_post_revision_post_id_revision_number", columnNames = {"post_id", "revision_number"}))
+public class PostRevision extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "revision_number", nullable = false)
+    private int revisionNumber;
+
+    @Enumerated(EnumType.STRING)
+    private RevisionType revisionType;
+
+    /**
+     * 복원을 시작할 스냅샷 리비전 번호. (SNAPSHOT 이면 자기 자신)
+     */
+    private int snapshotNumber;
+
+    /**
+     * 복원된 본문 길이. 목록 조회 시 본문을 복원하지 않고 보여주기 위해 저장한다.
+     */
+    private int contentLength;
+
+    @Lob
+    @Column(nullable = false, length = 16_777_215)
+    private byte[] data;
+
+    public static PostRevision snapshot(Long postId, int revisionNumber, int contentLength, byte[] data) {
+        PostRevision revision = new PostRevision();
+        revision.postId = postId;
+        revision.revisionNumber = revisionNumber;
+        revision.revisionType = RevisionType.SNAPSHOT;
+        revision.snapshotNumber = revisionNumber;
+        revision.contentLength = contentLength;
+        revision.data = data;
+        return revision;
+    }
+
+    public static PostRevision delta(Long postId, int revisionNumber, int snapshotNumber, int contentLength, byte[] data) {
+        PostRevision revision = new PostRevision();
+        revision.postId = postId;
+        revision.revisionNumber = revisionNumber;
+        revision.revisionType = RevisionType.DELTA;
+        revision.snapshotNumber = snapshotNumber;
+        revision.contentLength = contentLength;
+        revision.data = data;
+        return revision;
+    }
+}
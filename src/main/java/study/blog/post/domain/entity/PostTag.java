@@ -5,7 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
@@ -13,7 +13,13 @@ import static lombok.AccessLevel.PROTECTED;
 @NoArgsConstructor(access = PROTECTED)
 public class PostTag {
 
-    @Id @GeneratedValue(strategy = IDENTITY)
+    /**
+     * 게시글 저장/수정 시 cascade 로 여러 건이 함께 insert 되므로 JDBC batch 가 가능한 SEQUENCE 를 사용한다.
+     * (기존 AUTO_INCREMENT id 와 겹치지 않도록 SequenceTableInitializer 가 max(id) 기준으로 시작 값을 맞춘다)
+     */
+    @Id
+    @GeneratedValue(strategy = SEQUENCE, generator = "post_tag_seq_generator")
+    @SequenceGenerator(name = "post_tag_seq_generator", sequenceName = "post_tag_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -0,0 +1,8 @@
+package study.blog.post.domain.event;
+
+public record PostContentModifiedEvent(
+        Long postId,
+        String previousContent,
+        String content
+) {
+}
@@ -0,0 +1,10 @@
+package study.blog.post.domain.event;
+
+import java.time.LocalDateTime;
+
+public record PostPublishedEvent(
+        Long postId,
+        Long authorId,
+        LocalDateTime publishedAt
+) {
+}
@@ -0,0 +1,9 @@
+package study.blog.post.domain.exception;
+
+import study.blog.global.common.exception.DomainException;
+
+public class DraftBufferUnavailableException extends DomainException {
+    public DraftBufferUnavailableException(String message) {
+        super(message);
+    }
+}
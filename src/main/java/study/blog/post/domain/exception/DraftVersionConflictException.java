@@ -0,0 +1,9 @@
+package study.blog.post.domain.exception;
+
+import study.blog.global.common.exception.DomainException;
+
+public class DraftVersionConflictException extends DomainException {
+    public DraftVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package study.blog.post.domain.exception;
+
+import study.blog.global.common.exception.DomainException;
+
+public class PostRevisionNotFoundException extends DomainException {
+    public PostRevisionNotFoundException(String message) {
+        super(message);
+    }
+}
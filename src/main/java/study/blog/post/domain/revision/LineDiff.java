@@ -0,0 +1,139 @@
+package study.blog.post.domain.revision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 줄 단위 Myers diff.
+ *
+ * 처리 정책
+ * - 공통 접두/접미 줄을 먼저 잘라내고 남은 구간에만 O((N+M)D) 탐색을 수행한다.
+ *   (게시글 수정은 대부분 일부 문단만 바뀌므로 실제 탐색 구간이 작다)
+ * - 역추적용으로 d 단계마다 [-d-1, d+1] 범위의 V 배열만 보관한다. (메모리 O(D^2))
+ *
+ * 트레이드 오프
+ * - 편집 거리가 MAX_EDIT_DISTANCE 를 넘으면 계산을 포기하고 null 을 반환한다.
+ *   호출자는 전체 교체(스냅샷)로 처리한다.
+ */
+public final class LineDiff {
+
+    private static final int MAX_EDIT_DISTANCE = 2_000;
+
+    private LineDiff() {}
+
+    public enum Op {
+        EQUAL, DELETE, INSERT
+    }
+
+    /**
+     * oldIndex / newIndex 는 각각 이전/이후 줄 목록의 위치이며, 해당하지 않으면 -1 이다.
+     */
+    public record Edit(Op op, int oldIndex, int newIndex) {
+    }
+
+    /**
+     * 줄바꿈 문자를 각 줄 끝에 포함한 채로 나눈다. (이어 붙이면 원문과 정확히 같다)
+     */
+    public static List<String> splitLines(String text) {
+        List<String> lines = new ArrayList<>();
+        if (text == null || text.isEmpty()) return lines;
+
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) lines.add(text.substring(start));
+        return lines;
+    }
+
+    public static List<Edit> diff(List<String> before, List<String> after) {
+        int n = before.size();
+        int m = after.size();
+
+        int prefix = 0;
+        while (prefix < n && prefix < m && before.get(prefix).equals(after.get(prefix))) prefix++;
+        int suffix = 0;
+        while (suffix < n - prefix && suffix < m - prefix
+                && before.get(n - 1 - suffix).equals(after.get(m - 1 - suffix))) suffix++;
+
+        List<Edit> middle = myers(before.subList(prefix, n - suffix), after.subList(prefix, m - suffix), prefix);
+        if (middle == null) return null;
+
+        List<Edit> edits = new ArrayList<>(prefix + middle.size() + suffix);
+        for (int i = 0; i < prefix; i++) edits.add(new Edit(Op.EQUAL, i, i));
+        edits.addAll(middle);
+        for (int i = suffix; i > 0; i--) edits.add(new Edit(Op.EQUAL, n - i, m - i));
+        return edits;
+    }
+
+    private static List<Edit> myers(List<String> a, List<String> b, int offset) {
+        int n = a.size();
+        int m = b.size();
+        int max = n + m;
+        if (max == 0) return List.of();
+
+        int center = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            if (d > MAX_EDIT_DISTANCE) return null;
+            trace.add(Arrays.copyOfRange(v, center - d - 1, center + d + 2));
+
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[center + k - 1] < v[center + k + 1]))
+                        ? v[center + k + 1]
+                        : v[center + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[center + k] = x;
+
+                if (x >= n && y >= m) {
+                    return backtrack(trace, n, m, offset);
+                }
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    private static List<Edit> backtrack(List<int[]> trace, int n, int m, int offset) {
+        List<Edit> edits = new ArrayList<>();
+        int x = n;
+        int y = m;
+
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            // trace[d] 는 k 범위 [-d-1, d+1] 을 0 부터 저장한다.
+            int prevK = (k == -d || (k != d && v[k - 1 + d + 1] < v[k + 1 + d + 1])) ? k + 1 : k - 1;
+            int prevX = v[prevK + d + 1];
+            int prevY = prevX - prevK;
+
+            while (x > prevX && y > prevY) {
+                edits.add(new Edit(Op.EQUAL, offset + x - 1, offset + y - 1));
+                x--;
+                y--;
+            }
+            if (d > 0) {
+                if (x == prevX) {
+                    edits.add(new Edit(Op.INSERT, -1, offset + y - 1));
+                } else {
+                    edits.add(new Edit(Op.DELETE, offset + x - 1, -1));
+                }
+            }
+            x = prevX;
+            y = prevY;
+        }
+
+        Collections.reverse(edits);
+        return edits;
+    }
+}
@@ -0,0 +1,145 @@
+package study.blog.post.domain.revision;
+
+import study.blog.post.domain.revision.LineDiff.Edit;
+import study.blog.post.domain.revision.LineDiff.Op;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 리비전 본문 인코딩.
+ *
+ * 처리 정책
+ * - 스냅샷: 본문 전체(UTF-8)를 deflate 압축한다.
+ * - 델타: 이전 리비전 본문 대비 줄 단위 편집 스크립트를 deflate 압축한다.
+ *   COPY(시작 줄, 줄 수) = 이전 본문에서 그대로 복사, INSERT(줄 목록) = 새로 추가된 줄
+ *   (삭제된 줄은 복사하지 않는 것으로 표현되므로 별도 명령이 없다)
+ */
+public final class RevisionDeltaCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte COPY = 'C';
+    private static final byte INSERT = 'I';
+
+    private RevisionDeltaCodec() {}
+
+    public static byte[] encodeSnapshot(String content) {
+        return deflate(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decodeSnapshot(byte[] data) {
+        return new String(inflate(data), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 편집 거리가 너무 커서 diff 를 포기한 경우 null 을 반환한다. (호출자가 스냅샷으로 저장)
+     */
+    public static byte[] encodeDelta(String base, String target) {
+        List<String> baseLines = LineDiff.splitLines(base);
+        List<String> targetLines = LineDiff.splitLines(target);
+        List<Edit> edits = LineDiff.diff(baseLines, targetLines);
+        if (edits == null) return null;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeByte(FORMAT_VERSION);
+
+            int i = 0;
+            while (i < edits.size()) {
+                Edit edit = edits.get(i);
+                if (edit.op() == Op.DELETE) {
+                    i++;
+                } else if (edit.op() == Op.EQUAL) {
+                    int start = edit.oldIndex();
+                    int count = 0;
+                    while (i < edits.size() && edits.get(i).op() == Op.EQUAL && edits.get(i).oldIndex() == start + count) {
+                        count++;
+                        i++;
+                    }
+                    out.writeByte(COPY);
+                    out.writeInt(start);
+                    out.writeInt(count);
+                } else {
+                    int from = i;
+                    while (i < edits.size() && edits.get(i).op() == Op.INSERT) i++;
+                    out.writeByte(INSERT);
+                    out.writeInt(i - from);
+                    for (int j = from; j < i; j++) {
+                        writeString(out, targetLines.get(edits.get(j).newIndex()));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static String applyDelta(String base, byte[] delta) {
+        List<String> baseLines = LineDiff.splitLines(base);
+        StringBuilder result = new StringBuilder(base.length());
+
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(delta)))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 델타 형식입니다. version=" + version);
+            }
+
+            int op;
+            while ((op = in.read()) != -1) {
+                if (op == COPY) {
+                    int start = in.readInt();
+                    int count = in.readInt();
+                    for (int i = start; i < start + count; i++) result.append(baseLines.get(i));
+                } else if (op == INSERT) {
+                    int count = in.readInt();
+                    for (int i = 0; i < count; i++) result.append(readString(in));
+                } else {
+                    throw new IllegalStateException("알 수 없는 델타 명령입니다. op=" + op);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    // writeUTF 는 64KB 제한이 있으므로 길이 + UTF-8 바이트로 기록한다. (긴 한 줄 이미지 data URI 등)
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] data) {
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package study.blog.post.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import study.blog.global.web.version.ContentVersionTracker;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.domain.event.ImageVariantsReadyEvent;
+import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class ImageVariantsReadyEventListener {
+
+    /**
+     * 목록 카드 / 상세 상단 모두 768px 이면 충분하다.
+     */
+    static final ImageVariant THUMBNAIL_VARIANT = ImageVariant.MEDIUM;
+
+    private final PostCommandRepository postCommandRepository;
+    private final ContentVersionTracker contentVersionTracker;
+
+    /**
+     * 리사이즈가 끝난 이미지의 결과 URL 을 게시글에 기록한다.
+     *
+     * 처리 정책
+     * - 원본을 참조하는 PostImage 에 규격별 URL 을 기록한다.
+     * - 원본을 대표 이미지로 쓰는 게시글은 thumbnailUrl 을 THUMBNAIL_VARIANT 결과로 교체한다.
+     *   (리사이즈가 끝난 뒤 저장되는 게시글은 PostCommandService 가 저장 시점에 교체한다)
+     * - AFTER_COMMIT + REQUIRES_NEW 로 이미지 상태 변경 트랜잭션과 분리한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ImageVariantsReadyEvent event) {
+        Map<ImageVariant, String> variantUrls = event.variantUrls();
+        postCommandRepository.recordImageVariants(
+                event.originalUrl(),
+                variantUrls.get(ImageVariant.SMALL),
+                variantUrls.get(ImageVariant.MEDIUM),
+                variantUrls.get(ImageVariant.LARGE)
+        );
+
+        List<Long> postIds = postCommandRepository.findPostIdsByThumbnailUrl(event.originalUrl());
+        if (postIds.isEmpty()) return;
+
+        postCommandRepository.replaceThumbnailUrl(event.originalUrl(), variantUrls.get(THUMBNAIL_VARIANT));
+        postIds.forEach(contentVersionTracker::trackPost);
+    }
+}
@@ -0,0 +1,34 @@
+package study.blog.post.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import study.blog.post.application.PostRenderer;
+import study.blog.post.domain.event.PostContentModifiedEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRenderingEventListener {
+
+    private final PostRenderer renderer;
+
+    /**
+     * 게시글 작성/수정 트랜잭션 커밋 이후 본문을 HTML / 목차로 렌더링해 저장한다.
+     *
+     * @Async: 마크다운 파싱과 정제가 작성/수정 API 응답 시간에 영향을 주지 않도록 별도 풀에서 처리한다.
+     *         (렌더링 실패 시 조회 API 가 요청 시점에 렌더링한다)
+     */
+    @Async(value = "postRenderingExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostContentModifiedEvent event) {
+        try {
+            renderer.render(event.postId());
+        } catch (Exception e) {
+            log.error("게시글 렌더링 실패 - postId={}", event.postId(), e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package study.blog.post.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import study.blog.global.lock.LockAcquisitionException;
+import study.blog.post.application.PostRevisionRecorder;
+import study.blog.post.domain.event.PostContentModifiedEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRevisionEventListener {
+
+    static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 500L;
+
+    private final PostRevisionRecorder revisionRecorder;
+
+    /**
+     * 게시글 수정 트랜잭션 커밋 이후 리비전을 저장한다.
+     *
+     * @Async: diff 계산과 압축이 수정 API 응답 시간에 영향을 주지 않도록 별도 풀에서 처리한다.
+     *         (리비전 저장 실패가 게시글 수정을 롤백시키지 않는다)
+     *
+     * 예외 처리
+     * - 락 획득 실패나 리비전 번호 충돌(다른 인스턴스와 겹친 저장)은 MAX_ATTEMPTS 번까지 간격을 늘려 재시도한다.
+     *   (Recorder 가 현재 DB 본문을 기록하므로 재시도가 늦게 실행되어도 오래된 본문을 남기지 않는다)
+     * - 끝내 실패하면 로그만 남긴다. 이 수정은 다음 수정의 리비전에 함께 반영된다.
+     */
+    @Async(value = "postRevisionExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostContentModifiedEvent event) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                revisionRecorder.record(event.postId(), event.previousContent());
+                return;
+            } catch (LockAcquisitionException | DataIntegrityViolationException e) {
+                if (attempt == MAX_ATTEMPTS || !backoff(attempt)) {
+                    log.error("게시글 리비전 저장 실패 - postId={}, attempts={}", event.postId(), attempt, e);
+                    return;
+                }
+                log.warn("게시글 리비전 저장 재시도 - postId={}, attempt={}", event.postId(), attempt);
+            } catch (Exception e) {
+                log.error("게시글 리비전 저장 실패 - postId={}", event.postId(), e);
+                return;
+            }
+        }
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package study.blog.post.infrastructure.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import study.blog.global.migration.DataMigration;
+import study.blog.global.migration.IdRange;
+import study.blog.post.domain.PostExcerpt;
+
+import java.util.List;
+
+/**
+ * excerpt 도입 전에 작성된 게시글의 excerpt 를 채운다.
+ *
+ * 처리 정책
+ * - excerpt 가 비어 있는 글의 본문을 읽어 작성 시점과 같은 규칙(PostExcerpt)으로 요약을 만든다.
+ * - 본문(@Lob)을 읽어야 하므로 구간을 작게 나누고, 구간마다 batch update 로 반영한다.
+ * - 비어 있는 행만 갱신하므로(excerpt is null) 보정 중에 수정된 글의 새 요약을 덮어쓰지 않고, 다시 실행해도 결과가 같다.
+ *
+ * 트레이드 오프
+ * - 보정이 끝나기 전 목록에는 기존 글의 요약이 빈 문자열로 보인다. (목록 조회는 본문을 읽지 않는다)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostExcerptBackfill implements DataMigration {
+
+    private static final long CHUNK_SIZE = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String id() {
+        return "V040_post_excerpt";
+    }
+
+    @Override
+    public void migrate() {
+        IdRange.forEachChunk(jdbcTemplate, "post", CHUNK_SIZE, (from, to) -> {
+            List<Object[]> excerpts = jdbcTemplate.query(
+                    "select id, content from post where id between ? and ? and excerpt is null",
+                    (rs, rowNum) -> new Object[]{PostExcerpt.extract(rs.getString("content")), rs.getLong("id")},
+                    from, to);
+            if (excerpts.isEmpty()) return;
+
+            jdbcTemplate.batchUpdate("update post set excerpt = ? where id = ? and excerpt is null", excerpts);
+        });
+    }
+}
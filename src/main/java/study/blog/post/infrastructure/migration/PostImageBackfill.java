@@ -0,0 +1,38 @@
+package study.blog.post.infrastructure.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import study.blog.global.migration.DataMigration;
+import study.blog.global.migration.IdRange;
+import study.blog.post.application.PostImageReattacher;
+
+/**
+ * PostImage 도입 전에 저장된 게시글의 본문 이미지를 post_image 에 채운다.
+ *
+ * 처리 정책
+ * - 모든 게시글(임시저장, 숨김, 삭제 포함)을 id 구간마다 한 트랜잭션으로 PostImageAttacher 에 넘긴다.
+ * - 기존 PostImage 와의 차집합만 반영하므로 다시 실행해도 결과가 같다.
+ * - 고아 이미지 정리(OrphanImageCollector)는 이 보정이 끝나기 전에는 실행하지 않는다.
+ *   (post_image 가 비어 있는 기존 글의 이미지를 사용하지 않는 이미지로 보고 지우지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostImageBackfill implements DataMigration {
+
+    public static final String ID = "V047_post_images";
+    private static final long CHUNK_SIZE = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostImageReattacher postImageReattacher;
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public void migrate() {
+        IdRange.forEachChunk(jdbcTemplate, "post", CHUNK_SIZE, postImageReattacher::reattach);
+    }
+}
@@ -0,0 +1,41 @@
+package study.blog.post.infrastructure.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import study.blog.global.migration.DataMigration;
+import study.blog.global.migration.IdRange;
+
+/**
+ * publishedAt 도입 전에 발행된 게시글의 published_at 을 채운다.
+ *
+ * 처리 정책
+ * - 발행된 적이 있는 글(PUBLISHED, HIDDEN) 중 published_at 이 비어 있는 글에 created_at 을 넣는다.
+ *   (정확한 발행 시각은 남아 있지 않으므로 작성 시각으로 대신한다)
+ * - 비어 있지 않은 값은 덮어쓰지 않으므로 다시 실행해도 결과가 같다.
+ *
+ * 트레이드 오프
+ * - 임시저장 후 나중에 발행한 글은 실제보다 이른 시각이 들어간다.
+ *   타임라인 정렬이 조금 앞당겨지는 정도이며, 발행 알림 중복(PostPublishTracker)을 막는 것이 목적이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostPublishedAtBackfill implements DataMigration {
+
+    private static final long CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String id() {
+        return "V030_post_published_at";
+    }
+
+    @Override
+    public void migrate() {
+        IdRange.forEachChunk(jdbcTemplate, "post", CHUNK_SIZE, (from, to) -> jdbcTemplate.update(
+                "update post set published_at = created_at "
+                        + "where id between ? and ? and published_at is null and post_status in ('PUBLISHED', 'HIDDEN')",
+                from, to));
+    }
+}
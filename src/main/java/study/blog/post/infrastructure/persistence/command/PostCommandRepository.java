@@ -3,5 +3,9 @@ package study.blog.post.infrastructure.persistence.command;
 import org.springframework.data.jpa.repository.JpaRepository;
 import study.blog.post.domain.entity.Post;
 
+import java.util.List;
+
 public interface PostCommandRepository extends JpaRepository<Post, Long>, PostCommandRepositoryCustom {
+
+    List<Post> findByIdBetween(Long fromId, Long toId);
 }
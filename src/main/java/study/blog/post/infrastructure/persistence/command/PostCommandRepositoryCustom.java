@@ -1,6 +1,12 @@
 package study.blog.post.infrastructure.persistence.command;
 
+import java.util.List;
+
 public interface PostCommandRepositoryCustom {
     long incrementViewCount(Long postId, long viewCount);
     long incrementLikeCount(Long postId, int delta);
+    long recordImageVariants(String imageUrl, String smallUrl, String mediumUrl, String largeUrl);
+    List<Long> findPostIdsByThumbnailUrl(String thumbnailUrl);
+    long replaceThumbnailUrl(String from, String to);
+    long applyDraft(Long postId, String title, String content, String excerpt, String thumbnailUrl, long version);
 }
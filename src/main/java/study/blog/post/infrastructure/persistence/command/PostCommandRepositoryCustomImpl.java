@@ -1,9 +1,16 @@
 package study.blog.post.infrastructure.persistence.command;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import lombok.RequiredArgsConstructor;
+import study.blog.post.domain.PostStatus;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.util.StringUtils.hasText;
 import static study.blog.post.domain.entity.QPost.post;
+import static study.blog.post.domain.entity.QPostImage.postImage;
 
 @RequiredArgsConstructor
 public class PostCommandRepositoryCustomImpl implements PostCommandRepositoryCustom{
@@ -31,4 +38,59 @@ public class PostCommandRepositoryCustomImpl implements PostCommandRepositoryCus
                 .where(post.id.eq(postId))
                 .execute();
     }
+
+    @Override
+    public long recordImageVariants(String imageUrl, String smallUrl, String mediumUrl, String largeUrl) {
+        // 같은 이미지를 여러 게시글이 참조할 수 있으므로 URL 기준으로 한 번에 갱신
+        return queryFactory
+                .update(postImage)
+                .set(postImage.smallUrl, smallUrl)
+                .set(postImage.mediumUrl, mediumUrl)
+                .set(postImage.largeUrl, largeUrl)
+                .where(postImage.imageUrl.eq(imageUrl))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findPostIdsByThumbnailUrl(String thumbnailUrl) {
+        return queryFactory
+                .select(post.id)
+                .from(post)
+                .where(post.thumbnailUrl.eq(thumbnailUrl))
+                .fetch();
+    }
+
+    @Override
+    public long replaceThumbnailUrl(String from, String to) {
+        return queryFactory
+                .update(post)
+                .set(post.thumbnailUrl, to)
+                .where(post.thumbnailUrl.eq(from))
+                .execute();
+    }
+
+    @Override
+    public long applyDraft(Long postId, String title, String content, String excerpt, String thumbnailUrl, long version) {
+        // 임시저장본의 컬럼만 조건부로 갱신한다.
+        // (엔티티 dirty checking 은 행 전체를 덮어써 그 사이 원자적으로 증가한 조회수/좋아요수를 되돌리고,
+        //  이미 발행되었거나 더 최신 version 이 반영된 게시글도 구분하지 못하기 때문)
+        JPAUpdateClause update = queryFactory
+                .update(post)
+                .set(post.title, title)
+                .set(post.draftVersion, version)
+                .set(post.editedAt, LocalDateTime.now());
+        if (hasText(content)) {
+            update.set(post.content, content)
+                    .set(post.excerpt, excerpt);
+        }
+        if (hasText(thumbnailUrl)) update.set(post.thumbnailUrl, thumbnailUrl);
+
+        return update
+                .where(
+                        post.id.eq(postId),
+                        post.postStatus.eq(PostStatus.DRAFT),
+                        post.draftVersion.lt(version)
+                )
+                .execute();
+    }
 }
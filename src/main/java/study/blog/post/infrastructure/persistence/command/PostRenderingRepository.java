@@ -0,0 +1,39 @@
+package study.blog.post.infrastructure.persistence.command;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import study.blog.post.domain.entity.PostRendering;
+
+public interface PostRenderingRepository extends JpaRepository<PostRendering, Long> {
+
+    /**
+     * 행이 없으면 insert 하고, 있으면 저장된 token 보다 큰 fencing token 일 때만 갱신한다.
+     * (락이 만료된 뒤 늦게 끝난 이전 보유자의 결과가 최신 결과를 덮어쓰지 않도록 DB 에서 비교한다)
+     *
+     * 처리 정책
+     * - postId 를 직접 지정하는 엔티티라 save 는 merge(select 후 insert / 전체 update)가 되어 token 비교를 거치지 않는다.
+     *   최초 저장도 이 쿼리 하나로 처리해, 동시에 최초 저장하는 두 작업 중 token 이 큰 쪽만 남게 한다.
+     * - 갱신 조건을 모든 컬럼에 걸고 fencing_token 을 마지막에 대입한다. (MySQL 은 앞에서부터 대입하므로 앞의 조건은 이전 token 과 비교한다)
+     * - native 쿼리라 auditing 이 동작하지 않으므로 created_at / edited_at 을 직접 채운다.
+     */
+    @Modifying
+    @Query(value = """
+            insert into post_rendering (post_id, content_hash, html, toc, excerpt, fencing_token, created_at, edited_at)
+            values (:postId, :contentHash, :html, :toc, :excerpt, :fencingToken, now(6), now(6))
+            on duplicate key update
+                content_hash = if(fencing_token < values(fencing_token), values(content_hash), content_hash),
+                html = if(fencing_token < values(fencing_token), values(html), html),
+                toc = if(fencing_token < values(fencing_token), values(toc), toc),
+                excerpt = if(fencing_token < values(fencing_token), values(excerpt), excerpt),
+                edited_at = if(fencing_token < values(fencing_token), values(edited_at), edited_at),
+                fencing_token = greatest(fencing_token, values(fencing_token))
+            """, nativeQuery = true)
+    void saveIfNewer(@Param("postId") Long postId,
+                     @Param("contentHash") String contentHash,
+                     @Param("html") String html,
+                     @Param("toc") String toc,
+                     @Param("excerpt") String excerpt,
+                     @Param("fencingToken") long fencingToken);
+}
@@ -0,0 +1,24 @@
+package study.blog.post.infrastructure.persistence.command;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import study.blog.post.domain.entity.PostRevision;
+import study.blog.post.presentation.response.PostRevisionResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PostRevisionRepository extends JpaRepository<PostRevision, Long> {
+
+    Optional<PostRevision> findTopByPostIdOrderByRevisionNumberDesc(Long postId);
+
+    Optional<PostRevision> findByPostIdAndRevisionNumber(Long postId, int revisionNumber);
+
+    List<PostRevision> findByPostIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(Long postId, int from, int to);
+
+    // 목록에는 압축 본문(data)이 필요 없으므로 메타 정보만 조회한다.
+    @Query("select new study.blog.post.presentation.response.PostRevisionResponse(r.revisionNumber, r.revisionType, r.contentLength, r.createdAt) " +
+            "from PostRevision r where r.postId = :postId order by r.revisionNumber desc")
+    List<PostRevisionResponse> findRevisionSummaries(@Param("postId") Long postId);
+}
@@ -0,0 +1,27 @@
+package study.blog.post.infrastructure.persistence.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class PostImageReader {
+    private final PostQueryRepository queryRepository;
+
+    /**
+     * 이미지 URL 목록 중 게시글 본문 이미지 또는 대표 이미지로 사용 중인 URL 을 조회한다.
+     *
+     * 삭제(DELETED) 상태의 게시글도 행이 남아 있으므로 사용 중으로 본다.
+     *
+     * @param imageUrls 이미지 URL 목록
+     * @return 사용 중인 URL 집합
+     */
+    public Set<String> findReferencedUrls(Collection<String> imageUrls) {
+        if (imageUrls.isEmpty()) return Set.of();
+        return new HashSet<>(queryRepository.findReferencedImageUrls(imageUrls));
+    }
+}
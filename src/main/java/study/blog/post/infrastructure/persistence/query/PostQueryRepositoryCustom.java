@@ -1,22 +1,36 @@
 package study.blog.post.infrastructure.persistence.query;
 
 import org.springframework.data.domain.Pageable;
-import study.blog.post.domain.entity.Post;
 import study.blog.post.presentation.requset.PostSearchCondition;
+import study.blog.post.presentation.response.PostPreviewResponse;
+import study.blog.post.presentation.response.PublishedPostResponse;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface PostQueryRepositoryCustom {
 
-    List<Post> searchPostsByCondition(PostSearchCondition condition, Pageable pageable);
+    List<PostSummaryRow> searchPostsByCondition(PostSearchCondition condition, Pageable pageable);
 
     long countPostByCondition(PostSearchCondition condition);
 
-    List<Post> searchMemberPosts(Long memberId, PostSearchCondition condition, Pageable pageable);
+    List<PostSummaryRow> searchMemberPosts(Long memberId, PostSearchCondition condition, Pageable pageable);
 
     long countMemberPosts(Long memberId, PostSearchCondition condition);
 
-    List<Post> findMainPosts(Pageable pageable);
+    List<PostSummaryRow> findMainPosts(Pageable pageable);
 
     long countMainPosts();
+
+    List<PostSummaryRow> findPublishedPostsByIds(Collection<Long> postIds);
+
+    Map<Long, List<String>> findTagNames(Collection<Long> postIds);
+
+    List<PublishedPostResponse> findRecentPublishedPosts(Collection<Long> authorIds, int limit);
+
+    Optional<PostPreviewResponse> findPostPreview(Long postId);
+
+    List<String> findReferencedImageUrls(Collection<String> imageUrls);
 }
@@ -11,17 +11,26 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import study.blog.post.domain.PostSortType;
 import study.blog.post.domain.PostStatus;
-import study.blog.post.domain.entity.Post;
 import study.blog.post.domain.entity.QPostTag;
 import study.blog.post.presentation.requset.PostSearchCondition;
+import study.blog.post.presentation.response.PostPreviewResponse;
+import study.blog.post.presentation.response.PublishedPostResponse;
+import study.blog.post.presentation.response.QPostPreviewResponse;
+import study.blog.post.presentation.response.QPublishedPostResponse;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
 import static org.springframework.util.StringUtils.hasText;
 import static study.blog.post.domain.entity.QPost.post;
+import static study.blog.post.domain.entity.QPostImage.postImage;
 import static study.blog.post.domain.entity.QPostTag.postTag;
 
 @RequiredArgsConstructor
@@ -29,11 +38,10 @@ public class PostQueryRepositoryCustomImpl implements PostQueryRepositoryCustom
 
     private final JPAQueryFactory queryFactory;
 
-
     @Override
-    public List<Post> findMainPosts(Pageable pageable) {
+    public List<PostSummaryRow> findMainPosts(Pageable pageable) {
         return queryFactory
-                .select(post)
+                .select(summaryRow())
                 .from(post)
                 .where(postStatusEq(PostStatus.PUBLISHED))
                 .offset(pageable.getOffset())
@@ -55,10 +63,10 @@ public class PostQueryRepositoryCustomImpl implements PostQueryRepositoryCustom
     }
 
     @Override
-    public List<Post> searchMemberPosts(Long memberId, PostSearchCondition condition, Pageable pageable) {
+    public List<PostSummaryRow> searchMemberPosts(Long memberId, PostSearchCondition condition, Pageable pageable) {
         // 마이페이지/내 글 목록: "작성자" + "상태" 조건으로만 단순 조회 (페이징/정렬 포함)
         return queryFactory
-                .select(post)
+                .select(summaryRow())
                 .from(post)
                 .where(
                         keywordLike(condition.keyword()),
@@ -89,10 +97,10 @@ public class PostQueryRepositoryCustomImpl implements PostQueryRepositoryCustom
     }
 
     @Override
-    public List<Post> searchPostsByCondition(PostSearchCondition condition, Pageable pageable) {
+    public List<PostSummaryRow> searchPostsByCondition(PostSearchCondition condition, Pageable pageable) {
         // 검색 목록: 키워드/태그/상태/기간 등 조합 조건을 지원 (페이징/정렬 포함)
         return queryFactory
-                .select(post)
+                .select(summaryRow())
                 .from(post)
                 .where(
                         keywordLike(condition.keyword()),
@@ -126,6 +134,76 @@ public class PostQueryRepositoryCustomImpl implements PostQueryRepositoryCustom
         );
     }
 
+    @Override
+    public List<PostSummaryRow> findPublishedPostsByIds(Collection<Long> postIds) {
+        // 타임라인 등 id 목록으로 게시글을 채울 때 사용한다. (태그는 findTagNames 로 한 번에 조회)
+        if (postIds.isEmpty()) return List.of();
+
+        return queryFactory
+                .select(summaryRow())
+                .from(post)
+                .where(
+                        post.id.in(postIds),
+                        postStatusEq(PostStatus.PUBLISHED)
+                )
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, List<String>> findTagNames(Collection<Long> postIds) {
+        // 목록의 게시글마다 태그를 조회하는 N+1 을 막기 위해 게시글 id 목록으로 한 번에 조회한다.
+        if (postIds.isEmpty()) return Map.of();
+
+        Map<Long, List<String>> tagNames = new HashMap<>();
+        queryFactory
+                .select(postTag.post.id, postTag.name)
+                .from(postTag)
+                .where(postTag.post.id.in(postIds))
+                .orderBy(postTag.id.asc())
+                .fetch()
+                .forEach(tuple -> {
+                    List<String> names = tagNames.computeIfAbsent(tuple.get(postTag.post.id), id -> new ArrayList<>());
+                    if (!names.contains(tuple.get(postTag.name))) names.add(tuple.get(postTag.name));
+                });
+        return tagNames;
+    }
+
+    @Override
+    public List<PublishedPostResponse> findRecentPublishedPosts(Collection<Long> authorIds, int limit) {
+        // (author_id, published_at) 인덱스로 작성자별 최근 발행 글을 조회한다.
+        if (authorIds.isEmpty()) return List.of();
+
+        return queryFactory
+                .select(new QPublishedPostResponse(post.id, post.authorId, post.publishedAt))
+                .from(post)
+                .where(
+                        post.authorId.in(authorIds),
+                        postStatusEq(PostStatus.PUBLISHED),
+                        post.publishedAt.isNotNull()
+                )
+                .orderBy(post.publishedAt.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<PostPreviewResponse> findPostPreview(Long postId) {
+        // content(@Lob) 는 조회하지 않는다.
+        return Optional.ofNullable(queryFactory
+                .select(new QPostPreviewResponse(post.id, post.title, post.excerpt, post.thumbnailUrl))
+                .from(post)
+                .where(post.id.eq(postId))
+                .fetchOne());
+    }
+
+    /**
+     * 목록 조회는 본문(@Lob)을 읽지 않도록 엔티티 대신 필요한 컬럼만 projection 한다.
+     */
+    private QPostSummaryRow summaryRow() {
+        return new QPostSummaryRow(post.id, post.title, post.excerpt, post.authorId, post.thumbnailUrl,
+                post.postStatus, post.likeCount, post.createdAt);
+    }
+
     private BooleanExpression keywordLike(String keyword) {
         return hasText(keyword) ? post.content.contains(keyword).or(post.title.contains(keyword)) : null;
     }
@@ -199,4 +277,20 @@ public class PostQueryRepositoryCustomImpl implements PostQueryRepositoryCustom
     private OrderSpecifier<?> defaultOrder() {
         return new OrderSpecifier<>(Order.DESC, post.createdAt);
     }
+
+    @Override
+    public List<String> findReferencedImageUrls(Collection<String> imageUrls) {
+        // 본문 이미지(post_image.image_url)와 대표 이미지(post.thumbnail_url)를 각각 인덱스로 조회
+        List<String> referenced = new ArrayList<>(queryFactory
+                .selectDistinct(postImage.imageUrl)
+                .from(postImage)
+                .where(postImage.imageUrl.in(imageUrls))
+                .fetch());
+        referenced.addAll(queryFactory
+                .selectDistinct(post.thumbnailUrl)
+                .from(post)
+                .where(post.thumbnailUrl.in(imageUrls))
+                .fetch());
+        return referenced;
+    }
 }
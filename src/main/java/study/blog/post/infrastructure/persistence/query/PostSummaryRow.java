@@ -0,0 +1,34 @@
+package study.blog.post.infrastructure.persistence.query;
+
+import com.querydsl.core.annotations.QueryProjection;
+import study.blog.post.domain.PostStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 projection. 본문(@Lob)은 읽지 않고 미리 계산된 excerpt 만 조회한다.
+ * (태그, 작성자 닉네임, 댓글 수는 목록 단위로 따로 모아 PostSummaryResponse 로 합친다)
+ */
+public record PostSummaryRow(
+        Long postId,
+        String title,
+        String excerpt,
+        Long authorId,
+        String thumbnailUrl,
+        PostStatus postStatus,
+        long likeCount,
+        LocalDateTime createdAt
+) {
+    @QueryProjection
+    public PostSummaryRow(Long postId, String title, String excerpt, Long authorId, String thumbnailUrl,
+                          PostStatus postStatus, long likeCount, LocalDateTime createdAt) {
+        this.postId = postId;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.authorId = authorId;
+        this.thumbnailUrl = thumbnailUrl;
+        this.postStatus = postStatus;
+        this.likeCount = likeCount;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,201 @@
+package study.blog.post.infrastructure.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static study.blog.post.infrastructure.redis.DraftRedisKeyGenerator.generateDirtyKey;
+import static study.blog.post.infrastructure.redis.DraftRedisKeyGenerator.generateDirtySinceKey;
+import static study.blog.post.infrastructure.redis.DraftRedisKeyGenerator.generateDraftKey;
+
+/**
+ * 자동 저장(임시저장) 버퍼.
+ *
+ * 처리 정책
+ * - Redis key: post:draft:{postId} (HASH: version, title, content, tagNames, thumbnailUrl, updatedAt), TTL 1일
+ * - 저장은 Lua 스크립트로 version 비교 → 필드 갱신 → version 증가 → flush 대기열 등록을 원자적으로 수행한다.
+ * - 버퍼가 없으면(NOT_SEEDED) 호출자가 DB 의 draftVersion 으로 seed 한 뒤 다시 저장한다.
+ * - DraftFlushScheduler 가 대기열에서 꺼내 DB 에 반영하고, 반영한 version 이 최신일 때만 대기열에서 제거한다.
+ *
+ * 트레이드 오프
+ * - Redis 가 유실되면 마지막 flush 이후의 자동 저장 내용(최대 flush 지연 시간만큼)이 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DraftBuffer {
+
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final TypeReference<List<String>> TAG_NAMES_TYPE = new TypeReference<>() {};
+
+    /**
+     * KEYS[1] = draft key, KEYS[2] = dirty key, KEYS[3] = dirty-since key
+     * ARGV[1] = 기대 version ('' 이면 비교하지 않음), ARGV[2] = title, ARGV[3] = content,
+     * ARGV[4] = tagNames(JSON), ARGV[5] = thumbnailUrl, ARGV[6] = now(ms), ARGV[7] = postId, ARGV[8] = TTL(s)
+     * ('' 인 content / tagNames / thumbnailUrl 은 기존 값을 유지한다)
+     * return {0, 새 version} = 저장, {1, 0} = seed 필요, {2, 현재 version} = 충돌
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> WRITE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if not current then
+                return {1, 0}
+            end
+            current = tonumber(current)
+            if ARGV[1] ~= '' and tonumber(ARGV[1]) ~= current then
+                return {2, current}
+            end
+
+            local nextVersion = current + 1
+            redis.call('HSET', KEYS[1], 'version', nextVersion, 'title', ARGV[2], 'updatedAt', ARGV[6])
+            if ARGV[3] ~= '' then redis.call('HSET', KEYS[1], 'content', ARGV[3]) end
+            if ARGV[4] ~= '' then redis.call('HSET', KEYS[1], 'tagNames', ARGV[4]) end
+            if ARGV[5] ~= '' then redis.call('HSET', KEYS[1], 'thumbnailUrl', ARGV[5]) end
+            redis.call('EXPIRE', KEYS[1], ARGV[8])
+
+            redis.call('ZADD', KEYS[2], ARGV[6], ARGV[7])
+            redis.call('ZADD', KEYS[3], 'NX', ARGV[6], ARGV[7])
+            return {0, nextVersion}
+            """, List.class);
+
+    /**
+     * KEYS[1] = draft key, KEYS[2] = dirty key, KEYS[3] = dirty-since key
+     * ARGV[1] = DB 에 반영한 version, ARGV[2] = postId, ARGV[3] = now(ms)
+     * flush 도중 새로 저장된 내용이 있으면 대기열에 남기고, 최대 지연 기준 시각만 지금으로 다시 잡는다.
+     */
+    private static final RedisScript<Long> MARK_FLUSHED_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if current and tonumber(current) > tonumber(ARGV[1]) then
+                redis.call('ZADD', KEYS[3], 'XX', ARGV[3], ARGV[2])
+                return 0
+            end
+            redis.call('ZREM', KEYS[2], ARGV[2])
+            redis.call('ZREM', KEYS[3], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> DISCARD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public DraftWriteResult write(Long postId, Long expectedVersion, String title, String content,
+                                  List<String> tagNames, String thumbnailUrl) {
+        List<?> result = redisTemplate.execute(
+                WRITE_SCRIPT,
+                List.of(generateDraftKey(postId), generateDirtyKey(), generateDirtySinceKey()),
+                expectedVersion == null ? "" : String.valueOf(expectedVersion),
+                title,
+                content == null ? "" : content,
+                tagNames == null || tagNames.isEmpty() ? "" : toJson(tagNames),
+                thumbnailUrl == null ? "" : thumbnailUrl,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(postId),
+                String.valueOf(TTL.toSeconds())
+        );
+
+        long status = ((Number) result.get(0)).longValue();
+        long version = ((Number) result.get(1)).longValue();
+        return new DraftWriteResult(DraftWriteStatus.values()[(int) status], version);
+    }
+
+    /**
+     * 버퍼가 없을 때만 DB 의 draftVersion 으로 version 을 초기화한다.
+     */
+    public void seed(Long postId, long draftVersion) {
+        String key = generateDraftKey(postId);
+        redisTemplate.opsForHash().putIfAbsent(key, "version", String.valueOf(draftVersion));
+        redisTemplate.expire(key, TTL);
+    }
+
+    /**
+     * 제목이 한 번도 저장되지 않은(seed 만 된) 버퍼는 없는 것으로 본다.
+     */
+    public Optional<DraftSnapshot> find(Long postId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(generateDraftKey(postId));
+        if (fields.get("title") == null) return Optional.empty();
+
+        String tagNames = (String) fields.get("tagNames");
+        return Optional.of(new DraftSnapshot(
+                Long.parseLong((String) fields.get("version")),
+                (String) fields.get("title"),
+                (String) fields.get("content"),
+                tagNames == null ? null : fromJson(tagNames),
+                (String) fields.get("thumbnailUrl")
+        ));
+    }
+
+    /**
+     * 마지막 저장 후 debounce 만큼 입력이 없었거나, 처음 저장 후 maxDelay 가 지난 게시글 ID 를 반환한다.
+     */
+    public Set<Long> findFlushTargets(Duration debounce, Duration maxDelay, int limit) {
+        long now = System.currentTimeMillis();
+        Set<Long> postIds = new LinkedHashSet<>();
+        addAll(postIds, redisTemplate.opsForZSet()
+                .rangeByScore(generateDirtySinceKey(), 0, now - maxDelay.toMillis(), 0, limit));
+        addAll(postIds, redisTemplate.opsForZSet()
+                .rangeByScore(generateDirtyKey(), 0, now - debounce.toMillis(), 0, limit));
+        return postIds;
+    }
+
+    public void markFlushed(Long postId, long version) {
+        redisTemplate.execute(
+                MARK_FLUSHED_SCRIPT,
+                List.of(generateDraftKey(postId), generateDirtyKey(), generateDirtySinceKey()),
+                String.valueOf(version),
+                String.valueOf(postId),
+                String.valueOf(System.currentTimeMillis())
+        );
+    }
+
+    public void discard(Long postId) {
+        redisTemplate.execute(
+                DISCARD_SCRIPT,
+                List.of(generateDraftKey(postId), generateDirtyKey(), generateDirtySinceKey()),
+                String.valueOf(postId)
+        );
+    }
+
+    private static void addAll(Set<Long> postIds, Set<String> members) {
+        if (members == null) return;
+        members.forEach(member -> postIds.add(Long.parseLong(member)));
+    }
+
+    private String toJson(List<String> tagNames) {
+        try {
+            return objectMapper.writeValueAsString(tagNames);
+        } catch (Exception e) {
+            throw new IllegalStateException("태그 직렬화 실패", e);
+        }
+    }
+
+    private List<String> fromJson(String tagNames) {
+        try {
+            return objectMapper.readValue(tagNames, TAG_NAMES_TYPE);
+        } catch (Exception e) {
+            throw new IllegalStateException("태그 역직렬화 실패", e);
+        }
+    }
+
+    public enum DraftWriteStatus {
+        SAVED, NOT_SEEDED, CONFLICT
+    }
+
+    public record DraftWriteResult(DraftWriteStatus status, long version) {
+    }
+}
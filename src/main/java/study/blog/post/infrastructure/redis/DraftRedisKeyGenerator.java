@@ -0,0 +1,23 @@
+package study.blog.post.infrastructure.redis;
+
+public final class DraftRedisKeyGenerator {
+    private DraftRedisKeyGenerator(){}
+
+    public static String generateDraftKey(Long postId){
+        return "post:draft:" + postId;
+    }
+
+    /**
+     * 마지막 저장 시각(score) 기준 flush 대기열. (debounce)
+     */
+    public static String generateDirtyKey(){
+        return "post:draft:dirty";
+    }
+
+    /**
+     * 처음 dirty 가 된 시각(score) 기준 flush 대기열. (계속 입력 중이어도 최대 지연 이후 flush)
+     */
+    public static String generateDirtySinceKey(){
+        return "post:draft:dirty-since";
+    }
+}
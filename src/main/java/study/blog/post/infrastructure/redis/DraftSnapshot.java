@@ -0,0 +1,16 @@
+package study.blog.post.infrastructure.redis;
+
+import java.util.List;
+
+/**
+ * Redis 에 버퍼링된 임시저장본.
+ * content / tagNames / thumbnailUrl 은 한 번도 저장되지 않았으면 null 이다. (기존 DB 값 유지)
+ */
+public record DraftSnapshot(
+        long version,
+        String title,
+        String content,
+        List<String> tagNames,
+        String thumbnailUrl
+) {
+}
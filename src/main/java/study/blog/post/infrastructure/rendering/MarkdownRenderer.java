@@ -0,0 +1,107 @@
+package study.blog.post.infrastructure.rendering;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+import study.blog.post.domain.PostExcerpt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 마크다운 → HTML / 목차 / 요약 변환기.
+ *
+ * 처리 정책
+ * - commonmark(GFM 표, 취소선, 자동 링크)로 HTML 을 만든 뒤 Jsoup Safelist 로 허용된 태그/속성만 남긴다.
+ *   (본문에 섞인 raw HTML 의 script, on* 속성, javascript: 링크 제거)
+ * - 정제된 HTML 의 heading 에 slug id 를 부여하고, h1 ~ h3 로 목차를 만든다. (같은 slug 는 -1, -2 … 로 구분)
+ * - 요약은 작성 시점과 같은 규칙(PostExcerpt)으로 원본 마크다운에서 뽑는다. (목록의 Post.excerpt 와 같은 값)
+ */
+@Component
+public class MarkdownRenderer {
+
+    private static final int TOC_MAX_LEVEL = 3;
+    private static final Pattern SLUG_REMOVE = Pattern.compile("[^\\p{L}\\p{N}\\s-]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Safelist SAFELIST = Safelist.relaxed()
+            .addTags("del", "hr")
+            .addAttributes("code", "class")
+            .addEnforcedAttribute("a", "rel", "nofollow noopener noreferrer");
+
+    private final Parser parser;
+    private final HtmlRenderer htmlRenderer;
+
+    public MarkdownRenderer() {
+        List<Extension> extensions = List.of(
+                TablesExtension.create(),
+                StrikethroughExtension.create(),
+                AutolinkExtension.create()
+        );
+        this.parser = Parser.builder().extensions(extensions).build();
+        this.htmlRenderer = HtmlRenderer.builder().extensions(extensions).sanitizeUrls(true).build();
+    }
+
+    public RenderedContent render(String markdown) {
+        String rawHtml = htmlRenderer.render(parser.parse(markdown == null ? "" : markdown));
+        String safeHtml = Jsoup.clean(rawHtml, SAFELIST);
+
+        Document doc = Jsoup.parseBodyFragment(safeHtml);
+        doc.outputSettings().prettyPrint(false);
+        List<TocEntry> toc = assignHeadingIds(doc);
+
+        return new RenderedContent(doc.body().html(), toc, PostExcerpt.extract(markdown));
+    }
+
+    /**
+     * 렌더링 원본 식별용 해시. (SHA-256 hex, 저장된 렌더링 결과의 최신 여부 판단 및 ETag)
+     */
+    public static String contentHash(String markdown) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((markdown == null ? "" : markdown).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private List<TocEntry> assignHeadingIds(Document doc) {
+        List<TocEntry> toc = new ArrayList<>();
+        Map<String, Integer> slugCounts = new HashMap<>();
+
+        for (Element heading : doc.select("h1, h2, h3, h4, h5, h6")) {
+            String text = heading.text();
+            String slug = slugify(text);
+            int count = slugCounts.merge(slug, 1, Integer::sum);
+            String id = count == 1 ? slug : slug + "-" + (count - 1);
+            heading.attr("id", id);
+
+            int level = heading.tagName().charAt(1) - '0';
+            if (level <= TOC_MAX_LEVEL) toc.add(new TocEntry(level, id, text));
+        }
+        return toc;
+    }
+
+    private static String slugify(String text) {
+        String slug = SLUG_REMOVE.matcher(text.strip().toLowerCase(Locale.ROOT)).replaceAll("");
+        slug = WHITESPACE.matcher(slug).replaceAll("-");
+        return slug.isEmpty() ? "section" : slug;
+    }
+}
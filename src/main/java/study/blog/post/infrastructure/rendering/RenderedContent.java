@@ -0,0 +1,10 @@
+package study.blog.post.infrastructure.rendering;
+
+import java.util.List;
+
+public record RenderedContent(
+        String html,
+        List<TocEntry> toc,
+        String excerpt
+) {
+}
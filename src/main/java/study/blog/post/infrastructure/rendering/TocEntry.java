@@ -0,0 +1,11 @@
+package study.blog.post.infrastructure.rendering;
+
+/**
+ * 목차 항목. id 는 렌더링된 HTML 의 heading id 와 같다. (#id 로 이동)
+ */
+public record TocEntry(
+        int level,
+        String id,
+        String text
+) {
+}
@@ -0,0 +1,67 @@
+package study.blog.post.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.blog.post.infrastructure.redis.DraftBuffer;
+import study.blog.post.infrastructure.redis.DraftSnapshot;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DraftFlushScheduler {
+
+    private static final Duration DEBOUNCE = Duration.ofSeconds(10);
+    private static final Duration MAX_DELAY = Duration.ofMinutes(1);
+    private static final int BATCH_SIZE = 200;
+
+    private final DraftBuffer draftBuffer;
+    private final DraftFlusher draftFlusher;
+
+    /**
+     * Redis 에 버퍼링된 임시저장본을 DB 에 반영하는 스케줄러.
+     *
+     * 에디터 자동 저장은 입력 중 수 초 간격으로 들어오므로, 매 요청마다 post 행을 갱신하지 않고
+     * 마지막 저장 이후 입력이 멈췄을 때 최신 본 한 번만 반영한다.
+     *
+     * 처리 정책
+     * - 스케줄 주기: 5초
+     * - 마지막 저장 후 10초(DEBOUNCE) 동안 추가 저장이 없으면 반영한다.
+     * - 계속 입력 중이어도 처음 저장 후 1분(MAX_DELAY)이 지나면 반영한다.
+     * - 트랜잭션 범위: 게시글 1건 단위 (DraftFlusher 위임)
+     *
+     * 예외 처리
+     * - DB 반영 실패 시 대기열에 남겨 다음 스케줄에서 재처리한다.
+     * - 한 게시글의 실패가 다른 게시글 처리에 영향을 주지 않는다.
+     */
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public void flushDrafts() {
+        for (Long postId : draftBuffer.findFlushTargets(DEBOUNCE, MAX_DELAY, BATCH_SIZE)) {
+            try {
+                flush(postId);
+            } catch (Exception e) {
+                log.error("임시저장 DB 반영 실패 - postId={}", postId, e);
+            }
+        }
+    }
+
+    private void flush(Long postId) {
+        Optional<DraftSnapshot> snapshot = draftBuffer.find(postId);
+        if (snapshot.isEmpty()) {
+            // 버퍼가 만료되었거나 seed 만 된 상태 → 대기열에서만 제거한다.
+            draftBuffer.markFlushed(postId, Long.MAX_VALUE);
+            return;
+        }
+
+        if (draftFlusher.flush(postId, snapshot.get())) {
+            draftBuffer.markFlushed(postId, snapshot.get().version());
+        } else {
+            draftBuffer.discard(postId);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package study.blog.post.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import study.blog.global.web.version.ContentVersionTracker;
+import study.blog.post.application.PostImageAttacher;
+import study.blog.post.domain.PostExcerpt;
+import study.blog.post.domain.PostStatus;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+import study.blog.post.infrastructure.redis.DraftSnapshot;
+
+/**
+ * 처리 정책:
+ *   - 게시글 1건 단위 트랜잭션으로 버퍼의 임시저장본을 반영한다.
+ *   - post 행은 조건부 update(DRAFT 상태이고 반영된 version 이 더 낮을 때만)로 임시저장 컬럼만 갱신한다.
+ *     (행 전체를 쓰지 않으므로 조회수/좋아요수 증가를 덮어쓰지 않고, 그 사이 발행되었거나 더 최신 본이 반영된 글은 건너뛴다)
+ *   - 갱신된 경우에만 태그와 본문에 새로 들어간 업로드 이미지를 반영한다. (고아 이미지 정리 대상에서 빠지도록)
+ *   - 게시글이 없거나 DRAFT 가 아니면(발행/삭제됨) 반영하지 않고 false 를 반환한다. (호출자가 버퍼를 폐기)
+ */
+@Component
+@RequiredArgsConstructor
+public class DraftFlusher {
+
+    private final PostCommandRepository postCommandRepository;
+    private final ContentVersionTracker contentVersionTracker;
+    private final PostImageAttacher postImageAttacher;
+
+    @Transactional
+    public boolean flush(Long postId, DraftSnapshot snapshot) {
+        long updated = postCommandRepository.applyDraft(postId, snapshot.title(), snapshot.content(),
+                PostExcerpt.extract(snapshot.content()), snapshot.thumbnailUrl(), snapshot.version());
+        if (updated == 0) {
+            // 같은(또는 더 최신) version 이 이미 반영된 DRAFT 는 대기열에서만 정리하고, 그 외에는 버퍼를 버린다.
+            return postCommandRepository.findById(postId)
+                    .filter(post -> post.getPostStatus() == PostStatus.DRAFT)
+                    .isPresent();
+        }
+
+        // 조건부 update 뒤에 처음 조회하므로 방금 반영한 값으로 읽힌다.
+        Post post = postCommandRepository.findById(postId).orElseThrow();
+        post.modifyDraftTags(snapshot.tagNames());
+        postImageAttacher.attach(post);
+        contentVersionTracker.trackPost(postId);
+        return true;
+    }
+}
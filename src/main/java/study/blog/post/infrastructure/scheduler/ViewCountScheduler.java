@@ -6,6 +6,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
+import study.blog.global.web.version.ContentVersionTracker;
 
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -17,6 +18,7 @@ public class ViewCountScheduler {
 
     private final StringRedisTemplate redisTemplate;
     private final ViewCountFlusher viewCountFlusher;
+    private final ContentVersionTracker contentVersionTracker;
 
     /**
      * Redis에 누적된 게시글 조회수를 주기적으로 DB에 반영하는 스케줄러.
@@ -29,6 +31,7 @@ public class ViewCountScheduler {
      * - 스케줄 주기: 5분
      * - DB 반영 시 원자적 증가
      * - 트랜잭션 범위: 포스트 1건 단위 (ViewCountFlusher 위임)
+     * - 조회수 정렬 목록의 순서가 바뀔 수 있으므로 반영 후 게시글 목록 버전을 한 번 올린다.
      *
      * 트레이드 오프
      * - redisTemplate.keys("post:view:count:*") 로 전체 키를 조회한다.
@@ -51,5 +54,6 @@ public class ViewCountScheduler {
 
             viewCountFlusher.flush(key, value);
         }
+        contentVersionTracker.trackPostList();
     }
 }
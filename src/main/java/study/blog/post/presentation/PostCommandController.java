@@ -38,6 +38,7 @@ public class PostCommandController {
      * 게시글을 임시저장한다.
      *
      * postId가 없으면 신규 생성, 있으면 기존 임시저장 게시글을 수정한다.
+     * 응답의 version 을 다음 임시저장 요청에 그대로 보내야 충돌 감지가 동작한다.
      */
     @PostMapping("/draft")
     @ResponseStatus(HttpStatus.CREATED)
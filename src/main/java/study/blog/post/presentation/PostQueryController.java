@@ -7,21 +7,31 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import study.blog.global.common.dto.ApiResponse;
+import study.blog.global.web.version.CacheScope;
+import study.blog.global.web.version.ConditionalGetHandler;
 import study.blog.global.web.resolver.LoginMember;
 import study.blog.post.application.PostQueryService;
+import study.blog.post.application.PostRenderingService;
 import study.blog.post.presentation.requset.PostSearchCondition;
 import study.blog.post.presentation.response.PostDetailResponse;
+import study.blog.post.presentation.response.PostRenderedResponse;
 import study.blog.post.presentation.response.PostSummaryResponse;
 
 import java.util.List;
 
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generatePostKey;
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generatePostListKey;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/posts")
 public class PostQueryController {
 
     private final PostQueryService queryService;
+    private final PostRenderingService renderingService;
+    private final ConditionalGetHandler conditionalGetHandler;
 
     /**
      * 게시글 목록을 조회한다.
@@ -29,23 +39,36 @@ public class PostQueryController {
      * 페이징 정보 중 전체 개수는 응답 헤더(X-Total-Count)에 담아
      * 프론트엔드에서 페이지 계산에 사용할 수 있도록 한다.
      *
-     * @param condition 게시글 검색 조건
-     * @param pageable  페이징 정보
-     * @param response  전체 게시글 수를 전달하기 위한 HTTP 응답 객체
+     * 게시글 목록 버전이 바뀌지 않았으면 목록을 조회하지 않고 304 로 응답한다.
+     *
+     * @param condition  게시글 검색 조건
+     * @param pageable   페이징 정보
+     * @param webRequest 조건부 요청(If-None-Match) 처리에 사용하는 요청 객체
+     * @param response   전체 게시글 수를 전달하기 위한 HTTP 응답 객체
      */
     @GetMapping("/search")
     public ApiResponse<List<PostSummaryResponse>> searchPostByCondition(@ModelAttribute PostSearchCondition condition,
                                                                         @PageableDefault Pageable pageable,
+                                                                        @LoginMember(required = false) Long memberId,
+                                                                        WebRequest webRequest,
                                                                         HttpServletResponse response) {
-        Page<PostSummaryResponse> page = queryService.searchPostByCondition(condition, pageable);
+        if (conditionalGetHandler.checkNotModified(webRequest, response, memberId, CacheScope.SHARED, generatePostListKey())) {
+            return null;
+        }
+        Page<PostSummaryResponse> page = queryService.searchPostByCondition(condition, pageable, memberId);
         response.setHeader("X-Total-Count", String.valueOf(page.getTotalElements()));
         return ApiResponse.success(page.getContent());
     }
 
     @GetMapping
     public ApiResponse<List<PostSummaryResponse>> getMainPostsBySort(@PageableDefault Pageable pageable,
+                                                                     @LoginMember(required = false) Long memberId,
+                                                                     WebRequest webRequest,
                                                                      HttpServletResponse response) {
-        Page<PostSummaryResponse> page = queryService.getMainPostsBySort(pageable);
+        if (conditionalGetHandler.checkNotModified(webRequest, response, memberId, CacheScope.SHARED, generatePostListKey())) {
+            return null;
+        }
+        Page<PostSummaryResponse> page = queryService.getMainPostsBySort(pageable, memberId);
         response.setHeader("X-Total-Count", String.valueOf(page.getTotalElements()));
         return ApiResponse.success(page.getContent());
     }
@@ -55,6 +78,7 @@ public class PostQueryController {
      *
      * 페이징 정보 중 전체 게시글 수는 응답 헤더(X-Total-Count)에 담아
      * 프론트엔드에서 페이지네이션 계산에 사용할 수 있도록 한다.
+     * 임시저장 글의 변경도 목록 버전에 반영되므로 게시글 목록 버전으로 조건부 응답한다.
      *
      * @param memberId  로그인 사용자 ID
      * @param condition 게시글 검색 조건
@@ -65,7 +89,11 @@ public class PostQueryController {
     public ApiResponse<List<PostSummaryResponse>> findPostsByAuthorId(@LoginMember Long memberId,
                                                                       @ModelAttribute PostSearchCondition condition,
                                                                       @PageableDefault Pageable pageable,
+                                                                      WebRequest webRequest,
                                                                       HttpServletResponse response) {
+        if (conditionalGetHandler.checkNotModified(webRequest, response, memberId, CacheScope.PRIVATE, generatePostListKey())) {
+            return null;
+        }
         Page<PostSummaryResponse> page = queryService.findPostsByAuthorId(memberId, condition, pageable);
         response.setHeader("X-Total-Count", String.valueOf(page.getTotalElements()));
         return ApiResponse.success(page.getContent());
@@ -77,16 +105,48 @@ public class PostQueryController {
      * 조회 시 조회수 증가 정책이 적용되며,
      * 동일 사용자/IP의 중복 조회는 일정 시간(10분) 동안 제한한다.
      *
-     * @param postId   게시글 ID
-     * @param memberId 로그인 사용자 ID (비로그인 시 null)
-     * @param request  조회수 정책에 사용하는 사용자 식별 정보(IP 등)를 추출하기 위한 요청 객체
+     * 게시글 버전이 바뀌지 않았으면 상세 응답을 만들지 않고 304 로 응답한다.
+     * (조회수는 304 응답에서도 증가해야 하므로 nginx 에 캐싱하지 않는다)
+     *
+     * @param postId     게시글 ID
+     * @param memberId   로그인 사용자 ID (비로그인 시 null)
+     * @param request    조회수 정책에 사용하는 사용자 식별 정보(IP 등)를 추출하기 위한 요청 객체
+     * @param webRequest 조건부 요청(If-None-Match) 처리에 사용하는 요청 객체
+     * @param response   캐시 정책(Cache-Control)을 기록하기 위한 HTTP 응답 객체
      */
     @GetMapping("/{postId}")
     public ApiResponse<PostDetailResponse> findPost(@PathVariable Long postId,
                                                     @LoginMember(required = false) Long memberId,
-                                                    HttpServletRequest request) {
+                                                    HttpServletRequest request,
+                                                    WebRequest webRequest,
+                                                    HttpServletResponse response) {
+        if (conditionalGetHandler.checkNotModified(webRequest, response, memberId, CacheScope.PRIVATE, generatePostKey(postId))) {
+            queryService.trackView(postId, memberId, request);
+            return null;
+        }
         PostDetailResponse post = queryService.findPost(postId, memberId, request);
         return ApiResponse.success(post);
     }
 
+    /**
+     * 게시글 본문을 렌더링된 HTML / 목차 / 요약으로 조회한다.
+     *
+     * 본문 해시를 ETag 로 내려주며, If-None-Match 가 같으면 본문 없이 304 로 응답한다.
+     * (본문이 바뀌지 않았다면 상세 페이지 재방문 시 HTML 을 다시 내려받지 않는다)
+     *
+     * @param postId     게시글 ID
+     * @param webRequest ETag 비교 및 304 응답 처리에 사용하는 요청 객체
+     * @param response   캐시 정책(Cache-Control)을 기록하기 위한 HTTP 응답 객체
+     */
+    @GetMapping("/{postId}/rendered")
+    public ApiResponse<PostRenderedResponse> getRenderedPost(@PathVariable Long postId,
+                                                             WebRequest webRequest,
+                                                             HttpServletResponse response) {
+        conditionalGetHandler.writeCacheControl(response, null, CacheScope.SHARED);
+        PostRenderedResponse rendered = renderingService.getRendered(postId);
+        if (webRequest.checkNotModified("\"" + rendered.contentHash() + "\"")) {
+            return null;
+        }
+        return ApiResponse.success(rendered);
+    }
 }
@@ -0,0 +1,53 @@
+package study.blog.post.presentation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import study.blog.global.common.dto.ApiResponse;
+import study.blog.global.web.resolver.LoginMember;
+import study.blog.post.application.PostRevisionService;
+import study.blog.post.presentation.response.PostRevisionContentResponse;
+import study.blog.post.presentation.response.PostRevisionDiffResponse;
+import study.blog.post.presentation.response.PostRevisionResponse;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/posts/{postId}/revisions")
+public class PostRevisionController {
+
+    private final PostRevisionService revisionService;
+
+    /**
+     * 게시글의 리비전 목록을 최신순으로 조회한다. (작성자 본인만 조회 가능)
+     */
+    @GetMapping
+    public ApiResponse<List<PostRevisionResponse>> getRevisions(@LoginMember Long memberId,
+                                                                @PathVariable Long postId) {
+        return ApiResponse.success(revisionService.getRevisions(memberId, postId));
+    }
+
+    /**
+     * 특정 리비전의 본문을 조회한다.
+     */
+    @GetMapping("/{revisionNumber}")
+    public ApiResponse<PostRevisionContentResponse> getRevisionContent(@LoginMember Long memberId,
+                                                                       @PathVariable Long postId,
+                                                                       @PathVariable int revisionNumber) {
+        return ApiResponse.success(revisionService.getRevisionContent(memberId, postId, revisionNumber));
+    }
+
+    /**
+     * 두 리비전 사이의 줄 단위 변경 내역을 조회한다.
+     *
+     * @param from 기준(이전) 리비전 번호
+     * @param to   비교(이후) 리비전 번호
+     */
+    @GetMapping("/diff")
+    public ApiResponse<PostRevisionDiffResponse> diff(@LoginMember Long memberId,
+                                                      @PathVariable Long postId,
+                                                      @RequestParam int from,
+                                                      @RequestParam int to) {
+        return ApiResponse.success(revisionService.diff(memberId, postId, from, to));
+    }
+}
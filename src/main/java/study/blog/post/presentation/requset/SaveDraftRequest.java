@@ -18,5 +18,7 @@ public record SaveDraftRequest(
         @Size(max = 10, message = "태그는 최대 10개까지 등록할 수 있습니다.")
         List<String> tagNames,
 
-        String thumbnailUrl
+        String thumbnailUrl,
+
+        Long version // 마지막으로 받은 임시저장 버전 (null 이면 충돌 검사를 하지 않는다)
 ) {}
\ No newline at end of file
@@ -3,6 +3,7 @@ package study.blog.post.presentation.response;
 import study.blog.post.domain.PostStatus;
 import study.blog.post.domain.entity.Post;
 import study.blog.post.domain.entity.PostTag;
+import study.blog.post.infrastructure.redis.DraftSnapshot;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,6 +21,7 @@ public record PostDetailResponse(
         boolean isLikedByMe,
         boolean isSubscribe,
         long commentCounts,
+        long draftVersion,
         LocalDateTime createdAt
 ) {
     public static PostDetailResponse from(Post post, String authorNickname, boolean isLikedByMe, long commentCounts, boolean isSubscribe) {
@@ -39,7 +41,30 @@ public record PostDetailResponse(
                 isLikedByMe,
                 isSubscribe,
                 commentCounts,
+                post.getDraftVersion(),
                 post.getCreatedAt()
         );
     }
+
+    /**
+     * 아직 DB 에 반영되지 않은 자동 저장 내용을 덮어쓴다. (버퍼에 저장된 적 없는 필드는 DB 값 유지)
+     */
+    public PostDetailResponse mergeDraft(DraftSnapshot draft) {
+        return new PostDetailResponse(
+                postId,
+                authorId,
+                authorNickname,
+                draft.title(),
+                draft.content() != null ? draft.content() : content,
+                postStatus,
+                draft.thumbnailUrl() != null ? draft.thumbnailUrl() : thumbnailUrl,
+                draft.tagNames() != null ? draft.tagNames() : tags,
+                likeCount,
+                isLikedByMe,
+                isSubscribe,
+                commentCounts,
+                draft.version(),
+                createdAt
+        );
+    }
 }
@@ -0,0 +1,21 @@
+package study.blog.post.presentation.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+/**
+ * 링크 미리보기용 게시글 요약. 본문(@Lob) 대신 미리 계산된 excerpt 만 조회한다.
+ */
+public record PostPreviewResponse(
+        Long postId,
+        String title,
+        String excerpt,
+        String thumbnailUrl
+) {
+    @QueryProjection
+    public PostPreviewResponse(Long postId, String title, String excerpt, String thumbnailUrl) {
+        this.postId = postId;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+}
@@ -0,0 +1,14 @@
+package study.blog.post.presentation.response;
+
+import study.blog.post.infrastructure.rendering.TocEntry;
+
+import java.util.List;
+
+public record PostRenderedResponse(
+        Long postId,
+        String html,
+        List<TocEntry> toc,
+        String excerpt,
+        String contentHash
+) {
+}
@@ -0,0 +1,8 @@
+package study.blog.post.presentation.response;
+
+public record PostRevisionContentResponse(
+        Long postId,
+        int revisionNumber,
+        String content
+) {
+}
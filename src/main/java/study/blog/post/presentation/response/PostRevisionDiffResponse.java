@@ -0,0 +1,18 @@
+package study.blog.post.presentation.response;
+
+import study.blog.post.domain.revision.LineDiff.Op;
+
+import java.util.List;
+
+public record PostRevisionDiffResponse(
+        Long postId,
+        int fromRevision,
+        int toRevision,
+        List<DiffLine> lines
+) {
+    /**
+     * oldLine / newLine 은 1부터 시작하는 줄 번호이며, 해당하지 않으면 null 이다.
+     */
+    public record DiffLine(Op op, Integer oldLine, Integer newLine, String text) {
+    }
+}
@@ -0,0 +1,13 @@
+package study.blog.post.presentation.response;
+
+import study.blog.post.domain.RevisionType;
+
+import java.time.LocalDateTime;
+
+public record PostRevisionResponse(
+        int revisionNumber,
+        RevisionType revisionType,
+        int contentLength,
+        LocalDateTime createdAt
+) {
+}
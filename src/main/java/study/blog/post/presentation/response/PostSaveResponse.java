@@ -4,6 +4,7 @@ import study.blog.post.domain.PostStatus;
 import study.blog.post.domain.entity.Post;
 import study.blog.post.domain.entity.PostImage;
 import study.blog.post.domain.entity.PostTag;
+import study.blog.post.infrastructure.redis.DraftSnapshot;
 
 import java.util.List;
 
@@ -19,7 +20,8 @@ public record PostSaveResponse(
         List<String> tags,
         long commentCounts,
         String thumbnailUrl,
-        List<String> imageUrls
+        List<String> imageUrls,
+        long version
 ) {
     public static PostSaveResponse from(Post post) {
         return new PostSaveResponse(
@@ -39,7 +41,33 @@ public record PostSaveResponse(
                 post.getThumbnailUrl(),
                 post.getPostImages().stream()
                         .map(PostImage::getImageUrl)
-                        .toList()
+                        .toList(),
+                post.getDraftVersion()
+        );
+    }
+
+    /**
+     * 버퍼에만 기록한 임시저장본의 응답. (게시글을 조회하지 않으므로 좋아요 / 조회수 / 댓글 수는 0)
+     * 버퍼에 저장된 적 없는 content / tagNames / thumbnailUrl 은 null 이며, 클라이언트는 가진 값을 유지한다.
+     *
+     * @param imageUrls 버퍼 본문 기준 이미지 목록
+     * @param version   이번 요청이 저장한 version (다음 자동 저장의 충돌 검사 기준)
+     */
+    public static PostSaveResponse fromDraft(Long postId, Long authorId, DraftSnapshot draft, List<String> imageUrls, long version) {
+        return new PostSaveResponse(
+                postId,
+                authorId,
+                draft.title(),
+                draft.content(),
+                PostStatus.DRAFT,
+                0L,
+                false,
+                0L,
+                draft.tagNames() != null ? draft.tagNames() : List.of(),
+                0L,
+                draft.thumbnailUrl(),
+                imageUrls,
+                version
         );
     }
 }
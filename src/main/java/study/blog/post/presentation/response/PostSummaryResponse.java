@@ -1,8 +1,7 @@
 package study.blog.post.presentation.response;
 
 import study.blog.post.domain.PostStatus;
-import study.blog.post.domain.entity.Post;
-import study.blog.post.domain.entity.PostTag;
+import study.blog.post.infrastructure.persistence.query.PostSummaryRow;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,28 +9,29 @@ import java.util.List;
 public record PostSummaryResponse(
         Long postId,
         String title,
+        String excerpt,
         String authorNickname,
         String thumbnailUrl,
         List<String> tags,
         PostStatus postStatus,
         long likeCount,
         long commentCounts,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        boolean isSubscribe
 ) {
-    public static PostSummaryResponse from(Post post, String authorNickname, long commentCounts) {
+    public static PostSummaryResponse from(PostSummaryRow row, List<String> tags, String authorNickname, long commentCounts, boolean isSubscribe) {
         return new PostSummaryResponse(
-                post.getId(),
-                post.getTitle(),
+                row.postId(),
+                row.title(),
+                row.excerpt() != null ? row.excerpt() : "",
                 authorNickname,
-                post.getThumbnailUrl(),
-                post.getTags().stream()
-                        .distinct()
-                        .map(PostTag::getName)
-                        .toList(),
-                post.getPostStatus(),
-                post.getLikeCount(),
+                row.thumbnailUrl(),
+                tags,
+                row.postStatus(),
+                row.likeCount(),
                 commentCounts,
-                post.getCreatedAt()
+                row.createdAt(),
+                isSubscribe
         );
     }
 }
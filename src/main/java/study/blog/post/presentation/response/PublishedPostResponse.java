@@ -0,0 +1,18 @@
+package study.blog.post.presentation.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.time.LocalDateTime;
+
+public record PublishedPostResponse(
+        Long postId,
+        Long authorId,
+        LocalDateTime publishedAt
+) {
+    @QueryProjection
+    public PublishedPostResponse(Long postId, Long authorId, LocalDateTime publishedAt) {
+        this.postId = postId;
+        this.authorId = authorId;
+        this.publishedAt = publishedAt;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import study.blog.global.web.version.ContentVersionTracker;
 import study.blog.post.domain.exception.PostNotFoundException;
 import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
 import study.blog.postlike.domain.event.PostLikeCountChangedEvent;
@@ -15,6 +16,7 @@ import study.blog.postlike.domain.event.PostLikeCountChangedEvent;
 public class PostLikedEventListener {
 
     private final PostCommandRepository postCommandRepository;
+    private final ContentVersionTracker contentVersionTracker;
 
     /**
      * 게시글 좋아요 수 변경 이벤트를 처리한다.
@@ -25,6 +27,7 @@ public class PostLikedEventListener {
      * 처리 정책
      * - AFTER_COMMIT 단계에서 실행하여 좋아요 저장 트랜잭션이 성공적으로 커밋된 이후에만 반영한다.
      * - REQUIRES_NEW 트랜잭션을 사용하여 좋아요 처리 트랜잭션과 분리된 독립적인 트랜잭션으로 실행한다.
+     * - likeCount 반영이 커밋된 이후 게시글 버전을 올린다. (좋아요 커밋 시점에 올리면 이전 likeCount 가 새 ETag 로 캐싱될 수 있다)
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -34,5 +37,6 @@ public class PostLikedEventListener {
         if(updatedRow == 0){
             throw new PostNotFoundException("게시글을 찾을 수 없습니다.");
         }
+        contentVersionTracker.trackPost(event.postId());
     }
 }
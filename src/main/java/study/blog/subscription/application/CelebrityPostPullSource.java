@@ -0,0 +1,71 @@
+package study.blog.subscription.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import study.blog.member.repository.MemberReader;
+import study.blog.notification.application.NotificationCreateCommand;
+import study.blog.notification.application.NotificationPullSource;
+import study.blog.notification.domain.NotificationType;
+import study.blog.subscription.domain.entity.Subscription;
+import study.blog.subscription.infrastructure.redis.FanOutOutboxRedisRepository;
+import study.blog.subscription.infrastructure.persistence.query.SubscriptionQueryRepository;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class CelebrityPostPullSource implements NotificationPullSource {
+
+    private static final Duration PULL_WINDOW = Duration.ofDays(7);
+    private static final String UNKNOWN_NICKNAME = "익명";
+
+    private final FanOutOutboxRedisRepository outboxRepository;
+    private final SubscriptionQueryRepository subscriptionQueryRepository;
+    private final MemberReader memberReader;
+
+    /**
+     * 구독 중인 celebrity 작성자의 outbox 에서 새 글 알림을 만든다.
+     *
+     * 처리 정책
+     * - 구독 시작 이후, 최근 PULL_WINDOW 이내에 발행된 글만 대상으로 한다.
+     * - streamMessageId 를 post:{postId}:{memberId} 로 고정해 여러 번 pull 해도 알림은 한 번만 생성된다.
+     * - 같은 회원의 pull 은 짧은 시간 동안 한 번만 수행한다.
+     */
+    @Override
+    public List<NotificationCreateCommand> pull(Long memberId) {
+        Set<Long> celebrities = outboxRepository.findCelebrities();
+        if (celebrities.isEmpty() || !outboxRepository.tryAcquirePull(memberId)) return List.of();
+
+        List<Subscription> subscriptions = subscriptionQueryRepository.findSubscriptions(memberId, celebrities);
+        if (subscriptions.isEmpty()) return List.of();
+
+        Map<Long, String> nicknames = memberReader.getNicknames(subscriptions.stream()
+                .map(Subscription::getTargetId)
+                .toList());
+
+        long windowStart = System.currentTimeMillis() - PULL_WINDOW.toMillis();
+        List<NotificationCreateCommand> commands = new ArrayList<>();
+        for (Subscription subscription : subscriptions) {
+            long since = Math.max(windowStart, toEpochMilli(subscription));
+            for (Long postId : outboxRepository.findPostIdsSince(subscription.getTargetId(), since)) {
+                commands.add(new NotificationCreateCommand(
+                        memberId,
+                        subscription.getTargetId(),
+                        NotificationType.NEW_POST,
+                        nicknames.getOrDefault(subscription.getTargetId(), UNKNOWN_NICKNAME),
+                        NewPostNotificationKey.of(postId, memberId)
+                ));
+            }
+        }
+        return commands;
+    }
+
+    private long toEpochMilli(Subscription subscription) {
+        return subscription.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,13 @@
+package study.blog.subscription.application;
+
+/**
+ * 새 글 알림의 멱등 키(Notification.streamMessageId).
+ * push / pull 어느 경로로 생성되더라도 같은 키를 사용해 게시글 1건당 구독자 1명에게 한 번만 알림이 생성된다.
+ */
+public final class NewPostNotificationKey {
+    private NewPostNotificationKey(){}
+
+    public static String of(Long postId, Long receiverId) {
+        return "post:" + postId + ":" + receiverId;
+    }
+}
@@ -34,6 +34,8 @@ public class SubscriptionCommandService {
         if (deleted == 0) {
             throw new SubscriptionNotFoundException("구독 중이 아닙니다.");
         }
+
+        subscriptionTracker.trackUnsubscribe(subscriberId, targetId);
         return SubscriptionResponse.of(subscriberId, targetId);
     }
 }
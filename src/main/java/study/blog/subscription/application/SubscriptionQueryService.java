@@ -3,9 +3,124 @@ package study.blog.subscription.application;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import study.blog.member.repository.MemberReader;
+import study.blog.post.application.PostQueryService;
+import study.blog.post.presentation.response.PostSummaryResponse;
+import study.blog.subscription.domain.entity.Subscription;
+import study.blog.subscription.infrastructure.persistence.query.SubscriptionQueryRepository;
+import study.blog.subscription.infrastructure.redis.FanOutOutboxRedisRepository;
+import study.blog.subscription.infrastructure.redis.TimelineEntry;
+import study.blog.subscription.infrastructure.redis.TimelineRedisRepository;
+import study.blog.subscription.persenation.response.FollowListResponse;
+import study.blog.subscription.persenation.response.FollowMemberResponse;
+import study.blog.subscription.persenation.response.TimelineResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class SubscriptionQueryService {
+
+    private final SubscriptionQueryRepository subscriptionQueryRepository;
+    private final TimelineRedisRepository timelineRepository;
+    private final FanOutOutboxRedisRepository outboxRepository;
+    private final TimelineUpdater timelineUpdater;
+    private final PostQueryService postQueryService;
+    private final MemberReader memberReader;
+
+    /**
+     * 홈 타임라인(구독한 작성자의 게시글)을 최신순으로 조회한다.
+     *
+     * 처리 정책
+     * - 회원별 Redis ZSET(timeline:{memberId}) 에서 postId 를 읽는다. 조회 시점에 subscription / post JOIN 을 하지 않는다.
+     * - 구독자가 많아 push 하지 않는 작성자(celebrity)의 글은 작성자 outbox 에서 읽어 병합한다.
+     * - 게시글 정보는 PostQueryService 로 일괄 조회하며, 삭제/숨김 처리된 글은 이 시점에 타임라인에서 제거한다.
+     *
+     * 페이징
+     * - 커서는 직전 페이지 마지막 글의 (발행 시각 epoch millis, postId) 이며, 첫 페이지는 둘 다 null 이다.
+     *   같은 밀리초에 발행된 글이 페이지 경계에서 빠지지 않도록 발행 시각이 같으면 postId 로 이어서 읽는다.
+     * - 다음 페이지가 없으면 nextCursor, nextCursorPostId 는 null 이다.
+     */
+    public TimelineResponse getTimeline(Long memberId, Long cursor, Long cursorPostId, int size) {
+        if (!timelineRepository.exists(memberId)) {
+            timelineUpdater.rebuildIfAbsent(memberId, () -> subscriptionQueryRepository.findTargetIds(memberId));
+        }
+
+        List<TimelineEntry> candidates = new ArrayList<>(timelineRepository.findBefore(memberId, cursor, cursorPostId, size));
+        candidates.addAll(findCelebrityEntries(memberId, cursor, cursorPostId, size));
+
+        List<TimelineEntry> page = candidates.stream()
+                .collect(Collectors.toMap(TimelineEntry::postId, entry -> entry, (a, b) -> a, LinkedHashMap::new))
+                .values()
+                .stream()
+                .sorted(TimelineEntry.LATEST_FIRST)
+                .limit(size)
+                .toList();
+
+        List<Long> postIds = page.stream().map(TimelineEntry::postId).toList();
+        List<PostSummaryResponse> posts = postQueryService.findPublishedPostSummaries(memberId, postIds);
+        pruneUnavailablePosts(memberId, postIds, posts);
+
+        if (page.size() < size) return TimelineResponse.of(posts, null);
+        return TimelineResponse.of(posts, page.get(page.size() - 1));
+    }
+
+    /**
+     * 회원을 구독한 회원 목록을 최신 구독순으로 조회한다.
+     * cursor 는 직전 페이지 마지막 구독 id 이며, 다음 페이지가 없으면 nextCursor 는 null 이다.
+     */
+    public FollowListResponse getFollowers(Long memberId, Long cursor, int size) {
+        List<Subscription> subscriptions = subscriptionQueryRepository.findFollowers(memberId, cursor, size);
+        return toFollowListResponse(subscriptions, Subscription::getSubscriberId, size);
+    }
+
+    /**
+     * 회원이 구독 중인 회원 목록을 최신 구독순으로 조회한다.
+     */
+    public FollowListResponse getFollowings(Long memberId, Long cursor, int size) {
+        List<Subscription> subscriptions = subscriptionQueryRepository.findFollowings(memberId, cursor, size);
+        return toFollowListResponse(subscriptions, Subscription::getTargetId, size);
+    }
+
+    private FollowListResponse toFollowListResponse(List<Subscription> subscriptions,
+                                                    Function<Subscription, Long> memberIdExtractor,
+                                                    int size) {
+        List<Long> memberIds = subscriptions.stream().map(memberIdExtractor).toList();
+        Map<Long, String> nicknames = memberReader.getNicknames(memberIds);
+
+        List<FollowMemberResponse> members = memberIds.stream()
+                .map(id -> FollowMemberResponse.of(id, nicknames.getOrDefault(id, "익명")))
+                .toList();
+
+        Long nextCursor = subscriptions.size() < size ? null : subscriptions.get(subscriptions.size() - 1).getId();
+        return FollowListResponse.of(members, nextCursor);
+    }
+
+    private List<TimelineEntry> findCelebrityEntries(Long memberId, Long cursor, Long cursorPostId, int size) {
+        Set<Long> celebrities = outboxRepository.findCelebrities();
+        if (celebrities.isEmpty()) return List.of();
+
+        List<TimelineEntry> entries = new ArrayList<>();
+        for (Subscription subscription : subscriptionQueryRepository.findSubscriptions(memberId, celebrities)) {
+            entries.addAll(outboxRepository.findBefore(subscription.getTargetId(), cursor, cursorPostId, size));
+        }
+        return entries;
+    }
+
+    private void pruneUnavailablePosts(Long memberId, List<Long> postIds, List<PostSummaryResponse> posts) {
+        if (postIds.size() == posts.size()) return;
+
+        Map<Long, Boolean> available = posts.stream()
+                .collect(Collectors.toMap(PostSummaryResponse::postId, post -> true));
+        timelineRepository.remove(memberId, postIds.stream()
+                .filter(postId -> !available.containsKey(postId))
+                .toList());
+    }
 }
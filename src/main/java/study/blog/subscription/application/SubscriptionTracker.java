@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import study.blog.subscription.domain.event.SubscribedEvent;
+import study.blog.subscription.domain.event.UnsubscribedEvent;
 
 @Component
 @RequiredArgsConstructor
@@ -13,4 +14,8 @@ public class SubscriptionTracker {
     public void track(Long subscriberId, Long targetId) {
         publisher.publishEvent(new SubscribedEvent(subscriberId, targetId));
     }
+
+    public void trackUnsubscribe(Long subscriberId, Long targetId) {
+        publisher.publishEvent(new UnsubscribedEvent(subscriberId, targetId));
+    }
 }
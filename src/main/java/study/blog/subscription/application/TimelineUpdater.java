@@ -0,0 +1,76 @@
+package study.blog.subscription.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import study.blog.post.application.PostQueryService;
+import study.blog.post.presentation.response.PublishedPostResponse;
+import study.blog.subscription.infrastructure.redis.TimelineEntry;
+import study.blog.subscription.infrastructure.redis.TimelineRedisRepository;
+
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class TimelineUpdater {
+
+    private static final int BACKFILL_SIZE = 20;
+
+    private final TimelineRedisRepository timelineRepository;
+    private final PostQueryService postQueryService;
+
+    /**
+     * 새 글을 구독자들의 타임라인에 추가한다. (push 대상 작성자만 호출된다)
+     */
+    public void push(Collection<Long> subscriberIds, Long postId, long publishedAt) {
+        timelineRepository.addToTimelines(subscriberIds, postId, publishedAt);
+    }
+
+    /**
+     * 구독 시 작성자의 최근 글 BACKFILL_SIZE 건을 타임라인에 채운다.
+     */
+    public void backfill(Long subscriberId, Long targetId) {
+        if (!timelineRepository.exists(subscriberId)) return;
+
+        timelineRepository.addIfPresent(subscriberId, toEntries(
+                postQueryService.findRecentPublishedPosts(List.of(targetId), BACKFILL_SIZE)));
+    }
+
+    /**
+     * 구독 취소 시 작성자의 글을 타임라인에서 제거한다.
+     */
+    public void prune(Long subscriberId, Long targetId) {
+        if (!timelineRepository.exists(subscriberId)) return;
+
+        timelineRepository.remove(subscriberId, postQueryService
+                .findRecentPublishedPosts(List.of(targetId), TimelineRedisRepository.MAX_SIZE)
+                .stream()
+                .map(PublishedPostResponse::postId)
+                .toList());
+    }
+
+    /**
+     * 타임라인 키가 없으면 구독 중인 작성자의 최근 글로 다시 구성한다.
+     * (최초 조회, TTL 만료 후 조회 시에만 발생하며, 이후에는 push/backfill 로 유지된다)
+     */
+    public void rebuildIfAbsent(Long memberId, Supplier<List<Long>> targetIds) {
+        if (timelineRepository.exists(memberId)) return;
+
+        // 구독 목록과 게시글을 DB 에서 읽기 전에 표식을 만들어, 그 사이의 구독 backfill / push 가 빠지지 않게 한다.
+        timelineRepository.startRebuild(memberId);
+        timelineRepository.rebuild(memberId, toEntries(
+                postQueryService.findRecentPublishedPosts(targetIds.get(), TimelineRedisRepository.MAX_SIZE)));
+    }
+
+    public static long toScore(PublishedPostResponse post) {
+        return post.publishedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private List<TimelineEntry> toEntries(List<PublishedPostResponse> posts) {
+        return posts.stream()
+                .map(post -> new TimelineEntry(post.postId(), toScore(post)))
+                .toList();
+    }
+}
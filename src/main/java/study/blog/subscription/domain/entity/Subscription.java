@@ -3,6 +3,8 @@ package study.blog.subscription.domain.entity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +16,10 @@ import static lombok.AccessLevel.PROTECTED;
 @Getter
 @Entity
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_subscription_target_id_id", columnList = "target_id, id"),
+        @Index(name = "idx_subscription_subscriber_id_id", columnList = "subscriber_id, id")
+})
 public class Subscription extends BaseEntity {
 
     @Id @GeneratedValue(strategy = IDENTITY)
@@ -0,0 +1,4 @@
+package study.blog.subscription.domain.event;
+
+public record UnsubscribedEvent(Long subscriberId, Long targetId) {
+}
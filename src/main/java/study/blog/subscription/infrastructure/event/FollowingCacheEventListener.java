@@ -0,0 +1,49 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import study.blog.global.web.version.ContentVersionStore;
+import study.blog.subscription.domain.event.SubscribedEvent;
+import study.blog.subscription.domain.event.UnsubscribedEvent;
+import study.blog.subscription.infrastructure.redis.FollowingRedisRepository;
+
+import java.util.List;
+
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generateViewerKey;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowingCacheEventListener {
+
+    private final FollowingRedisRepository followingRedisRepository;
+    private final ContentVersionStore contentVersionStore;
+
+    /**
+     * 구독 / 구독 취소 커밋 이후 구독자의 구독 집합을 갱신한다.
+     * 실패해도 구독 처리에는 영향을 주지 않으며, 집합은 TTL 만료 후 DB 기준으로 다시 구성된다.
+     * 집합 갱신 이후 구독자의 응답 버전을 올려 구독 여부가 담긴 캐시 응답(ETag)을 무효화한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(SubscribedEvent event) {
+        try {
+            followingRedisRepository.addIfPresent(event.subscriberId(), event.targetId());
+            contentVersionStore.bump(List.of(generateViewerKey(event.subscriberId())));
+        } catch (Exception e) {
+            log.warn("구독 집합 갱신 실패 - subscriberId={}, targetId={}", event.subscriberId(), event.targetId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(UnsubscribedEvent event) {
+        try {
+            followingRedisRepository.removeIfPresent(event.subscriberId(), event.targetId());
+            contentVersionStore.bump(List.of(generateViewerKey(event.subscriberId())));
+        } catch (Exception e) {
+            log.warn("구독 집합 갱신 실패 - subscriberId={}, targetId={}", event.subscriberId(), event.targetId(), e);
+        }
+    }
+}
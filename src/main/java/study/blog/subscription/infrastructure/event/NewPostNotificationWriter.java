@@ -0,0 +1,51 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import study.blog.notification.application.NotificationCommandService;
+import study.blog.notification.application.NotificationCreateCommand;
+import study.blog.notification.domain.NotificationType;
+import study.blog.notification.domain.event.NotificationSseEvent;
+import study.blog.notification.presentation.response.NotificationResponse;
+import study.blog.subscription.application.NewPostNotificationKey;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class NewPostNotificationWriter {
+
+    private final NotificationCommandService notificationCommandService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 구독자 한 페이지에 대한 새 글 알림을 한 트랜잭션으로 저장한다.
+     * (구독자 전체를 한 트랜잭션으로 묶으면 트랜잭션이 길어지고 실패 시 전부 롤백되므로 페이지 단위로 나눈다)
+     */
+    @Transactional
+    public void write(Long postId, Long authorId, String authorNickname, List<Long> subscriberIds) {
+        List<NotificationCreateCommand> commands = subscriberIds.stream()
+                .map(subscriberId -> new NotificationCreateCommand(
+                        subscriberId,
+                        authorId,
+                        NotificationType.NEW_POST,
+                        authorNickname,
+                        NewPostNotificationKey.of(postId, subscriberId)))
+                .toList();
+
+        List<NotificationResponse> notifications = notificationCommandService.createAll(commands);
+
+        // AFTER_COMMIT 이벤트 — 트랜잭션 커밋 후 Pub/Sub 발행 보장
+        notifications.forEach(notification -> eventPublisher.publishEvent(new NotificationSseEvent(
+                notification.notificationId(),
+                notification.receiverId(),
+                notification.senderId(),
+                notification.type(),
+                notification.message(),
+                notification.isRead(),
+                notification.createdAt()
+        )));
+    }
+}
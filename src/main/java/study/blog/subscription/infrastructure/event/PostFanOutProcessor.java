@@ -0,0 +1,81 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import study.blog.member.repository.MemberReader;
+import study.blog.subscription.application.TimelineUpdater;
+import study.blog.subscription.domain.entity.Subscription;
+import study.blog.subscription.infrastructure.persistence.query.SubscriptionQueryRepository;
+import study.blog.subscription.infrastructure.redis.FanOutOutboxRedisRepository;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class PostFanOutProcessor {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final SubscriptionQueryRepository subscriptionQueryRepository;
+    private final FanOutOutboxRedisRepository outboxRepository;
+    private final NewPostNotificationWriter notificationWriter;
+    private final MemberReader memberReader;
+    private final TimelineUpdater timelineUpdater;
+    private final long pushThreshold;
+
+    public PostFanOutProcessor(SubscriptionQueryRepository subscriptionQueryRepository,
+                               FanOutOutboxRedisRepository outboxRepository,
+                               NewPostNotificationWriter notificationWriter,
+                               MemberReader memberReader,
+                               TimelineUpdater timelineUpdater,
+                               @Value("${subscription.fanout.push-threshold:10000}") long pushThreshold) {
+        this.subscriptionQueryRepository = subscriptionQueryRepository;
+        this.outboxRepository = outboxRepository;
+        this.notificationWriter = notificationWriter;
+        this.memberReader = memberReader;
+        this.timelineUpdater = timelineUpdater;
+        this.pushThreshold = pushThreshold;
+    }
+
+    /**
+     * 게시글 발행을 구독자에게 전파한다. (push / pull 하이브리드)
+     *
+     * 처리 정책
+     * - 구독자 수는 Member.followerCount 비정규화 컬럼으로 판단한다. (발행마다 subscription 을 COUNT 하지 않도록)
+     *   커밋 직후 카운트가 아직 반영되지 않았을 수 있으므로 0 이어도 구독자 페이지를 한 번은 조회한다.
+     * - 구독자 수 <= pushThreshold : push. 구독자를 id 커서로 PAGE_SIZE 씩 읽어 페이지마다 알림을 batch insert 하고
+     *   구독자 타임라인에 게시글을 추가한다.
+     * - 구독자 수 >  pushThreshold : pull. 작성자 outbox 에만 기록하고, 구독자가 알림/타임라인을 조회할 때 읽어간다.
+     *   (구독자가 수십만 명인 작성자의 발행 1건이 수십만 row insert 로 이어지지 않도록 하기 위함)
+     *
+     * 예외 처리
+     * - 중간 페이지에서 실패하면 예외를 던져 메시지를 PEL 에 남긴다.
+     *   재처리 시 이미 저장된 알림은 streamMessageId 로 걸러지므로 처음부터 다시 처리해도 중복되지 않는다.
+     */
+    public void fanOut(PostPublishedMessage message) {
+        long followerCount = memberReader.getFollowerCount(message.authorId());
+
+        if (followerCount > pushThreshold) {
+            outboxRepository.append(message.authorId(), message.postId(), message.publishedAt());
+            log.info("새 글 pull 전파 - postId={}, authorId={}, followerCount={}", message.postId(), message.authorId(), followerCount);
+            return;
+        }
+
+        String authorNickname = memberReader.getNickName(message.authorId());
+        Long lastSubscriptionId = null;
+        while (true) {
+            List<Subscription> page = subscriptionQueryRepository.findSubscribersByTargetId(
+                    message.authorId(), lastSubscriptionId, PAGE_SIZE);
+            if (page.isEmpty()) break;
+
+            List<Long> subscriberIds = page.stream().map(Subscription::getSubscriberId).toList();
+            notificationWriter.write(message.postId(), message.authorId(), authorNickname, subscriberIds);
+            timelineUpdater.push(subscriberIds, message.postId(), message.publishedAt());
+
+            if (page.size() < PAGE_SIZE) break;
+            lastSubscriptionId = page.get(page.size() - 1).getId();
+        }
+        log.info("새 글 push 전파 - postId={}, authorId={}, followerCount={}", message.postId(), message.authorId(), followerCount);
+    }
+}
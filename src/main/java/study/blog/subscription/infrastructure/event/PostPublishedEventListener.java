@@ -0,0 +1,29 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import study.blog.post.domain.event.PostPublishedEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPublishedEventListener {
+
+    private final PostPublishedStreamPublisher streamPublisher;
+
+    /**
+     * 게시글 발행 트랜잭션 커밋 이후 Redis Stream 에 적재한다.
+     * 구독자 수만큼의 알림 생성은 요청 스레드가 아닌 스트림 Consumer 에서 처리한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostPublishedEvent event) {
+        try {
+            streamPublisher.publish(event);
+        } catch (Exception e) {
+            log.error("게시글 발행 이벤트 스트림 적재 실패 - postId={}", event.postId(), e);
+        }
+    }
+}
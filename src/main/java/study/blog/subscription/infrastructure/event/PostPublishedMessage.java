@@ -0,0 +1,19 @@
+package study.blog.subscription.infrastructure.event;
+
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+public record PostPublishedMessage(
+        String messageId,
+        Long postId,
+        Long authorId,
+        long publishedAt
+) {
+    public static PostPublishedMessage from(MapRecord<String, Object, Object> record) {
+        return new PostPublishedMessage(
+                record.getId().getValue(),
+                Long.valueOf((String) record.getValue().get("postId")),
+                Long.valueOf((String) record.getValue().get("authorId")),
+                Long.parseLong((String) record.getValue().get("publishedAt"))
+        );
+    }
+}
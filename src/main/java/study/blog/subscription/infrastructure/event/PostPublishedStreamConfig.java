@@ -0,0 +1,37 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class PostPublishedStreamConfig {
+
+    // 게시글 1건의 fan-out 이 여러 페이지의 insert 로 이어지므로 구독 스트림보다 작은 배치로 읽는다.
+    private static final int BATCH_SIZE = 10;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisStreamInitializer streamInitializer;
+    private final SubscribedStreamTopology topology;
+
+    @Bean
+    public RedisStreamPoller postPublishedStreamPoller(PostPublishedStreamConsumer consumer) {
+        streamInitializer.initStreamAndGroup(PostPublishedStreamPublisher.STREAM_KEY, PostPublishedStreamConsumer.CONSUMER_GROUP);
+
+        return new RedisStreamPoller(
+                redisTemplate,
+                PostPublishedStreamConsumer.CONSUMER_GROUP,
+                topology.getConsumerName(),
+                List.of(PostPublishedStreamPublisher.STREAM_KEY),
+                BATCH_SIZE,
+                Duration.ofSeconds(1),
+                consumer::consume,
+                "post-published-stream-poller"
+        );
+    }
+}
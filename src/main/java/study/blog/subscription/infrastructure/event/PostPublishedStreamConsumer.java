@@ -0,0 +1,91 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.blog.subscription.domain.entity.StreamDeadLetter;
+import study.blog.subscription.infrastructure.command.StreamDeadLetterRepository;
+import study.blog.subscription.infrastructure.event.StreamPendingReclaimer.ReclaimedRecord;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPublishedStreamConsumer {
+
+    static final String CONSUMER_GROUP = "post-fanout-group";
+    private static final Duration MIN_IDLE_TIME = Duration.ofMinutes(5);
+    private static final int MAX_RETRY_COUNT = 3;
+    private static final long RECLAIM_BATCH_SIZE = 20;
+
+    private final PostFanOutProcessor fanOutProcessor;
+    private final StringRedisTemplate redisTemplate;
+    private final StreamDeadLetterRepository deadLetterRepository;
+    private final StreamPendingReclaimer pendingReclaimer;
+    private final SubscribedStreamTopology topology;
+
+    /**
+     * 게시글 발행 메시지를 한 건씩 fan-out 하고 성공 시 ACK 한다.
+     * 실패한 메시지는 PEL 에 남겨 reclaimPendingMessages 에서 재처리한다.
+     */
+    public void consume(List<MapRecord<String, Object, Object>> records) {
+        for (MapRecord<String, Object, Object> record : records) {
+            if (!record.getValue().containsKey("postId")) {
+                ack(record);
+                continue;
+            }
+
+            try {
+                fanOutProcessor.fanOut(PostPublishedMessage.from(record));
+                ack(record);
+            } catch (Exception e) {
+                log.error("게시글 발행 fan-out 실패 - messageId={}", record.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * PEL에 잔류한 fan-out 실패 메시지를 1분마다 재처리한다.
+     * 최대 재시도 횟수를 넘은 메시지는 Dead Letter 로 보낸다. (targetId = 작성자 ID)
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void reclaimPendingMessages() {
+        List<ReclaimedRecord> reclaimedRecords = pendingReclaimer.claimIdle(
+                PostPublishedStreamPublisher.STREAM_KEY, CONSUMER_GROUP, topology.getConsumerName(),
+                MIN_IDLE_TIME, RECLAIM_BATCH_SIZE);
+
+        for (ReclaimedRecord reclaimed : reclaimedRecords) {
+            if (reclaimed.deliveryCount() > MAX_RETRY_COUNT) {
+                deadLetter(reclaimed.record(), reclaimed.deliveryCount());
+                continue;
+            }
+            consume(List.of(reclaimed.record()));
+        }
+    }
+
+    private void deadLetter(MapRecord<String, Object, Object> record, long deliveryCount) {
+        try {
+            deadLetterRepository.save(StreamDeadLetter.of(
+                    record.getStream(),
+                    record.getId().getValue(),
+                    null,
+                    (String) record.getValue().get("authorId"),
+                    (int) deliveryCount
+            ));
+            ack(record);
+            log.error("Dead Letter 저장 완료 - messageId={}, deliveryCount={}", record.getId(), deliveryCount);
+        } catch (Exception e) {
+            log.error("Dead Letter 저장 실패 - messageId={}", record.getId(), e);
+        }
+    }
+
+    private void ack(MapRecord<String, Object, Object> record) {
+        redisTemplate.opsForStream().acknowledge(record.getStream(), CONSUMER_GROUP, record.getId());
+    }
+}
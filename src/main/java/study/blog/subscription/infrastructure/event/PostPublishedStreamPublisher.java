@@ -0,0 +1,45 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import study.blog.post.domain.event.PostPublishedEvent;
+
+import java.time.ZoneId;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class PostPublishedStreamPublisher {
+
+    static final String STREAM_KEY = "stream:post-published";
+
+    private final StringRedisTemplate redisTemplate;
+    private final XAddOptions addOptions;
+
+    public PostPublishedStreamPublisher(StringRedisTemplate redisTemplate,
+                                        @Value("${subscription.stream.max-length:100000}") long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.addOptions = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
+
+    public void publish(PostPublishedEvent event) {
+        redisTemplate.opsForStream().add(
+                StreamRecords.newRecord()
+                        .in(STREAM_KEY)
+                        .ofMap(Map.of(
+                                "postId", String.valueOf(event.postId()),
+                                "authorId", String.valueOf(event.authorId()),
+                                "publishedAt", String.valueOf(toEpochMilli(event)))),
+                addOptions
+        );
+        log.info("게시글 발행 이벤트 Redis Stream 발행 - postId={}, authorId={}", event.postId(), event.authorId());
+    }
+
+    private long toEpochMilli(PostPublishedEvent event) {
+        return event.publishedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,44 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStreamInitializer {
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Stream 과 Consumer Group 이 없으면 생성한다.
+     * 앱 시작 시 폴링 전에 호출해야 XREADGROUP 이 NOGROUP 오류 없이 동작한다.
+     */
+    public void initStreamAndGroup(String streamKey, String consumerGroup) {
+        // Stream이 없으면 더미 메시지로 먼저 생성
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+            redisTemplate.opsForStream().add(
+                    streamKey,
+                    Map.of("_init", "1")
+            );
+            log.info("Redis Stream 생성: {}", streamKey);
+        }
+
+        // Consumer Group이 없으면 생성 (이미 있으면 예외 무시)
+        try {
+            redisTemplate.opsForStream().createGroup(
+                    streamKey,
+                    ReadOffset.from("0"),
+                    consumerGroup
+            );
+            log.info("Consumer Group 생성: {}", consumerGroup);
+        } catch (Exception e) {
+            log.info("Consumer Group 이미 존재: {}", consumerGroup);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis Stream 을 배치 단위로 읽어 handler 에 넘기는 폴링 루프.
+ *
+ * 처리 정책
+ * - XREADGROUP COUNT {batchSize} BLOCK {pollTimeout} 으로 한 번에 여러 메시지를 읽는다.
+ * - 스트림 키가 여러 개(파티션)면 한 번의 XREADGROUP 으로 모두 함께 읽는다. (COUNT 는 키별로 적용된다)
+ * - handler 가 배치 처리(ACK 포함)를 끝낸 뒤 다음 배치를 읽으므로 같은 키의 처리 순서가 보장된다.
+ * - Redis 오류 시 잠시 대기 후 재시도하며, 루프 자체는 종료되지 않는다.
+ */
+@Slf4j
+public class RedisStreamPoller implements SmartLifecycle {
+
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Consumer consumer;
+    private final StreamOffset<String>[] streamOffsets;
+    private final StreamReadOptions readOptions;
+    private final java.util.function.Consumer<List<MapRecord<String, Object, Object>>> handler;
+    private final String threadName;
+
+    private volatile boolean running;
+    private Thread pollingThread;
+
+    @SuppressWarnings("unchecked")
+    public RedisStreamPoller(StringRedisTemplate redisTemplate,
+                             String consumerGroup,
+                             String consumerName,
+                             List<String> streamKeys,
+                             int batchSize,
+                             Duration pollTimeout,
+                             java.util.function.Consumer<List<MapRecord<String, Object, Object>>> handler,
+                             String threadName) {
+        this.redisTemplate = redisTemplate;
+        this.consumer = Consumer.from(consumerGroup, consumerName);
+        // ReadOffset.lastConsumed() = ">" : 아직 아무도 처리하지 않은 새 메시지만 읽음
+        this.streamOffsets = streamKeys.stream()
+                .map(streamKey -> StreamOffset.create(streamKey, ReadOffset.lastConsumed()))
+                .toArray(StreamOffset[]::new);
+        this.readOptions = StreamReadOptions.empty()
+                .count(batchSize)
+                .block(pollTimeout);
+        this.handler = handler;
+        this.threadName = threadName;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        pollingThread = new Thread(this::poll, threadName);
+        pollingThread.setDaemon(true);
+        pollingThread.start();
+        log.info("Redis Stream 폴링 시작 - group={}, consumer={}", consumer.getGroup(), consumer.getName());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pollingThread == null) return;
+
+        try {
+            pollingThread.join(readOptions.getBlock() * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Redis Stream 폴링 종료 - group={}, consumer={}", consumer.getGroup(), consumer.getName());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void poll() {
+        while (running) {
+            try {
+                List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                        consumer,
+                        readOptions,
+                        streamOffsets
+                );
+
+                if (records == null || records.isEmpty()) continue;
+
+                handler.accept(records);
+            } catch (Exception e) {
+                if (!running) return;
+                log.error("Redis Stream 폴링 실패 - group={}", consumer.getGroup(), e);
+                sleep(ERROR_BACKOFF);
+            }
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class StreamPendingReclaimer {
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * PEL 에서 minIdleTime 이상 idle 한 메시지를 claim 하고 deliveryCount 와 함께 반환한다.
+     *
+     * XAUTOCLAIM 과 같은 효과를 한 번의 sweep 으로 얻는다.
+     * - XPENDING(범위 조회) 1회로 idle 시간과 deliveryCount 를 함께 가져온다.
+     * - idle 한 메시지만 XCLAIM 1회로 일괄 claim 한다.
+     *   claim 시에도 idle 시간을 다시 검사하므로 다중 인스턴스에서 동시에 호출해도 각 인스턴스가 서로 다른 메시지를 가져간다.
+     * - 반환되는 deliveryCount 는 이번 claim 으로 1 증가한 값이다.
+     * - XPENDING 이 돌려준 id 순서(오래된 순)를 유지해 claim 하므로 같은 키의 메시지가 발행 순서대로 반환된다.
+     */
+    public List<ReclaimedRecord> claimIdle(String streamKey, String consumerGroup, String consumerName,
+                                           Duration minIdleTime, long count) {
+        PendingMessages pendingMessages = redisTemplate.opsForStream().pending(
+                streamKey,
+                consumerGroup,
+                Range.unbounded(),
+                count
+        );
+
+        if (pendingMessages == null || pendingMessages.isEmpty()) return List.of();
+
+        Map<RecordId, Long> deliveryCounts = new LinkedHashMap<>();
+        for (PendingMessage pendingMessage : pendingMessages) {
+            if (pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(minIdleTime) < 0) continue;
+            deliveryCounts.put(pendingMessage.getId(), pendingMessage.getTotalDeliveryCount() + 1);
+        }
+
+        if (deliveryCounts.isEmpty()) return List.of();
+
+        List<MapRecord<String, Object, Object>> claimedMessages = redisTemplate.opsForStream().claim(
+                streamKey,
+                consumerGroup,
+                consumerName,
+                minIdleTime,
+                deliveryCounts.keySet().toArray(RecordId[]::new)
+        );
+
+        return claimedMessages.stream()
+                .map(record -> new ReclaimedRecord(record, deliveryCounts.getOrDefault(record.getId(), 0L)))
+                .toList();
+    }
+
+    public record ReclaimedRecord(
+            MapRecord<String, Object, Object> record,
+            long deliveryCount
+    ) {
+    }
+}
@@ -1,88 +1,62 @@
 package study.blog.subscription.infrastructure.event;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.stream.Consumer;
-import org.springframework.data.redis.connection.stream.MapRecord;
-import org.springframework.data.redis.connection.stream.ReadOffset;
-import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
-import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
-import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
 
-@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class SubscribedStreamConfig {
 
-
-    private static final String CONSUMER_NAME = "notification-consumer";
-
     private final StringRedisTemplate redisTemplate;
-    private final RedisConnectionFactory redisConnectionFactory;
-    private final SubscribedStreamConsumer consumer;
+    private final RedisStreamInitializer streamInitializer;
+    private final SubscribedStreamTopology topology;
 
     @Bean
-    public StreamMessageListenerContainer<String, MapRecord<String, String, String>> subscribedStreamListenerContainer() {
-        // 앱 시작 시 Stream과 Consumer Group이 없으면 먼저 생성
-        initStreamAndGroup();
-
-        StreamMessageListenerContainer.StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
-                StreamMessageListenerContainer.StreamMessageListenerContainerOptions
-                        .<String, MapRecord<String, String, String>>builder()
-                        // 새 메시지가 없을 때 최대 1초 대기 후 다시 폴링
-                        // (1초마다 "새 주문서 왔나?" 확인하는 주기)
-                        .pollTimeout(Duration.ofSeconds(1))
-                        // Redis의 key/value를 String으로 직렬화/역직렬화
-                        .serializer(new StringRedisSerializer())
-                        .build();
-
-        StreamMessageListenerContainer<String, MapRecord<String, String, String>> container =
-                StreamMessageListenerContainer.create(redisConnectionFactory, options);
-
-        container.receive(
-                // 어느 그룹의 누가 처리할 것인가 등록
-                Consumer.from(SubscribedStreamConsumer.CONSUMER_GROUP, CONSUMER_NAME),
-                // 어느 보관함의 어디서부터 읽을 것인가
-                // ReadOffset.lastConsumed() = ">" : 아직 아무도 처리하지 않은 새 메시지만 읽음
-                StreamOffset.create(SubscribedStreamPublisher.STREAM_KEY, ReadOffset.lastConsumed()),
-                // 실제로 처리할 Consumer 등록
-                consumer
+    public RedisStreamPoller subscribedStreamPoller(
+            SubscribedStreamConsumer consumer,
+            @Value("${subscription.stream.batch-size:50}") int batchSize
+    ) {
+        // 앱 시작 시 파티션별 Stream과 Consumer Group이 없으면 먼저 생성
+        topology.getStreamKeys().forEach(streamKey ->
+                streamInitializer.initStreamAndGroup(streamKey, SubscribedStreamConsumer.CONSUMER_GROUP));
+
+        // 새 메시지가 없을 때 최대 1초 대기(XREADGROUP BLOCK) 후 다시 폴링
+        return new RedisStreamPoller(
+                redisTemplate,
+                SubscribedStreamConsumer.CONSUMER_GROUP,
+                topology.getConsumerName(),
+                topology.getStreamKeys(),
+                batchSize,
+                Duration.ofSeconds(1),
+                consumer::consume,
+                "subscribed-stream-poller"
         );
-
-        // 백그라운드 폴링 스레드 시작
-        container.start();
-        return container;
     }
 
-
-    private void initStreamAndGroup() {
-        // Stream이 없으면 더미 메시지로 먼저 생성
-        if (!Boolean.TRUE.equals(redisTemplate.hasKey(SubscribedStreamPublisher.STREAM_KEY))) {
-            redisTemplate.opsForStream().add(
-                    SubscribedStreamPublisher.STREAM_KEY,
-                    Map.of("_init", "1")
-            );
-            log.info("Redis Stream 생성: {}", SubscribedStreamPublisher.STREAM_KEY);
-        }
-
-        // Consumer Group이 없으면 생성 (이미 있으면 예외 무시)
-        try {
-            redisTemplate.opsForStream().createGroup(
-                    SubscribedStreamPublisher.STREAM_KEY,
-                    ReadOffset.from("0"),
-                    SubscribedStreamConsumer.CONSUMER_GROUP
-            );
-            log.info("Consumer Group 생성: {}", SubscribedStreamConsumer.CONSUMER_GROUP);
-        } catch (Exception e) {
-            log.info("Consumer Group 이미 존재: {}", SubscribedStreamConsumer.CONSUMER_GROUP);
-        }
+    /**
+     * 한 번에 읽어온 배치를 병렬 처리하는 워커 풀.
+     * 배치는 targetId 기준 레인으로 나뉘어 레인 수(worker-count) 만큼만 동시에 제출되므로
+     * 큐가 가득 차는 경우는 없지만, 만약을 대비해 CallerRunsPolicy 로 유실을 막는다.
+     */
+    @Bean(name = "subscribedStreamWorkerExecutor")
+    public ThreadPoolTaskExecutor subscribedStreamWorkerExecutor(
+            @Value("${subscription.stream.worker-count:4}") int workerCount
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerCount);
+        executor.setMaxPoolSize(workerCount);
+        executor.setQueueCapacity(workerCount);
+        executor.setThreadNamePrefix("subscribed-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
     }
 }
@@ -1,101 +1,304 @@
 package study.blog.subscription.infrastructure.event;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import study.blog.subscription.domain.entity.StreamDeadLetter;
 import study.blog.subscription.infrastructure.command.StreamDeadLetterRepository;
+import study.blog.subscription.infrastructure.event.StreamPendingReclaimer.ReclaimedRecord;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class SubscribedStreamConsumer implements StreamListener<String, MapRecord<String, String, String>> {
+public class SubscribedStreamConsumer {
 
     static final String CONSUMER_GROUP = "subscription-notification-group";
-    private static final String CONSUMER_NAME = "notification-consumer";
     private static final Duration MIN_IDLE_TIME = Duration.ofMinutes(5);
     private static final int MAX_RETRY_COUNT = 3;
+    private static final long RECLAIM_BATCH_SIZE = 100;
+    private static final Duration DEAD_CONSUMER_IDLE_TIME = Duration.ofHours(1);
+    private static final Pattern SUBSCRIBED_STREAM_KEY = Pattern.compile(
+            Pattern.quote(SubscribedStreamTopology.STREAM_KEY) + "(:\\d+)?");
+    private static final int MAX_DRAIN_BATCHES = 20;
 
     private final SubscriptionNotificationProcessor processor;
     private final StringRedisTemplate redisTemplate;
     private final StreamDeadLetterRepository deadLetterRepository;
+    private final SubscribedStreamTopology topology;
+    private final StreamPendingReclaimer pendingReclaimer;
+    private final ThreadPoolTaskExecutor workerExecutor;
+    private final int workerCount;
 
-    @Override
-    public void onMessage(MapRecord<String, String, String> message) {
-        if (isSkippable(message)) {
-            ack(message.getId());
-            log.info("처리 대상 아닌 메시지 스킵 - messageId={}, value={}", message.getId(), message.getValue());
-            return;
-        }
+    /**
+     * 폴링 배치와 PEL 재처리가 동시에 실행되지 않도록 한다.
+     * (각자 레인을 나누면 같은 targetId 의 메시지가 서로 다른 스레드에서 동시에 처리된다)
+     */
+    private final ReentrantLock batchLock = new ReentrantLock(true);
+
+    /**
+     * 현재 파티션 구성에 없는 구독 스트림 키. (partitions 변경 전 키, 처음 drain 할 때 한 번 찾는다)
+     */
+    private volatile List<String> legacyStreamKeys;
+
+    public SubscribedStreamConsumer(SubscriptionNotificationProcessor processor,
+                                    StringRedisTemplate redisTemplate,
+                                    StreamDeadLetterRepository deadLetterRepository,
+                                    SubscribedStreamTopology topology,
+                                    StreamPendingReclaimer pendingReclaimer,
+                                    @Qualifier("subscribedStreamWorkerExecutor") ThreadPoolTaskExecutor workerExecutor,
+                                    @Value("${subscription.stream.worker-count:4}") int workerCount) {
+        this.processor = processor;
+        this.redisTemplate = redisTemplate;
+        this.deadLetterRepository = deadLetterRepository;
+        this.topology = topology;
+        this.pendingReclaimer = pendingReclaimer;
+        this.workerExecutor = workerExecutor;
+        this.workerCount = workerCount;
+    }
 
+    /**
+     * XREADGROUP 으로 읽어온 배치를 처리한다.
+     *
+     * 처리 정책
+     * - targetId 기준으로 레인을 나누고, 레인끼리는 병렬 / 레인 내부는 순차 처리한다.
+     *   (같은 targetId 의 메시지는 항상 같은 레인에서 읽은 순서대로 처리된다)
+     * - 배치의 모든 레인이 끝나면 성공한 메시지만 한 번의 XACK 으로 일괄 확인한다.
+     * - 실패한 메시지는 ACK 하지 않고 PEL 에 남겨 reclaimPendingMessages 에서 재처리한다.
+     * - PEL 재처리와 같은 락으로 직렬화하므로 재처리는 항상 폴링 배치 사이에 실행된다.
+     */
+    public void consume(List<MapRecord<String, Object, Object>> records) {
+        batchLock.lock();
         try {
-            Long subscriberId = Long.valueOf(message.getValue().get("subscriberId"));
-            Long targetId = Long.valueOf(message.getValue().get("targetId"));
-            String messageId = message.getId().getValue();
-            processor.process(subscriberId, targetId, messageId);
-            ack(message.getId());
-        } catch (Exception e) {
-            log.error("구독 스트림 메시지 처리 실패 - messageId={}", message.getId(), e);
+            process(records);
+        } finally {
+            batchLock.unlock();
+        }
+    }
+
+    private void process(List<MapRecord<String, Object, Object>> records) {
+        List<MapRecord<String, Object, Object>> skipped = new ArrayList<>();
+        Map<Integer, List<MapRecord<String, Object, Object>>> lanes = new LinkedHashMap<>();
+
+        for (MapRecord<String, Object, Object> record : records) {
+            if (isSkippable(record)) {
+                log.info("처리 대상 아닌 메시지 스킵 - messageId={}, value={}", record.getId(), record.getValue());
+                skipped.add(record);
+                continue;
+            }
+            lanes.computeIfAbsent(laneOf(record), lane -> new ArrayList<>()).add(record);
+        }
+
+        List<CompletableFuture<List<MapRecord<String, Object, Object>>>> futures = lanes.values().stream()
+                .map(lane -> CompletableFuture.supplyAsync(() -> processLane(lane), workerExecutor))
+                .toList();
+
+        List<MapRecord<String, Object, Object>> succeeded = new ArrayList<>(skipped);
+        for (CompletableFuture<List<MapRecord<String, Object, Object>>> future : futures) {
+            succeeded.addAll(future.join());
         }
+
+        ack(succeeded);
     }
 
     /**
      * PEL에 잔류한 미처리 메시지를 1분마다 재처리한다.
      *
-     *  MIN_IDLE_TIME 이상 idle한 PEL 메시지를 원자적으로 claim하고 내용을 반환한다.
-     *  claim된 메시지는 deliveryCount가 1 증가한다.
-     *  다중 인스턴스에서 동시에 호출해도 각 인스턴스가 서로 다른 메시지를 가져간다.
+     * MIN_IDLE_TIME 이상 idle 한 메시지를 StreamPendingReclaimer 로 일괄 claim 하고,
+     * 최대 재시도 횟수를 넘은 메시지는 Dead Letter 로 보낸다.
+     *
+     * 처리 정책
+     * - 폴링 배치와 같은 락을 잡고 실행한다. (폴링 스레드가 배치를 처리하는 동안에는 기다렸다가 배치 사이에 실행)
+     * - claim 한 메시지는 id 순서대로 live 배치와 같은 레인 분할로 처리한다.
+     *
+     * 트레이드 오프
+     * - 실패한 메시지가 MIN_IDLE_TIME 동안 PEL 에 머무는 사이 같은 targetId 의 새 메시지가 먼저 처리될 수 있다.
+     *   구독 알림은 메시지별로 독립된 insert 이고 streamMessageId 로 중복을 거르므로 결과는 같다.
      */
     @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
     public void reclaimPendingMessages() {
-        var summary = redisTemplate.opsForStream()
-                .pending(SubscribedStreamPublisher.STREAM_KEY, CONSUMER_GROUP);
+        batchLock.lock();
+        try {
+            for (String streamKey : allStreamKeys()) {
+                try {
+                    reclaimPendingMessages(streamKey);
+                } catch (Exception e) {
+                    log.error("PEL 재처리 실패 - streamKey={}", streamKey, e);
+                }
+            }
+        } finally {
+            batchLock.unlock();
+        }
+    }
 
-        if (summary == null || summary.getTotalPendingMessages() == 0) return;
+    /**
+     * 더 이상 동작하지 않는 Consumer 를 Consumer Group 에서 제거한다.
+     *
+     * Consumer 이름이 인스턴스마다 생성되므로 재배포/스케일 인 이후 죽은 Consumer 가 그룹에 계속 쌓인다.
+     * - DEAD_CONSUMER_IDLE_TIME 이상 idle 하고 PEL 이 비어 있는 Consumer 만 제거한다.
+     * - PEL 이 남아 있는 Consumer 는 reclaimPendingMessages 가 메시지를 가져간 뒤 다음 주기에 제거된다.
+     *   (PEL 이 남은 Consumer 를 제거하면 해당 메시지가 유실되므로 제거하지 않는다)
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void removeDeadConsumers() {
+        for (String streamKey : allStreamKeys()) {
+            try {
+                redisTemplate.opsForStream().consumers(streamKey, CONSUMER_GROUP).stream().forEach(consumer -> {
+                    if (consumer.consumerName().equals(topology.getConsumerName())) return;
+                    if (consumer.pendingCount() > 0) return;
+                    if (consumer.idleTimeMs() < DEAD_CONSUMER_IDLE_TIME.toMillis()) return;
 
-        List<MapRecord<String, Object, Object>> pendingMessages = redisTemplate.opsForStream()
-                .claim(SubscribedStreamPublisher.STREAM_KEY,
-                        CONSUMER_GROUP,
-                        CONSUMER_NAME,
-                        MIN_IDLE_TIME);
+                    redisTemplate.opsForStream().deleteConsumer(streamKey, Consumer.from(CONSUMER_GROUP, consumer.consumerName()));
+                    log.info("죽은 Consumer 제거 - streamKey={}, consumer={}", streamKey, consumer.consumerName());
+                });
+            } catch (Exception e) {
+                log.warn("죽은 Consumer 제거 실패 - streamKey={}", streamKey, e);
+            }
+        }
+    }
 
-        if (pendingMessages.isEmpty()) return;
+    /**
+     * subscription.stream.partitions 변경 전의 스트림 키에 남은 메시지를 계속 읽어 처리한다.
+     *
+     * 폴링 루프는 현재 구성의 키만 읽으므로, 파티션 수를 바꾸면 이전 키의 미처리 메시지와 PEL 을 아무도 읽지 않는다.
+     *
+     * 처리 정책
+     * - 처음 실행할 때 SCAN 으로 stream:subscribed / stream:subscribed:{n} 중 현재 구성에 없는 키를 찾는다.
+     * - 새 메시지(">")를 비블로킹 XREADGROUP 으로 읽어 폴링 배치와 같은 방식(consume)으로 처리한다.
+     *   PEL 은 reclaimPendingMessages 가 현재 키와 함께 재처리한다.
+     * - 키는 지우지 않고 계속 읽는다. (전환 배포 중 구 버전 인스턴스가 이전 키로 발행할 수 있으므로)
+     *
+     * 예외 처리
+     * - Consumer Group 이 없는 키(구독 스트림으로 쓰인 적 없는 키)는 경고 로그를 남기고 건너뛴다.
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+    public void drainLegacyStreams() {
+        for (String streamKey : legacyStreamKeys()) {
+            try {
+                drain(streamKey);
+            } catch (Exception e) {
+                log.warn("이전 파티션 스트림 drain 실패 - streamKey={}", streamKey, e);
+            }
+        }
+    }
+
+    private void drain(String streamKey) {
+        Consumer consumer = Consumer.from(CONSUMER_GROUP, topology.getConsumerName());
+        StreamReadOptions readOptions = StreamReadOptions.empty().count(RECLAIM_BATCH_SIZE);
 
-        log.info("PEL 재처리 시작 - pendingCount={}", pendingMessages.size());
+        for (int batch = 0; batch < MAX_DRAIN_BATCHES; batch++) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    consumer, readOptions, StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+            if (records == null || records.isEmpty()) break;
 
-        for (MapRecord<String, Object, Object> message : pendingMessages) {
-            processReclaimedMessage(message);
+            log.info("이전 파티션 스트림 메시지 처리 - streamKey={}, count={}", streamKey, records.size());
+            consume(records);
         }
+
+        PendingMessagesSummary pending = redisTemplate.opsForStream().pending(streamKey, CONSUMER_GROUP);
+        if (pending != null && pending.getTotalPendingMessages() > 0) {
+            log.info("이전 파티션 스트림 PEL 잔류 - streamKey={}, pending={}", streamKey, pending.getTotalPendingMessages());
+        }
+    }
+
+    private List<String> allStreamKeys() {
+        return Stream.concat(topology.getStreamKeys().stream(), legacyStreamKeys().stream()).toList();
     }
 
-    private void processReclaimedMessage(MapRecord<String, Object, Object> message) {
-        long deliveryCount = getDeliveryCount(message.getId());
+    private List<String> legacyStreamKeys() {
+        List<String> keys = legacyStreamKeys;
+        if (keys != null) return keys;
 
-        if (deliveryCount > MAX_RETRY_COUNT) {
-            deadLetter(message, deliveryCount);
-            return;
+        List<String> found = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(SubscribedStreamTopology.STREAM_KEY + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                if (SUBSCRIBED_STREAM_KEY.matcher(key).matches() && !topology.getStreamKeys().contains(key)) {
+                    found.add(key);
+                }
+            });
         }
+        if (!found.isEmpty()) {
+            log.warn("이전 파티션 구성의 구독 스트림 발견, drain 시작 - streamKeys={}", found);
+        }
+        legacyStreamKeys = List.copyOf(found);
+        return legacyStreamKeys;
+    }
+
+    private void reclaimPendingMessages(String streamKey) {
+        List<ReclaimedRecord> reclaimedRecords = pendingReclaimer.claimIdle(
+                streamKey, CONSUMER_GROUP, topology.getConsumerName(), MIN_IDLE_TIME, RECLAIM_BATCH_SIZE);
 
+        if (reclaimedRecords.isEmpty()) return;
+
+        log.info("PEL 재처리 시작 - streamKey={}, pendingCount={}", streamKey, reclaimedRecords.size());
+
+        List<MapRecord<String, Object, Object>> retryMessages = new ArrayList<>();
+        for (ReclaimedRecord reclaimed : reclaimedRecords) {
+            if (reclaimed.deliveryCount() > MAX_RETRY_COUNT) {
+                deadLetter(reclaimed.record(), reclaimed.deliveryCount());
+                continue;
+            }
+            retryMessages.add(reclaimed.record());
+        }
+
+        if (!retryMessages.isEmpty()) {
+            process(retryMessages);
+        }
+    }
+
+    /**
+     * 레인의 메시지를 한 트랜잭션으로 일괄 처리하고, 실패하면 메시지 단위로 다시 처리한다.
+     * (한 메시지의 오류가 같은 레인의 다른 targetId 메시지 ACK 를 막지 않도록 하기 위함)
+     * 메시지 단위 처리에서 실패한 targetId 의 이후 메시지는 처리하지 않고 PEL 에 남겨, 재처리 때 순서대로 처리되게 한다.
+     */
+    private List<MapRecord<String, Object, Object>> processLane(List<MapRecord<String, Object, Object>> lane) {
         try {
-            Long subscriberId = Long.valueOf((String) message.getValue().get("subscriberId"));
-            Long targetId = Long.valueOf((String) message.getValue().get("targetId"));
-            String messageId = message.getId().getValue();
-            processor.process(subscriberId, targetId, messageId);
-            ack(message.getId());
-            log.info("PEL 재처리 성공 - messageId={}, deliveryCount={}", message.getId(), deliveryCount);
+            processor.processBatch(lane.stream().map(SubscribedStreamMessage::from).toList());
+            return lane;
         } catch (Exception e) {
-            log.error("PEL 재처리 실패 - messageId={}, deliveryCount={}", message.getId(), deliveryCount, e);
+            log.warn("구독 스트림 배치 처리 실패, 메시지 단위로 재처리 - size={}", lane.size(), e);
+        }
+
+        List<MapRecord<String, Object, Object>> succeeded = new ArrayList<>(lane.size());
+        Set<Object> failedTargets = new HashSet<>();
+        for (MapRecord<String, Object, Object> record : lane) {
+            Object targetId = record.getValue().get("targetId");
+            if (failedTargets.contains(targetId)) continue;
+            try {
+                processor.process(SubscribedStreamMessage.from(record));
+                succeeded.add(record);
+            } catch (Exception e) {
+                failedTargets.add(targetId);
+                log.error("구독 스트림 메시지 처리 실패 - messageId={}", record.getId(), e);
+            }
         }
+        return succeeded;
     }
 
     /**
@@ -104,36 +307,38 @@ public class SubscribedStreamConsumer implements StreamListener<String, MapRecor
     private void deadLetter(MapRecord<String, Object, Object> message, long deliveryCount) {
         try {
             deadLetterRepository.save(StreamDeadLetter.of(
-                    SubscribedStreamPublisher.STREAM_KEY,
+                    message.getStream(),
                     message.getId().getValue(),
                     (String) message.getValue().get("subscriberId"),
                     (String) message.getValue().get("targetId"),
                     (int) deliveryCount
             ));
-            ack(message.getId());
+            ack(List.of(message));
             log.error("Dead Letter 저장 완료 - messageId={}, deliveryCount={}", message.getId(), deliveryCount);
         } catch (Exception e) {
             log.error("Dead Letter 저장 실패 - messageId={}", message.getId(), e);
         }
     }
 
-    private long getDeliveryCount(RecordId messageId) {
-        return redisTemplate.opsForStream()
-                .pending(SubscribedStreamPublisher.STREAM_KEY, CONSUMER_GROUP,
-                        org.springframework.data.domain.Range.closed(
-                                messageId.getValue(), messageId.getValue()), 1L)
-                .stream()
-                .findFirst()
-                .map(p -> p.getTotalDeliveryCount())
-                .orElse(0L);
+    private int laneOf(MapRecord<String, Object, Object> record) {
+        return Math.floorMod(String.valueOf(record.getValue().get("targetId")).hashCode(), workerCount);
     }
 
-    private boolean isSkippable(MapRecord<String, String, String> message) {
-        return !message.getValue().containsKey("subscriberId");
+    private boolean isSkippable(MapRecord<String, Object, Object> record) {
+        return !record.getValue().containsKey("subscriberId");
     }
 
-    private void ack(RecordId recordId) {
-        redisTemplate.opsForStream().acknowledge(
-                SubscribedStreamPublisher.STREAM_KEY, CONSUMER_GROUP, recordId);
+    /**
+     * 파티션(스트림 키)별로 묶어서 XACK 한다.
+     */
+    private void ack(List<MapRecord<String, Object, Object>> records) {
+        if (records.isEmpty()) return;
+
+        records.stream()
+                .collect(Collectors.groupingBy(
+                        MapRecord::getStream,
+                        Collectors.mapping(MapRecord::getId, Collectors.toList())))
+                .forEach((streamKey, recordIds) -> redisTemplate.opsForStream().acknowledge(
+                        streamKey, CONSUMER_GROUP, recordIds.toArray(RecordId[]::new)));
     }
 }
@@ -0,0 +1,17 @@
+package study.blog.subscription.infrastructure.event;
+
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+public record SubscribedStreamMessage(
+        String messageId,
+        Long subscriberId,
+        Long targetId
+) {
+    public static SubscribedStreamMessage from(MapRecord<String, Object, Object> record) {
+        return new SubscribedStreamMessage(
+                record.getId().getValue(),
+                Long.valueOf((String) record.getValue().get("subscriberId")),
+                Long.valueOf((String) record.getValue().get("targetId"))
+        );
+    }
+}
@@ -1,7 +1,9 @@
 package study.blog.subscription.infrastructure.event;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -9,20 +11,34 @@ import java.util.Map;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SubscribedStreamPublisher {
 
-    static final String STREAM_KEY = "stream:subscribed";
-
     private final StringRedisTemplate redisTemplate;
+    private final SubscribedStreamTopology topology;
+    private final XAddOptions addOptions;
+
+    /**
+     * @param maxLength 파티션별 최대 보관 메시지 수. XADD MAXLEN ~ 로 근사 trim 하여 스트림이 무한히 커지지 않게 한다.
+     *                  (근사 trim 은 노드 단위로 잘라내므로 비용이 거의 없다.
+     *                   PEL 에 남은 메시지가 trim 되지 않도록 처리 지연보다 충분히 큰 값으로 설정해야 한다)
+     */
+    public SubscribedStreamPublisher(StringRedisTemplate redisTemplate,
+                                     SubscribedStreamTopology topology,
+                                     @Value("${subscription.stream.max-length:100000}") long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.topology = topology;
+        this.addOptions = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
 
     public void publish(Long subscriberId, Long targetId) {
         redisTemplate.opsForStream().add(
-                STREAM_KEY,
-                Map.of(
-                        "subscriberId", String.valueOf(subscriberId),
-                        "targetId", String.valueOf(targetId)
-                )
+                StreamRecords.newRecord()
+                        .in(topology.streamKeyOf(targetId))
+                        .ofMap(Map.of(
+                                "subscriberId", String.valueOf(subscriberId),
+                                "targetId", String.valueOf(targetId)
+                        )),
+                addOptions
         );
         log.info("구독 이벤트 Redis Stream 발행 - subscriberId={}, targetId={}", subscriberId, targetId);
     }
@@ -0,0 +1,63 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * 구독 스트림의 파티션 키와 현재 인스턴스의 Consumer 이름을 결정한다.
+ *
+ * 처리 정책
+ * - partitions = 1 : 기존과 동일하게 stream:subscribed 단일 키를 사용한다.
+ * - partitions > 1 : stream:subscribed:{0..n-1} 로 분할하고 targetId 로 파티션을 선택한다.
+ *   (같은 targetId 는 항상 같은 파티션에 들어가므로 파티션 내 순서가 유지된다)
+ * - partitions 를 바꾸면 이전 구성의 키에 남은 메시지는 SubscribedStreamConsumer.drainLegacyStreams 가 계속 읽어 처리한다.
+ * - Consumer 이름은 인스턴스마다 달라야 한다. 설정값이 없으면 hostname + 임의 suffix 로 생성한다.
+ *   (같은 이름을 공유하면 PEL 이 섞여 한 인스턴스가 다른 인스턴스의 메시지를 ACK/claim 하게 된다)
+ */
+@Slf4j
+@Getter
+@Component
+public class SubscribedStreamTopology {
+
+    static final String STREAM_KEY = "stream:subscribed";
+
+    private final int partitions;
+    private final String consumerName;
+    private final List<String> streamKeys;
+
+    public SubscribedStreamTopology(@Value("${subscription.stream.partitions:1}") int partitions,
+                                    @Value("${subscription.stream.consumer-name:}") String consumerName) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("subscription.stream.partitions 는 1 이상이어야 합니다.");
+        }
+
+        this.partitions = partitions;
+        this.consumerName = StringUtils.hasText(consumerName) ? consumerName : generateConsumerName();
+        this.streamKeys = partitions == 1
+                ? List.of(STREAM_KEY)
+                : IntStream.range(0, partitions).mapToObj(partition -> STREAM_KEY + ":" + partition).toList();
+
+        log.info("구독 스트림 구성 - consumer={}, streamKeys={}", this.consumerName, this.streamKeys);
+    }
+
+    public String streamKeyOf(Long targetId) {
+        return streamKeys.get(Math.floorMod(targetId, partitions));
+    }
+
+    private static String generateConsumerName() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + suffix;
+        } catch (Exception e) {
+            return "notification-consumer-" + suffix;
+        }
+    }
+}
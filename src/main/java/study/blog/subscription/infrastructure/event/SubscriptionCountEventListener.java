@@ -0,0 +1,70 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import study.blog.member.repository.MemberProfileCacheRepository;
+import study.blog.member.repository.MemberRepository;
+import study.blog.subscription.domain.event.SubscribedEvent;
+import study.blog.subscription.domain.event.UnsubscribedEvent;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionCountEventListener {
+
+    private final MemberRepository memberRepository;
+    private final MemberProfileCacheRepository profileCacheRepository;
+
+    /**
+     * 구독 / 구독 취소 이벤트를 수신하여 Member.followerCount / followingCount 비정규화 컬럼을 갱신한다.
+     *
+     * 처리 정책
+     * - AFTER_COMMIT 단계에서 실행하여 구독 저장/삭제 트랜잭션이 커밋된 이후에만 반영한다.
+     * - REQUIRES_NEW 트랜잭션에서 대상 회원의 followerCount, 구독자의 followingCount 를 원자적으로 증감한다.
+     * - 카운트 갱신 트랜잭션이 커밋된 뒤 두 회원의 프로필 캐시를 삭제하여 다음 조회 시 DB 값으로 다시 채워지게 한다.
+     *   (커밋 전에 삭제하면 그 사이 조회가 이전 카운트를 다시 캐시에 채워 TTL 동안 남는다)
+     *
+     * 예외 처리
+     * - 한쪽 회원이 없으면(그 사이 탈퇴 등) 경고 로그만 남기고 다른 쪽 갱신은 유지한다.
+     *   구독 트랜잭션은 이미 커밋되었으므로 예외를 던져도 되돌릴 것이 없고, 다른 회원의 갱신만 롤백된다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(SubscribedEvent event) {
+        updateCounts(event.subscriberId(), event.targetId(), 1);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(UnsubscribedEvent event) {
+        updateCounts(event.subscriberId(), event.targetId(), -1);
+    }
+
+    private void updateCounts(Long subscriberId, Long targetId, long delta) {
+        long updatedFollower = memberRepository.incrementFollowerCount(targetId, delta);
+        long updatedFollowing = memberRepository.incrementFollowingCount(subscriberId, delta);
+
+        if (updatedFollower == 0) {
+            log.warn("구독자 수 갱신 대상 회원 없음 - targetId={}, delta={}", targetId, delta);
+        }
+        if (updatedFollowing == 0) {
+            log.warn("구독 중인 수 갱신 대상 회원 없음 - subscriberId={}, delta={}", subscriberId, delta);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                profileCacheRepository.evict(List.of(subscriberId, targetId));
+            }
+        });
+    }
+}
@@ -7,36 +7,60 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import study.blog.member.repository.MemberReader;
 import study.blog.notification.application.NotificationCommandService;
+import study.blog.notification.application.NotificationCreateCommand;
 import study.blog.notification.domain.NotificationType;
 import study.blog.notification.domain.event.NotificationSseEvent;
 import study.blog.notification.presentation.response.NotificationResponse;
 
+import java.util.List;
+import java.util.Map;
+
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SubscriptionNotificationProcessor {
 
+    private static final String UNKNOWN_NICKNAME = "익명";
+
     private final MemberReader memberReader;
     private final NotificationCommandService notificationCommandService;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public void process(Long subscriberId, Long targetId, String messageId) {
-        log.info("구독 알림 처리 시작 - subscriberId={}, targetId={}", subscriberId, targetId);
+    public void process(SubscribedStreamMessage message) {
+        log.info("구독 알림 처리 시작 - subscriberId={}, targetId={}", message.subscriberId(), message.targetId());
+        processBatch(List.of(message));
+    }
+
+    /**
+     * 구독 스트림 메시지를 한 트랜잭션에서 일괄 처리한다.
+     *
+     * 처리 정책
+     * - 구독자 닉네임을 한 번의 쿼리로 조회한다. (메시지마다 Member 를 조회하지 않음)
+     * - 알림은 NotificationCommandService.createAll 로 batch insert 한다.
+     * - 이미 저장된 streamMessageId 는 건너뛰므로 재전달된 메시지를 다시 처리해도 안전하다.
+     */
+    @Transactional
+    public void processBatch(List<SubscribedStreamMessage> messages) {
+        Map<Long, String> nicknames = memberReader.getNicknames(messages.stream()
+                .map(SubscribedStreamMessage::subscriberId)
+                .distinct()
+                .toList());
 
-        String subscriberNickName = memberReader.getNickName(subscriberId);
+        List<NotificationCreateCommand> commands = messages.stream()
+                .map(message -> new NotificationCreateCommand(
+                        message.targetId(),
+                        message.subscriberId(),
+                        NotificationType.SUBSCRIBED,
+                        nicknames.getOrDefault(message.subscriberId(), UNKNOWN_NICKNAME),
+                        message.messageId()))
+                .toList();
 
-        NotificationResponse notification = notificationCommandService.create(
-                targetId,
-                subscriberId,
-                NotificationType.SUBSCRIBED,
-                subscriberNickName,
-                messageId
-        );
+        List<NotificationResponse> notifications = notificationCommandService.createAll(commands);
 
         // AFTER_COMMIT 이벤트 — 트랜잭션 커밋 후 Pub/Sub 발행 보장
-        eventPublisher.publishEvent(new NotificationSseEvent(
+        notifications.forEach(notification -> eventPublisher.publishEvent(new NotificationSseEvent(
                 notification.notificationId(),
                 notification.receiverId(),
                 notification.senderId(),
@@ -44,6 +68,6 @@ public class SubscriptionNotificationProcessor {
                 notification.message(),
                 notification.isRead(),
                 notification.createdAt()
-        ));
+        )));
     }
 }
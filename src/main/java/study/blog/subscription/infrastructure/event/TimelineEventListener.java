@@ -0,0 +1,40 @@
+package study.blog.subscription.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import study.blog.subscription.application.TimelineUpdater;
+import study.blog.subscription.domain.event.SubscribedEvent;
+import study.blog.subscription.domain.event.UnsubscribedEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineEventListener {
+
+    private final TimelineUpdater timelineUpdater;
+
+    /**
+     * 구독 / 구독 취소 커밋 이후 구독자의 타임라인을 갱신한다.
+     * 실패해도 구독 처리에는 영향을 주지 않으며, 타임라인은 TTL 만료 후 재구성 시 DB 기준으로 맞춰진다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(SubscribedEvent event) {
+        try {
+            timelineUpdater.backfill(event.subscriberId(), event.targetId());
+        } catch (Exception e) {
+            log.warn("타임라인 backfill 실패 - subscriberId={}, targetId={}", event.subscriberId(), event.targetId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(UnsubscribedEvent event) {
+        try {
+            timelineUpdater.prune(event.subscriberId(), event.targetId());
+        } catch (Exception e) {
+            log.warn("타임라인 prune 실패 - subscriberId={}, targetId={}", event.subscriberId(), event.targetId(), e);
+        }
+    }
+}
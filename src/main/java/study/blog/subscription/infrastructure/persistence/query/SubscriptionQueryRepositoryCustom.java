@@ -1,5 +1,15 @@
 package study.blog.subscription.infrastructure.persistence.query;
 
+import study.blog.subscription.domain.entity.Subscription;
+
+import java.util.Collection;
+import java.util.List;
+
 public interface SubscriptionQueryRepositoryCustom {
     boolean existsSubscription(Long subscriberId, Long targetId);
+    List<Subscription> findSubscribersByTargetId(Long targetId, Long lastSubscriptionId, int size);
+    List<Subscription> findSubscriptions(Long subscriberId, Collection<Long> targetIds);
+    List<Long> findTargetIds(Long subscriberId);
+    List<Subscription> findFollowers(Long targetId, Long cursor, int size);
+    List<Subscription> findFollowings(Long subscriberId, Long cursor, int size);
 }
@@ -3,6 +3,10 @@ package study.blog.subscription.infrastructure.persistence.query;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import study.blog.subscription.domain.entity.Subscription;
+
+import java.util.Collection;
+import java.util.List;
 
 import static study.blog.subscription.domain.entity.QSubscription.subscription;
 
@@ -25,6 +29,87 @@ public class SubscriptionQueryRepositoryCustomImpl implements SubscriptionQueryR
         return result != null;
     }
 
+    /**
+     * 작성자를 구독한 구독 정보를 id 커서 기반으로 조회한다.
+     * (target_id, id) 인덱스를 타므로 offset 페이징과 달리 뒤 페이지로 갈수록 느려지지 않는다.
+     */
+    @Override
+    public List<Subscription> findSubscribersByTargetId(Long targetId, Long lastSubscriptionId, int size) {
+        return queryFactory
+                .selectFrom(subscription)
+                .where(
+                        targetIdEq(targetId),
+                        subscriptionIdGt(lastSubscriptionId)
+                )
+                .orderBy(subscription.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<Subscription> findSubscriptions(Long subscriberId, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) return List.of();
+
+        return queryFactory
+                .selectFrom(subscription)
+                .where(
+                        subscriberIdEq(subscriberId),
+                        subscription.targetId.in(targetIds)
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findTargetIds(Long subscriberId) {
+        return queryFactory
+                .select(subscription.targetId)
+                .from(subscription)
+                .where(subscriberIdEq(subscriberId))
+                .fetch();
+    }
+
+    /**
+     * 회원을 구독한 구독 정보(구독자 목록)를 최신순으로 조회한다.
+     * cursor 는 직전 페이지 마지막 구독 id 이며, (target_id, id) 인덱스 범위 스캔으로 처리된다.
+     */
+    @Override
+    public List<Subscription> findFollowers(Long targetId, Long cursor, int size) {
+        return queryFactory
+                .selectFrom(subscription)
+                .where(
+                        targetIdEq(targetId),
+                        subscriptionIdLt(cursor)
+                )
+                .orderBy(subscription.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 회원이 구독 중인 구독 정보(구독 목록)를 최신순으로 조회한다.
+     * cursor 는 직전 페이지 마지막 구독 id 이며, (subscriber_id, id) 인덱스 범위 스캔으로 처리된다.
+     */
+    @Override
+    public List<Subscription> findFollowings(Long subscriberId, Long cursor, int size) {
+        return queryFactory
+                .selectFrom(subscription)
+                .where(
+                        subscriberIdEq(subscriberId),
+                        subscriptionIdLt(cursor)
+                )
+                .orderBy(subscription.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression subscriptionIdLt(Long cursor){
+        return cursor != null ? subscription.id.lt(cursor) : null;
+    }
+
+    private BooleanExpression subscriptionIdGt(Long lastSubscriptionId){
+        return lastSubscriptionId != null ? subscription.id.gt(lastSubscriptionId) : null;
+    }
+
     private BooleanExpression subscriberIdEq(Long subscriberId){
         return subscriberId != null ? subscription.subscriberId.eq(subscriberId) : null;
     }
@@ -1,15 +1,65 @@
 package study.blog.subscription.infrastructure.persistence.query;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import study.blog.subscription.domain.entity.Subscription;
+import study.blog.subscription.infrastructure.redis.FollowingRedisRepository;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class SubscriptionReader {
     private final SubscriptionQueryRepository subscriptionQueryRepository;
+    private final FollowingRedisRepository followingRedisRepository;
 
     public boolean isSubscribe(Long subscriberId, Long targetId){
-        return subscriptionQueryRepository.existsSubscription(subscriberId, targetId);
+        return findSubscribedTargetIds(subscriberId, List.of(targetId)).contains(targetId);
+    }
+
+    /**
+     * 회원이 구독 중인 작성자를 targetIds 중에서 일괄 조회한다.
+     *
+     * 처리 정책
+     * - 회원별 구독 집합(Redis SET)에서 SMISMEMBER 한 번으로 조회한다.
+     * - 집합이 없으면 DB 에서 구독 목록을 한 번 조회하여 집합을 구성한 뒤 그 결과로 응답한다.
+     *
+     * 예외 처리
+     * - Redis 장애 시 (subscriber_id, target_id IN (...)) 단일 쿼리로 DB 에서 조회한다.
+     *
+     * @param subscriberId 구독자 ID (비회원인 경우 null)
+     * @param targetIds 작성자 ID 목록
+     * @return 구독 중인 작성자 ID 집합
+     */
+    public Set<Long> findSubscribedTargetIds(Long subscriberId, Collection<Long> targetIds) {
+        if (subscriberId == null || targetIds.isEmpty()) return Set.of();
+
+        List<Long> distinctTargetIds = targetIds.stream().distinct().toList();
+        try {
+            return followingRedisRepository.findMembers(subscriberId, distinctTargetIds)
+                    .orElseGet(() -> loadAndCache(subscriberId, distinctTargetIds));
+        } catch (Exception e) {
+            log.warn("구독 집합 조회 실패, DB 조회로 대체 - subscriberId={}", subscriberId, e);
+            return subscriptionQueryRepository.findSubscriptions(subscriberId, distinctTargetIds).stream()
+                    .map(Subscription::getTargetId)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private Set<Long> loadAndCache(Long subscriberId, List<Long> targetIds) {
+        followingRedisRepository.startRebuild(subscriberId);
+        List<Long> followings = subscriptionQueryRepository.findTargetIds(subscriberId);
+        followingRedisRepository.rebuild(subscriberId, followings);
+
+        Set<Long> subscribed = new HashSet<>(followings);
+        subscribed.retainAll(targetIds);
+        return subscribed;
     }
 }
@@ -0,0 +1,102 @@
+package study.blog.subscription.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static study.blog.subscription.infrastructure.redis.FanOutRedisKeyGenerator.*;
+
+/**
+ * 구독자가 많은 작성자(celebrity)의 발행 글을 보관하는 outbox.
+ *
+ * 처리 정책
+ * - Redis key: fanout:outbox:{authorId} (ZSET, member = postId, score = 발행 시각 epoch millis)
+ * - 작성자별 최근 OUTBOX_SIZE 건만 유지한다.
+ * - fanout:celebrities (SET) 에 outbox 를 가진 작성자를 기록해 조회 시 대상 작성자만 확인한다.
+ * - outbox 가 만료된(OUTBOX TTL 동안 발행이 없던) 작성자는 pruneCelebrities 로 fanout:celebrities 에서 뺀다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FanOutOutboxRedisRepository {
+
+    private static final long OUTBOX_SIZE = 100;
+
+    /**
+     * KEYS[1] = fanout:celebrities, KEYS[2] = outbox key, ARGV[1] = authorId
+     * outbox 가 없을 때만 제거한다. (확인과 제거 사이에 append 가 끼어들어 새 글의 작성자가 빠지지 않도록)
+     */
+    private static final RedisScript<Long> PRUNE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+            return redis.call('SREM', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void append(Long authorId, Long postId, long publishedAt) {
+        String key = generateOutboxKey(authorId);
+        redisTemplate.opsForZSet().add(key, String.valueOf(postId), publishedAt);
+        redisTemplate.opsForZSet().removeRange(key, 0, -(OUTBOX_SIZE + 1));
+        redisTemplate.expire(key, generateOutboxTTL());
+        redisTemplate.opsForSet().add(CELEBRITY_KEY, String.valueOf(authorId));
+    }
+
+    public Set<Long> findCelebrities() {
+        Set<String> members = redisTemplate.opsForSet().members(CELEBRITY_KEY);
+        if (members == null) return Set.of();
+
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * outbox 가 만료된 작성자를 fanout:celebrities 에서 제거한다.
+     * @return 제거한 작성자 수
+     */
+    public int pruneCelebrities() {
+        int pruned = 0;
+        for (Long authorId : findCelebrities()) {
+            Long removed = redisTemplate.execute(PRUNE_SCRIPT,
+                    List.of(CELEBRITY_KEY, generateOutboxKey(authorId)), String.valueOf(authorId));
+            if (removed != null && removed > 0) pruned++;
+        }
+        return pruned;
+    }
+
+    /**
+     * since(epoch millis) 이후 발행된 postId 를 조회한다.
+     */
+    public List<Long> findPostIdsSince(Long authorId, long since) {
+        Set<String> postIds = redisTemplate.opsForZSet()
+                .rangeByScore(generateOutboxKey(authorId), since, Double.POSITIVE_INFINITY);
+        if (postIds == null) return List.of();
+
+        return postIds.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * 커서(score, postId) 이후의 outbox 항목을 최신순으로 조회한다. (타임라인 조회 시 병합용)
+     */
+    public List<TimelineEntry> findBefore(Long authorId, Long cursor, Long cursorPostId, int size) {
+        return TimelineRedisRepository.findBefore(redisTemplate, generateOutboxKey(authorId), cursor, cursorPostId, size);
+    }
+
+    /**
+     * 짧은 시간 안에 반복되는 pull 을 막는다. (알림 목록/카운트 API 가 연달아 호출되는 경우)
+     * @return pull 을 수행해도 되면 true
+     */
+    public boolean tryAcquirePull(Long memberId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(generatePullThrottleKey(memberId), "1", generatePullThrottleTTL()));
+    }
+}
@@ -0,0 +1,25 @@
+package study.blog.subscription.infrastructure.redis;
+
+import java.time.Duration;
+
+public final class FanOutRedisKeyGenerator {
+    private FanOutRedisKeyGenerator(){}
+
+    public static final String CELEBRITY_KEY = "fanout:celebrities";
+
+    public static String generateOutboxKey(Long authorId){
+        return "fanout:outbox:" + authorId;
+    }
+
+    public static String generatePullThrottleKey(Long memberId){
+        return "fanout:pull-checked:" + memberId;
+    }
+
+    public static Duration generateOutboxTTL(){
+        return Duration.ofDays(30);
+    }
+
+    public static Duration generatePullThrottleTTL(){
+        return Duration.ofSeconds(30);
+    }
+}
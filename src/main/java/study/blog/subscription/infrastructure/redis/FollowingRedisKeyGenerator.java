@@ -0,0 +1,23 @@
+package study.blog.subscription.infrastructure.redis;
+
+import java.time.Duration;
+
+public final class FollowingRedisKeyGenerator {
+    private FollowingRedisKeyGenerator(){}
+
+    public static String generateFollowingKey(Long memberId){
+        return "subscription:following:" + memberId;
+    }
+
+    public static String generateFollowingRebuildKey(Long memberId){
+        return "subscription:following:" + memberId + ":rebuilding";
+    }
+
+    public static Duration generateFollowingTTL(){
+        return Duration.ofDays(1);
+    }
+
+    public static Duration generateRebuildTTL(){
+        return Duration.ofMinutes(1);
+    }
+}
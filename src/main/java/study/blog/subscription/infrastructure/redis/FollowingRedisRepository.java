@@ -0,0 +1,131 @@
+package study.blog.subscription.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static study.blog.subscription.infrastructure.redis.FollowingRedisKeyGenerator.*;
+
+/**
+ * 회원별 구독 중인 작성자 id 집합.
+ *
+ * 처리 정책
+ * - Redis key: subscription:following:{memberId} (SET, member = targetId)
+ * - 키가 있으면 "이미 구성된 집합"으로 본다. 구독한 작성자가 없어도 키가 남도록 빈 표식("0")을 넣는다.
+ * - 구독 / 구독 취소 시에는 키가 있을 때만 반영한다. (키가 없으면 다음 조회 시 DB 기준으로 다시 구성)
+ *
+ * 재구성
+ * - startRebuild 로 재구성 중 표식(subscription:following:{memberId}:rebuilding, HASH)을 먼저 만들고 DB 를 읽는다.
+ * - 키가 없는 동안의 구독 / 구독 취소는 표식에 대상별 마지막 변경(SADD / SREM)으로 기록한다.
+ * - rebuild 는 임시 키에 DB 결과를 채운 뒤, 기록된 변경을 적용하고 RENAME 으로 한 번에 교체한다.
+ *   (DB 를 읽은 뒤 커밋된 구독이 재구성 결과에 덮여 사라지지 않도록)
+ * - 그 사이 다른 요청이 먼저 재구성을 마쳤으면 임시 키를 버린다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FollowingRedisRepository {
+
+    private static final String EMPTY_MARKER = "0";
+
+    private static final String REBUILD_MARKER_FIELD = "_";
+
+    /**
+     * KEYS[1] = 구독 집합 키, KEYS[2] = 재구성 중 표식 키, ARGV[1] = SADD / SREM, ARGV[2] = targetId
+     * 집합이 없으면 재구성 중일 때만 변경을 기록한다.
+     */
+    private static final RedisScript<Long> UPDATE_IF_PRESENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call(ARGV[1], KEYS[1], ARGV[2])
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('HSET', KEYS[2], ARGV[2], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 구독 집합 키, KEYS[2] = 재구성 중 표식 키, KEYS[3] = 임시 키, ARGV[1] = TTL(s)
+     * return 1 = 교체, 0 = 이미 다른 요청이 재구성함
+     */
+    private static final RedisScript<Long> COMMIT_REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('DEL', KEYS[3])
+                return 0
+            end
+            local changes = redis.call('HGETALL', KEYS[2])
+            for i = 1, #changes, 2 do
+                if changes[i] ~= '_' then
+                    redis.call(changes[i + 1], KEYS[3], changes[i])
+                end
+            end
+            redis.call('RENAME', KEYS[3], KEYS[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * targetIds 중 구독 중인 id 를 SMISMEMBER 한 번으로 조회한다.
+     * 키가 없으면 Optional.empty() 를 반환하며, 호출자가 DB 기준으로 집합을 구성해야 한다.
+     */
+    public Optional<Set<Long>> findMembers(Long memberId, List<Long> targetIds) {
+        String key = generateFollowingKey(memberId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) return Optional.empty();
+
+        Map<Object, Boolean> result = redisTemplate.opsForSet()
+                .isMember(key, targetIds.stream().map(String::valueOf).toArray());
+        if (result == null) return Optional.empty();
+
+        Set<Long> subscribed = new HashSet<>();
+        result.forEach((targetId, isMember) -> {
+            if (Boolean.TRUE.equals(isMember)) subscribed.add(Long.valueOf((String) targetId));
+        });
+        return Optional.of(subscribed);
+    }
+
+    /**
+     * DB 를 읽기 전에 호출한다. 이후 rebuild 까지의 구독 변경이 기록된다.
+     */
+    public void startRebuild(Long memberId) {
+        String rebuildKey = generateFollowingRebuildKey(memberId);
+        redisTemplate.opsForHash().put(rebuildKey, REBUILD_MARKER_FIELD, "1");
+        redisTemplate.expire(rebuildKey, generateRebuildTTL());
+    }
+
+    public void rebuild(Long memberId, Collection<Long> targetIds) {
+        String tempKey = generateFollowingKey(memberId) + ":rebuild:" + UUID.randomUUID();
+
+        List<String> members = new ArrayList<>(targetIds.size() + 1);
+        members.add(EMPTY_MARKER);
+        targetIds.forEach(targetId -> members.add(String.valueOf(targetId)));
+
+        redisTemplate.opsForSet().add(tempKey, members.toArray(String[]::new));
+        redisTemplate.expire(tempKey, generateRebuildTTL());
+        redisTemplate.execute(COMMIT_REBUILD_SCRIPT,
+                List.of(generateFollowingKey(memberId), generateFollowingRebuildKey(memberId), tempKey),
+                String.valueOf(generateFollowingTTL().toSeconds()));
+    }
+
+    public void addIfPresent(Long memberId, Long targetId) {
+        redisTemplate.execute(UPDATE_IF_PRESENT_SCRIPT, List.of(generateFollowingKey(memberId), generateFollowingRebuildKey(memberId)),
+                "SADD", String.valueOf(targetId));
+    }
+
+    public void removeIfPresent(Long memberId, Long targetId) {
+        redisTemplate.execute(UPDATE_IF_PRESENT_SCRIPT, List.of(generateFollowingKey(memberId), generateFollowingRebuildKey(memberId)),
+                "SREM", String.valueOf(targetId));
+    }
+}
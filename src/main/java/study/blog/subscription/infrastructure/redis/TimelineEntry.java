@@ -0,0 +1,27 @@
+package study.blog.subscription.infrastructure.redis;
+
+import java.util.Comparator;
+
+/**
+ * 타임라인/outbox ZSET 의 한 항목. score 는 게시글 발행 시각(epoch millis)이다.
+ *
+ * 같은 밀리초에 발행된 글이 있을 수 있으므로 정렬과 커서는 (score, postId) 를 함께 쓴다.
+ */
+public record TimelineEntry(
+        Long postId,
+        long score
+) {
+    public static final Comparator<TimelineEntry> LATEST_FIRST = Comparator
+            .comparingLong(TimelineEntry::score)
+            .thenComparingLong(TimelineEntry::postId)
+            .reversed();
+
+    /**
+     * 커서(직전 페이지 마지막 항목)보다 뒤에 오는 항목인지 확인한다.
+     * cursorPostId 가 없으면(이전 버전 클라이언트) 같은 score 의 항목은 모두 지난 것으로 본다.
+     */
+    public boolean isAfter(long cursor, Long cursorPostId) {
+        if (score != cursor) return score < cursor;
+        return cursorPostId != null && postId < cursorPostId;
+    }
+}
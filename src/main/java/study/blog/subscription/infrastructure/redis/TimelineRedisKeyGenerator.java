@@ -0,0 +1,23 @@
+package study.blog.subscription.infrastructure.redis;
+
+import java.time.Duration;
+
+public final class TimelineRedisKeyGenerator {
+    private TimelineRedisKeyGenerator(){}
+
+    public static String generateTimelineKey(Long memberId){
+        return "timeline:" + memberId;
+    }
+
+    public static String generateTimelineRebuildKey(Long memberId){
+        return "timeline:" + memberId + ":rebuilding";
+    }
+
+    public static Duration generateTimelineTTL(){
+        return Duration.ofDays(7);
+    }
+
+    public static Duration generateRebuildTTL(){
+        return Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,219 @@
+package study.blog.subscription.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static study.blog.subscription.infrastructure.redis.TimelineRedisKeyGenerator.*;
+
+/**
+ * 회원별 홈 타임라인(구독한 작성자의 게시글 id 목록).
+ *
+ * 처리 정책
+ * - Redis key: timeline:{memberId} (ZSET, member = postId, score = 발행 시각 epoch millis)
+ * - 회원별 최근 MAX_SIZE 건만 유지한다.
+ * - 키가 있으면 "이미 구성된 타임라인"으로 본다. 구독한 작성자가 없어도 키가 남도록 score 0 인 빈 표식을 넣는다.
+ *   (키가 없는 회원에게 push 하면 일부 글만 가진 타임라인이 생기므로 push 는 키가 있을 때만 반영한다)
+ *
+ * 재구성
+ * - startRebuild 로 재구성 중 표식(timeline:{memberId}:rebuilding, HASH)을 먼저 만들고 DB 를 읽는다.
+ * - 키가 없는 동안의 추가 / 제거는 표식에 게시글별 마지막 변경(score 또는 DEL)으로 기록한다.
+ * - rebuild 는 임시 키에 DB 결과를 채운 뒤, 기록된 변경을 적용하고 RENAME 으로 한 번에 교체한다.
+ *   (DB 를 읽은 뒤 push 된 새 글이 재구성 결과에 덮여 사라지지 않도록)
+ * - 그 사이 다른 요청이 먼저 재구성을 마쳤으면 임시 키를 버린다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimelineRedisRepository {
+
+    public static final int MAX_SIZE = 800;
+    private static final String EMPTY_MARKER = "0";
+
+    private static final String REBUILD_MARKER_FIELD = "_";
+
+    /**
+     * 여러 회원의 타임라인에 게시글 하나를 추가한다. (키가 있는 회원만, 재구성 중인 회원은 변경을 기록)
+     * KEYS = 타임라인 키 n 개 + 재구성 중 표식 키 n 개, ARGV[1] = postId, ARGV[2] = score, ARGV[3] = MAX_SIZE
+     */
+    private static final RedisScript<Long> ADD_IF_PRESENT_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS / 2
+            local added = 0
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1])
+                    redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[3]) + 1))
+                    added = added + 1
+                elseif redis.call('EXISTS', KEYS[n + i]) == 1 then
+                    redis.call('HSET', KEYS[n + i], ARGV[1], ARGV[2])
+                end
+            end
+            return added
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 타임라인 키, KEYS[2] = 재구성 중 표식 키, ARGV = postId 목록
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('ZREM', KEYS[1], unpack(ARGV))
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                for _, postId in ipairs(ARGV) do
+                    redis.call('HSET', KEYS[2], postId, 'DEL')
+                end
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 타임라인 키, KEYS[2] = 재구성 중 표식 키, KEYS[3] = 임시 키, ARGV[1] = MAX_SIZE, ARGV[2] = TTL(s)
+     * return 1 = 교체, 0 = 이미 다른 요청이 재구성함
+     */
+    private static final RedisScript<Long> COMMIT_REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('DEL', KEYS[3])
+                return 0
+            end
+            local changes = redis.call('HGETALL', KEYS[2])
+            for i = 1, #changes, 2 do
+                if changes[i] ~= '_' then
+                    if changes[i + 1] == 'DEL' then
+                        redis.call('ZREM', KEYS[3], changes[i])
+                    else
+                        redis.call('ZADD', KEYS[3], changes[i + 1], changes[i])
+                    end
+                end
+            end
+            redis.call('ZREMRANGEBYRANK', KEYS[3], 0, -(tonumber(ARGV[1]) + 1))
+            redis.call('RENAME', KEYS[3], KEYS[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean exists(Long memberId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(generateTimelineKey(memberId)));
+    }
+
+    /**
+     * DB 를 읽기 전에 호출한다. 이후 rebuild 까지의 추가 / 제거가 기록된다.
+     */
+    public void startRebuild(Long memberId) {
+        String rebuildKey = generateTimelineRebuildKey(memberId);
+        redisTemplate.opsForHash().put(rebuildKey, REBUILD_MARKER_FIELD, "1");
+        redisTemplate.expire(rebuildKey, generateRebuildTTL());
+    }
+
+    /**
+     * 타임라인을 새로 구성한다. (키가 없을 때 DB 기준으로 채움)
+     */
+    public void rebuild(Long memberId, List<TimelineEntry> entries) {
+        String tempKey = generateTimelineKey(memberId) + ":rebuild:" + UUID.randomUUID();
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(TypedTuple.of(EMPTY_MARKER, 0d));
+        entries.forEach(entry -> tuples.add(TypedTuple.of(String.valueOf(entry.postId()), (double) entry.score())));
+
+        redisTemplate.opsForZSet().add(tempKey, tuples);
+        redisTemplate.expire(tempKey, generateRebuildTTL());
+        redisTemplate.execute(COMMIT_REBUILD_SCRIPT,
+                List.of(generateTimelineKey(memberId), generateTimelineRebuildKey(memberId), tempKey),
+                String.valueOf(MAX_SIZE), String.valueOf(generateTimelineTTL().toSeconds()));
+    }
+
+    public void addToTimelines(Collection<Long> memberIds, Long postId, long score) {
+        if (memberIds.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>(memberIds.size() * 2);
+        memberIds.forEach(memberId -> keys.add(generateTimelineKey(memberId)));
+        memberIds.forEach(memberId -> keys.add(generateTimelineRebuildKey(memberId)));
+
+        redisTemplate.execute(ADD_IF_PRESENT_SCRIPT, keys,
+                String.valueOf(postId), String.valueOf(score), String.valueOf(MAX_SIZE));
+    }
+
+    public void addIfPresent(Long memberId, List<TimelineEntry> entries) {
+        for (TimelineEntry entry : entries) {
+            addToTimelines(List.of(memberId), entry.postId(), entry.score());
+        }
+    }
+
+    public void remove(Long memberId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+
+        redisTemplate.execute(REMOVE_SCRIPT,
+                List.of(generateTimelineKey(memberId), generateTimelineRebuildKey(memberId)),
+                postIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * 커서(score, postId) 이후의 항목을 최신순으로 조회한다.
+     * 빈 표식(score 0)은 min = 1 로 제외된다.
+     */
+    public List<TimelineEntry> findBefore(Long memberId, Long cursor, Long cursorPostId, int size) {
+        String key = generateTimelineKey(memberId);
+        List<TimelineEntry> entries = findBefore(redisTemplate, key, cursor, cursorPostId, size);
+        redisTemplate.expire(key, generateTimelineTTL());
+        return entries;
+    }
+
+    /**
+     * score 만으로 자르면 같은 밀리초에 발행된 글이 페이지 경계에서 빠지므로, 경계의 score 는 개수 제한 없이 읽는다.
+     * - 커서와 같은 score 의 항목은 모두 읽어 커서의 postId 로 거른다.
+     * - 그보다 이전 항목은 size 건을 읽고, 마지막 항목과 score 가 같은 항목을 모두 더 읽는다.
+     *   (ZSET 의 같은 score 항목은 member 문자열 순이라 postId 숫자 순과 다르다)
+     * - 합친 뒤 LATEST_FIRST 로 정렬해 size 건으로 자른다.
+     */
+    static List<TimelineEntry> findBefore(StringRedisTemplate redisTemplate, String key,
+                                          Long cursor, Long cursorPostId, int size) {
+        Map<Long, TimelineEntry> entries = new HashMap<>();
+        if (cursor != null) {
+            rangeAt(redisTemplate, key, cursor).stream()
+                    .filter(entry -> entry.isAfter(cursor, cursorPostId))
+                    .forEach(entry -> entries.put(entry.postId(), entry));
+        }
+
+        double max = cursor != null ? cursor - 1 : Double.POSITIVE_INFINITY;
+        List<TimelineEntry> older = toEntries(redisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(key, 1, max, 0, size));
+        older.forEach(entry -> entries.put(entry.postId(), entry));
+        if (older.size() == size) {
+            rangeAt(redisTemplate, key, older.get(older.size() - 1).score())
+                    .forEach(entry -> entries.put(entry.postId(), entry));
+        }
+
+        return entries.values().stream()
+                .sorted(TimelineEntry.LATEST_FIRST)
+                .limit(size)
+                .toList();
+    }
+
+    private static List<TimelineEntry> rangeAt(StringRedisTemplate redisTemplate, String key, long score) {
+        return toEntries(redisTemplate.opsForZSet().rangeByScoreWithScores(key, score, score));
+    }
+
+    static List<TimelineEntry> toEntries(Set<TypedTuple<String>> tuples) {
+        if (tuples == null) return List.of();
+
+        List<TimelineEntry> entries = new ArrayList<>(tuples.size());
+        for (TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() == null || tuple.getScore() == null) continue;
+            entries.add(new TimelineEntry(Long.valueOf(tuple.getValue()), tuple.getScore().longValue()));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,32 @@
+package study.blog.subscription.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.blog.subscription.infrastructure.redis.FanOutOutboxRedisRepository;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CelebrityPruneScheduler {
+
+    private final FanOutOutboxRedisRepository outboxRepository;
+
+    /**
+     * outbox 가 만료된 작성자를 fanout:celebrities 에서 정리하는 스케줄러.
+     *
+     * 처리 정책
+     * - 스케줄 주기: 매일 05:00 (트래픽이 적은 시간대)
+     * - 정리하지 않으면 pull 할 때마다 글이 없는 작성자까지 구독 여부를 조회하게 된다.
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void pruneCelebrities() {
+        try {
+            int pruned = outboxRepository.pruneCelebrities();
+            log.info("celebrity 목록 정리 완료 - pruned={}", pruned);
+        } catch (Exception e) {
+            log.error("celebrity 목록 정리 실패", e);
+        }
+    }
+}
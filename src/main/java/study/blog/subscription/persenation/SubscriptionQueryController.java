@@ -2,13 +2,48 @@ package study.blog.subscription.persenation;
 
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import study.blog.global.common.dto.ApiResponse;
+import study.blog.global.web.resolver.LoginMember;
+import study.blog.subscription.application.SubscriptionQueryService;
+import study.blog.subscription.persenation.response.FollowListResponse;
+import study.blog.subscription.persenation.response.TimelineResponse;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/subscription")
 public class SubscriptionQueryController {
 
+    private static final int MAX_PAGE_SIZE = 50;
 
+    private final SubscriptionQueryService subscriptionQueryService;
+
+    @GetMapping("/timeline")
+    public ApiResponse<TimelineResponse> getTimeline(@LoginMember Long memberId,
+                                                     @RequestParam(required = false) Long cursor,
+                                                     @RequestParam(required = false) Long cursorPostId,
+                                                     @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return ApiResponse.success(subscriptionQueryService.getTimeline(memberId, cursor, cursorPostId, pageSize));
+    }
+
+    @GetMapping("/{memberId}/followers")
+    public ApiResponse<FollowListResponse> getFollowers(@PathVariable Long memberId,
+                                                        @RequestParam(required = false) Long cursor,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return ApiResponse.success(subscriptionQueryService.getFollowers(memberId, cursor, pageSize));
+    }
+
+    @GetMapping("/{memberId}/followings")
+    public ApiResponse<FollowListResponse> getFollowings(@PathVariable Long memberId,
+                                                         @RequestParam(required = false) Long cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return ApiResponse.success(subscriptionQueryService.getFollowings(memberId, cursor, pageSize));
+    }
 }
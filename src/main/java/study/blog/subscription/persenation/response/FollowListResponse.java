@@ -0,0 +1,12 @@
+package study.blog.subscription.persenation.response;
+
+import java.util.List;
+
+public record FollowListResponse(
+        List<FollowMemberResponse> members,
+        Long nextCursor
+) {
+    public static FollowListResponse of(List<FollowMemberResponse> members, Long nextCursor) {
+        return new FollowListResponse(members, nextCursor);
+    }
+}
@@ -0,0 +1,10 @@
+package study.blog.subscription.persenation.response;
+
+public record FollowMemberResponse(
+        Long memberId,
+        String nickname
+) {
+    public static FollowMemberResponse of(Long memberId, String nickname) {
+        return new FollowMemberResponse(memberId, nickname);
+    }
+}
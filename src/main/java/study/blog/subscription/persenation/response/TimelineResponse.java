@@ -0,0 +1,17 @@
+package study.blog.subscription.persenation.response;
+
+import study.blog.post.presentation.response.PostSummaryResponse;
+import study.blog.subscription.infrastructure.redis.TimelineEntry;
+
+import java.util.List;
+
+public record TimelineResponse(
+        List<PostSummaryResponse> posts,
+        Long nextCursor,
+        Long nextCursorPostId
+) {
+    public static TimelineResponse of(List<PostSummaryResponse> posts, TimelineEntry last) {
+        if (last == null) return new TimelineResponse(posts, null, null);
+        return new TimelineResponse(posts, last.score(), last.postId());
+    }
+}
@@ -16,12 +16,15 @@ import study.blog.auth.dto.LoginRequest;
 import study.blog.auth.dto.LoginResult;
 import study.blog.auth.dto.ReissueResult;
 import study.blog.auth.exception.InvalidRefreshTokenException;
+import study.blog.auth.repository.TokenBlacklistBloomFilter;
 import study.blog.auth.repository.TokenBlacklistRepository;
 import study.blog.auth.service.AuthService;
 import study.blog.global.config.JpaConfig;
 import study.blog.global.config.SecurityConfig;
 import study.blog.global.security.handler.CustomAccessDeniedHandler;
 import study.blog.global.security.handler.CustomAuthenticationEntryPoint;
+import study.blog.global.ratelimit.RateLimiter;
+import study.blog.global.web.ClientIpResolver;
 import study.blog.global.security.jwt.JwtTokenProvider;
 import study.blog.global.security.principal.MemberUserDetailsService;
 import study.blog.member.dto.MemberResponse;
@@ -59,6 +62,15 @@ class AuthControllerTest {
     @MockitoBean
     private TokenBlacklistRepository tokenBlacklistRepository;
 
+    @MockitoBean
+    private TokenBlacklistBloomFilter tokenBlacklistBloomFilter;
+
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
+    @MockitoBean
+    private ClientIpResolver clientIpResolver;
+
     @MockitoBean
     private MemberUserDetailsService memberUserDetailsService;
 
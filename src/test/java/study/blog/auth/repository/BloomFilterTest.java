@@ -0,0 +1,43 @@
+package study.blog.auth.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter 단위 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 mightContain()이 true를 반환한다")
+    void 추가한_값_false_negative_없음() {
+        // given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        var tokenIds = IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        // when
+        tokenIds.forEach(filter::put);
+
+        // then
+        assertThat(tokenIds).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 설정값 근처로 유지된다")
+    void 미등록_값_오탐률_제한() {
+        // given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> filter.put(UUID.randomUUID().toString()));
+
+        // when
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                .count();
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
@@ -0,0 +1,114 @@
+package study.blog.auth.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import study.blog.auth.entity.RefreshToken;
+import study.blog.auth.repository.RefreshTokenRepository.RotateResult;
+import study.blog.global.IntegrationTestSupport;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RefreshTokenRepository Lua 스크립트 테스트")
+class RefreshTokenRedisScriptTest extends IntegrationTestSupport {
+
+    private static final Long MEMBER_ID = 9_400_001L;
+    private static final String KEY = "RT:" + MEMBER_ID;
+    private static final Duration TTL = Duration.ofDays(7);
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(KEY);
+    }
+
+    @Test
+    @DisplayName("저장한 토큰으로 재발급하면 새 토큰 해시로 교체되고, 새 토큰으로 다시 재발급할 수 있다")
+    void rotate_교체_후_새_토큰으로_재발급() {
+        // given
+        refreshTokenRepository.save(RefreshToken.issue(MEMBER_ID, "session-1", "token-1"), TTL);
+
+        // when
+        RotateResult first = refreshTokenRepository.rotate(RefreshToken.issue(MEMBER_ID, "session-1", "token-1"), "token-2", TTL);
+        RotateResult second = refreshTokenRepository.rotate(RefreshToken.issue(MEMBER_ID, "session-1", "token-2"), "token-3", TTL);
+
+        // then
+        assertThat(first).isEqualTo(RotateResult.ROTATED);
+        assertThat(second).isEqualTo(RotateResult.ROTATED);
+        assertThat((String) redisTemplate.opsForHash().get(KEY, "session-1")).startsWith(RefreshToken.hash("token-3") + "|");
+        assertThat(redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰이 다시 사용되면 재사용으로 판단하고 해당 세션만 삭제한다")
+    void rotate_재사용_감지_세션_삭제() {
+        // given
+        refreshTokenRepository.save(RefreshToken.issue(MEMBER_ID, "session-1", "token-1"), TTL);
+        refreshTokenRepository.save(RefreshToken.issue(MEMBER_ID, "session-2", "other-token"), TTL);
+        refreshTokenRepository.rotate(RefreshToken.issue(MEMBER_ID, "session-1", "token-1"), "token-2", TTL);
+
+        // when
+        RotateResult result = refreshTokenRepository.rotate(RefreshToken.issue(MEMBER_ID, "session-1", "token-1"), "token-3", TTL);
+
+        // then
+        assertThat(result).isEqualTo(RotateResult.REUSED);
+        assertThat(redisTemplate.opsForHash().hasKey(KEY, "session-1")).isFalse();
+        assertThat(redisTemplate.opsForHash().hasKey(KEY, "session-2")).isTrue();
+
+        // 삭제된 세션은 이후 정상 토큰으로도 재발급할 수 없다
+        assertThat(refreshTokenRepository.rotate(RefreshToken.issue(MEMBER_ID, "session-1", "token-2"), "token-4", TTL))
+                .isEqualTo(RotateResult.SESSION_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("세션 수가 MAX_SESSIONS 를 넘으면 마지막 사용 시각이 가장 오래된 세션부터 제거한다")
+    void save_최대_세션_초과_LRU_제거() {
+        // given - 마지막 사용 시각이 1000, 1001, ... 인 세션을 가득 채운다
+        for (int i = 0; i < RefreshTokenRepository.MAX_SESSIONS; i++) {
+            redisTemplate.opsForHash().put(KEY, "session-" + i, RefreshToken.hash("token-" + i) + "|" + (1000 + i));
+        }
+        // 가장 오래된 session-0 을 재발급하여 최근 사용 세션으로 만든다
+        refreshTokenRepository.rotate(RefreshToken.issue(MEMBER_ID, "session-0", "token-0"), "token-0b", TTL);
+
+        // when
+        refreshTokenRepository.save(RefreshToken.issue(MEMBER_ID, "session-new", "token-new"), TTL);
+
+        // then
+        assertThat(redisTemplate.opsForHash().size(KEY)).isEqualTo(RefreshTokenRepository.MAX_SESSIONS);
+        assertThat(redisTemplate.opsForHash().hasKey(KEY, "session-1")).isFalse();
+        assertThat(redisTemplate.opsForHash().hasKey(KEY, "session-0")).isTrue();
+        assertThat(redisTemplate.opsForHash().hasKey(KEY, "session-new")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 형식(STRING) 키는 로그인 저장 시 삭제되고, 재발급 시에는 세션 없음으로 처리된다")
+    void 이전_형식_STRING_키_처리() {
+        // given
+        redisTemplate.opsForValue().set(KEY, "legacy-refresh-token");
+
+        // when
+        RotateResult rotateResult = refreshTokenRepository.rotate(
+                RefreshToken.issue(MEMBER_ID, "session-1", "legacy-refresh-token"), "token-2", TTL);
+
+        // then
+        assertThat(rotateResult).isEqualTo(RotateResult.SESSION_NOT_FOUND);
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("legacy-refresh-token");
+
+        // when - 새로 로그인하면 이전 형식 키를 지우고 세션 Hash 로 저장한다
+        refreshTokenRepository.save(RefreshToken.issue(MEMBER_ID, "session-1", "token-1"), TTL);
+
+        // then
+        assertThat(redisTemplate.type(KEY).code()).isEqualTo("hash");
+        assertThat(redisTemplate.opsForHash().size(KEY)).isEqualTo(1);
+    }
+}
@@ -6,14 +6,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import study.blog.auth.entity.RefreshToken;
+import study.blog.auth.repository.RefreshTokenRepository.RotateResult;
 
 import java.time.Duration;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -28,69 +33,64 @@ class RefreshTokenRepositoryTest {
     private StringRedisTemplate redisTemplate;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private HashOperations<String, Object, Object> hashOperations;
 
     @Test
-    @DisplayName("RefreshToken 저장 시 Redis에 올바른 키와 TTL로 저장된다")
-    void save_올바른_키와_TTL로_저장() {
+    @DisplayName("RefreshToken 저장 시 회원 키의 세션 필드에 토큰 해시와 TTL, 최대 세션 수를 전달한다")
+    void save_세션_필드에_토큰_해시_저장() {
         // given
         Long memberId = 1L;
-        String tokenValue = "refresh-token-value";
         Duration ttl = Duration.ofDays(7);
-        RefreshToken refreshToken = RefreshToken.issue(memberId, tokenValue);
-
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        RefreshToken refreshToken = RefreshToken.issue(memberId, "session-1", "refresh-token-value");
 
         // when
         refreshTokenRepository.save(refreshToken, ttl);
 
         // then
-        then(valueOperations).should().set("RT:" + memberId, tokenValue, ttl);
+        then(redisTemplate).should().execute(any(RedisScript.class), eq(List.of("RT:" + memberId)),
+                eq("session-1"), eq(RefreshToken.hash("refresh-token-value")), anyString(),
+                eq(String.valueOf(ttl.toMillis())), eq(String.valueOf(RefreshTokenRepository.MAX_SESSIONS)));
     }
 
     @Test
-    @DisplayName("memberId로 조회 시 저장된 RefreshToken을 반환한다")
-    void findByMemberId_저장된_토큰_반환() {
+    @DisplayName("rotate() 스크립트 결과에 따라 교체 성공 / 세션 없음 / 재사용 감지를 반환한다")
+    void rotate_스크립트_결과_매핑() {
         // given
-        Long memberId = 1L;
-        String tokenValue = "refresh-token-value";
+        RefreshToken incoming = RefreshToken.issue(1L, "session-1", "old-token");
+        Duration ttl = Duration.ofDays(7);
 
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get("RT:" + memberId)).willReturn(tokenValue);
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("RT:1")),
+                eq("session-1"), eq(RefreshToken.hash("old-token")), eq(RefreshToken.hash("new-token")),
+                anyString(), eq(String.valueOf(ttl.toMillis()))))
+                .willReturn(1L, 0L, -1L);
 
-        // when
-        Optional<RefreshToken> result = refreshTokenRepository.findByMemberId(memberId);
-
-        // then
-        assertThat(result).isPresent();
-        assertThat(result.get().getMemberId()).isEqualTo(memberId);
-        assertThat(result.get().getToken()).isEqualTo(tokenValue);
+        // when & then
+        assertThat(refreshTokenRepository.rotate(incoming, "new-token", ttl)).isEqualTo(RotateResult.ROTATED);
+        assertThat(refreshTokenRepository.rotate(incoming, "new-token", ttl)).isEqualTo(RotateResult.SESSION_NOT_FOUND);
+        assertThat(refreshTokenRepository.rotate(incoming, "new-token", ttl)).isEqualTo(RotateResult.REUSED);
     }
 
     @Test
-    @DisplayName("존재하지 않는 memberId로 조회 시 empty Optional을 반환한다")
-    void findByMemberId_존재하지_않으면_empty_반환() {
+    @DisplayName("delete() 호출 시 해당 세션 필드만 삭제된다")
+    void delete_세션_필드_삭제() {
         // given
-        Long memberId = 99L;
-
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get("RT:" + memberId)).willReturn(null);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
 
         // when
-        Optional<RefreshToken> result = refreshTokenRepository.findByMemberId(memberId);
+        refreshTokenRepository.delete(1L, "session-1");
 
         // then
-        assertThat(result).isEmpty();
+        then(hashOperations).should().delete("RT:1", "session-1");
     }
 
     @Test
-    @DisplayName("delete() 호출 시 해당 memberId의 키가 삭제된다")
-    void delete_올바른_키_삭제() {
+    @DisplayName("deleteAll() 호출 시 해당 memberId의 키가 삭제된다")
+    void deleteAll_올바른_키_삭제() {
         // given
         Long memberId = 1L;
 
         // when
-        refreshTokenRepository.delete(memberId);
+        refreshTokenRepository.deleteAll(memberId);
 
         // then
         then(redisTemplate).should().delete("RT:" + memberId);
@@ -1,5 +1,6 @@
 package study.blog.auth.service;
 
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +19,8 @@ import study.blog.auth.entity.RefreshToken;
 import study.blog.auth.exception.InvalidRefreshTokenException;
 import study.blog.auth.exception.TokenTamperedException;
 import study.blog.auth.repository.RefreshTokenRepository;
+import study.blog.auth.repository.RefreshTokenRepository.RotateResult;
+import study.blog.auth.repository.TokenBlacklistBloomFilter;
 import study.blog.auth.repository.TokenBlacklistRepository;
 import study.blog.global.security.jwt.JwtTokenProvider;
 import study.blog.global.security.jwt.TokenType;
@@ -32,9 +35,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AuthService 단위 테스트")
@@ -55,6 +62,9 @@ class AuthServiceTest {
     @Mock
     private TokenBlacklistRepository tokenBlacklistRepository;
 
+    @Mock
+    private TokenBlacklistBloomFilter tokenBlacklistBloomFilter;
+
     @Mock
     private MemberRepository memberRepository;
 
@@ -67,7 +77,7 @@ class AuthServiceTest {
     // ===== login() =====
 
     @Test
-    @DisplayName("유효한 자격증명으로 로그인 시 AccessToken과 RefreshToken을 반환한다")
+    @DisplayName("유효한 자격증명으로 로그인 시 새 세션의 AccessToken과 RefreshToken을 반환한다")
     void login_유효한_자격증명_토큰_반환() {
         // given
         LoginRequest request = new LoginRequest("test@test.com", "password123");
@@ -77,8 +87,8 @@ class AuthServiceTest {
                 userDetails, null, userDetails.getAuthorities());
 
         given(authenticationManager.authenticate(any())).willReturn(auth);
-        given(jwtTokenProvider.generateAccessToken(1L, auth)).willReturn("access-token");
-        given(jwtTokenProvider.generateRefreshToken(1L)).willReturn("refresh-token");
+        given(jwtTokenProvider.generateAccessToken(eq(1L), anyString(), eq(auth))).willReturn("access-token");
+        given(jwtTokenProvider.generateRefreshToken(eq(1L), anyString())).willReturn("refresh-token");
         given(jwtTokenProvider.getRefreshExpirationInMs()).willReturn(604_800_000L);
 
         // when
@@ -108,22 +118,26 @@ class AuthServiceTest {
     // ===== reissue() =====
 
     @Test
-    @DisplayName("유효한 RefreshToken으로 재발급 시 새로운 토큰 쌍을 반환한다")
+    @DisplayName("유효한 RefreshToken으로 재발급 시 같은 세션의 새로운 토큰 쌍을 반환한다")
     void reissue_유효한_토큰_새_토큰_반환() {
         // given
         String incomingToken  = "incoming-refresh-token";
         String newRefreshToken = "new-refresh-token";
         String newAccessToken  = "new-access-token";
+        String sessionId = "session-1";
         Long memberId = 1L;
         Member member = createMember(memberId);
-        RefreshToken storedToken = RefreshToken.issue(memberId, incomingToken);
 
-        given(jwtTokenProvider.getMemberIdFromJWT(incomingToken, TokenType.REFRESH)).willReturn(memberId);
-        given(refreshTokenRepository.findByMemberId(memberId)).willReturn(Optional.of(storedToken));
-        given(jwtTokenProvider.generateRefreshToken(memberId)).willReturn(newRefreshToken);
-        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
-        given(jwtTokenProvider.generateAccessToken(anyLong(), any(Authentication.class))).willReturn(newAccessToken);
+        Claims claims = mock(Claims.class);
+        given(jwtTokenProvider.parseClaims(incomingToken, TokenType.REFRESH)).willReturn(claims);
+        given(jwtTokenProvider.getMemberId(claims)).willReturn(memberId);
+        given(jwtTokenProvider.getSessionId(claims)).willReturn(sessionId);
+        given(jwtTokenProvider.generateRefreshToken(memberId, sessionId)).willReturn(newRefreshToken);
         given(jwtTokenProvider.getRefreshExpirationInMs()).willReturn(604_800_000L);
+        given(refreshTokenRepository.rotate(any(RefreshToken.class), eq(newRefreshToken), any(Duration.class)))
+                .willReturn(RotateResult.ROTATED);
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(jwtTokenProvider.generateAccessToken(anyLong(), eq(sessionId), any(Authentication.class))).willReturn(newAccessToken);
 
         // when
         ReissueResult result = authService.reissue(incomingToken);
@@ -131,18 +145,24 @@ class AuthServiceTest {
         // then
         assertThat(result.accessToken()).isEqualTo(newAccessToken);
         assertThat(result.newRefreshToken()).isEqualTo(newRefreshToken);
-        then(refreshTokenRepository).should().save(any(RefreshToken.class), any(Duration.class));
     }
 
     @Test
-    @DisplayName("Redis에 저장된 RefreshToken이 없으면 InvalidRefreshTokenException이 발생한다")
+    @DisplayName("Redis에 세션이 없으면 InvalidRefreshTokenException이 발생한다")
     void reissue_Redis에_토큰_없음_예외_발생() {
         // given
         String incomingToken = "orphan-token";
+        String newRefreshToken = "new-refresh-token";
         Long memberId = 1L;
 
-        given(jwtTokenProvider.getMemberIdFromJWT(incomingToken, TokenType.REFRESH)).willReturn(memberId);
-        given(refreshTokenRepository.findByMemberId(memberId)).willReturn(Optional.empty());
+        Claims claims = mock(Claims.class);
+        given(jwtTokenProvider.parseClaims(incomingToken, TokenType.REFRESH)).willReturn(claims);
+        given(jwtTokenProvider.getMemberId(claims)).willReturn(memberId);
+        given(jwtTokenProvider.getSessionId(claims)).willReturn("session-1");
+        given(jwtTokenProvider.generateRefreshToken(memberId, "session-1")).willReturn(newRefreshToken);
+        given(jwtTokenProvider.getRefreshExpirationInMs()).willReturn(604_800_000L);
+        given(refreshTokenRepository.rotate(any(RefreshToken.class), eq(newRefreshToken), any(Duration.class)))
+                .willReturn(RotateResult.SESSION_NOT_FOUND);
 
         // when & then
         assertThatThrownBy(() -> authService.reissue(incomingToken))
@@ -151,44 +171,95 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("위변조된 RefreshToken으로 재발급 시 TokenTamperedException이 발생하고 Redis에서 삭제된다")
-    void reissue_위변조된_토큰_예외_발생_및_Redis_삭제() {
+    @DisplayName("세션 정보가 없는 이전 형식 RefreshToken은 InvalidRefreshTokenException이 발생한다")
+    void reissue_세션_없는_토큰_예외_발생() {
+        // given
+        String legacyToken = "legacy-token";
+
+        Claims claims = mock(Claims.class);
+        given(jwtTokenProvider.parseClaims(legacyToken, TokenType.REFRESH)).willReturn(claims);
+        given(jwtTokenProvider.getMemberId(claims)).willReturn(1L);
+        given(jwtTokenProvider.getSessionId(claims)).willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> authService.reissue(legacyToken))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        then(refreshTokenRepository).should(never()).rotate(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 교체된 RefreshToken으로 재발급 시 TokenTamperedException이 발생한다")
+    void reissue_재사용된_토큰_예외_발생() {
         // given
-        String storedTokenValue = "stored-refresh-token";
-        String tamperedToken    = "tampered-refresh-token";
-        String newRefreshToken  = "new-refresh-token";
+        String reusedToken     = "reused-refresh-token";
+        String newRefreshToken = "new-refresh-token";
         Long memberId = 1L;
-        RefreshToken storedToken = RefreshToken.issue(memberId, storedTokenValue);
 
-        given(jwtTokenProvider.getMemberIdFromJWT(tamperedToken, TokenType.REFRESH)).willReturn(memberId);
-        given(refreshTokenRepository.findByMemberId(memberId)).willReturn(Optional.of(storedToken));
-        given(jwtTokenProvider.generateRefreshToken(memberId)).willReturn(newRefreshToken);
+        Claims claims = mock(Claims.class);
+        given(jwtTokenProvider.parseClaims(reusedToken, TokenType.REFRESH)).willReturn(claims);
+        given(jwtTokenProvider.getMemberId(claims)).willReturn(memberId);
+        given(jwtTokenProvider.getSessionId(claims)).willReturn("session-1");
+        given(jwtTokenProvider.generateRefreshToken(memberId, "session-1")).willReturn(newRefreshToken);
+        given(jwtTokenProvider.getRefreshExpirationInMs()).willReturn(604_800_000L);
+        given(refreshTokenRepository.rotate(any(RefreshToken.class), eq(newRefreshToken), any(Duration.class)))
+                .willReturn(RotateResult.REUSED);
 
         // when & then
-        assertThatThrownBy(() -> authService.reissue(tamperedToken))
+        assertThatThrownBy(() -> authService.reissue(reusedToken))
                 .isInstanceOf(TokenTamperedException.class);
-        then(refreshTokenRepository).should().delete(memberId);
+        then(memberRepository).should(never()).findById(any());
     }
 
     // ===== logout() =====
 
     @Test
-    @DisplayName("로그아웃 시 AccessToken을 블랙리스트에 등록하고 RefreshToken을 삭제한다")
+    @DisplayName("로그아웃 시 AccessToken의 jti를 블랙리스트에 등록하고 현재 세션만 삭제한다")
     void logout_블랙리스트_등록_및_토큰_삭제() {
         // given
         String accessToken = "valid-access-token";
+        String tokenId = "token-id";
         Long memberId = 1L;
         Duration remainingTtl = Duration.ofMinutes(10);
 
-        given(jwtTokenProvider.getRemainingExpiry(accessToken, TokenType.ACCESS)).willReturn(remainingTtl);
-        given(jwtTokenProvider.getMemberIdFromJWT(accessToken, TokenType.ACCESS)).willReturn(memberId);
+        Claims claims = mock(Claims.class);
+        given(jwtTokenProvider.parseClaims(accessToken, TokenType.ACCESS)).willReturn(claims);
+        given(jwtTokenProvider.getRemainingExpiry(claims)).willReturn(remainingTtl);
+        given(jwtTokenProvider.getTokenId(accessToken, claims)).willReturn(tokenId);
+        given(jwtTokenProvider.getMemberId(claims)).willReturn(memberId);
+        given(jwtTokenProvider.getSessionId(claims)).willReturn("session-1");
+
+        // when
+        authService.logout(accessToken);
+
+        // then
+        then(tokenBlacklistRepository).should().add(tokenId, remainingTtl);
+        then(tokenBlacklistBloomFilter).should().register(tokenId);
+        then(refreshTokenRepository).should().delete(memberId, "session-1");
+        then(refreshTokenRepository).should(never()).deleteAll(any());
+        then(jwtTokenProvider).should(times(1)).parseClaims(accessToken, TokenType.ACCESS);
+    }
+
+    @Test
+    @DisplayName("jti 가 없는 이전 AccessToken 은 이전 블랙리스트 키로도 등록한다")
+    void logout_이전_토큰_이전_키_함께_등록() {
+        // given
+        String accessToken = "legacy-access-token";
+        String tokenId = "sha256-of-token";
+        Duration remainingTtl = Duration.ofMinutes(10);
+
+        Claims claims = mock(Claims.class);
+        given(jwtTokenProvider.parseClaims(accessToken, TokenType.ACCESS)).willReturn(claims);
+        given(jwtTokenProvider.getRemainingExpiry(claims)).willReturn(remainingTtl);
+        given(jwtTokenProvider.getTokenId(accessToken, claims)).willReturn(tokenId);
+        given(jwtTokenProvider.isLegacyToken(claims)).willReturn(true);
+        given(jwtTokenProvider.getMemberId(claims)).willReturn(1L);
 
         // when
         authService.logout(accessToken);
 
         // then
-        then(tokenBlacklistRepository).should().add(accessToken, remainingTtl);
-        then(refreshTokenRepository).should().delete(memberId);
+        then(tokenBlacklistRepository).should().add(tokenId, remainingTtl);
+        then(tokenBlacklistRepository).should().addLegacy(accessToken, remainingTtl);
     }
 
     @Test
@@ -198,14 +269,18 @@ class AuthServiceTest {
         String accessToken = "already-expired-token";
         Long memberId = 1L;
 
-        given(jwtTokenProvider.getRemainingExpiry(accessToken, TokenType.ACCESS)).willReturn(Duration.ZERO);
-        given(jwtTokenProvider.getMemberIdFromJWT(accessToken, TokenType.ACCESS)).willReturn(memberId);
+        Claims claims = mock(Claims.class);
+        given(jwtTokenProvider.parseClaims(accessToken, TokenType.ACCESS)).willReturn(claims);
+        given(jwtTokenProvider.getRemainingExpiry(claims)).willReturn(Duration.ZERO);
+        given(jwtTokenProvider.getMemberId(claims)).willReturn(memberId);
+        given(jwtTokenProvider.getSessionId(claims)).willReturn(null);
 
         // when
         authService.logout(accessToken);
 
         // then
         then(tokenBlacklistRepository).should(never()).add(any(), any());
-        then(refreshTokenRepository).should().delete(memberId);
+        then(tokenBlacklistBloomFilter).should(never()).register(any());
+        then(refreshTokenRepository).should().deleteAll(memberId);
     }
 }
@@ -0,0 +1,120 @@
+package study.blog.global.infra;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 테스트용 메모리 ImageStorage. (key 순으로 정렬해 S3 목록 조회와 같은 순서로 응답한다)
+ *
+ * 통합 테스트는 @Import(InMemoryImageStorage.Config.class) 로 S3ImageStorage 대신 주입받는다.
+ */
+public class InMemoryImageStorage implements ImageStorage {
+
+    public static final String BASE_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/";
+
+    private final NavigableMap<String, Stored> objects = new ConcurrentSkipListMap<>();
+
+    @Override
+    public Optional<StoredObject> head(String key) {
+        return Optional.ofNullable(objects.get(key)).map(stored -> stored.toObject(key));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        Stored stored = objects.get(key);
+        if (stored == null) throw new FileNotFoundException(key);
+        return new ByteArrayInputStream(stored.bytes());
+    }
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        put(key, bytes, contentType, Instant.now());
+    }
+
+    /**
+     * 마지막 수정 시각을 지정해 저장한다. (유예 시간 확인 등)
+     */
+    public void put(String key, byte[] bytes, String contentType, Instant lastModified) {
+        objects.put(key, new Stored(bytes, contentType, lastModified));
+    }
+
+    @Override
+    public StoredObjectPage list(String prefix, String continuationToken, int size) {
+        Map<String, Stored> candidates = continuationToken == null
+                ? objects.tailMap(prefix, true)
+                : objects.tailMap(continuationToken, false);
+
+        List<StoredObject> page = new ArrayList<>(size);
+        String lastKey = null;
+        for (Map.Entry<String, Stored> entry : candidates.entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) break;
+            if (page.size() == size) {
+                return new StoredObjectPage(page, lastKey);
+            }
+            StoredObject object = entry.getValue().toObject(entry.getKey());
+            page.add(new StoredObject(object.key(), object.size(), null, object.lastModified()));
+            lastKey = entry.getKey();
+        }
+        return new StoredObjectPage(page, null);
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        keys.forEach(objects::remove);
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return BASE_URL + key;
+    }
+
+    @Override
+    public Optional<String> keyOf(String url) {
+        if (url == null || !url.startsWith(BASE_URL) || url.length() == BASE_URL.length()) return Optional.empty();
+        return Optional.of(url.substring(BASE_URL.length()));
+    }
+
+    public boolean contains(String key) {
+        return objects.containsKey(key);
+    }
+
+    public Set<String> keys() {
+        return Set.copyOf(objects.keySet());
+    }
+
+    public void clear() {
+        objects.clear();
+    }
+
+    private record Stored(byte[] bytes, String contentType, Instant lastModified) {
+
+        StoredObject toObject(String key) {
+            return new StoredObject(key, bytes.length, contentType, lastModified);
+        }
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        @Primary
+        public InMemoryImageStorage inMemoryImageStorage() {
+            return new InMemoryImageStorage();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package study.blog.global.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import study.blog.global.IntegrationTestSupport;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LinkPreviewCache 테스트")
+class LinkPreviewCacheTest extends IntegrationTestSupport {
+
+    private static final String OK_URL = "https://cache-test.example.com/ok";
+    private static final String FAILED_URL = "https://cache-test.example.com/failed";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private LinkPreviewCache linkPreviewCache;
+
+    @BeforeEach
+    void setUp() {
+        // ttl 24시간, negative ttl 60초, 로컬 TTL 0 으로 Redis 저장 결과만 확인한다.
+        linkPreviewCache = new LinkPreviewCache(redisTemplate, objectMapper, 24, 60, 100, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(LinkPreviewCache.generateKey(OK_URL), LinkPreviewCache.generateKey(FAILED_URL)));
+    }
+
+    @Test
+    @DisplayName("실패한 URL 의 빈 미리보기는 negative TTL 로 저장되고 그대로 조회된다")
+    void 빈_미리보기_negative_TTL() {
+        // when
+        linkPreviewCache.put(FAILED_URL, LinkPreviewResponse.empty(FAILED_URL));
+
+        // then
+        Long expireSeconds = redisTemplate.getExpire(LinkPreviewCache.generateKey(FAILED_URL), TimeUnit.SECONDS);
+        assertThat(expireSeconds).isPositive().isLessThanOrEqualTo(60);
+        assertThat(linkPreviewCache.get(FAILED_URL)).hasValueSatisfying(preview -> assertThat(preview.isEmpty()).isTrue());
+    }
+
+    @Test
+    @DisplayName("성공한 미리보기는 일반 TTL 로 저장된다")
+    void 성공_미리보기_TTL() {
+        // given
+        LinkPreviewResponse preview = new LinkPreviewResponse("제목", "설명", "", "", OK_URL);
+
+        // when
+        linkPreviewCache.put(OK_URL, preview);
+
+        // then
+        Long expireSeconds = redisTemplate.getExpire(LinkPreviewCache.generateKey(OK_URL), TimeUnit.SECONDS);
+        assertThat(expireSeconds).isGreaterThan(Duration.ofHours(23).toSeconds());
+        assertThat(linkPreviewCache.get(OK_URL)).contains(preview);
+    }
+}
@@ -0,0 +1,103 @@
+package study.blog.global.infra;
+
+import com.sun.net.httpserver.HttpServer;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LinkPreviewFetcher 단위 테스트 (로컬 스텁 서버)")
+class LinkPreviewFetcherTest {
+
+    private static final String HEAD = """
+            <!DOCTYPE html><html><head>
+            <title>스텁 페이지</title>
+            <meta property="og:title" content="OG 제목">
+            <meta property="og:image" content="/images/og.png">
+            </head>
+            """;
+
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/large", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(HEAD.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                byte[] chunk = "<p>본문</p>".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+                for (int i = 0; i < 200; i++) {
+                    out.write(chunk);
+                }
+            } catch (IOException ignored) {
+                // 클라이언트가 head 까지만 읽고 연결을 끊으면 여기로 온다.
+            }
+        });
+        server.createContext("/image", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "image/png");
+            exchange.sendResponseHeaders(200, 4);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(new byte[]{1, 2, 3, 4});
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("head 까지만 읽고 og 메타 태그를 파싱한다")
+    void head_까지만_파싱() throws IOException {
+        // given
+        LinkPreviewFetcher fetcher = new LinkPreviewFetcher(3_000, 64 * 1024);
+        String url = baseUrl() + "/large";
+
+        // when
+        Document doc = fetcher.fetchHead(url);
+
+        // then
+        assertThat(doc.title()).isEqualTo("스텁 페이지");
+        assertThat(doc.select("meta[property=og:title]").attr("content")).isEqualTo("OG 제목");
+        assertThat(doc.select("meta[property=og:image]").first().absUrl("content")).isEqualTo(baseUrl() + "/images/og.png");
+        assertThat(doc.select("p")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("HTML 이 아닌 응답은 예외를 던진다")
+    void HTML_아닌_응답_예외() {
+        // given
+        LinkPreviewFetcher fetcher = new LinkPreviewFetcher(3_000, 64 * 1024);
+
+        // when & then
+        assertThatThrownBy(() -> fetcher.fetchHead(baseUrl() + "/image"))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("닫는 head 태그를 시작 위치부터 대소문자 구분 없이 찾는다")
+    void 태그_검색() {
+        byte[] source = "<html><HEAD></HeAd><body>".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(LinkPreviewFetcher.indexOfIgnoreCase(source, "</head".getBytes(), 10)).isEqualTo(12);
+        assertThat(LinkPreviewFetcher.indexOfIgnoreCase(source, "</head".getBytes(), 13)).isEqualTo(-1);
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,169 @@
+package study.blog.global.infra;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import study.blog.post.infrastructure.persistence.query.PostQueryRepository;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LinkPreviewService 단위 테스트")
+class LinkPreviewServiceTest {
+
+    private static final String URL = "https://external.example.com/article";
+    private static final String HTML = """
+            <html><head><title>외부 글</title>
+            <meta property="og:title" content="OG 제목">
+            </head></html>
+            """;
+
+    @Mock
+    private PostQueryRepository postQueryRepository;
+
+    @Mock
+    private LinkPreviewFetcher linkPreviewFetcher;
+
+    @Mock
+    private LinkPreviewCache linkPreviewCache;
+
+    private final ExecutorService fetchExecutor = Executors.newCachedThreadPool();
+    private final ExecutorService callers = Executors.newFixedThreadPool(5);
+
+    @AfterEach
+    void tearDown() {
+        fetchExecutor.shutdownNow();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 URL 에 대한 동시 요청은 외부 요청 하나를 공유한다")
+    void 동시_요청_single_flight() throws Exception {
+        // given
+        LinkPreviewService service = service(fetchExecutor, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+        given(linkPreviewCache.get(URL)).willReturn(Optional.empty());
+        given(linkPreviewFetcher.fetchHead(URL)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Jsoup.parse(HTML);
+        });
+
+        // when
+        List<Future<LinkPreviewResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(callers.submit(() -> service.fetchPreview(URL)));
+        }
+        then(linkPreviewFetcher).should(timeout(1_000)).fetchHead(URL);
+        Thread.sleep(200); // 나머지 호출자가 진행 중인 요청에 합류할 때까지 기다린다
+        release.countDown();
+
+        // then
+        for (Future<LinkPreviewResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).title()).isEqualTo("OG 제목");
+        }
+        then(linkPreviewFetcher).should(times(1)).fetchHead(URL);
+        then(linkPreviewCache).should(times(1)).put(eq(URL), any(LinkPreviewResponse.class));
+    }
+
+    @Test
+    @DisplayName("외부 요청이 실패하면 빈 미리보기를 negative 캐시에 저장한다")
+    void 외부_요청_실패_negative_캐시() throws Exception {
+        // given
+        LinkPreviewService service = service(fetchExecutor, 5_000);
+        given(linkPreviewCache.get(URL)).willReturn(Optional.empty());
+        given(linkPreviewFetcher.fetchHead(URL)).willThrow(new SocketTimeoutException("timeout"));
+
+        // when
+        LinkPreviewResponse preview = service.fetchPreview(URL);
+
+        // then
+        assertThat(preview.isEmpty()).isTrue();
+        then(linkPreviewCache).should().put(URL, LinkPreviewResponse.empty(URL));
+    }
+
+    @Test
+    @DisplayName("캐시에 있으면(실패 결과 포함) 외부 요청을 보내지 않는다")
+    void 캐시_적중_외부_요청_생략() throws Exception {
+        // given
+        LinkPreviewService service = service(fetchExecutor, 5_000);
+        given(linkPreviewCache.get(URL)).willReturn(Optional.of(LinkPreviewResponse.empty(URL)));
+
+        // when
+        LinkPreviewResponse preview = service.fetchPreview(URL);
+
+        // then
+        assertThat(preview.isEmpty()).isTrue();
+        then(linkPreviewFetcher).should(never()).fetchHead(any());
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 빈 미리보기를 응답하고, 외부 요청 결과는 이후 캐시에 저장된다")
+    void 대기_시간_초과() throws Exception {
+        // given
+        LinkPreviewService service = service(fetchExecutor, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        given(linkPreviewCache.get(URL)).willReturn(Optional.empty());
+        given(linkPreviewFetcher.fetchHead(URL)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Jsoup.parse(HTML);
+        });
+
+        // when
+        LinkPreviewResponse preview = service.fetchPreview(URL);
+        release.countDown();
+
+        // then
+        assertThat(preview.isEmpty()).isTrue();
+        then(linkPreviewCache).should(timeout(1_000)).put(eq(URL), any(LinkPreviewResponse.class));
+    }
+
+    @Test
+    @DisplayName("풀이 가득 차 거절되면 캐시하지 않고 빈 미리보기를 응답한다")
+    void 풀_포화_캐시_안함() throws IOException {
+        // given
+        LinkPreviewService service = service(command -> {
+            throw new RejectedExecutionException("full");
+        }, 5_000);
+        given(linkPreviewCache.get(URL)).willReturn(Optional.empty());
+
+        // when
+        LinkPreviewResponse preview = service.fetchPreview(URL);
+
+        // then
+        assertThat(preview.isEmpty()).isTrue();
+        then(linkPreviewCache).should(never()).put(any(), any());
+        then(linkPreviewFetcher).should(never()).fetchHead(any());
+    }
+
+    private LinkPreviewService service(Executor executor, long waitTimeoutMs) {
+        LinkPreviewService service = new LinkPreviewService(
+                postQueryRepository, linkPreviewFetcher, linkPreviewCache, executor, waitTimeoutMs);
+        ReflectionTestUtils.setField(service, "appBaseUrl", "https://blog.example.com");
+        return service;
+    }
+}
@@ -0,0 +1,263 @@
+package study.blog.global.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DistributedLockAop 단위 테스트")
+class DistributedLockAopTest {
+
+    private static final String KEY = "lockpost:1";
+    private static final long WAIT_MILLIS = 300L;
+
+    @Mock
+    private RedissonClient redisson;
+
+    @Mock
+    private RLock rLock;
+
+    @Mock
+    private RScript script;
+
+    @Mock
+    private AopForTransaction aopForTransaction;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private LocalKeyLocks localKeyLocks;
+    private SimpleMeterRegistry meterRegistry;
+    private DistributedLockAop aop;
+
+    @BeforeEach
+    void setUp() {
+        localKeyLocks = new LocalKeyLocks();
+        meterRegistry = new SimpleMeterRegistry();
+        aop = new DistributedLockAop(redisson, aopForTransaction, localKeyLocks, meterRegistry);
+        given(redisson.getLock(KEY)).willReturn(rLock);
+    }
+
+    @Test
+    @DisplayName("락을 얻으면 메서드를 실행하고 Redis 락 / 로컬 락 참조를 모두 반납한다")
+    void 획득_후_실행() throws Throwable {
+        // given
+        invoke("skip");
+        given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(rLock.isHeldByCurrentThread()).willReturn(true);
+        given(aopForTransaction.proceed(joinPoint)).willReturn(true);
+
+        // when
+        Object result = aop.around(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo(true);
+        then(rLock).should().unlock();
+        assertThat(localKeyLocks.size()).isZero();
+        assertThat(meterRegistry.get("distributed.lock.wait").tag("result", "acquired").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("THROW 정책은 Redis 락 대기 시간이 지나면 LockAcquisitionException 을 던지고 메서드를 실행하지 않는다")
+    void THROW_정책() throws Throwable {
+        // given
+        invoke("fail");
+        given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> aop.around(joinPoint)).isInstanceOf(LockAcquisitionException.class);
+        then(aopForTransaction).should(never()).proceed(any());
+        assertThat(localKeyLocks.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("SKIP 정책은 Redis 락 대기 시간이 지나면 false 를 반환하고 redis 단계 skipped 로 기록한다")
+    void SKIP_정책_Redis_대기_초과() throws Throwable {
+        // given
+        invoke("skip");
+        given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(false);
+
+        // when
+        Object result = aop.around(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo(false);
+        then(aopForTransaction).should(never()).proceed(any());
+        assertThat(skipped("redis")).isEqualTo(1);
+        assertThat(skipped("local")).isZero();
+        assertThat(meterRegistry.get("distributed.lock.wait").tag("result", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 key 의 로컬 락을 다른 스레드가 놓지 않으면 Redis 락을 시도하지 않고 local 단계 skipped 로 기록한다")
+    void SKIP_정책_로컬_대기_초과() throws Throwable {
+        // given
+        invoke("skip");
+        Thread holder = holdLocalLock(WAIT_MILLIS * 2);
+
+        // when
+        Object result = aop.around(joinPoint);
+        holder.join();
+
+        // then
+        assertThat(result).isEqualTo(false);
+        then(rLock).should(never()).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        assertThat(skipped("local")).isEqualTo(1);
+        assertThat(meterRegistry.get("distributed.lock.wait").tag("result", "local_timeout").timer().count()).isEqualTo(1);
+        assertThat(localKeyLocks.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 락은 로컬 락 대기에 쓰고 남은 시간만큼만 기다린다")
+    void 대기_시간_합산() throws Throwable {
+        // given
+        long localHoldMillis = 150L;
+        invoke("skip");
+        given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(false);
+        Thread holder = holdLocalLock(localHoldMillis);
+
+        // when
+        aop.around(joinPoint);
+        holder.join();
+
+        // then
+        ArgumentCaptor<Long> remaining = ArgumentCaptor.forClass(Long.class);
+        then(rLock).should().tryLock(remaining.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        assertThat(remaining.getValue()).isBetween(0L, WAIT_MILLIS - localHoldMillis + 50);
+    }
+
+    @Test
+    @DisplayName("fencing 락은 key 별 카운터에서 받은 token 을 메서드 실행 동안에만 FencingToken 으로 넘긴다")
+    void fencing_token_발급() throws Throwable {
+        // given
+        invoke("fenced");
+        given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(redisson.getScript(StringCodec.INSTANCE)).willReturn(script);
+        given(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(), any()))
+                .willReturn(42L);
+        long[] seen = new long[1];
+        given(aopForTransaction.proceed(joinPoint)).willAnswer(invocation -> {
+            seen[0] = FencingToken.current();
+            return null;
+        });
+
+        // when
+        aop.around(joinPoint);
+
+        // then
+        assertThat(seen[0]).isEqualTo(42L);
+        assertThatThrownBy(FencingToken::current).isInstanceOf(IllegalStateException.class);
+
+        ArgumentCaptor<List<Object>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object> floor = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> ttl = ArgumentCaptor.forClass(Object.class);
+        then(script).should().eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                keys.capture(), floor.capture(), ttl.capture());
+        assertThat(keys.getValue()).containsExactly(KEY + ":fencing");
+        assertThat(Long.parseLong((String) floor.getValue())).isGreaterThan(System.currentTimeMillis() - 60_000L);
+        assertThat(ttl.getValue()).isEqualTo(String.valueOf(TimeUnit.DAYS.toMillis(1)));
+    }
+
+    @Test
+    @DisplayName("메서드가 예외를 던져도 FencingToken 과 로컬 락 참조를 정리한다")
+    void fencing_예외_정리() throws Throwable {
+        // given
+        invoke("fenced");
+        given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(redisson.getScript(StringCodec.INSTANCE)).willReturn(script);
+        given(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(), any()))
+                .willReturn(7L);
+        given(aopForTransaction.proceed(joinPoint)).willThrow(new IllegalStateException("렌더링 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> aop.around(joinPoint)).hasMessage("렌더링 실패");
+        assertThatThrownBy(FencingToken::current).isInstanceOf(IllegalStateException.class);
+        assertThat(localKeyLocks.size()).isZero();
+    }
+
+    private void invoke(String methodName) throws NoSuchMethodException {
+        Method method = LockTarget.class.getDeclaredMethod(methodName, Long.class);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(joinPoint.getArgs()).willReturn(new Object[]{1L});
+        given(signature.getMethod()).willReturn(method);
+        given(signature.getParameterNames()).willReturn(new String[]{"postId"});
+    }
+
+    /**
+     * 다른 스레드가 같은 key 의 로컬 락을 holdMillis 동안 잡는다. (잡은 뒤에 반환)
+     */
+    private Thread holdLocalLock(long holdMillis) throws InterruptedException {
+        CountDownLatch locked = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            ReentrantLock lock = localKeyLocks.retain(KEY);
+            lock.lock();
+            try {
+                locked.countDown();
+                Thread.sleep(holdMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+                localKeyLocks.release(KEY);
+            }
+        });
+        holder.start();
+        locked.await();
+        return holder;
+    }
+
+    private double skipped(String stage) {
+        return meterRegistry.get("distributed.lock.skipped").tag("stage", stage).counter().count();
+    }
+
+    static class LockTarget {
+
+        @DistributedLock(key = "'post:' + #postId", timeUnit = TimeUnit.MILLISECONDS,
+                waitTime = WAIT_MILLIS, leaseTime = 1000L)
+        public boolean skip(Long postId) {
+            return true;
+        }
+
+        @DistributedLock(key = "'post:' + #postId", timeUnit = TimeUnit.MILLISECONDS,
+                waitTime = WAIT_MILLIS, leaseTime = 1000L, onFailure = LockFailurePolicy.THROW)
+        public boolean fail(Long postId) {
+            return true;
+        }
+
+        @DistributedLock(key = "'post:' + #postId", timeUnit = TimeUnit.MILLISECONDS,
+                waitTime = WAIT_MILLIS, autoRenew = true, fencing = true)
+        public void fenced(Long postId) {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package study.blog.global.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FencingToken 단위 테스트")
+class FencingTokenTest {
+
+    @Test
+    @DisplayName("fencing 락 밖에서 조회하면 IllegalStateException 을 던진다")
+    void 락_밖_조회() {
+        assertThatThrownBy(FencingToken::current).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("락이 중첩되면 가장 안쪽 token 을 돌려주고, 안쪽 락이 끝나면 바깥 token 으로 돌아간다")
+    void 중첩_락() {
+        FencingToken.push(10L);
+        try {
+            FencingToken.push(20L);
+            try {
+                assertThat(FencingToken.current()).isEqualTo(20L);
+            } finally {
+                FencingToken.pop();
+            }
+            assertThat(FencingToken.current()).isEqualTo(10L);
+        } finally {
+            FencingToken.pop();
+        }
+
+        assertThatThrownBy(FencingToken::current).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("다른 스레드의 token 은 보이지 않는다")
+    void 스레드_격리() throws InterruptedException {
+        FencingToken.push(10L);
+        try {
+            Throwable[] failure = new Throwable[1];
+            Thread other = new Thread(() -> {
+                try {
+                    FencingToken.current();
+                } catch (Throwable e) {
+                    failure[0] = e;
+                }
+            });
+            other.start();
+            other.join();
+
+            assertThat(failure[0]).isInstanceOf(IllegalStateException.class);
+        } finally {
+            FencingToken.pop();
+        }
+    }
+}
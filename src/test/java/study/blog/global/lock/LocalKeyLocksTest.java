@@ -0,0 +1,78 @@
+package study.blog.global.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalKeyLocks 단위 테스트")
+class LocalKeyLocksTest {
+
+    @Test
+    @DisplayName("참조가 남아 있는 동안 같은 key 는 같은 락을, 다른 key 는 다른 락을 돌려준다")
+    void key_별_락() {
+        LocalKeyLocks locks = new LocalKeyLocks();
+
+        ReentrantLock first = locks.retain("lockpost:rendering:1");
+        ReentrantLock second = locks.retain("lock" + "post:rendering:" + 1);
+        ReentrantLock other = locks.retain("lockpost:rendering:2");
+
+        assertThat(first).isSameAs(second);
+        assertThat(other).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("모든 참조를 반납하면 맵에서 제거된다")
+    void 참조_반납_제거() {
+        LocalKeyLocks locks = new LocalKeyLocks();
+
+        locks.retain("lockpost:1");
+        locks.retain("lockpost:1");
+        locks.release("lockpost:1");
+        assertThat(locks.size()).isEqualTo(1);
+
+        locks.release("lockpost:1");
+        assertThat(locks.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 key 를 여러 스레드가 동시에 쓰면 한 번에 하나만 통과하고, 끝나면 맵이 비어 있다")
+    void 동시_사용() throws InterruptedException {
+        LocalKeyLocks locks = new LocalKeyLocks();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads * 100);
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        for (int i = 0; i < threads * 100; i++) {
+            executor.submit(() -> {
+                ReentrantLock lock = locks.retain("lockpost:1");
+                try {
+                    lock.lock();
+                    try {
+                        maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                        inside.decrementAndGet();
+                    } finally {
+                        lock.unlock();
+                    }
+                } finally {
+                    locks.release("lockpost:1");
+                    done.countDown();
+                }
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(maxInside.get()).isEqualTo(1);
+        assertThat(locks.size()).isZero();
+    }
+}
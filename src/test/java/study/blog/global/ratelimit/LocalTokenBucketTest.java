@@ -0,0 +1,68 @@
+package study.blog.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalTokenBucket 단위 테스트")
+class LocalTokenBucketTest {
+
+    @Test
+    @DisplayName("버킷 크기만큼은 즉시 허용하고, 초과하면 다음 토큰까지의 대기 시간을 반환한다")
+    void 버킷_크기_초과_시_대기_시간_반환() {
+        // given: 10초에 10개 충전 (1초당 1개)
+        LocalTokenBucket bucket = new LocalTokenBucket(10, 10 / 10_000.0, 0);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryConsume(0)).isZero();
+        }
+        long wait = bucket.tryConsume(0);
+
+        // then
+        assertThat(wait).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 충전되어 다시 허용된다")
+    void 시간_경과_후_충전() {
+        // given
+        LocalTokenBucket bucket = new LocalTokenBucket(1, 1 / 1_000.0, 0);
+        bucket.tryConsume(0);
+
+        // when & then
+        assertThat(bucket.tryConsume(500)).isPositive();
+        assertThat(bucket.tryConsume(1_000)).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 정리 대상이다")
+    void 가득_찬_버킷만_정리_대상() {
+        // given
+        LocalTokenBucket bucket = new LocalTokenBucket(2, 2 / 1_000.0, 0);
+        bucket.tryConsume(0);
+
+        // when & then
+        assertThat(bucket.isIdle(0)).isFalse();
+        assertThat(bucket.isIdle(1_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("돌려받은 토큰으로 다시 허용하며, 버킷 크기를 넘겨 쌓이지 않는다")
+    void 토큰_반환() {
+        // given
+        LocalTokenBucket bucket = new LocalTokenBucket(1, 1 / 1_000.0, 0);
+        bucket.tryConsume(0);
+
+        // when
+        bucket.refund();
+
+        // then
+        assertThat(bucket.tryConsume(0)).isZero();
+        bucket.refund();
+        bucket.refund();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isPositive();
+    }
+}
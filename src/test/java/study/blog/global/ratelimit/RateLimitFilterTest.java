@@ -0,0 +1,102 @@
+package study.blog.global.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import study.blog.global.web.ClientIpResolver;
+import study.blog.global.web.resolver.LoginMemberId;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitFilter 단위 테스트")
+class RateLimitFilterTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private ClientIpResolver clientIpResolver;
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter = new RateLimitFilter(rateLimiter, clientIpResolver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("허용되면 다음 필터로 요청을 넘긴다")
+    void 허용_시_다음_필터_호출() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        given(clientIpResolver.resolve(request)).willReturn("1.1.1.1");
+        given(rateLimiter.tryAcquire("POST", "/api/v1/auth/login", null, "1.1.1.1")).willReturn(0L);
+
+        // when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(filterChain.getRequest()).isSameAs(request);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 429 와 올림한 Retry-After(초)로 응답하고 다음 필터를 호출하지 않는다")
+    void 초과_시_429_응답() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        given(clientIpResolver.resolve(request)).willReturn("1.1.1.1");
+        given(rateLimiter.tryAcquire("POST", "/api/v1/auth/login", null, "1.1.1.1")).willReturn(1_500L);
+
+        // when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"success\": false");
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("로그인 회원이면 회원 ID 를 함께 넘긴다")
+    void 로그인_회원_ID_전달() throws Exception {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new LoginMemberId(7L), null, List.of()));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/posts/1/likes");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        given(clientIpResolver.resolve(request)).willReturn("1.1.1.1");
+        given(rateLimiter.tryAcquire("POST", "/api/v1/posts/1/likes", 7L, "1.1.1.1")).willReturn(0L);
+
+        // when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(filterChain.getRequest()).isSameAs(request);
+    }
+}
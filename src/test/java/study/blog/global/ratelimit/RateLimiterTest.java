@@ -0,0 +1,91 @@
+package study.blog.global.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimiter 단위 테스트")
+class RateLimiterTest {
+
+    private static final String LOGIN_PATH = "/api/v1/auth/login";
+
+    @Mock
+    private RedisTokenBucket redisTokenBucket;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("rate-limit.auth-login.capacity", "1")
+                .withProperty("rate-limit.auth-login.refill-seconds", "3600");
+        rateLimiter = new RateLimiter(redisTokenBucket, environment);
+    }
+
+    @Test
+    @DisplayName("Redis 에서 거절되면 로컬 토큰을 돌려주어 다음 요청도 Redis 로 판단한다")
+    void Redis_거절_시_로컬_토큰_반환() {
+        // given - 다른 인스턴스가 전체 한도를 다 썼다
+        given(redisTokenBucket.tryConsume(any(RateLimitRule.class), eq("ip:1.1.1.1"))).willReturn(500L, 0L);
+
+        // when
+        long first = rateLimiter.tryAcquire("POST", LOGIN_PATH, null, "1.1.1.1");
+        long second = rateLimiter.tryAcquire("POST", LOGIN_PATH, null, "1.1.1.1");
+
+        // then - 로컬 버킷(크기 1)이 거절된 요청으로 비지 않았으므로 두 번째 요청도 Redis 가 허용한다
+        assertThat(first).isEqualTo(500L);
+        assertThat(second).isZero();
+        then(redisTokenBucket).should(times(2)).tryConsume(any(RateLimitRule.class), eq("ip:1.1.1.1"));
+    }
+
+    @Test
+    @DisplayName("로컬 버킷이 비면 Redis 를 호출하지 않고 거절한다")
+    void 로컬_거절_시_Redis_미호출() {
+        // given
+        given(redisTokenBucket.tryConsume(any(RateLimitRule.class), eq("ip:1.1.1.1"))).willReturn(0L);
+        rateLimiter.tryAcquire("POST", LOGIN_PATH, null, "1.1.1.1");
+
+        // when
+        long wait = rateLimiter.tryAcquire("POST", LOGIN_PATH, null, "1.1.1.1");
+
+        // then
+        assertThat(wait).isPositive();
+        then(redisTokenBucket).should(times(1)).tryConsume(any(RateLimitRule.class), eq("ip:1.1.1.1"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 버킷 결과만으로 허용한다")
+    void Redis_장애_시_로컬_판단() {
+        // given
+        given(redisTokenBucket.tryConsume(any(RateLimitRule.class), eq("ip:1.1.1.1")))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("POST", LOGIN_PATH, null, "1.1.1.1")).isZero();
+    }
+
+    @Test
+    @DisplayName("규칙에 맞지 않는 요청은 제한하지 않는다")
+    void 규칙_없음_허용() {
+        // when
+        long wait = rateLimiter.tryAcquire("GET", "/api/v1/posts", null, "1.1.1.1");
+
+        // then
+        assertThat(wait).isZero();
+        then(redisTokenBucket).should(never()).tryConsume(any(), any());
+    }
+}
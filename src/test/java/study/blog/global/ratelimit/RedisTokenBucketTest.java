@@ -0,0 +1,67 @@
+package study.blog.global.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import study.blog.global.IntegrationTestSupport;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RedisTokenBucket Lua 스크립트 테스트")
+class RedisTokenBucketTest extends IntegrationTestSupport {
+
+    private static final String SUBJECT = "ip:10.0.0.1";
+
+    @Autowired
+    private RedisTokenBucket redisTokenBucket;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(Set.of("ratelimit:test-consume:" + SUBJECT, "ratelimit:test-refill:" + SUBJECT));
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용하고, 초과하면 다음 토큰까지의 대기 시간을 반환한다")
+    void 버킷_크기_초과_시_대기_시간_반환() {
+        // given: 1시간에 3개 충전
+        RateLimitRule rule = rule("test-consume", 3, Duration.ofHours(1));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(redisTokenBucket.tryConsume(rule, SUBJECT)).isZero();
+        }
+        long wait = redisTokenBucket.tryConsume(rule, SUBJECT);
+
+        // then
+        assertThat(wait).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(20).toMillis());
+        assertThat(redisTemplate.getExpire("ratelimit:test-consume:" + SUBJECT)).isPositive();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 Redis TIME 기준으로 토큰이 충전되어 다시 허용된다")
+    void 시간_경과_후_충전() throws InterruptedException {
+        // given: 200ms 에 2개 충전 (100ms 당 1개)
+        RateLimitRule rule = rule("test-refill", 2, Duration.ofMillis(200));
+        redisTokenBucket.tryConsume(rule, SUBJECT);
+        redisTokenBucket.tryConsume(rule, SUBJECT);
+        assertThat(redisTokenBucket.tryConsume(rule, SUBJECT)).isPositive();
+
+        // when
+        Thread.sleep(150);
+
+        // then
+        assertThat(redisTokenBucket.tryConsume(rule, SUBJECT)).isZero();
+    }
+
+    private RateLimitRule rule(String name, long capacity, Duration refillPeriod) {
+        return new RateLimitRule(name, Set.of("POST"), "/test", RateLimitKeyType.IP, capacity, refillPeriod);
+    }
+}
@@ -1,5 +1,6 @@
 package study.blog.global.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,7 +48,7 @@ class JwtTokenProviderTest {
     void accessToken_생성_후_memberId_추출() {
         // given
         Long memberId = 1L;
-        String token = jwtTokenProvider.generateAccessToken(memberId, authentication("ROLE_USER"));
+        String token = jwtTokenProvider.generateAccessToken(memberId, "session-1", authentication("ROLE_USER"));
 
         // when
         Long extracted = jwtTokenProvider.getMemberIdFromJWT(token, TokenType.ACCESS);
@@ -60,7 +61,7 @@ class JwtTokenProviderTest {
     @DisplayName("Access Token 생성 후 권한 정보를 정상적으로 추출한다")
     void accessToken_생성_후_권한_추출() {
         // given
-        String token = jwtTokenProvider.generateAccessToken(1L, authentication("ROLE_USER"));
+        String token = jwtTokenProvider.generateAccessToken(1L, "session-1", authentication("ROLE_USER"));
 
         // when
         List<SimpleGrantedAuthority> authorities = jwtTokenProvider.getAuthorities(token, TokenType.ACCESS);
@@ -69,12 +70,28 @@ class JwtTokenProviderTest {
         assertThat(authorities).containsExactly(new SimpleGrantedAuthority("ROLE_USER"));
     }
 
+    @Test
+    @DisplayName("authenticate()는 한 번의 파싱으로 memberId와 권한 정보를 함께 반환한다")
+    void accessToken_authenticate_memberId_권한_동시_추출() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(1L, "session-1", authentication("ROLE_ADMIN"));
+
+        // when
+        JwtPrincipal principal = jwtTokenProvider.authenticate(token);
+        JwtPrincipal cached = jwtTokenProvider.authenticate(token);
+
+        // then
+        assertThat(principal.memberId()).isEqualTo(1L);
+        assertThat(principal.authorities()).containsExactly(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        assertThat(cached).isSameAs(principal);
+    }
+
     @Test
     @DisplayName("만료된 Access Token 파싱 시 ExpiredJwtException이 발생한다")
     void accessToken_만료_시_ExpiredJwtException_발생() {
         // given: 만료 시간을 -1ms 로 설정하여 즉시 만료
         ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationInMs", -1L);
-        String expiredToken = jwtTokenProvider.generateAccessToken(1L, authentication("ROLE_USER"));
+        String expiredToken = jwtTokenProvider.generateAccessToken(1L, "session-1", authentication("ROLE_USER"));
 
         // when & then
         assertThatThrownBy(() -> jwtTokenProvider.getMemberIdFromJWT(expiredToken, TokenType.ACCESS))
@@ -91,7 +108,7 @@ class JwtTokenProviderTest {
         ReflectionTestUtils.setField(anotherProvider, "jwtExpirationInMs",   ACCESS_EXPIRY_MS);
         ReflectionTestUtils.setField(anotherProvider, "refreshExpirationInMs", REFRESH_EXPIRY_MS);
 
-        String foreignToken = anotherProvider.generateAccessToken(1L, authentication("ROLE_USER"));
+        String foreignToken = anotherProvider.generateAccessToken(1L, "session-1", authentication("ROLE_USER"));
 
         // when & then
         assertThatThrownBy(() -> jwtTokenProvider.getMemberIdFromJWT(foreignToken, TokenType.ACCESS))
@@ -102,7 +119,7 @@ class JwtTokenProviderTest {
     @DisplayName("Access Token의 남은 만료 시간이 양수다")
     void accessToken_남은_만료_시간_양수() {
         // given
-        String token = jwtTokenProvider.generateAccessToken(1L, authentication("ROLE_USER"));
+        String token = jwtTokenProvider.generateAccessToken(1L, "session-1", authentication("ROLE_USER"));
 
         // when
         Duration remaining = jwtTokenProvider.getRemainingExpiry(token, TokenType.ACCESS);
@@ -111,6 +128,23 @@ class JwtTokenProviderTest {
         assertThat(remaining.toMillis()).isPositive();
     }
 
+    @Test
+    @DisplayName("한 번 파싱한 Claims 에서 memberId, 세션, jti, 남은 만료 시간을 모두 꺼낸다")
+    void accessToken_Claims_한_번_파싱() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(3L, "session-1", authentication("ROLE_USER"));
+
+        // when
+        Claims claims = jwtTokenProvider.parseClaims(token, TokenType.ACCESS);
+
+        // then
+        assertThat(jwtTokenProvider.getMemberId(claims)).isEqualTo(3L);
+        assertThat(jwtTokenProvider.getSessionId(claims)).isEqualTo("session-1");
+        assertThat(jwtTokenProvider.getTokenId(token, claims)).isEqualTo(claims.getId());
+        assertThat(jwtTokenProvider.isLegacyToken(claims)).isFalse();
+        assertThat(jwtTokenProvider.getRemainingExpiry(claims).toMillis()).isPositive();
+    }
+
     // ===== Refresh Token =====
 
     @Test
@@ -118,7 +152,7 @@ class JwtTokenProviderTest {
     void refreshToken_생성_후_memberId_추출() {
         // given
         Long memberId = 2L;
-        String token = jwtTokenProvider.generateRefreshToken(memberId);
+        String token = jwtTokenProvider.generateRefreshToken(memberId, "session-1");
 
         // when
         Long extracted = jwtTokenProvider.getMemberIdFromJWT(token, TokenType.REFRESH);
@@ -132,7 +166,7 @@ class JwtTokenProviderTest {
     void refreshToken_만료_시_ExpiredJwtException_발생() {
         // given
         ReflectionTestUtils.setField(jwtTokenProvider, "refreshExpirationInMs", -1L);
-        String expiredToken = jwtTokenProvider.generateRefreshToken(1L);
+        String expiredToken = jwtTokenProvider.generateRefreshToken(1L, "session-1");
 
         // when & then
         assertThatThrownBy(() -> jwtTokenProvider.getMemberIdFromJWT(expiredToken, TokenType.REFRESH))
@@ -0,0 +1,48 @@
+package study.blog.global.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClientIpResolver 단위 테스트")
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver("127.0.0.0/8,172.16.0.0/12");
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 온 요청은 프록시 헤더를 무시한다")
+    void 직접_요청_헤더_무시() {
+        MockHttpServletRequest request = request("203.0.113.10");
+        request.addHeader("X-Forwarded-For", "1.2.3.4");
+        request.addHeader("X-Real-IP", "1.2.3.4");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.10");
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 X-Real-IP 를 쓴다")
+    void 프록시_X_Real_IP() {
+        MockHttpServletRequest request = request("172.18.0.5");
+        request.addHeader("X-Real-IP", "198.51.100.7");
+        request.addHeader("X-Forwarded-For", "1.2.3.4, 198.51.100.7");
+
+        assertThat(resolver.resolve(request)).isEqualTo("198.51.100.7");
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For 는 오른쪽부터 신뢰하지 않는 첫 주소를 쓴다")
+    void 프록시_X_Forwarded_For() {
+        MockHttpServletRequest request = request("172.18.0.5");
+        request.addHeader("X-Forwarded-For", "1.2.3.4, 198.51.100.7, 172.18.0.9");
+
+        assertThat(resolver.resolve(request)).isEqualTo("198.51.100.7");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,159 @@
+package study.blog.global.web.version;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generateGlobalKey;
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generatePostKey;
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generateViewerKey;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConditionalGetHandler 단위 테스트")
+class ConditionalGetHandlerTest {
+
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    @Mock
+    private ContentVersionStore versionStore;
+
+    private ConditionalGetHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ConditionalGetHandler(versionStore, 5L);
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 글로벌 + 리소스 버전으로 m0 weak ETag 를 만든다")
+    void 비로그인_ETag() {
+        // given
+        given(versionStore.read(List.of(generateGlobalKey(), generatePostKey(1L))))
+                .willReturn(new ContentVersion("10.20", LAST_MODIFIED));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = handler.checkNotModified(webRequest(getRequest(), response), response,
+                null, CacheScope.SHARED, generatePostKey(1L));
+
+        // then
+        assertThat(notModified).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"10.20-m0\"");
+    }
+
+    @Test
+    @DisplayName("로그인 요청은 회원별 버전과 memberId 를 ETag 에 포함해 다른 회원의 ETag 와 일치하지 않는다")
+    void 로그인_회원별_ETag() {
+        // given
+        given(versionStore.read(List.of(generateGlobalKey(), generatePostKey(1L), generateViewerKey(7L))))
+                .willReturn(new ContentVersion("10.20.30", LAST_MODIFIED));
+        given(versionStore.read(List.of(generateGlobalKey(), generatePostKey(1L), generateViewerKey(8L))))
+                .willReturn(new ContentVersion("10.20.30", LAST_MODIFIED));
+        MockHttpServletResponse memberResponse = new MockHttpServletResponse();
+
+        // when
+        handler.checkNotModified(webRequest(getRequest(), memberResponse), memberResponse,
+                7L, CacheScope.PRIVATE, generatePostKey(1L));
+
+        MockHttpServletRequest otherMemberRequest = getRequest();
+        otherMemberRequest.addHeader(HttpHeaders.IF_NONE_MATCH, memberResponse.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse otherMemberResponse = new MockHttpServletResponse();
+        boolean notModified = handler.checkNotModified(webRequest(otherMemberRequest, otherMemberResponse), otherMemberResponse,
+                8L, CacheScope.PRIVATE, generatePostKey(1L));
+
+        // then
+        assertThat(memberResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"10.20.30-m7\"");
+        assertThat(notModified).isFalse();
+        assertThat(otherMemberResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"10.20.30-m8\"");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 304 로 처리한다")
+    void If_None_Match_일치_304() {
+        // given
+        given(versionStore.read(any())).willReturn(new ContentVersion("10.20", LAST_MODIFIED));
+        MockHttpServletRequest request = getRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"10.20-m0\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = handler.checkNotModified(webRequest(request, response), response,
+                null, CacheScope.SHARED, generatePostKey(1L));
+
+        // then
+        assertThat(notModified).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("비로그인 SHARED 응답은 public s-maxage 와 Vary: Authorization 을 기록한다")
+    void 공유_캐시_정책() {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.writeCacheControl(response, null, CacheScope.SHARED);
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("public, max-age=0, s-maxage=5");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.AUTHORIZATION);
+    }
+
+    @Test
+    @DisplayName("로그인 요청이거나 PRIVATE 응답은 private, no-cache 를 기록한다")
+    void 개인_캐시_정책() {
+        // given
+        MockHttpServletResponse memberResponse = new MockHttpServletResponse();
+        MockHttpServletResponse privateResponse = new MockHttpServletResponse();
+
+        // when
+        handler.writeCacheControl(memberResponse, 7L, CacheScope.SHARED);
+        handler.writeCacheControl(privateResponse, null, CacheScope.PRIVATE);
+
+        // then
+        assertThat(memberResponse.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+        assertThat(privateResponse.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+        assertThat(memberResponse.getHeader(HttpHeaders.VARY)).isNull();
+    }
+
+    @Test
+    @DisplayName("버전 조회에 실패하면 ETag 없이 전체 응답하도록 false 를 반환한다")
+    void 버전_조회_실패() {
+        // given
+        given(versionStore.read(any())).willThrow(new RedisConnectionFailureException("connection refused"));
+        MockHttpServletRequest request = getRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"10.20-m0\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = handler.checkNotModified(webRequest(request, response), response,
+                null, CacheScope.SHARED, generatePostKey(1L));
+
+        // then
+        assertThat(notModified).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("public, max-age=0, s-maxage=5");
+    }
+
+    // ETag / 304 는 GET, HEAD 요청에만 적용된다.
+    private MockHttpServletRequest getRequest() {
+        return new MockHttpServletRequest("GET", "/api/v1/posts/1");
+    }
+
+    private ServletWebRequest webRequest(MockHttpServletRequest request, MockHttpServletResponse response) {
+        return new ServletWebRequest(request, response);
+    }
+}
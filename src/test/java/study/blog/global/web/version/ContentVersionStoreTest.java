@@ -0,0 +1,125 @@
+package study.blog.global.web.version;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import study.blog.global.IntegrationTestSupport;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generatePostKey;
+
+@DisplayName("ContentVersionStore Lua 스크립트 테스트")
+class ContentVersionStoreTest extends IntegrationTestSupport {
+
+    private static final Long POST_ID = 9_450_001L;
+    private static final String POST_KEY = generatePostKey(POST_ID);
+    private static final String COMMENT_KEY = ContentVersionKeyGenerator.generateCommentKey(POST_ID);
+
+    @Autowired
+    private ContentVersionStore versionStore;
+
+    @Autowired
+    private ConditionalGetHandler conditionalGetHandler;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(POST_KEY, COMMENT_KEY));
+    }
+
+    @Test
+    @DisplayName("키가 없으면 현재 시각으로 버전을 만들고, 다시 읽으면 같은 버전을 반환한다")
+    void read_버전_생성_후_유지() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        ContentVersion first = versionStore.read(List.of(POST_KEY));
+        ContentVersion second = versionStore.read(List.of(POST_KEY));
+
+        // then
+        assertThat(Long.parseLong(first.tag())).isGreaterThanOrEqualTo(before);
+        assertThat(first.lastModified()).isGreaterThanOrEqualTo(before);
+        assertThat(second).isEqualTo(first);
+        assertThat(redisTemplate.getExpire(POST_KEY, TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 키를 한 번에 읽으면 버전을 . 으로 이어 붙이고 가장 늦은 변경 시각을 반환한다")
+    void read_여러_키() {
+        // given
+        redisTemplate.opsForHash().put(POST_KEY, "v", "3");
+        redisTemplate.opsForHash().put(POST_KEY, "t", "1000");
+        redisTemplate.opsForHash().put(COMMENT_KEY, "v", "5");
+        redisTemplate.opsForHash().put(COMMENT_KEY, "t", "2000");
+
+        // when
+        ContentVersion version = versionStore.read(List.of(POST_KEY, COMMENT_KEY));
+
+        // then
+        assertThat(version.tag()).isEqualTo("3.5");
+        assertThat(version.lastModified()).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("bump 하면 버전을 1 올리고 변경 시각을 갱신한다")
+    void bump_버전_증가() {
+        // given
+        redisTemplate.opsForHash().put(POST_KEY, "v", "3");
+        redisTemplate.opsForHash().put(POST_KEY, "t", "1000");
+
+        // when
+        versionStore.bump(List.of(POST_KEY));
+
+        // then
+        ContentVersion version = versionStore.read(List.of(POST_KEY));
+        assertThat(version.tag()).isEqualTo("4");
+        assertThat(version.lastModified()).isGreaterThan(1000L);
+        assertThat(redisTemplate.getExpire(POST_KEY, TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("수정 후 버전이 올라가면 이전 ETag 로 보낸 조건부 요청은 304 가 아니라 새 ETag 를 받는다")
+    void bump_후_ETag_무효화() {
+        // given
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        conditionalGetHandler.checkNotModified(new ServletWebRequest(getRequest(), firstResponse), firstResponse,
+                null, CacheScope.SHARED, POST_KEY);
+        String etag = firstResponse.getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest unchangedRequest = getRequest();
+        unchangedRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse unchangedResponse = new MockHttpServletResponse();
+        boolean unchanged = conditionalGetHandler.checkNotModified(new ServletWebRequest(unchangedRequest, unchangedResponse),
+                unchangedResponse, null, CacheScope.SHARED, POST_KEY);
+
+        // when
+        versionStore.bump(List.of(POST_KEY));
+
+        MockHttpServletRequest request = getRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean notModified = conditionalGetHandler.checkNotModified(new ServletWebRequest(request, response), response,
+                null, CacheScope.SHARED, POST_KEY);
+
+        // then
+        assertThat(unchanged).isTrue();
+        assertThat(notModified).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    private MockHttpServletRequest getRequest() {
+        return new MockHttpServletRequest("GET", "/api/v1/posts/" + POST_ID);
+    }
+}
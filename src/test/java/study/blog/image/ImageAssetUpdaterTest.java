@@ -0,0 +1,111 @@
+package study.blog.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import study.blog.global.infra.InMemoryImageStorage;
+import study.blog.image.application.ImageAssetUpdater;
+import study.blog.image.domain.ImageAssetStatus;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.domain.entity.ImageAsset;
+import study.blog.image.domain.event.ImageVariantsReadyEvent;
+import study.blog.image.infrastructure.persistence.command.ImageAssetRepository;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageAssetUpdater 처리 상태 테스트")
+class ImageAssetUpdaterTest {
+
+    private static final Long ASSET_ID = 10L;
+    private static final String KEY = "post-images/1/image.png";
+
+    @Mock
+    private ImageAssetRepository assetRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ImageAssetUpdater assetUpdater;
+    private ImageAsset asset;
+
+    @BeforeEach
+    void setUp() {
+        assetUpdater = new ImageAssetUpdater(assetRepository, new InMemoryImageStorage(), eventPublisher);
+        asset = ImageAsset.create(KEY, 1L);
+    }
+
+    @Test
+    @DisplayName("PENDING 이미지는 시도 횟수를 올리고 원본 key 를 반환한다")
+    void begin_처리_시작() {
+        // given
+        given(assetRepository.findById(ASSET_ID)).willReturn(Optional.of(asset));
+
+        // when
+        Optional<String> originalKey = assetUpdater.begin(ASSET_ID);
+
+        // then
+        assertThat(originalKey).contains(KEY);
+        assertThat(asset.getAttempts()).isEqualTo(1);
+        assertThat(asset.getStatus()).isEqualTo(ImageAssetStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 채운 이미지는 FAILED 로 바꾸고 더 이상 처리하지 않는다")
+    void begin_최대_시도_초과() {
+        // given
+        given(assetRepository.findById(ASSET_ID)).willReturn(Optional.of(asset));
+        for (int i = 0; i < 3; i++) {
+            assertThat(assetUpdater.begin(ASSET_ID)).isPresent();
+        }
+
+        // when
+        Optional<String> originalKey = assetUpdater.begin(ASSET_ID);
+
+        // then
+        assertThat(originalKey).isEmpty();
+        assertThat(asset.getStatus()).isEqualTo(ImageAssetStatus.FAILED);
+        assertThat(asset.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 처리된(READY / FAILED) 이미지는 처리하지 않는다")
+    void begin_이미_처리됨() {
+        // given
+        asset.markReady(1000, 500);
+        given(assetRepository.findById(ASSET_ID)).willReturn(Optional.of(asset));
+
+        // when, then
+        assertThat(assetUpdater.begin(ASSET_ID)).isEmpty();
+        assertThat(asset.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("complete 는 READY 로 바꾸고 원본 URL 과 규격별 URL 로 이벤트를 발행한다")
+    void complete_READY_이벤트() {
+        // given
+        given(assetRepository.findById(ASSET_ID)).willReturn(Optional.of(asset));
+
+        // when
+        assetUpdater.complete(ASSET_ID, 1000, 500);
+
+        // then
+        assertThat(asset.getStatus()).isEqualTo(ImageAssetStatus.READY);
+        assertThat(asset.getWidth()).isEqualTo(1000);
+
+        ArgumentCaptor<ImageVariantsReadyEvent> captor = ArgumentCaptor.forClass(ImageVariantsReadyEvent.class);
+        then(eventPublisher).should().publishEvent(captor.capture());
+        assertThat(captor.getValue().originalUrl()).isEqualTo(InMemoryImageStorage.BASE_URL + KEY);
+        assertThat(captor.getValue().variantUrls()).containsEntry(
+                ImageVariant.SMALL, InMemoryImageStorage.BASE_URL + "post-images/1/image_w320.jpg");
+    }
+}
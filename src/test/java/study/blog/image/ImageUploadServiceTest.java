@@ -0,0 +1,148 @@
+package study.blog.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import study.blog.global.infra.InMemoryImageStorage;
+import study.blog.image.application.ImageUploadService;
+import study.blog.image.domain.ImageAssetStatus;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.domain.entity.ImageAsset;
+import study.blog.image.domain.event.ImageUploadedEvent;
+import study.blog.image.domain.exception.InvalidImageException;
+import study.blog.image.infrastructure.persistence.command.ImageAssetRepository;
+import study.blog.image.presentation.response.ImageConfirmResponse;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageUploadService 업로드 확인 테스트")
+class ImageUploadServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String KEY = "post-images/1/image.png";
+    private static final String URL = InMemoryImageStorage.BASE_URL + KEY;
+
+    @Mock
+    private ImageAssetRepository assetRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final InMemoryImageStorage imageStorage = new InMemoryImageStorage();
+
+    private ImageUploadService uploadService;
+
+    @BeforeEach
+    void setUp() {
+        uploadService = new ImageUploadService(assetRepository, imageStorage, eventPublisher);
+        ReflectionTestUtils.setField(uploadService, "maxBytes", 1_024L);
+    }
+
+    @Test
+    @DisplayName("업로드된 이미지를 PENDING 으로 기록하고 리사이즈를 요청한다")
+    void 업로드_확인() {
+        // given
+        imageStorage.put(KEY, new byte[100], "image/png");
+        ImageAsset asset = ImageAsset.create(KEY, MEMBER_ID);
+        ReflectionTestUtils.setField(asset, "id", 10L);
+        given(assetRepository.findByOriginalKey(KEY)).willReturn(Optional.empty(), Optional.of(asset));
+        given(assetRepository.insertIfAbsent(KEY, MEMBER_ID)).willReturn(1);
+
+        // when
+        ImageConfirmResponse response = uploadService.confirm(MEMBER_ID, URL);
+
+        // then
+        assertThat(response.imageUrl()).isEqualTo(URL);
+        assertThat(response.status()).isEqualTo(ImageAssetStatus.PENDING);
+        assertThat(response.variantUrls().get(ImageVariant.MEDIUM))
+                .isEqualTo(InMemoryImageStorage.BASE_URL + "post-images/1/image_w768.jpg");
+        then(eventPublisher).should().publishEvent(new ImageUploadedEvent(10L));
+    }
+
+    @Test
+    @DisplayName("이미 확인된 이미지면 저장하지 않고 현재 처리 상태를 응답한다")
+    void 이미_확인된_이미지() {
+        // given
+        ImageAsset asset = ImageAsset.create(KEY, MEMBER_ID);
+        asset.markReady(1000, 500);
+        given(assetRepository.findByOriginalKey(KEY)).willReturn(Optional.of(asset));
+
+        // when
+        ImageConfirmResponse response = uploadService.confirm(MEMBER_ID, URL);
+
+        // then
+        assertThat(response.status()).isEqualTo(ImageAssetStatus.READY);
+        then(assetRepository).should(never()).insertIfAbsent(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("같은 이미지를 동시에 확인해 먼저 저장된 행이 있으면 오류 없이 그 행을 응답하고 리사이즈를 다시 요청하지 않는다")
+    void 동시_확인() {
+        // given
+        imageStorage.put(KEY, new byte[100], "image/png");
+        given(assetRepository.findByOriginalKey(KEY)).willReturn(Optional.empty());
+        given(assetRepository.insertIfAbsent(KEY, MEMBER_ID)).willReturn(0);
+        given(assetRepository.findWithLockByOriginalKey(KEY)).willReturn(Optional.of(ImageAsset.create(KEY, 2L)));
+
+        // when
+        ImageConfirmResponse response = uploadService.confirm(MEMBER_ID, URL);
+
+        // then
+        assertThat(response.imageUrl()).isEqualTo(URL);
+        assertThat(response.status()).isEqualTo(ImageAssetStatus.PENDING);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("이 서비스가 발급한 업로드 경로가 아니면 예외가 발생한다")
+    void 업로드_경로_아님() {
+        // when, then
+        assertThatThrownBy(() -> uploadService.confirm(MEMBER_ID, InMemoryImageStorage.BASE_URL + "avatars/image.png"))
+                .isInstanceOf(InvalidImageException.class);
+        assertThatThrownBy(() -> uploadService.confirm(MEMBER_ID, "https://other.example.com/" + KEY))
+                .isInstanceOf(InvalidImageException.class);
+        verifyNoInteractions(assetRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("저장소에 객체가 없으면 예외가 발생한다")
+    void 업로드되지_않은_이미지() {
+        // given
+        given(assetRepository.findByOriginalKey(KEY)).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> uploadService.confirm(MEMBER_ID, URL))
+                .isInstanceOf(InvalidImageException.class)
+                .hasMessage("업로드된 이미지를 찾을 수 없습니다.");
+        then(assetRepository).should(never()).insertIfAbsent(any(), any());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 기록하지 않고 예외가 발생한다")
+    void 최대_크기_초과() {
+        // given
+        imageStorage.put(KEY, new byte[1_025], "image/png");
+        given(assetRepository.findByOriginalKey(KEY)).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> uploadService.confirm(MEMBER_ID, URL))
+                .isInstanceOf(InvalidImageException.class);
+        then(assetRepository).should(never()).insertIfAbsent(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,69 @@
+package study.blog.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.domain.exception.InvalidImageException;
+import study.blog.image.infrastructure.processing.GeneratedImage;
+import study.blog.image.infrastructure.processing.ImageVariantGenerator;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImageVariantGenerator 단위 테스트")
+class ImageVariantGeneratorTest {
+
+    private final ImageVariantGenerator generator = new ImageVariantGenerator(40_000_000L, 0.85f);
+
+    @Test
+    @DisplayName("규격별 너비로 줄인 JPEG 을 만들고, 원본보다 큰 규격은 늘리지 않는다")
+    void 규격별_변환() throws IOException {
+        // given
+        byte[] png = png(1000, 500, BufferedImage.TYPE_INT_ARGB);
+
+        // when
+        GeneratedImage generated = generator.generate(new ByteArrayInputStream(png));
+
+        // then
+        assertThat(generated.width()).isEqualTo(1000);
+        assertThat(generated.height()).isEqualTo(500);
+        assertThat(widthOf(generated.variants().get(ImageVariant.SMALL))).isEqualTo(320);
+        assertThat(widthOf(generated.variants().get(ImageVariant.MEDIUM))).isEqualTo(768);
+        assertThat(widthOf(generated.variants().get(ImageVariant.LARGE))).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("최대 해상도를 넘는 이미지는 디코딩하지 않고 거부한다")
+    void 해상도_초과_거부() throws IOException {
+        // given
+        ImageVariantGenerator strict = new ImageVariantGenerator(100_000L, 0.85f);
+        byte[] png = png(1000, 500, BufferedImage.TYPE_INT_RGB);
+
+        // when & then
+        assertThatThrownBy(() -> strict.generate(new ByteArrayInputStream(png)))
+                .isInstanceOf(InvalidImageException.class);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 입력은 거부한다")
+    void 이미지_아님_거부() {
+        assertThatThrownBy(() -> generator.generate(new ByteArrayInputStream("not an image".getBytes())))
+                .isInstanceOf(InvalidImageException.class);
+    }
+
+    private static byte[] png(int width, int height, int type) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), "png", out);
+        return out.toByteArray();
+    }
+
+    private static int widthOf(byte[] jpeg) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(jpeg)).getWidth();
+    }
+}
@@ -0,0 +1,156 @@
+package study.blog.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.global.infra.InMemoryImageStorage;
+import study.blog.image.application.ImageUploadService;
+import study.blog.image.domain.ImageAssetStatus;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.infrastructure.persistence.command.ImageAssetRepository;
+import study.blog.image.presentation.response.ImageConfirmResponse;
+import study.blog.post.application.PostCommandService;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostImage;
+import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+import study.blog.post.infrastructure.redis.DraftBuffer;
+import study.blog.post.presentation.requset.SaveDraftRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 업로드 확인부터 게시글에 리사이즈 URL 이 기록되기까지의 흐름.
+ * (커밋 후 이벤트 / 이미지 처리 풀을 그대로 거치도록 테스트 트랜잭션을 쓰지 않는다)
+ */
+@Import(InMemoryImageStorage.Config.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("이미지 리사이즈 흐름 통합 테스트")
+class ImageVariantPipelineTest extends IntegrationTestSupport {
+
+    private static final Long AUTHOR_ID = 9_460_001L;
+
+    @Autowired
+    private InMemoryImageStorage imageStorage;
+
+    @Autowired
+    private ImageUploadService uploadService;
+
+    @Autowired
+    private ImageAssetRepository assetRepository;
+
+    @Autowired
+    private PostCommandService postCommandService;
+
+    @Autowired
+    private PostCommandRepository postCommandRepository;
+
+    @Autowired
+    private DraftBuffer draftBuffer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final String originalKey = "post-images/" + UUID.randomUUID() + ".png";
+    private Long postId;
+
+    @AfterEach
+    void tearDown() {
+        if (postId != null) {
+            draftBuffer.discard(postId);
+            postCommandRepository.deleteById(postId);
+        }
+        assetRepository.deleteByOriginalKeys(List.of(originalKey));
+        imageStorage.clear();
+    }
+
+    @Test
+    @DisplayName("업로드를 확인하면 리사이즈 결과를 저장하고, 게시글 이미지와 대표 이미지에 결과 URL 을 기록한다")
+    void 업로드_확인_후_리사이즈_반영() throws Exception {
+        // given - 리사이즈 전에 원본을 본문 / 대표 이미지로 쓰는 임시저장 글
+        String originalUrl = imageStorage.urlOf(originalKey);
+        imageStorage.put(originalKey, png(1000, 500), "image/png");
+        postId = postCommandService.saveDraft(AUTHOR_ID, new SaveDraftRequest(
+                null, "제목", "본문\n![](" + originalUrl + ")", List.of(), originalUrl, null)).postId();
+
+        // when
+        ImageConfirmResponse confirmed = uploadService.confirm(AUTHOR_ID, originalUrl);
+
+        // then
+        assertThat(confirmed.status()).isEqualTo(ImageAssetStatus.PENDING);
+        String mediumUrl = imageStorage.urlOf(ImageVariant.MEDIUM.keyOf(originalKey));
+        await(() -> mediumUrl.equals(postCommandRepository.findById(postId).map(Post::getThumbnailUrl).orElse(null)));
+
+        assertThat(assetRepository.findByOriginalKey(originalKey)).get()
+                .satisfies(asset -> {
+                    assertThat(asset.getStatus()).isEqualTo(ImageAssetStatus.READY);
+                    assertThat(asset.getWidth()).isEqualTo(1000);
+                    assertThat(asset.getAttempts()).isEqualTo(1);
+                });
+        for (ImageVariant variant : ImageVariant.values()) {
+            assertThat(imageStorage.contains(variant.keyOf(originalKey))).isTrue();
+        }
+
+        PostImage image = new TransactionTemplate(transactionManager).execute(status ->
+                postCommandRepository.findById(postId).orElseThrow().getPostImages().get(0));
+        assertThat(image.getImageUrl()).isEqualTo(originalUrl);
+        assertThat(image.getSmallUrl()).isEqualTo(imageStorage.urlOf(ImageVariant.SMALL.keyOf(originalKey)));
+        assertThat(image.getMediumUrl()).isEqualTo(mediumUrl);
+        assertThat(image.getLargeUrl()).isEqualTo(imageStorage.urlOf(ImageVariant.LARGE.keyOf(originalKey)));
+
+        // 리사이즈가 끝난 뒤의 자동 저장도 원본 대신 리사이즈 결과를 버퍼에 기록한다
+        postCommandService.saveDraft(AUTHOR_ID, new SaveDraftRequest(
+                postId, "제목(자동)", "본문", List.of(), originalUrl, null));
+        assertThat(draftBuffer.find(postId)).get()
+                .satisfies(draft -> assertThat(draft.thumbnailUrl()).isEqualTo(mediumUrl));
+    }
+
+    @Test
+    @DisplayName("같은 이미지를 다시 확인하면 오류 없이 현재 처리 상태를 응답한다")
+    void 중복_확인() throws Exception {
+        // given
+        String originalUrl = imageStorage.urlOf(originalKey);
+        imageStorage.put(originalKey, png(100, 100), "image/png");
+        uploadService.confirm(AUTHOR_ID, originalUrl);
+
+        // when
+        ImageConfirmResponse again = uploadService.confirm(AUTHOR_ID, originalUrl);
+
+        // then
+        assertThat(again.imageUrl()).isEqualTo(originalUrl);
+        await(() -> assetRepository.findByOriginalKey(originalKey)
+                .map(asset -> asset.getStatus() == ImageAssetStatus.READY)
+                .orElse(false));
+        assertThat(assetRepository.findByOriginalKey(originalKey)).get()
+                .satisfies(asset -> assertThat(asset.getAttempts()).isEqualTo(1));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) fail("제한 시간 안에 리사이즈가 반영되지 않았습니다.");
+            Thread.sleep(50);
+        }
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
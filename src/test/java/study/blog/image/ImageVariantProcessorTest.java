@@ -0,0 +1,127 @@
+package study.blog.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import study.blog.global.infra.InMemoryImageStorage;
+import study.blog.image.application.ImageAssetUpdater;
+import study.blog.image.application.ImageVariantProcessor;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.infrastructure.processing.ImageVariantGenerator;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageVariantProcessor 리사이즈 처리 테스트")
+class ImageVariantProcessorTest {
+
+    private static final Long ASSET_ID = 10L;
+    private static final String KEY = "post-images/1/image.png";
+
+    @Mock
+    private ImageAssetUpdater assetUpdater;
+
+    private final InMemoryImageStorage imageStorage = new InMemoryImageStorage();
+    private final ImageVariantGenerator generator = new ImageVariantGenerator(40_000_000L, 0.85f);
+
+    private ImageVariantProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new ImageVariantProcessor(assetUpdater, imageStorage, generator, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("원본을 규격별 JPEG 으로 줄여 원본 옆에 저장하고 원본 크기로 완료 처리한다")
+    void 리사이즈_완료() throws IOException {
+        // given
+        imageStorage.put(KEY, png(1000, 500), "image/png");
+        given(assetUpdater.begin(ASSET_ID)).willReturn(Optional.of(KEY));
+
+        // when
+        processor.process(ASSET_ID);
+
+        // then
+        for (ImageVariant variant : ImageVariant.values()) {
+            assertThat(imageStorage.head(variant.keyOf(KEY))).get()
+                    .satisfies(object -> assertThat(object.contentType()).isEqualTo("image/jpeg"));
+        }
+        then(assetUpdater).should().complete(ASSET_ID, 1000, 500);
+    }
+
+    @Test
+    @DisplayName("이미지로 읽을 수 없으면 재시도하지 않도록 FAILED 로 처리한다")
+    void 이미지_아님_실패() {
+        // given
+        imageStorage.put(KEY, "not an image".getBytes(), "image/png");
+        given(assetUpdater.begin(ASSET_ID)).willReturn(Optional.of(KEY));
+
+        // when
+        processor.process(ASSET_ID);
+
+        // then
+        then(assetUpdater).should().fail(ASSET_ID);
+        then(assetUpdater).should(never()).complete(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("저장소 입출력에 실패하면 PENDING 으로 남겨 재시도 스케줄러에 맡긴다")
+    void 저장소_실패_재시도() {
+        // given - 원본이 저장소에 없다
+        given(assetUpdater.begin(ASSET_ID)).willReturn(Optional.of(KEY));
+
+        // when
+        processor.process(ASSET_ID);
+
+        // then
+        then(assetUpdater).should(never()).fail(anyLong());
+        then(assetUpdater).should(never()).complete(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("처리 대상이 아니면(이미 처리됨 / 시도 횟수 초과) 원본을 읽지 않는다")
+    void 처리_대상_아님() throws IOException {
+        // given
+        imageStorage.put(KEY, png(100, 100), "image/png");
+        given(assetUpdater.begin(ASSET_ID)).willReturn(Optional.empty());
+
+        // when
+        processor.process(ASSET_ID);
+
+        // then
+        assertThat(imageStorage.keys()).containsExactly(KEY);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차 거절되면 false 를 반환한다")
+    void 대기열_초과() {
+        // given
+        ImageVariantProcessor rejecting = new ImageVariantProcessor(assetUpdater, imageStorage, generator,
+                command -> { throw new RejectedExecutionException("queue full"); });
+
+        // when, then
+        assertThat(rejecting.submit(ASSET_ID)).isFalse();
+        assertThat(processor.submit(ASSET_ID)).isTrue();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,67 @@
+package study.blog.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import study.blog.image.application.ImageVariantProcessor;
+import study.blog.image.domain.ImageAssetStatus;
+import study.blog.image.domain.entity.ImageAsset;
+import study.blog.image.infrastructure.persistence.command.ImageAssetRepository;
+import study.blog.image.infrastructure.scheduler.ImageVariantRetryScheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageVariantRetryScheduler 재시도 테스트")
+class ImageVariantRetrySchedulerTest {
+
+    @Mock
+    private ImageAssetRepository assetRepository;
+
+    @Mock
+    private ImageVariantProcessor variantProcessor;
+
+    @InjectMocks
+    private ImageVariantRetryScheduler retryScheduler;
+
+    @Test
+    @DisplayName("10분 넘게 PENDING 인 이미지를 다시 맡기고, 풀이 가득 차면 남은 이미지는 다음 스케줄로 넘긴다")
+    void 오래된_PENDING_재요청() {
+        // given
+        given(assetRepository.findByStatusAndEditedAtBeforeOrderByIdAsc(eq(ImageAssetStatus.PENDING), any(LocalDateTime.class), eq(Limit.of(50))))
+                .willAnswer(invocation -> {
+                    LocalDateTime staleBefore = invocation.getArgument(1);
+                    assertThat(staleBefore).isBefore(LocalDateTime.now().minusMinutes(9));
+                    return List.of(asset(1L), asset(2L), asset(3L));
+                });
+        given(variantProcessor.submit(1L)).willReturn(true);
+        given(variantProcessor.submit(2L)).willReturn(false);
+
+        // when
+        retryScheduler.retryPendingImages();
+
+        // then
+        then(variantProcessor).should().submit(1L);
+        then(variantProcessor).should().submit(2L);
+        then(variantProcessor).should(never()).submit(3L);
+    }
+
+    private ImageAsset asset(Long id) {
+        ImageAsset asset = ImageAsset.create("post-images/" + id + ".png", 1L);
+        ReflectionTestUtils.setField(asset, "id", id);
+        return asset;
+    }
+}
@@ -0,0 +1,150 @@
+package study.blog.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import study.blog.global.infra.InMemoryImageStorage;
+import study.blog.global.migration.DataMigrationHistory;
+import study.blog.image.application.OrphanImageCollector;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.infrastructure.persistence.command.ImageAssetRepository;
+import study.blog.post.infrastructure.migration.PostImageBackfill;
+import study.blog.post.infrastructure.persistence.query.PostImageReader;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrphanImageCollector 고아 이미지 정리 테스트")
+class OrphanImageCollectorTest {
+
+    private static final String ORPHAN_KEY = "post-images/orphan.png";
+    private static final String THUMBNAIL_KEY = "thumbnail/thumbnail.png";
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(2));
+
+    @Mock
+    private ImageAssetRepository assetRepository;
+
+    @Mock
+    private PostImageReader postImageReader;
+
+    @Mock
+    private DataMigrationHistory migrationHistory;
+
+    private final InMemoryImageStorage imageStorage = new InMemoryImageStorage();
+
+    private OrphanImageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        collector = new OrphanImageCollector(imageStorage, assetRepository, postImageReader, migrationHistory, 24);
+    }
+
+    @Test
+    @DisplayName("게시글 이미지 보정이 끝나기 전에는 아무것도 지우지 않는다")
+    void 보정_전_건너뜀() {
+        // given
+        putWithVariants(ORPHAN_KEY, OLD);
+        given(migrationHistory.isCompleted(PostImageBackfill.ID)).willReturn(false);
+
+        // when
+        int deleted = collector.collect();
+
+        // then
+        assertThat(deleted).isZero();
+        assertThat(imageStorage.keys()).hasSize(4);
+        verifyNoInteractions(postImageReader, assetRepository);
+    }
+
+    @Test
+    @DisplayName("사용하지 않는 원본은 리사이즈 결과, ImageAsset 행과 함께 삭제한다")
+    void 고아_원본_삭제() {
+        // given
+        putWithVariants(ORPHAN_KEY, OLD);
+        given(migrationHistory.isCompleted(PostImageBackfill.ID)).willReturn(true);
+        given(postImageReader.findReferencedUrls(any())).willReturn(Set.of());
+
+        // when
+        int deleted = collector.collect();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(imageStorage.keys()).isEmpty();
+        then(assetRepository).should().deleteByOriginalKeys(List.of(ORPHAN_KEY));
+    }
+
+    @Test
+    @DisplayName("업로드 후 grace 기간이 지나지 않은 원본은 참조 여부를 확인하지 않고 남긴다")
+    void grace_기간_안() {
+        // given
+        putWithVariants(ORPHAN_KEY, Instant.now().minus(Duration.ofHours(23)));
+        given(migrationHistory.isCompleted(PostImageBackfill.ID)).willReturn(true);
+
+        // when
+        int deleted = collector.collect();
+
+        // then
+        assertThat(deleted).isZero();
+        assertThat(imageStorage.keys()).hasSize(4);
+        verifyNoInteractions(postImageReader, assetRepository);
+    }
+
+    @Test
+    @DisplayName("리사이즈 결과 key 는 원본 없이 단독으로 삭제 대상이 되지 않는다")
+    void 리사이즈_결과_단독_제외() {
+        // given - 원본 없이 리사이즈 결과만 남아 있다
+        for (ImageVariant variant : ImageVariant.values()) {
+            imageStorage.put(variant.keyOf(ORPHAN_KEY), new byte[1], "image/jpeg", OLD);
+        }
+        given(migrationHistory.isCompleted(PostImageBackfill.ID)).willReturn(true);
+
+        // when
+        int deleted = collector.collect();
+
+        // then
+        assertThat(deleted).isZero();
+        assertThat(imageStorage.keys()).hasSize(3);
+        verifyNoInteractions(postImageReader, assetRepository);
+    }
+
+    @Test
+    @DisplayName("MEDIUM 결과가 대표 이미지로 쓰이는 원본은 남기고, 같은 페이지의 고아 원본만 삭제한다")
+    void 대표_이미지_사용_중() {
+        // given
+        putWithVariants(ORPHAN_KEY, OLD);
+        putWithVariants(THUMBNAIL_KEY, OLD);
+        String mediumUrl = imageStorage.urlOf(ImageVariant.MEDIUM.keyOf(THUMBNAIL_KEY));
+        given(migrationHistory.isCompleted(PostImageBackfill.ID)).willReturn(true);
+        given(postImageReader.findReferencedUrls(any())).willReturn(Set.of(mediumUrl));
+
+        // when
+        int deleted = collector.collect();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(imageStorage.contains(THUMBNAIL_KEY)).isTrue();
+        assertThat(imageStorage.contains(ImageVariant.MEDIUM.keyOf(THUMBNAIL_KEY))).isTrue();
+        assertThat(imageStorage.contains(ORPHAN_KEY)).isFalse();
+        then(assetRepository).should().deleteByOriginalKeys(List.of(ORPHAN_KEY));
+        then(assetRepository).should(never()).deleteByOriginalKeys(List.of(THUMBNAIL_KEY));
+    }
+
+    private void putWithVariants(String key, Instant lastModified) {
+        imageStorage.put(key, new byte[1], "image/png", lastModified);
+        for (ImageVariant variant : ImageVariant.values()) {
+            imageStorage.put(variant.keyOf(key), new byte[1], "image/jpeg", lastModified);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package study.blog.member.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import study.blog.auth.repository.TokenBlacklistBloomFilter;
+import study.blog.auth.repository.TokenBlacklistRepository;
+import study.blog.global.config.JpaConfig;
+import study.blog.global.config.SecurityConfig;
+import study.blog.global.ratelimit.RateLimiter;
+import study.blog.global.security.handler.CustomAccessDeniedHandler;
+import study.blog.global.security.handler.CustomAuthenticationEntryPoint;
+import study.blog.global.security.jwt.JwtTokenProvider;
+import study.blog.global.security.principal.MemberUserDetailsService;
+import study.blog.global.web.ClientIpResolver;
+import study.blog.global.web.resolver.LoginMemberId;
+import study.blog.member.dto.MemberResponse;
+import study.blog.member.dto.NicknameChangeRequest;
+import study.blog.member.exception.DuplicateNicknameException;
+import study.blog.member.service.MemberService;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = MemberController.class,
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = JpaConfig.class
+        )
+)
+@Import(SecurityConfig.class)
+@DisplayName("MemberController 슬라이스 테스트")
+class MemberControllerTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private MemberService memberService;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private TokenBlacklistRepository tokenBlacklistRepository;
+
+    @MockitoBean
+    private TokenBlacklistBloomFilter tokenBlacklistBloomFilter;
+
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
+    @MockitoBean
+    private ClientIpResolver clientIpResolver;
+
+    @MockitoBean
+    private MemberUserDetailsService memberUserDetailsService;
+
+    @MockitoBean
+    private CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+
+    @MockitoBean
+    private CustomAccessDeniedHandler customAccessDeniedHandler;
+
+    // ===== PATCH /api/v1/members/me/nickname =====
+
+    @Test
+    @DisplayName("로그인 회원의 닉네임을 변경하고 200과 변경된 회원 정보를 반환한다")
+    void changeNickname_200_응답() throws Exception {
+        // given
+        NicknameChangeRequest request = new NicknameChangeRequest("새닉네임");
+        given(memberService.changeNickname(eq(MEMBER_ID), any(NicknameChangeRequest.class)))
+                .willReturn(new MemberResponse(MEMBER_ID, "test@test.com", "새닉네임"));
+
+        // when & then
+        mockMvc.perform(patch("/api/v1/members/me/nickname")
+                        .with(loginMember())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.id").value(MEMBER_ID))
+                .andExpect(jsonPath("$.data.nickname").value("새닉네임"));
+    }
+
+    @Test
+    @DisplayName("닉네임이 비어 있으면 서비스를 호출하지 않고 400 응답을 반환한다")
+    void changeNickname_빈_닉네임_400_응답() throws Exception {
+        // given
+        NicknameChangeRequest request = new NicknameChangeRequest(" ");
+
+        // when & then
+        mockMvc.perform(patch("/api/v1/members/me/nickname")
+                        .with(loginMember())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("닉네임은 필수입니다."));
+
+        then(memberService).should(never()).changeNickname(any(), any());
+    }
+
+    @Test
+    @DisplayName("닉네임이 20자를 넘으면 400 응답을 반환한다")
+    void changeNickname_길이_초과_400_응답() throws Exception {
+        // given
+        NicknameChangeRequest request = new NicknameChangeRequest("가".repeat(21));
+
+        // when & then
+        mockMvc.perform(patch("/api/v1/members/me/nickname")
+                        .with(loginMember())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("닉네임은 최대 20자까지 가능합니다."));
+    }
+
+    @Test
+    @DisplayName("이미 사용 중인 닉네임이면 400 응답을 반환한다")
+    void changeNickname_중복_400_응답() throws Exception {
+        // given
+        NicknameChangeRequest request = new NicknameChangeRequest("중복닉네임");
+        given(memberService.changeNickname(eq(MEMBER_ID), any(NicknameChangeRequest.class)))
+                .willThrow(new DuplicateNicknameException("이미 사용 중인 닉네임입니다."));
+
+        // when & then
+        mockMvc.perform(patch("/api/v1/members/me/nickname")
+                        .with(loginMember())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("이미 사용 중인 닉네임입니다."));
+    }
+
+    private RequestPostProcessor loginMember() {
+        return authentication(new UsernamePasswordAuthenticationToken(new LoginMemberId(MEMBER_ID), null, List.of()));
+    }
+}
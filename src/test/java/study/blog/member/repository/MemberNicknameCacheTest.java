@@ -0,0 +1,94 @@
+package study.blog.member.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import study.blog.global.IntegrationTestSupport;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberNicknameCacheTest extends IntegrationTestSupport {
+
+    private static final Long MEMBER_ID = 9_000_101L;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private MemberNicknameCache nicknameCache;
+
+    @BeforeEach
+    void setUp() {
+        // 로컬 캐시 TTL 0 으로 Redis 저장 결과만 확인한다.
+        nicknameCache = new MemberNicknameCache(redisTemplate, 100, 0);
+        redisTemplate.delete(List.of(MemberNicknameCache.KEY, MemberNicknameCache.versionKey(MEMBER_ID)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(MemberNicknameCache.KEY, MemberNicknameCache.versionKey(MEMBER_ID)));
+    }
+
+    @Test
+    @DisplayName("DB 조회 후 닉네임이 바뀌어 캐시가 삭제되었으면 이전 닉네임을 저장하지 않는다")
+    void 삭제_이후_이전_닉네임_저장_거부() {
+        // given - 이전 닉네임을 읽는 동안 닉네임 변경이 커밋되어 캐시가 삭제되었다
+        Map<Long, String> versions = nicknameCache.readVersions(List.of(MEMBER_ID));
+        nicknameCache.evict(MEMBER_ID);
+
+        // when
+        nicknameCache.putAll(Map.of(MEMBER_ID, "이전닉네임"), versions);
+
+        // then
+        assertThat(nicknameCache.getAll(List.of(MEMBER_ID))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버전이 그대로면 저장하고, 닉네임 Hash 에 만료 시간을 건다")
+    void 버전_일치_저장() {
+        // given
+        nicknameCache.evict(MEMBER_ID);
+        Map<Long, String> versions = nicknameCache.readVersions(List.of(MEMBER_ID));
+
+        // when
+        nicknameCache.putAll(Map.of(MEMBER_ID, "새닉네임"), versions);
+
+        // then
+        assertThat(nicknameCache.getAll(List.of(MEMBER_ID))).containsEntry(MEMBER_ID, "새닉네임");
+        assertThat(redisTemplate.getExpire(MemberNicknameCache.KEY)).isPositive();
+    }
+
+    @Test
+    @DisplayName("버전은 회원별 키에 만료 시간과 함께 저장된다")
+    void 버전_키_만료() {
+        // when
+        nicknameCache.evict(MEMBER_ID);
+
+        // then
+        String versionKey = MemberNicknameCache.versionKey(MEMBER_ID);
+        assertThat(redisTemplate.opsForValue().get(versionKey)).isEqualTo("1");
+        assertThat(redisTemplate.getExpire(versionKey)).isPositive();
+        assertThat(nicknameCache.readVersions(List.of(MEMBER_ID))).containsEntry(MEMBER_ID, "1");
+    }
+
+    @Test
+    @DisplayName("버전 키가 만료된 뒤에는 버전 0 으로 읽고 저장할 수 있다")
+    void 버전_키_만료_후_저장() {
+        // given
+        nicknameCache.evict(MEMBER_ID);
+        redisTemplate.delete(MemberNicknameCache.versionKey(MEMBER_ID));
+        Map<Long, String> versions = nicknameCache.readVersions(List.of(MEMBER_ID));
+
+        // when
+        nicknameCache.putAll(Map.of(MEMBER_ID, "새닉네임"), versions);
+
+        // then
+        assertThat(versions).containsEntry(MEMBER_ID, "0");
+        assertThat(nicknameCache.getAll(List.of(MEMBER_ID))).containsEntry(MEMBER_ID, "새닉네임");
+    }
+}
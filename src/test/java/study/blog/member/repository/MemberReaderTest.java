@@ -0,0 +1,96 @@
+package study.blog.member.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import study.blog.member.dto.MemberNickname;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class MemberReaderTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberNicknameCache nicknameCache;
+
+    @InjectMocks
+    private MemberReader memberReader;
+
+    @Test
+    @DisplayName("캐시에 모두 있으면 DB 를 조회하지 않는다")
+    void 캐시_전부_적중() {
+        // given
+        given(nicknameCache.getAll(List.of(1L, 2L))).willReturn(Map.of(1L, "하나", 2L, "둘"));
+
+        // when
+        Map<Long, String> nicknames = memberReader.getNicknames(List.of(1L, 2L, 1L));
+
+        // then
+        assertThat(nicknames).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "하나", 2L, "둘"));
+        then(memberRepository).should(never()).findNicknames(any());
+        then(nicknameCache).should(never()).readVersions(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 id 만 버전을 먼저 읽은 뒤 DB 에서 조회해 캐시에 채운다")
+    void 캐시_미스_DB_조회() {
+        // given
+        Map<Long, String> versions = Map.of(2L, "3");
+        given(nicknameCache.getAll(List.of(1L, 2L))).willReturn(Map.of(1L, "하나"));
+        given(nicknameCache.readVersions(List.of(2L))).willReturn(versions);
+        given(memberRepository.findNicknames(List.of(2L))).willReturn(List.of(new MemberNickname(2L, "둘")));
+
+        // when
+        Map<Long, String> nicknames = memberReader.getNicknames(List.of(1L, 2L));
+
+        // then
+        assertThat(nicknames).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "하나", 2L, "둘"));
+
+        InOrder order = inOrder(nicknameCache, memberRepository);
+        order.verify(nicknameCache).readVersions(List.of(2L));
+        order.verify(memberRepository).findNicknames(List.of(2L));
+        order.verify(nicknameCache).putAll(Map.of(2L, "둘"), versions);
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 캐시와 DB 를 조회하지 않는다")
+    void 빈_목록() {
+        // when
+        Map<Long, String> nicknames = memberReader.getNicknames(List.of());
+
+        // then
+        assertThat(nicknames).isEmpty();
+        verifyNoInteractions(nicknameCache, memberRepository);
+    }
+
+    @Test
+    @DisplayName("회원이 없으면 단건 조회는 익명을 반환한다")
+    void 없는_회원_익명() {
+        // given
+        given(nicknameCache.getAll(List.of(9L))).willReturn(Map.of());
+        given(nicknameCache.readVersions(List.of(9L))).willReturn(Map.of());
+        given(memberRepository.findNicknames(List.of(9L))).willReturn(List.of());
+
+        // when
+        String nickname = memberReader.getNickName(9L);
+
+        // then
+        assertThat(nickname).isEqualTo("익명");
+    }
+}
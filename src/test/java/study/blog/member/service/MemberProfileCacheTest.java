@@ -0,0 +1,81 @@
+package study.blog.member.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.member.dto.MemberProfileResponse;
+import study.blog.member.entity.Member;
+import study.blog.member.repository.MemberProfileCacheRepository;
+import study.blog.member.repository.MemberRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("프로필 카드 캐시 통합 테스트")
+class MemberProfileCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberProfileCacheRepository profileCacheRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.createMember("profile@test.com", "password", "프로필회원"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete("member:profile:" + member.getId());
+    }
+
+    @Test
+    @DisplayName("처음 조회하면 DB 의 카운트로 캐시를 채우고, 이후에는 캐시를 읽는다")
+    void 캐시_채움() {
+        // when
+        MemberProfileResponse first = memberService.getProfile(member.getId());
+        memberRepository.incrementFollowerCount(member.getId(), 1);
+        MemberProfileResponse second = memberService.getProfile(member.getId());
+
+        // then
+        assertThat(first.followerCount()).isZero();
+        assertThat(second).isEqualTo(first);
+        assertThat(profileCacheRepository.get(member.getId())).contains(first);
+    }
+
+    @Test
+    @DisplayName("카운트가 바뀌어 캐시를 삭제하면 다음 조회는 DB 의 새 카운트를 읽는다")
+    void 캐시_삭제_후_재조회() {
+        // given
+        memberService.getProfile(member.getId());
+        memberRepository.incrementFollowerCount(member.getId(), 2);
+        memberRepository.incrementFollowingCount(member.getId(), 1);
+        entityManager.clear();
+
+        // when
+        profileCacheRepository.evict(List.of(member.getId()));
+        MemberProfileResponse profile = memberService.getProfile(member.getId());
+
+        // then
+        assertThat(profile.followerCount()).isEqualTo(2L);
+        assertThat(profile.followingCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,81 @@
+package study.blog.notification.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import study.blog.notification.application.NotificationQueryService;
+import study.blog.notification.application.UnreadNotificationCounter;
+import study.blog.notification.domain.event.UnreadCountChangedEvent;
+import study.blog.notification.domain.event.UnreadCountSseEvent;
+import study.blog.notification.infrastructure.event.NotificationPubSubPublisher;
+import study.blog.notification.infrastructure.event.UnreadCountEventListener;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnreadCountEventListener 단위 테스트")
+class UnreadCountEventListenerTest {
+
+    private static final Long RECEIVER_ID = 1L;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    private NotificationQueryService notificationQueryService;
+
+    @Mock
+    private NotificationPubSubPublisher pubSubPublisher;
+
+    @InjectMocks
+    private UnreadCountEventListener listener;
+
+    @Test
+    @DisplayName("캐시가 있으면 증감한 값을 SSE 로 전달하고 DB 를 읽지 않는다")
+    void 캐시_증감() {
+        // given
+        given(unreadNotificationCounter.add(RECEIVER_ID, 2)).willReturn(Optional.of(5L));
+
+        // when
+        listener.handle(new UnreadCountChangedEvent(RECEIVER_ID, 2));
+
+        // then
+        then(notificationQueryService).should(never()).loadUnreadCount(any());
+        then(pubSubPublisher).should().publishUnreadCount(new UnreadCountSseEvent(RECEIVER_ID, 5L));
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 DB count 로 채운 값을 SSE 로 전달한다")
+    void 캐시_없음() {
+        // given
+        given(unreadNotificationCounter.add(RECEIVER_ID, 1)).willReturn(Optional.empty());
+        given(notificationQueryService.loadUnreadCount(RECEIVER_ID)).willReturn(7L);
+
+        // when
+        listener.handle(new UnreadCountChangedEvent(RECEIVER_ID, 1));
+
+        // then
+        then(pubSubPublisher).should().publishUnreadCount(new UnreadCountSseEvent(RECEIVER_ID, 7L));
+    }
+
+    @Test
+    @DisplayName("갱신에 실패해도 커밋된 요청으로 예외를 전파하지 않는다")
+    void 실패_무시() {
+        // given
+        given(unreadNotificationCounter.add(RECEIVER_ID, 1)).willReturn(Optional.empty());
+        given(notificationQueryService.loadUnreadCount(RECEIVER_ID)).willThrow(new IllegalStateException("DB 장애"));
+
+        // when & then
+        assertThatCode(() -> listener.handle(new UnreadCountChangedEvent(RECEIVER_ID, 1))).doesNotThrowAnyException();
+        then(pubSubPublisher).should(never()).publishUnreadCount(any());
+    }
+}
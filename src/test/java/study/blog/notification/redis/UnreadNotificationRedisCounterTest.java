@@ -0,0 +1,61 @@
+package study.blog.notification.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.notification.infrastructure.redis.UnreadNotificationRedisCounter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static study.blog.notification.infrastructure.redis.UnreadNotificationRedisKeyGenerator.generateUnreadCountKey;
+
+@DisplayName("미읽음 알림 수 Redis 카운터 통합 테스트")
+class UnreadNotificationRedisCounterTest extends IntegrationTestSupport {
+
+    private static final Long MEMBER_ID = 9_100_001L;
+
+    @Autowired
+    private UnreadNotificationRedisCounter counter;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(generateUnreadCountKey(MEMBER_ID));
+    }
+
+    @Test
+    @DisplayName("키가 없으면 증감하지 않고 빈 값을 반환한다")
+    void 키_없음() {
+        assertThat(counter.add(MEMBER_ID, 1)).isEmpty();
+        assertThat(redisTemplate.hasKey(generateUnreadCountKey(MEMBER_ID))).isFalse();
+    }
+
+    @Test
+    @DisplayName("키가 있으면 증감한 값을 반환하고 TTL 을 유지한다")
+    void 증감() {
+        // given
+        counter.set(MEMBER_ID, 3);
+
+        // when & then
+        assertThat(counter.add(MEMBER_ID, 2)).contains(5L);
+        assertThat(counter.add(MEMBER_ID, -1)).contains(4L);
+        assertThat(counter.get(MEMBER_ID)).contains(4L);
+        assertThat(redisTemplate.getExpire(generateUnreadCountKey(MEMBER_ID))).isPositive();
+    }
+
+    @Test
+    @DisplayName("음수가 되면 0 으로 보정하고 TTL 을 유지한다")
+    void 음수_보정() {
+        // given
+        counter.set(MEMBER_ID, 1);
+
+        // when & then
+        assertThat(counter.add(MEMBER_ID, -3)).contains(0L);
+        assertThat(counter.get(MEMBER_ID)).contains(0L);
+        assertThat(redisTemplate.getExpire(generateUnreadCountKey(MEMBER_ID))).isPositive();
+    }
+}
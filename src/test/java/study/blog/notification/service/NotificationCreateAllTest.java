@@ -0,0 +1,65 @@
+package study.blog.notification.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.notification.application.NotificationCommandService;
+import study.blog.notification.application.NotificationCreateCommand;
+import study.blog.notification.domain.NotificationType;
+import study.blog.notification.domain.entity.Notification;
+import study.blog.notification.infrastructure.persistence.query.NotificationQueryRepository;
+import study.blog.notification.presentation.response.NotificationResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("알림 일괄 생성 통합 테스트")
+class NotificationCreateAllTest extends IntegrationTestSupport {
+
+    private static final Long RECEIVER_ID = 9_200_001L;
+
+    @Autowired
+    private NotificationCommandService notificationCommandService;
+
+    @Autowired
+    private NotificationQueryRepository notificationQueryRepository;
+
+    @Test
+    @DisplayName("이미 저장된 streamMessageId 와 같은 요청 안의 중복은 한 번만 저장한다")
+    void 중복_제거() {
+        // given
+        notificationCommandService.createAll(List.of(command(1L, "1700000000000-0")));
+
+        // when
+        List<NotificationResponse> created = notificationCommandService.createAll(List.of(
+                command(1L, "1700000000000-0"),
+                command(2L, "1700000000000-1"),
+                command(2L, "1700000000000-1")));
+
+        // then
+        assertThat(created).extracting(NotificationResponse::senderId).containsExactly(2L);
+        assertThat(notificationQueryRepository.findByReceiverIdOrderByCreatedAtDesc(RECEIVER_ID))
+                .extracting(Notification::getStreamMessageId)
+                .containsExactlyInAnyOrder("1700000000000-0", "1700000000000-1");
+    }
+
+    @Test
+    @DisplayName("모두 이미 저장된 메시지면 아무것도 저장하지 않는다")
+    void 모두_중복() {
+        // given
+        notificationCommandService.createAll(List.of(command(1L, "1700000000001-0")));
+
+        // when
+        List<NotificationResponse> created = notificationCommandService.createAll(List.of(command(1L, "1700000000001-0")));
+
+        // then
+        assertThat(created).isEmpty();
+        assertThat(notificationQueryRepository.findByReceiverIdOrderByCreatedAtDesc(RECEIVER_ID)).hasSize(1);
+    }
+
+    private static NotificationCreateCommand command(Long senderId, String streamMessageId) {
+        return new NotificationCreateCommand(RECEIVER_ID, senderId, NotificationType.SUBSCRIBED, "구독자", streamMessageId);
+    }
+}
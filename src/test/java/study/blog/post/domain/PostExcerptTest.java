@@ -0,0 +1,79 @@
+package study.blog.post.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import study.blog.post.infrastructure.rendering.MarkdownRenderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("게시글 요약 추출 단위 테스트")
+class PostExcerptTest {
+
+    @Test
+    @DisplayName("코드 블록, 이미지, HTML 태그, 마크다운 기호를 제거하고 링크는 텍스트만 남긴다")
+    void 마크다운_제거() {
+        // given
+        String markdown = """
+                # 제목
+
+                **굵은** 글과 [링크](https://example.com) 입니다.
+                ![이미지](https://cdn.example.com/a.png)
+                <span>태그</span>
+
+                ```java
+                System.out.println("hello");
+                ```
+                - 목록
+                """;
+
+        // when
+        String excerpt = PostExcerpt.extract(markdown);
+
+        // then
+        assertThat(excerpt).isEqualTo("제목 굵은 글과 링크 입니다. 태그 목록");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 코드 블록은 끝까지 제거한다")
+    void 닫히지_않은_코드블록() {
+        // when
+        String excerpt = PostExcerpt.extract("본문\n```\ncode");
+
+        // then
+        assertThat(excerpt).isEqualTo("본문");
+    }
+
+    @Test
+    @DisplayName("LENGTH 자(code point)로 자르며 서로게이트 쌍을 쪼개지 않는다")
+    void 길이_제한() {
+        // given
+        String markdown = "😀".repeat(PostExcerpt.LENGTH + 10);
+
+        // when
+        String excerpt = PostExcerpt.extract(markdown);
+
+        // then
+        assertThat(excerpt.codePointCount(0, excerpt.length())).isEqualTo(PostExcerpt.LENGTH);
+        assertThat(excerpt).isEqualTo("😀".repeat(PostExcerpt.LENGTH));
+    }
+
+    @Test
+    @DisplayName("빈 본문은 빈 문자열이다")
+    void 빈_본문() {
+        assertThat(PostExcerpt.extract(null)).isEmpty();
+        assertThat(PostExcerpt.extract("  \n")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("렌더링 결과의 요약은 작성 시점의 요약과 같다")
+    void 렌더링_요약_일치() {
+        // given
+        String markdown = "## 소개\n\n| a | b |\n|---|---|\n| 1 | 2 |\n\n본문 [링크](https://example.com)";
+
+        // when
+        String rendered = new MarkdownRenderer().render(markdown).excerpt();
+
+        // then
+        assertThat(rendered).isEqualTo(PostExcerpt.extract(markdown));
+    }
+}
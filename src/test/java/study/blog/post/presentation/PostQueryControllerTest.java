@@ -0,0 +1,213 @@
+package study.blog.post.presentation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import study.blog.auth.repository.TokenBlacklistBloomFilter;
+import study.blog.auth.repository.TokenBlacklistRepository;
+import study.blog.global.config.JpaConfig;
+import study.blog.global.config.SecurityConfig;
+import study.blog.global.ratelimit.RateLimiter;
+import study.blog.global.security.handler.CustomAccessDeniedHandler;
+import study.blog.global.security.handler.CustomAuthenticationEntryPoint;
+import study.blog.global.security.jwt.JwtTokenProvider;
+import study.blog.global.security.principal.MemberUserDetailsService;
+import study.blog.global.web.ClientIpResolver;
+import study.blog.global.web.resolver.LoginMemberId;
+import study.blog.global.web.version.ConditionalGetHandler;
+import study.blog.global.web.version.ContentVersion;
+import study.blog.global.web.version.ContentVersionStore;
+import study.blog.post.application.PostQueryService;
+import study.blog.post.application.PostRenderingService;
+import study.blog.post.infrastructure.rendering.TocEntry;
+import study.blog.post.presentation.response.PostRenderedResponse;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generateGlobalKey;
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generatePostKey;
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generatePostListKey;
+import static study.blog.global.web.version.ContentVersionKeyGenerator.generateViewerKey;
+
+@WebMvcTest(
+        controllers = PostQueryController.class,
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = JpaConfig.class
+        )
+)
+@Import({SecurityConfig.class, ConditionalGetHandler.class})
+@DisplayName("PostQueryController 슬라이스 테스트")
+class PostQueryControllerTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long MEMBER_ID = 7L;
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+    private static final String CONTENT_HASH = "a".repeat(64);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PostQueryService queryService;
+
+    @MockitoBean
+    private PostRenderingService renderingService;
+
+    @MockitoBean
+    private ContentVersionStore versionStore;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private TokenBlacklistRepository tokenBlacklistRepository;
+
+    @MockitoBean
+    private TokenBlacklistBloomFilter tokenBlacklistBloomFilter;
+
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
+    @MockitoBean
+    private ClientIpResolver clientIpResolver;
+
+    @MockitoBean
+    private MemberUserDetailsService memberUserDetailsService;
+
+    @MockitoBean
+    private CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+
+    @MockitoBean
+    private CustomAccessDeniedHandler customAccessDeniedHandler;
+
+    // ===== GET /api/v1/posts/{postId} =====
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 게시글 버전과 같으면 상세 응답을 만들지 않고 조회수만 반영한 뒤 304 를 응답한다")
+    void findPost_304_응답() throws Exception {
+        // given
+        given(versionStore.read(List.of(generateGlobalKey(), generatePostKey(POST_ID), generateViewerKey(MEMBER_ID))))
+                .willReturn(new ContentVersion("10.20.30", LAST_MODIFIED));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}", POST_ID)
+                        .with(loginMember())
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"10.20.30-m" + MEMBER_ID + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andExpect(content().string(""));
+
+        then(queryService).should().trackView(eq(POST_ID), eq(MEMBER_ID), any());
+        then(queryService).should(never()).findPost(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("게시글 버전이 바뀌었으면 If-None-Match 가 있어도 상세 응답과 새 ETag 를 내려준다")
+    void findPost_버전_변경_200_응답() throws Exception {
+        // given
+        given(versionStore.read(List.of(generateGlobalKey(), generatePostKey(POST_ID), generateViewerKey(MEMBER_ID))))
+                .willReturn(new ContentVersion("10.21.30", LAST_MODIFIED));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}", POST_ID)
+                        .with(loginMember())
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"10.20.30-m" + MEMBER_ID + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"10.21.30-m" + MEMBER_ID + "\""));
+
+        then(queryService).should().findPost(eq(POST_ID), eq(MEMBER_ID), any());
+    }
+
+    // ===== GET /api/v1/posts =====
+
+    @Test
+    @DisplayName("비로그인 목록 조회는 공유 캐시 정책과 Vary 를 기록하고, ETag 가 같으면 목록을 조회하지 않고 304 를 응답한다")
+    void getMainPostsBySort_비로그인_304_응답() throws Exception {
+        // given
+        given(versionStore.read(List.of(generateGlobalKey(), generatePostListKey())))
+                .willReturn(new ContentVersion("10.40", LAST_MODIFIED));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"10.40-m0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=0, s-maxage=5"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.AUTHORIZATION)));
+
+        then(queryService).should(never()).getMainPostsBySort(any(), any());
+    }
+
+    // ===== GET /api/v1/posts/{postId}/rendered =====
+
+    @Test
+    @DisplayName("렌더링 결과와 함께 본문 해시를 ETag 로 내려준다")
+    void getRenderedPost_ETag_응답() throws Exception {
+        // given
+        given(renderingService.getRendered(POST_ID)).willReturn(rendered());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}/rendered", POST_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + CONTENT_HASH + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=0, s-maxage=5"))
+                .andExpect(jsonPath("$.data.html").value("<h1 id=\"소개\">소개</h1>"))
+                .andExpect(jsonPath("$.data.toc[0].id").value("소개"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 본문 해시와 같으면 본문 없이 304 를 응답한다")
+    void getRenderedPost_304_응답() throws Exception {
+        // given
+        given(renderingService.getRendered(POST_ID)).willReturn(rendered());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}/rendered", POST_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + CONTENT_HASH + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("본문이 바뀌어 해시가 다르면 If-None-Match 가 있어도 200 과 새 ETag 를 응답한다")
+    void getRenderedPost_본문_변경_200_응답() throws Exception {
+        // given
+        given(renderingService.getRendered(POST_ID)).willReturn(rendered());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}/rendered", POST_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + "b".repeat(64) + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + CONTENT_HASH + "\""));
+    }
+
+    private RequestPostProcessor loginMember() {
+        return authentication(new UsernamePasswordAuthenticationToken(new LoginMemberId(MEMBER_ID), null, List.of()));
+    }
+
+    private PostRenderedResponse rendered() {
+        return new PostRenderedResponse(POST_ID, "<h1 id=\"소개\">소개</h1>",
+                List.of(new TocEntry(1, "소개", "소개")), "소개", CONTENT_HASH);
+    }
+}
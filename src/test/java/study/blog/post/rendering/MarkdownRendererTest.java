@@ -0,0 +1,75 @@
+package study.blog.post.rendering;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import study.blog.post.infrastructure.rendering.MarkdownRenderer;
+import study.blog.post.infrastructure.rendering.RenderedContent;
+import study.blog.post.infrastructure.rendering.TocEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MarkdownRenderer 단위 테스트")
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @Test
+    @DisplayName("본문에 섞인 script 와 javascript 링크를 제거한다")
+    void 위험한_HTML_제거() {
+        // given
+        String markdown = """
+                본문 <script>alert(1)</script>
+
+                [링크](javascript:alert(1))
+                """;
+
+        // when
+        RenderedContent rendered = renderer.render(markdown);
+
+        // then
+        assertThat(rendered.html()).doesNotContain("<script", "javascript:");
+        assertThat(rendered.html()).contains("본문");
+    }
+
+    @Test
+    @DisplayName("heading 에 id 를 부여하고 h3 까지만 목차에 담는다")
+    void 목차_생성() {
+        // given
+        String markdown = """
+                # 소개
+                ## 설치 방법
+                ## 설치 방법
+                #### 세부 항목
+                """;
+
+        // when
+        RenderedContent rendered = renderer.render(markdown);
+
+        // then
+        assertThat(rendered.toc()).containsExactly(
+                new TocEntry(1, "소개", "소개"),
+                new TocEntry(2, "설치-방법", "설치 방법"),
+                new TocEntry(2, "설치-방법-1", "설치 방법")
+        );
+        assertThat(rendered.html()).contains("id=\"설치-방법-1\"", "id=\"세부-항목\"");
+    }
+
+    @Test
+    @DisplayName("요약에서 코드 블록을 제외한다")
+    void 요약_코드블록_제외() {
+        // given
+        String markdown = """
+                첫 문단입니다.
+
+                ```java
+                System.out.println("hello");
+                ```
+                """;
+
+        // when
+        RenderedContent rendered = renderer.render(markdown);
+
+        // then
+        assertThat(rendered.excerpt()).isEqualTo("첫 문단입니다.");
+    }
+}
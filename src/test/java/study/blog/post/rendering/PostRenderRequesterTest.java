@@ -0,0 +1,74 @@
+package study.blog.post.rendering;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import study.blog.post.application.PostRenderRequester;
+import study.blog.post.application.PostRenderer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostRenderRequester 렌더링 요청 테스트")
+class PostRenderRequesterTest {
+
+    private static final Long POST_ID = 1L;
+
+    @Mock
+    private PostRenderer renderer;
+
+    @InjectMocks
+    private PostRenderRequester renderRequester;
+
+    @Test
+    @DisplayName("같은 게시글의 렌더링이 진행 중이면 건너뛰고, 끝난 뒤에는 다시 요청할 수 있다")
+    void 진행_중이면_건너뜀() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(renderer).render(POST_ID);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> renderRequester.requestRender(POST_ID));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        renderRequester.requestRender(POST_ID);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        // then
+        then(renderer).should(times(1)).render(POST_ID);
+
+        // 끝난 뒤의 요청은 다시 렌더링한다
+        renderRequester.requestRender(POST_ID);
+        then(renderer).should(times(2)).render(POST_ID);
+    }
+
+    @Test
+    @DisplayName("렌더링이 실패해도 예외를 전파하지 않고, 다음 요청에서 다시 렌더링한다")
+    void 실패해도_다음_요청_재시도() {
+        // given
+        willThrow(new IllegalStateException("렌더링 실패")).given(renderer).render(POST_ID);
+
+        // when, then
+        assertThatCode(() -> renderRequester.requestRender(POST_ID)).doesNotThrowAnyException();
+        renderRequester.requestRender(POST_ID);
+        then(renderer).should(times(2)).render(POST_ID);
+    }
+}
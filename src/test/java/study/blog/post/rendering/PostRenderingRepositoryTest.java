@@ -0,0 +1,56 @@
+package study.blog.post.rendering;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.post.domain.entity.PostRendering;
+import study.blog.post.infrastructure.persistence.command.PostRenderingRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("렌더링 결과 fencing 저장 통합 테스트")
+class PostRenderingRepositoryTest extends IntegrationTestSupport {
+
+    private static final Long POST_ID = 1L;
+
+    @Autowired
+    private PostRenderingRepository renderingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("행이 없으면 insert 한다")
+    void 최초_저장() {
+        // when
+        renderingRepository.saveIfNewer(POST_ID, "hash-1", "<p>1</p>", "[]", "1", 10L);
+        entityManager.clear();
+
+        // then
+        PostRendering rendering = renderingRepository.findById(POST_ID).orElseThrow();
+        assertThat(rendering.getContentHash()).isEqualTo("hash-1");
+        assertThat(rendering.getFencingToken()).isEqualTo(10L);
+        assertThat(rendering.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("더 큰 token 의 결과만 반영하고, 늦게 끝난 작은 token 의 결과는 버린다")
+    void token_비교() {
+        // given
+        renderingRepository.saveIfNewer(POST_ID, "hash-1", "<p>1</p>", "[]", "1", 10L);
+
+        // when
+        renderingRepository.saveIfNewer(POST_ID, "hash-3", "<p>3</p>", "[]", "3", 30L);
+        renderingRepository.saveIfNewer(POST_ID, "hash-2", "<p>2</p>", "[]", "2", 20L);
+        entityManager.clear();
+
+        // then
+        PostRendering rendering = renderingRepository.findById(POST_ID).orElseThrow();
+        assertThat(rendering.getContentHash()).isEqualTo("hash-3");
+        assertThat(rendering.getHtml()).isEqualTo("<p>3</p>");
+        assertThat(rendering.getExcerpt()).isEqualTo("3");
+        assertThat(rendering.getFencingToken()).isEqualTo(30L);
+    }
+}
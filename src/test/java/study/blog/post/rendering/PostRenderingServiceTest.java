@@ -0,0 +1,150 @@
+package study.blog.post.rendering;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import study.blog.post.application.PostRenderRequester;
+import study.blog.post.application.PostRenderingService;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostRendering;
+import study.blog.post.domain.exception.PostNotFoundException;
+import study.blog.post.infrastructure.persistence.command.PostRenderingRepository;
+import study.blog.post.infrastructure.persistence.query.PostQueryRepository;
+import study.blog.post.infrastructure.rendering.MarkdownRenderer;
+import study.blog.post.infrastructure.rendering.TocEntry;
+import study.blog.post.presentation.response.PostRenderedResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostRenderingService 렌더링 조회 테스트")
+class PostRenderingServiceTest {
+
+    private static final Long POST_ID = 1L;
+    private static final String CONTENT = "# 소개\n본문";
+
+    @Mock
+    private PostQueryRepository postRepository;
+
+    @Mock
+    private PostRenderingRepository renderingRepository;
+
+    @Mock
+    private PostRenderRequester renderRequester;
+
+    @Spy
+    private MarkdownRenderer markdownRenderer = new MarkdownRenderer();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private PostRenderingService renderingService;
+
+    @Test
+    @DisplayName("저장된 결과가 현재 본문에서 렌더링된 것이면 다시 렌더링하지 않고 그대로 반환한다")
+    void 저장된_결과_반환() {
+        // given
+        String contentHash = MarkdownRenderer.contentHash(CONTENT);
+        givenPost(CONTENT);
+        PostRendering rendering = mock(PostRendering.class);
+        given(rendering.isRenderedFrom(contentHash)).willReturn(true);
+        given(rendering.getHtml()).willReturn("<h1 id=\"소개\">소개</h1>");
+        given(rendering.getToc()).willReturn("[{\"level\":1,\"id\":\"소개\",\"text\":\"소개\"}]");
+        given(rendering.getExcerpt()).willReturn("본문");
+        given(renderingRepository.findById(POST_ID)).willReturn(Optional.of(rendering));
+
+        // when
+        PostRenderedResponse response = renderingService.getRendered(POST_ID);
+
+        // then
+        assertThat(response.html()).isEqualTo("<h1 id=\"소개\">소개</h1>");
+        assertThat(response.toc()).containsExactly(new TocEntry(1, "소개", "소개"));
+        assertThat(response.contentHash()).isEqualTo(contentHash);
+        then(markdownRenderer).should(never()).render(any());
+        then(renderRequester).should(never()).requestRender(any());
+    }
+
+    @Test
+    @DisplayName("저장된 결과가 이전 본문의 것이면 요청 스레드에서 렌더링해 반환하고 저장을 비동기로 요청한다")
+    void 오래된_결과_재렌더링() {
+        // given
+        givenPost(CONTENT);
+        PostRendering stale = mock(PostRendering.class);
+        given(stale.isRenderedFrom(MarkdownRenderer.contentHash(CONTENT))).willReturn(false);
+        given(renderingRepository.findById(POST_ID)).willReturn(Optional.of(stale));
+
+        // when
+        PostRenderedResponse response = renderingService.getRendered(POST_ID);
+
+        // then
+        assertThat(response.html()).contains("본문");
+        assertThat(response.toc()).containsExactly(new TocEntry(1, "소개", "소개"));
+        then(renderRequester).should().requestRender(POST_ID);
+        then(stale).should(never()).getHtml();
+    }
+
+    @Test
+    @DisplayName("아직 렌더링 전이면 렌더링해 반환하고 저장을 비동기로 요청한다")
+    void 렌더링_전_요청() {
+        // given
+        givenPost(CONTENT);
+        given(renderingRepository.findById(POST_ID)).willReturn(Optional.empty());
+
+        // when
+        PostRenderedResponse response = renderingService.getRendered(POST_ID);
+
+        // then
+        assertThat(response.excerpt()).isEqualTo("본문");
+        then(renderRequester).should().requestRender(POST_ID);
+    }
+
+    @Test
+    @DisplayName("contentHash(ETag) 는 본문이 같으면 같고, 본문이 바뀌면 달라진다")
+    void ETag_본문_기준() {
+        // given
+        given(renderingRepository.findById(POST_ID)).willReturn(Optional.empty());
+
+        // when
+        givenPost(CONTENT);
+        String first = renderingService.getRendered(POST_ID).contentHash();
+        String same = renderingService.getRendered(POST_ID).contentHash();
+        givenPost(CONTENT + " (수정)");
+        String modified = renderingService.getRendered(POST_ID).contentHash();
+
+        // then
+        assertThat(first).isEqualTo(same).hasSize(64);
+        assertThat(modified).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 PostNotFoundException 이 발생한다")
+    void 게시글_없음() {
+        // given
+        given(postRepository.findById(POST_ID)).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> renderingService.getRendered(POST_ID))
+                .isInstanceOf(PostNotFoundException.class);
+        then(renderRequester).should(never()).requestRender(any());
+    }
+
+    private void givenPost(String content) {
+        given(postRepository.findById(POST_ID))
+                .willReturn(Optional.of(Post.createDraft(1L, "제목", content, List.of(), null)));
+    }
+}
@@ -0,0 +1,64 @@
+package study.blog.post.revision;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import study.blog.post.domain.revision.LineDiff;
+import study.blog.post.domain.revision.LineDiff.Edit;
+import study.blog.post.domain.revision.LineDiff.Op;
+import study.blog.post.domain.revision.RevisionDeltaCodec;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("리비전 델타 인코딩 단위 테스트")
+class RevisionDeltaCodecTest {
+
+    @Test
+    @DisplayName("델타를 이전 본문에 적용하면 수정된 본문이 정확히 복원된다")
+    void 델타_적용_복원() {
+        // given
+        String before = "# 제목\n첫 문단\n둘째 문단\n셋째 문단\n";
+        String after = "# 제목 (수정)\n첫 문단\n셋째 문단\n넷째 문단";
+
+        // when
+        byte[] delta = RevisionDeltaCodec.encodeDelta(before, after);
+
+        // then
+        assertThat(RevisionDeltaCodec.applyDelta(before, delta)).isEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("큰 본문의 일부만 바뀌면 델타가 스냅샷보다 훨씬 작다")
+    void 델타_크기() {
+        // given
+        String paragraph = "긴 마크다운 본문의 한 문단입니다. ".repeat(10) + "\n";
+        StringBuilder before = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) before.append(i).append(paragraph);
+        String after = before.toString().replace("1000긴", "1000수정된");
+
+        // when
+        byte[] delta = RevisionDeltaCodec.encodeDelta(before.toString(), after);
+        byte[] snapshot = RevisionDeltaCodec.encodeSnapshot(after);
+
+        // then
+        assertThat(delta.length).isLessThan(snapshot.length / 10);
+        assertThat(RevisionDeltaCodec.applyDelta(before.toString(), delta)).isEqualTo(after);
+        assertThat(RevisionDeltaCodec.decodeSnapshot(snapshot)).isEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("줄 단위 diff 는 유지/삭제/추가된 줄을 순서대로 반환한다")
+    void 줄_단위_diff() {
+        // given
+        List<String> before = LineDiff.splitLines("a\nb\nc\n");
+        List<String> after = LineDiff.splitLines("a\nc\nd\n");
+
+        // when
+        List<Edit> edits = LineDiff.diff(before, after);
+
+        // then
+        assertThat(edits).extracting(Edit::op)
+                .containsExactly(Op.EQUAL, Op.DELETE, Op.EQUAL, Op.INSERT);
+    }
+}
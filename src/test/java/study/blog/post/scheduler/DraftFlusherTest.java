@@ -0,0 +1,194 @@
+package study.blog.post.scheduler;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.global.web.version.ContentVersionTracker;
+import study.blog.image.infrastructure.persistence.query.ImageAssetReader;
+import study.blog.post.application.PostCommandService;
+import study.blog.post.application.PostContentTracker;
+import study.blog.post.application.PostImageAttacher;
+import study.blog.post.application.PostPublishTracker;
+import study.blog.post.domain.PostStatus;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostTag;
+import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+import study.blog.post.infrastructure.redis.DraftBuffer;
+import study.blog.post.infrastructure.redis.DraftSnapshot;
+import study.blog.post.infrastructure.scheduler.DraftFlusher;
+import study.blog.post.presentation.requset.SaveDraftRequest;
+import study.blog.post.presentation.response.PostSaveResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@DisplayName("임시저장 버퍼 DB 반영 통합 테스트")
+class DraftFlusherTest extends IntegrationTestSupport {
+
+    @Autowired
+    private DraftFlusher draftFlusher;
+
+    @Autowired
+    private PostCommandRepository postCommandRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DraftBuffer draftBuffer;
+
+    @Autowired
+    private PostCommandService postCommandService;
+
+    @Autowired
+    private PostPublishTracker postPublishTracker;
+
+    @Autowired
+    private PostContentTracker postContentTracker;
+
+    @Autowired
+    private ContentVersionTracker contentVersionTracker;
+
+    @Autowired
+    private ImageAssetReader imageAssetReader;
+
+    @Autowired
+    private PostImageAttacher postImageAttacher;
+
+    private Long bufferedPostId;
+
+    @AfterEach
+    void tearDown() {
+        if (bufferedPostId != null) {
+            draftBuffer.discard(bufferedPostId);
+        }
+    }
+
+    @Test
+    @DisplayName("더 최신 임시저장본은 임시저장 컬럼만 갱신하고, 그 사이 증가한 좋아요수는 유지한다")
+    void 최신본_반영() {
+        // given
+        Long postId = saveDraft();
+        postCommandRepository.incrementLikeCount(postId, 1);
+        clear();
+
+        // when
+        boolean flushed = draftFlusher.flush(postId, new DraftSnapshot(2L, "제목(자동)", "본문(자동)", List.of("Redis"), null));
+        clear();
+
+        // then
+        Post post = postCommandRepository.findById(postId).orElseThrow();
+        assertThat(flushed).isTrue();
+        assertThat(post.getTitle()).isEqualTo("제목(자동)");
+        assertThat(post.getContent()).isEqualTo("본문(자동)");
+        assertThat(post.getExcerpt()).isEqualTo("본문(자동)");
+        assertThat(post.getDraftVersion()).isEqualTo(2L);
+        assertThat(post.getLikeCount()).isEqualTo(1L);
+        assertThat(post.getTags()).extracting(PostTag::getName).containsExactly("Redis");
+    }
+
+    @Test
+    @DisplayName("이미 같거나 더 최신 version 이 반영되어 있으면 덮어쓰지 않는다")
+    void 오래된_버전_무시() {
+        // given
+        Long postId = saveDraft();
+        draftFlusher.flush(postId, new DraftSnapshot(3L, "제목(v3)", "본문(v3)", null, null));
+        clear();
+
+        // when
+        boolean flushed = draftFlusher.flush(postId, new DraftSnapshot(2L, "제목(v2)", "본문(v2)", null, null));
+        clear();
+
+        // then
+        Post post = postCommandRepository.findById(postId).orElseThrow();
+        assertThat(flushed).isTrue();
+        assertThat(post.getTitle()).isEqualTo("제목(v3)");
+        assertThat(post.getDraftVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("그 사이 발행된 게시글에는 반영하지 않고 false 를 반환한다")
+    void 발행된_글_무시() {
+        // given
+        Long postId = saveDraft();
+        Post post = postCommandRepository.findById(postId).orElseThrow();
+        post.publish();
+        clear();
+
+        // when
+        boolean flushed = draftFlusher.flush(postId, new DraftSnapshot(2L, "제목(자동)", "본문(자동)", null, null));
+        clear();
+
+        // then
+        Post found = postCommandRepository.findById(postId).orElseThrow();
+        assertThat(flushed).isFalse();
+        assertThat(found.getTitle()).isEqualTo("임시 제목");
+        assertThat(found.getPostStatus()).isEqualTo(PostStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중 DB 에 바로 반영된 뒤 복구되면, 남아 있던 이전 버퍼는 DB 를 덮어쓰지 않고 다음 저장 때 버려진다")
+    void 장애_후_복구_이전_버퍼_무시() {
+        // given - 장애 전 버퍼에 v2 까지 저장
+        Long postId = saveDraft();
+        bufferedPostId = postId;
+        clear();
+        draftBuffer.seed(postId, 0L);
+        draftBuffer.write(postId, 0L, "제목(v1)", "본문(v1)", null, null);
+        draftBuffer.write(postId, 1L, "제목(v2)", "본문(v2)", null, null);
+
+        // 장애 중 - 버퍼에서 받은 version 2 로 저장하면 DB 에 바로 반영된다 (버퍼 폐기도 실패해 v2 가 남는다)
+        DraftBuffer unavailable = spy(draftBuffer);
+        doThrow(new RedisConnectionFailureException("connection refused"))
+                .when(unavailable).write(any(), any(), any(), any(), any(), any());
+        doThrow(new RedisConnectionFailureException("connection refused"))
+                .when(unavailable).seed(any(), anyLong());
+        doThrow(new RedisConnectionFailureException("connection refused"))
+                .when(unavailable).discard(any());
+        PostCommandService outageService = new PostCommandService(postCommandRepository, postPublishTracker,
+                postContentTracker, unavailable, contentVersionTracker, imageAssetReader, postImageAttacher);
+
+        PostSaveResponse outageResponse = outageService.saveDraft(1L,
+                new SaveDraftRequest(postId, "제목(장애)", "본문(장애)", null, null, 2L));
+        clear();
+        assertThat(outageResponse.version()).isEqualTo(3L);
+
+        // when - 복구 후 남은 v2 버퍼를 flush
+        boolean flushed = draftFlusher.flush(postId, draftBuffer.find(postId).orElseThrow());
+        clear();
+
+        // then - 더 최신인 DB 내용(v3)을 유지한다
+        Post post = postCommandRepository.findById(postId).orElseThrow();
+        assertThat(flushed).isTrue();
+        assertThat(post.getTitle()).isEqualTo("제목(장애)");
+        assertThat(post.getContent()).isEqualTo("본문(장애)");
+        assertThat(post.getDraftVersion()).isEqualTo(3L);
+
+        // when - 다음 자동 저장은 이전 버퍼를 버리고 DB version 기준으로 다시 버퍼에 기록한다
+        PostSaveResponse recovered = postCommandService.saveDraft(1L,
+                new SaveDraftRequest(postId, "제목(복구)", "본문(복구)", null, null, 3L));
+
+        // then
+        assertThat(recovered.version()).isEqualTo(4L);
+        assertThat(draftBuffer.find(postId).orElseThrow().title()).isEqualTo("제목(복구)");
+    }
+
+    private Long saveDraft() {
+        Post draft = Post.createDraft(1L, "임시 제목", "임시 본문", List.of("Java"), null);
+        return postCommandRepository.save(draft).getId();
+    }
+
+    private void clear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
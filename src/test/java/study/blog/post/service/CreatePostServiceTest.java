@@ -6,7 +6,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import study.blog.global.web.version.ContentVersionTracker;
+import study.blog.image.infrastructure.persistence.query.ImageAssetReader;
 import study.blog.post.application.PostCommandService;
+import study.blog.post.application.PostImageAttacher;
+import study.blog.post.application.PostContentTracker;
+import study.blog.post.application.PostPublishTracker;
 import study.blog.post.domain.exception.*;
 import study.blog.post.presentation.requset.CreatePostRequest;
 import study.blog.post.presentation.response.PostSaveResponse;
@@ -33,6 +38,21 @@ class CreatePostServiceTest {
     @Mock
     private PostCommandRepository postCommandRepository;
 
+    @Mock
+    private PostPublishTracker postPublishTracker;
+
+    @Mock
+    private PostContentTracker postContentTracker;
+
+    @Mock
+    private ContentVersionTracker contentVersionTracker;
+
+    @Mock
+    private ImageAssetReader imageAssetReader;
+
+    @Mock
+    private PostImageAttacher postImageAttacher;
+
     private static final String THUMBNAIL_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/thumbnail/test.jpg";
 
     @Test
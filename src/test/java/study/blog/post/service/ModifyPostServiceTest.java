@@ -7,20 +7,41 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import study.blog.global.web.version.ContentVersionTracker;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.infrastructure.persistence.query.ImageAssetReader;
 import study.blog.post.application.PostCommandService;
+import study.blog.post.application.PostImageAttacher;
+import study.blog.post.application.PostPublishTracker;
+import study.blog.post.application.PostContentTracker;
 import study.blog.post.presentation.response.PostSaveResponse;
+import study.blog.post.presentation.requset.SaveDraftRequest;
 import study.blog.post.presentation.requset.UpdatePostRequest;
 import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostTag;
 import study.blog.post.domain.PostStatus;
+import study.blog.post.domain.exception.DraftBufferUnavailableException;
+import study.blog.post.domain.exception.DraftVersionConflictException;
 import study.blog.post.domain.exception.InValidPostStatusException;
+import study.blog.post.domain.exception.InValidPostTitleException;
 import study.blog.post.domain.exception.PostNotFoundException;
 import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+import study.blog.post.infrastructure.redis.DraftBuffer;
+import study.blog.post.infrastructure.redis.DraftBuffer.DraftWriteResult;
+import study.blog.post.infrastructure.redis.DraftBuffer.DraftWriteStatus;
+import study.blog.post.infrastructure.redis.DraftSnapshot;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +54,24 @@ class ModifyPostServiceTest {
     @Mock
     private PostCommandRepository postCommandRepository;
 
+    @Mock
+    private PostPublishTracker postPublishTracker;
+
+    @Mock
+    private PostContentTracker postContentTracker;
+
+    @Mock
+    private ContentVersionTracker contentVersionTracker;
+
+    @Mock
+    private ImageAssetReader imageAssetReader;
+
+    @Mock
+    private PostImageAttacher postImageAttacher;
+
+    @Mock
+    private DraftBuffer draftBuffer;
+
     private Post existingPost;
     private Long postId;
     private Long authorId;
@@ -50,6 +89,7 @@ class ModifyPostServiceTest {
                 "https://test-thumbnail.jpg",
                 List.of()
         );
+        ReflectionTestUtils.setField(existingPost, "id", postId);
     }
 
     @Test
@@ -80,6 +120,210 @@ class ModifyPostServiceTest {
         assertThat(existingPost.getContent()).isEqualTo("테스트 본문(수정)");
     }
 
+    @Test
+    @DisplayName("게시글 수정 - 유지되는 태그는 그대로 두고 추가/삭제된 태그만 반영한다")
+    void modifyPost_tagDiff() {
+        // given
+        PostTag retainedTag = existingPost.getTags().stream()
+                .filter(tag -> tag.getName().equals("Spring"))
+                .findFirst()
+                .orElseThrow();
+        UpdatePostRequest updatePostRequest = new UpdatePostRequest(
+                postId,
+                "테스트 제목(수정)",
+                "테스트 본문(수정)",
+                PostStatus.DRAFT,
+                List.of("Spring", "Kafka"),
+                null
+        );
+
+        when(postCommandRepository.findById(any(Long.class))).thenReturn(Optional.of(existingPost));
+
+        // when
+        postCommandService.modifyPost(authorId, updatePostRequest);
+
+        // then
+        assertThat(existingPost.getTags()).extracting(PostTag::getName).containsExactly("Spring", "Kafka");
+        assertThat(existingPost.getTags().get(0)).isSameAs(retainedTag);
+    }
+
+    @Test
+    @DisplayName("임시저장 - 요청 버전이 버퍼의 버전과 다르면 충돌 예외가 발생한다")
+    void saveDraft_versionConflict() {
+        // given
+        SaveDraftRequest request = new SaveDraftRequest(postId, "제목", "본문", List.of(), null, 3L);
+        when(draftBuffer.write(postId, 3L, "제목", "본문", List.of(), null))
+                .thenReturn(new DraftWriteResult(DraftWriteStatus.CONFLICT, 5L));
+        when(postCommandRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+
+        // when, then
+        assertThatThrownBy(() -> postCommandService.saveDraft(authorId, request))
+                .isInstanceOf(DraftVersionConflictException.class)
+                .hasMessageContaining("현재 버전: 5");
+    }
+
+    @Test
+    @DisplayName("임시저장 - 버퍼에 기록하면 게시글을 조회하지 않고 버퍼 내용으로 PostSaveResponse 와 저장된 version 을 응답한다")
+    void saveDraft_buffered() {
+        // given
+        SaveDraftRequest request = new SaveDraftRequest(postId, "제목(자동)", "본문(자동)", List.of(), null, 3L);
+        when(draftBuffer.write(postId, 3L, "제목(자동)", "본문(자동)", List.of(), null))
+                .thenReturn(new DraftWriteResult(DraftWriteStatus.SAVED, 4L));
+        when(draftBuffer.find(any())).thenReturn(Optional.of(new DraftSnapshot(4L, "제목(자동)", "본문(자동)", List.of("Redis"), null)));
+
+        // when
+        PostSaveResponse response = postCommandService.saveDraft(authorId, request);
+
+        // then
+        assertThat(response.postId()).isEqualTo(postId);
+        assertThat(response.authorId()).isEqualTo(authorId);
+        assertThat(response.title()).isEqualTo("제목(자동)");
+        assertThat(response.content()).isEqualTo("본문(자동)");
+        assertThat(response.tags()).containsExactly("Redis");
+        assertThat(response.postStatus()).isEqualTo(PostStatus.DRAFT);
+        assertThat(response.version()).isEqualTo(4L);
+        verify(postCommandRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("임시저장 - 리사이즈가 끝난 대표 이미지는 버퍼에도 MEDIUM 결과 URL 로 기록한다")
+    void saveDraft_buffered_resizedThumbnail() {
+        // given
+        String original = "https://bucket/thumbnail/a.png";
+        String medium = "https://bucket/thumbnail/a_w768.jpg";
+        SaveDraftRequest request = new SaveDraftRequest(postId, "제목(자동)", "본문(자동)", List.of(), original, 3L);
+        when(imageAssetReader.findVariantUrl(original, ImageVariant.MEDIUM)).thenReturn(Optional.of(medium));
+        when(draftBuffer.write(postId, 3L, "제목(자동)", "본문(자동)", List.of(), medium))
+                .thenReturn(new DraftWriteResult(DraftWriteStatus.SAVED, 4L));
+        when(draftBuffer.find(any())).thenReturn(Optional.of(new DraftSnapshot(4L, "제목(자동)", "본문(자동)", List.of(), medium)));
+
+        // when
+        PostSaveResponse response = postCommandService.saveDraft(authorId, request);
+
+        // then
+        assertThat(response.thumbnailUrl()).isEqualTo(medium);
+        verify(draftBuffer, never()).write(postId, 3L, "제목(자동)", "본문(자동)", List.of(), original);
+    }
+
+    @Test
+    @DisplayName("임시저장 - 제목이 100자를 넘으면 버퍼에 기록하지 않고 예외가 발생한다")
+    void saveDraft_invalidTitle() {
+        // given
+        SaveDraftRequest request = new SaveDraftRequest(postId, "가".repeat(101), "본문", List.of(), null, 3L);
+
+        // when, then
+        assertThatThrownBy(() -> postCommandService.saveDraft(authorId, request))
+                .isInstanceOf(InValidPostTitleException.class);
+        verifyNoInteractions(draftBuffer);
+    }
+
+    @Test
+    @DisplayName("임시저장 - Redis 장애 시 버퍼에서 받은 version 으로도 DB 에 반영하고, draftVersion 을 그보다 크게 올린다")
+    void saveDraft_redisDown() {
+        // given
+        SaveDraftRequest request = new SaveDraftRequest(postId, "제목(장애)", "본문(장애)", List.of(), null, 7L);
+        when(draftBuffer.write(postId, 7L, "제목(장애)", "본문(장애)", List.of(), null))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(postCommandRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+
+        // when
+        PostSaveResponse response = postCommandService.saveDraft(authorId, request);
+
+        // then
+        assertThat(existingPost.getTitle()).isEqualTo("제목(장애)");
+        assertThat(existingPost.getDraftVersion()).isEqualTo(8L);
+        assertThat(response.version()).isEqualTo(8L);
+        verify(draftBuffer).discard(postId);
+        verify(draftBuffer, never()).seed(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("임시저장 - Redis 장애 시 요청 version 이 DB draftVersion 보다 낮으면 충돌 예외가 발생한다")
+    void saveDraft_redisDown_conflict() {
+        // given
+        ReflectionTestUtils.setField(existingPost, "draftVersion", 9L);
+        SaveDraftRequest request = new SaveDraftRequest(postId, "제목", "본문", List.of(), null, 7L);
+        when(draftBuffer.write(postId, 7L, "제목", "본문", List.of(), null))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(postCommandRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+
+        // when, then
+        assertThatThrownBy(() -> postCommandService.saveDraft(authorId, request))
+                .isInstanceOf(DraftVersionConflictException.class)
+                .hasMessageContaining("현재 버전: 9");
+    }
+
+    @Test
+    @DisplayName("임시저장 - 버퍼 생성 후 기록이 실패하면 500 이 아니라 DB 에 바로 반영한다")
+    void saveDraft_secondWriteFails() {
+        // given
+        SaveDraftRequest request = new SaveDraftRequest(postId, "제목", "본문", List.of(), null, 0L);
+        when(draftBuffer.write(postId, 0L, "제목", "본문", List.of(), null))
+                .thenReturn(new DraftWriteResult(DraftWriteStatus.NOT_SEEDED, 0L))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(postCommandRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+
+        // when
+        PostSaveResponse response = postCommandService.saveDraft(authorId, request);
+
+        // then
+        verify(draftBuffer).seed(postId, 0L);
+        assertThat(existingPost.getTitle()).isEqualTo("제목");
+        assertThat(response.version()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("임시저장 - 버퍼 version 이 DB draftVersion 보다 낮으면(장애 중 남은 이전 버퍼) 버리고 DB 기준으로 다시 만든다")
+    void saveDraft_staleBuffer() {
+        // given
+        ReflectionTestUtils.setField(existingPost, "draftVersion", 8L);
+        SaveDraftRequest request = new SaveDraftRequest(postId, "제목", "본문", List.of(), null, 8L);
+        when(draftBuffer.write(postId, 8L, "제목", "본문", List.of(), null))
+                .thenReturn(new DraftWriteResult(DraftWriteStatus.CONFLICT, 7L))
+                .thenReturn(new DraftWriteResult(DraftWriteStatus.SAVED, 9L));
+        when(postCommandRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+
+        // when
+        PostSaveResponse response = postCommandService.saveDraft(authorId, request);
+
+        // then
+        verify(draftBuffer).discard(postId);
+        verify(draftBuffer).seed(postId, 8L);
+        assertThat(response.version()).isEqualTo(9L);
+        assertThat(existingPost.getDraftVersion()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("게시글 발행 - 버퍼의 더 최신 임시저장본을 반영한 뒤 발행한다")
+    void changeStatusToPublish_appliesBufferedDraft() {
+        // given
+        when(postCommandRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+        when(draftBuffer.find(any())).thenReturn(Optional.of(new DraftSnapshot(5L, "제목(자동)", "본문(자동)", null, null)));
+
+        // when
+        postCommandService.changeStatusToPublish(postId);
+
+        // then
+        assertThat(existingPost.getPostStatus()).isEqualTo(PostStatus.PUBLISHED);
+        assertThat(existingPost.getContent()).isEqualTo("본문(자동)");
+        assertThat(existingPost.getDraftVersion()).isEqualTo(5L);
+        verify(draftBuffer).discard(any());
+    }
+
+    @Test
+    @DisplayName("게시글 발행 - 버퍼를 읽지 못하면 자동 저장 내용 없이 발행하지 않고 실패한다")
+    void changeStatusToPublish_bufferUnavailable() {
+        // given
+        when(postCommandRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+        when(draftBuffer.find(any())).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when, then
+        assertThatThrownBy(() -> postCommandService.changeStatusToPublish(postId))
+                .isInstanceOf(DraftBufferUnavailableException.class);
+        assertThat(existingPost.getPostStatus()).isEqualTo(PostStatus.DRAFT);
+        verify(draftBuffer, never()).discard(any());
+    }
+
     @Test
     @DisplayName("삭제된 게시글은 수정하지 못한다")
     void modifyPost_deletedPost() {
@@ -0,0 +1,89 @@
+package study.blog.post.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import study.blog.global.infra.S3ImageStorage;
+import study.blog.image.domain.ImageVariant;
+import study.blog.image.infrastructure.persistence.query.ImageAssetReader;
+import study.blog.post.application.PostImageAttacher;
+import study.blog.post.domain.PostStatus;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostImage;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostImageAttacher 단위 테스트")
+class PostImageAttacherTest {
+
+    private static final String BASE_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/";
+    private static final String THUMBNAIL_URL = BASE_URL + "thumbnail/test.jpg";
+
+    @Mock
+    private ImageAssetReader imageAssetReader;
+
+    private PostImageAttacher attacher;
+
+    @BeforeEach
+    void setUp() {
+        attacher = new PostImageAttacher(new S3ImageStorage(null, "test-bucket", "ap-northeast-2"), imageAssetReader);
+    }
+
+    @Test
+    @DisplayName("본문의 업로드 이미지만 추출하고, 리사이즈가 끝난 이미지는 규격별 URL 을 채운다")
+    void 업로드_이미지_반영() {
+        // given
+        String first = BASE_URL + "post-images/a.png";
+        String second = BASE_URL + "post-images/b.png";
+        String content = """
+                ![첫 번째](%s "제목")
+                <p><IMG alt="두 번째" src='%s'></p>
+                ![외부](https://example.com/c.png)
+                ![중복](%s)
+                """.formatted(first, second, first);
+        Post post = post(content);
+        given(imageAssetReader.findVariantUrls(anyCollection())).willReturn(Map.of(first, Map.of(
+                ImageVariant.SMALL, BASE_URL + "post-images/a_w320.jpg",
+                ImageVariant.MEDIUM, BASE_URL + "post-images/a_w768.jpg",
+                ImageVariant.LARGE, BASE_URL + "post-images/a_w1280.jpg")));
+
+        // when
+        attacher.attach(post);
+
+        // then
+        assertThat(post.getPostImages()).extracting(PostImage::getImageUrl).containsExactly(first, second);
+        assertThat(post.getPostImages().get(0).getMediumUrl()).isEqualTo(BASE_URL + "post-images/a_w768.jpg");
+        assertThat(post.getPostImages().get(1).hasVariants()).isFalse();
+    }
+
+    @Test
+    @DisplayName("본문에서 빠진 이미지는 제거하고 남은 이미지는 유지한다")
+    void 차집합_반영() {
+        // given
+        String kept = BASE_URL + "post-images/a.png";
+        Post post = post("![a](" + kept + ") ![b](" + BASE_URL + "post-images/b.png)");
+        attacher.attach(post);
+        PostImage keptImage = post.getPostImages().get(0);
+
+        post.modifyPost("제목", "![a](" + kept + ")", PostStatus.PUBLISHED, List.of("Spring"), THUMBNAIL_URL);
+
+        // when
+        attacher.attach(post);
+
+        // then
+        assertThat(post.getPostImages()).containsExactly(keptImage);
+    }
+
+    private static Post post(String content) {
+        return Post.createPost(1L, "제목", content, PostStatus.PUBLISHED, List.of("Spring"), THUMBNAIL_URL, List.of());
+    }
+}
@@ -0,0 +1,94 @@
+package study.blog.post.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.global.infra.InMemoryImageStorage;
+import study.blog.post.application.PostImageReattacher;
+import study.blog.post.domain.PostStatus;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostImage;
+import study.blog.post.infrastructure.migration.PostImageBackfill;
+import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(InMemoryImageStorage.Config.class)
+@DisplayName("PostImageBackfill / PostImageReattacher 게시글 이미지 보정 통합 테스트")
+class PostImageBackfillTest extends IntegrationTestSupport {
+
+    private static final Long AUTHOR_ID = 9_470_001L;
+    private static final String IMAGE_URL = InMemoryImageStorage.BASE_URL + "post-images/backfill.png";
+    private static final String CONTENT = "본문\n![](" + IMAGE_URL + ")\n![외부](https://example.com/a.png)";
+
+    @Autowired
+    private PostImageBackfill postImageBackfill;
+
+    @Autowired
+    private PostImageReattacher postImageReattacher;
+
+    @Autowired
+    private PostCommandRepository postCommandRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("상태와 관계없이 기존 게시글 본문의 업로드 이미지를 post_image 에 채우고, 다시 실행해도 결과가 같다")
+    void 기존_게시글_보정() {
+        // given - PostImage 도입 전처럼 post_image 가 비어 있는 게시글
+        Long draftId = save(Post.createDraft(AUTHOR_ID, "임시저장", CONTENT, List.of(), null));
+        Long publishedId = save(Post.createPost(AUTHOR_ID, "발행", CONTENT, PostStatus.PUBLISHED,
+                List.of("tag"), IMAGE_URL, List.of()));
+        Post deleted = Post.createDraft(AUTHOR_ID, "삭제", CONTENT, List.of(), null);
+        deleted.delete();
+        Long deletedId = save(deleted);
+
+        // when
+        postImageBackfill.migrate();
+        postImageBackfill.migrate();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(postImageBackfill.id()).isEqualTo("V047_post_images");
+        for (Long postId : List.of(draftId, publishedId, deletedId)) {
+            assertThat(imageUrls(postId)).containsExactly(IMAGE_URL);
+        }
+    }
+
+    @Test
+    @DisplayName("reattach 는 지정한 id 구간(양 끝 포함)의 게시글만 반영한다")
+    void 구간_보정() {
+        // given
+        Long firstId = save(Post.createDraft(AUTHOR_ID, "첫 번째", CONTENT, List.of(), null));
+        Long secondId = save(Post.createDraft(AUTHOR_ID, "두 번째", CONTENT, List.of(), null));
+
+        // when
+        postImageReattacher.reattach(firstId, firstId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(imageUrls(firstId)).containsExactly(IMAGE_URL);
+        assertThat(imageUrls(secondId)).isEmpty();
+    }
+
+    private Long save(Post post) {
+        Long id = postCommandRepository.save(post).getId();
+        entityManager.flush();
+        entityManager.clear();
+        return id;
+    }
+
+    private List<String> imageUrls(Long postId) {
+        return postCommandRepository.findById(postId).orElseThrow().getPostImages().stream()
+                .map(PostImage::getImageUrl)
+                .toList();
+    }
+}
@@ -0,0 +1,209 @@
+package study.blog.post.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import study.blog.post.application.PostRevisionRecorder;
+import study.blog.post.application.PostRevisionService;
+import study.blog.post.domain.RevisionType;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.domain.entity.PostRevision;
+import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+import study.blog.post.infrastructure.persistence.command.PostRevisionRepository;
+import study.blog.post.infrastructure.persistence.query.PostQueryRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostRevisionRecorder 리비전 저장 테스트")
+class PostRevisionRecorderTest {
+
+    private static final Long POST_ID = 1L;
+    private static final int SNAPSHOT_INTERVAL = 20;
+
+    @Mock
+    private PostCommandRepository postRepository;
+
+    @Mock
+    private PostRevisionRepository revisionRepository;
+
+    @Mock
+    private PostQueryRepository postQueryRepository;
+
+    private PostRevisionRecorder recorder;
+    private PostRevisionService revisionService;
+
+    // 저장된 리비전 (revisionRepository 조회는 이 목록으로 응답한다)
+    private final List<PostRevision> revisions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        revisionService = new PostRevisionService(revisionRepository, postQueryRepository);
+        recorder = new PostRevisionRecorder(postRepository, revisionRepository, revisionService);
+
+        lenient().when(revisionRepository.save(any(PostRevision.class))).thenAnswer(invocation -> {
+            PostRevision revision = invocation.getArgument(0);
+            revisions.add(revision);
+            return revision;
+        });
+        lenient().when(revisionRepository.findTopByPostIdOrderByRevisionNumberDesc(anyLong())).thenAnswer(invocation ->
+                revisions.stream().max(Comparator.comparingInt(PostRevision::getRevisionNumber)));
+        lenient().when(revisionRepository.findByPostIdAndRevisionNumber(anyLong(), anyInt())).thenAnswer(invocation ->
+                findRevision(invocation.getArgument(1)));
+        lenient().when(revisionRepository.findByPostIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(anyLong(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    int from = invocation.getArgument(1);
+                    int to = invocation.getArgument(2);
+                    return revisions.stream()
+                            .filter(revision -> revision.getRevisionNumber() >= from && revision.getRevisionNumber() <= to)
+                            .sorted(Comparator.comparingInt(PostRevision::getRevisionNumber))
+                            .toList();
+                });
+    }
+
+    @Test
+    @DisplayName("첫 리비전이면 수정 전 본문을 1번 스냅샷으로 남기고 현재 본문을 2번으로 저장한다")
+    void 첫_리비전_원본_보존() {
+        // given
+        givenCurrentContent("수정된 본문");
+
+        // when
+        recorder.record(POST_ID, "리비전 도입 전 원본");
+
+        // then
+        assertThat(revisions).hasSize(2);
+        assertThat(findRevision(1).orElseThrow().getRevisionType()).isEqualTo(RevisionType.SNAPSHOT);
+        assertThat(revisionService.reconstruct(POST_ID, 1)).isEqualTo("리비전 도입 전 원본");
+        assertThat(revisionService.reconstruct(POST_ID, 2)).isEqualTo("수정된 본문");
+    }
+
+    @Test
+    @DisplayName("첫 리비전인데 수정 전 본문이 없거나 같으면 현재 본문만 1번 스냅샷으로 저장한다")
+    void 첫_리비전_원본_없음() {
+        // given
+        givenCurrentContent("본문");
+
+        // when
+        recorder.record(POST_ID, null);
+
+        // then
+        assertThat(revisions).hasSize(1);
+        assertThat(revisionService.reconstruct(POST_ID, 1)).isEqualTo("본문");
+    }
+
+    @Test
+    @DisplayName("현재 본문이 마지막 리비전과 같으면 저장하지 않는다")
+    void 마지막_리비전과_같으면_건너뜀() {
+        // given
+        givenCurrentContent("본문");
+        recorder.record(POST_ID, null);
+
+        // when
+        recorder.record(POST_ID, "본문");
+
+        // then
+        assertThat(revisions).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("SNAPSHOT_INTERVAL 번째마다 스냅샷을, 그 사이에는 직전 리비전 대비 델타를 저장한다")
+    void 스냅샷_주기() {
+        // given
+        String base = longContent();
+        givenCurrentContent(base);
+        recorder.record(POST_ID, null);
+
+        // when - 2 ~ 22 번 리비전을 한 줄씩 바꿔가며 저장
+        for (int number = 2; number <= SNAPSHOT_INTERVAL + 2; number++) {
+            givenCurrentContent(edit(base, number));
+            recorder.record(POST_ID, null);
+        }
+
+        // then
+        assertThat(revisions).hasSize(SNAPSHOT_INTERVAL + 2);
+        assertThat(findRevision(1).orElseThrow().getRevisionType()).isEqualTo(RevisionType.SNAPSHOT);
+        for (int number = 2; number <= SNAPSHOT_INTERVAL; number++) {
+            PostRevision revision = findRevision(number).orElseThrow();
+            assertThat(revision.getRevisionType()).isEqualTo(RevisionType.DELTA);
+            assertThat(revision.getSnapshotNumber()).isEqualTo(1);
+        }
+        assertThat(findRevision(SNAPSHOT_INTERVAL + 1).orElseThrow().getRevisionType()).isEqualTo(RevisionType.SNAPSHOT);
+        PostRevision afterSnapshot = findRevision(SNAPSHOT_INTERVAL + 2).orElseThrow();
+        assertThat(afterSnapshot.getRevisionType()).isEqualTo(RevisionType.DELTA);
+        assertThat(afterSnapshot.getSnapshotNumber()).isEqualTo(SNAPSHOT_INTERVAL + 1);
+    }
+
+    @Test
+    @DisplayName("스냅샷 경계 전후의 리비전을 모두 저장 당시 본문으로 복원한다")
+    void 스냅샷_경계_복원() {
+        // given
+        String base = longContent();
+        givenCurrentContent(base);
+        recorder.record(POST_ID, null);
+        for (int number = 2; number <= SNAPSHOT_INTERVAL + 3; number++) {
+            givenCurrentContent(edit(base, number));
+            recorder.record(POST_ID, null);
+        }
+
+        // when, then
+        assertThat(revisionService.reconstruct(POST_ID, 1)).isEqualTo(base);
+        assertThat(revisionService.reconstruct(POST_ID, SNAPSHOT_INTERVAL)).isEqualTo(edit(base, SNAPSHOT_INTERVAL));
+        assertThat(revisionService.reconstruct(POST_ID, SNAPSHOT_INTERVAL + 1)).isEqualTo(edit(base, SNAPSHOT_INTERVAL + 1));
+        assertThat(revisionService.reconstruct(POST_ID, SNAPSHOT_INTERVAL + 3)).isEqualTo(edit(base, SNAPSHOT_INTERVAL + 3));
+    }
+
+    @Test
+    @DisplayName("본문이 전부 바뀌어 델타가 스냅샷보다 크면 스냅샷으로 저장한다")
+    void 델타가_더_크면_스냅샷() {
+        // given
+        givenCurrentContent("첫 본문");
+        recorder.record(POST_ID, null);
+        givenCurrentContent("완전히 다른 본문");
+
+        // when
+        recorder.record(POST_ID, null);
+
+        // then
+        PostRevision revision = findRevision(2).orElseThrow();
+        assertThat(revision.getRevisionType()).isEqualTo(RevisionType.SNAPSHOT);
+        assertThat(revision.getSnapshotNumber()).isEqualTo(2);
+        assertThat(revisionService.reconstruct(POST_ID, 2)).isEqualTo("완전히 다른 본문");
+    }
+
+    private void givenCurrentContent(String content) {
+        given(postRepository.findById(POST_ID))
+                .willReturn(Optional.of(Post.createDraft(1L, "제목", content, List.of(), null)));
+    }
+
+    private Optional<PostRevision> findRevision(int revisionNumber) {
+        return revisions.stream()
+                .filter(revision -> revision.getRevisionNumber() == revisionNumber)
+                .findFirst();
+    }
+
+    private static String longContent() {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            content.append(i).append("번째 문단입니다. 리비전 저장 테스트를 위한 긴 본문의 한 줄입니다.\n");
+        }
+        return content.toString();
+    }
+
+    // number 번째 리비전은 number 번째 줄만 바뀐 본문이다.
+    private static String edit(String base, int number) {
+        return base.replace("\n" + number + "번째 문단", "\n" + number + "번째 문단(수정)");
+    }
+}
@@ -0,0 +1,67 @@
+package study.blog.post.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.post.application.PostQueryService;
+import study.blog.post.domain.entity.Post;
+import study.blog.post.infrastructure.persistence.command.PostCommandRepository;
+import study.blog.post.presentation.response.PostSummaryResponse;
+import study.blog.subscription.domain.entity.Subscription;
+import study.blog.subscription.infrastructure.command.SubscriptionCommandRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static study.blog.post.domain.PostStatus.PUBLISHED;
+import static study.blog.subscription.infrastructure.redis.FollowingRedisKeyGenerator.generateFollowingKey;
+import static study.blog.subscription.infrastructure.redis.FollowingRedisKeyGenerator.generateFollowingRebuildKey;
+
+@DisplayName("게시글 목록 작성자 구독 여부 통합 테스트")
+class PostSummarySubscribeTest extends IntegrationTestSupport {
+
+    private static final Long AUTHOR_ID = 9_300_001L;
+    private static final Long SUBSCRIBER_ID = 9_300_002L;
+    private static final Long VISITOR_ID = 9_300_003L;
+
+    @Autowired
+    private PostQueryService postQueryService;
+
+    @Autowired
+    private PostCommandRepository postCommandRepository;
+
+    @Autowired
+    private SubscriptionCommandRepository subscriptionCommandRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        for (Long memberId : List.of(SUBSCRIBER_ID, VISITOR_ID)) {
+            redisTemplate.delete(List.of(generateFollowingKey(memberId), generateFollowingRebuildKey(memberId)));
+        }
+    }
+
+    @Test
+    @DisplayName("조회자가 구독한 작성자의 글만 isSubscribe 가 true 이고, 비회원은 항상 false 이다")
+    void 구독_여부() {
+        // given
+        Post post = postCommandRepository.save(Post.createPost(AUTHOR_ID, "제목", "본문", PUBLISHED,
+                List.of("Java"), "https://test-thumbnail.jpg", List.of()));
+        subscriptionCommandRepository.save(Subscription.createSubscription(SUBSCRIBER_ID, AUTHOR_ID));
+
+        // when
+        PostSummaryResponse subscriber = postQueryService.findPublishedPostSummaries(SUBSCRIBER_ID, List.of(post.getId())).get(0);
+        PostSummaryResponse visitor = postQueryService.findPublishedPostSummaries(VISITOR_ID, List.of(post.getId())).get(0);
+        PostSummaryResponse anonymous = postQueryService.findPublishedPostSummaries(null, List.of(post.getId())).get(0);
+
+        // then
+        assertThat(subscriber.isSubscribe()).isTrue();
+        assertThat(visitor.isSubscribe()).isFalse();
+        assertThat(anonymous.isSubscribe()).isFalse();
+    }
+}
@@ -0,0 +1,163 @@
+package study.blog.subscription.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.member.entity.Member;
+import study.blog.member.repository.MemberReader;
+import study.blog.member.repository.MemberRepository;
+import study.blog.notification.application.NotificationCommandService;
+import study.blog.notification.domain.NotificationType;
+import study.blog.notification.domain.entity.Notification;
+import study.blog.notification.infrastructure.persistence.query.NotificationQueryRepository;
+import study.blog.subscription.application.TimelineUpdater;
+import study.blog.subscription.domain.entity.Subscription;
+import study.blog.subscription.infrastructure.command.SubscriptionCommandRepository;
+import study.blog.subscription.infrastructure.event.NewPostNotificationWriter;
+import study.blog.subscription.infrastructure.event.PostFanOutProcessor;
+import study.blog.subscription.infrastructure.event.PostPublishedMessage;
+import study.blog.subscription.infrastructure.persistence.query.SubscriptionQueryRepository;
+import study.blog.subscription.infrastructure.redis.FanOutOutboxRedisRepository;
+import study.blog.subscription.infrastructure.redis.TimelineEntry;
+import study.blog.subscription.infrastructure.redis.TimelineRedisRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static study.blog.subscription.infrastructure.redis.FanOutRedisKeyGenerator.*;
+import static study.blog.subscription.infrastructure.redis.TimelineRedisKeyGenerator.generateTimelineKey;
+
+/**
+ * 발행 전파(push / pull)를 실제 MySQL, Redis 로 검증한다.
+ * Redis 는 테스트 트랜잭션과 함께 롤백되지 않으므로 사용한 키를 직접 지운다.
+ */
+class PostFanOutIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PostFanOutProcessor postFanOutProcessor;
+
+    @Autowired
+    private SubscriptionQueryRepository subscriptionQueryRepository;
+
+    @Autowired
+    private SubscriptionCommandRepository subscriptionCommandRepository;
+
+    @Autowired
+    private FanOutOutboxRedisRepository outboxRepository;
+
+    @Autowired
+    private NewPostNotificationWriter notificationWriter;
+
+    @Autowired
+    private MemberReader memberReader;
+
+    @Autowired
+    private TimelineUpdater timelineUpdater;
+
+    @Autowired
+    private TimelineRedisRepository timelineRepository;
+
+    @Autowired
+    private NotificationCommandService notificationCommandService;
+
+    @Autowired
+    private NotificationQueryRepository notificationQueryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private final List<String> usedKeys = new ArrayList<>();
+    private Long celebrityId;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(usedKeys);
+        if (celebrityId != null) redisTemplate.opsForSet().remove(CELEBRITY_KEY, String.valueOf(celebrityId));
+    }
+
+    @Test
+    @DisplayName("구독자가 기준 이하면 구독자마다 알림을 저장하고 타임라인에 글을 추가한다")
+    void push_전파() {
+        // given
+        Member author = saveMember("author");
+        List<Member> subscribers = List.of(saveMember("sub1"), saveMember("sub2"));
+        subscribers.forEach(subscriber -> subscribe(subscriber, author));
+        subscribers.forEach(subscriber -> {
+            timelineRepository.rebuild(subscriber.getId(), List.of());
+            usedKeys.add(generateTimelineKey(subscriber.getId()));
+        });
+        long publishedAt = System.currentTimeMillis();
+
+        // when
+        postFanOutProcessor.fanOut(new PostPublishedMessage("1-0", 100L, author.getId(), publishedAt));
+
+        // then
+        for (Member subscriber : subscribers) {
+            assertThat(notificationQueryRepository.findByReceiverIdOrderByCreatedAtDesc(subscriber.getId()))
+                    .extracting(Notification::getType, Notification::getSenderId)
+                    .containsExactly(tuple(NotificationType.NEW_POST, author.getId()));
+            assertThat(timelineRepository.findBefore(subscriber.getId(), null, null, 10))
+                    .containsExactly(new TimelineEntry(100L, publishedAt));
+        }
+    }
+
+    @Test
+    @DisplayName("구독자가 기준을 넘으면 outbox 에만 기록하고, 구독자가 pull 할 때 한 번만 알림을 만든다")
+    void pull_전파() {
+        // given
+        PostFanOutProcessor pullOnly = new PostFanOutProcessor(subscriptionQueryRepository, outboxRepository,
+                notificationWriter, memberReader, timelineUpdater, 0);
+        Member author = saveMember("celebrity");
+        Member subscriber = saveMember("follower");
+        subscribe(subscriber, author);
+        celebrityId = author.getId();
+        usedKeys.add(generateOutboxKey(author.getId()));
+        usedKeys.add(generatePullThrottleKey(subscriber.getId()));
+        long publishedAt = System.currentTimeMillis();
+
+        // when
+        pullOnly.fanOut(new PostPublishedMessage("1-0", 200L, author.getId(), publishedAt));
+        notificationCommandService.syncPulledNotifications(subscriber.getId());
+        redisTemplate.delete(generatePullThrottleKey(subscriber.getId()));
+        notificationCommandService.syncPulledNotifications(subscriber.getId());
+
+        // then
+        assertThat(outboxRepository.findPostIdsSince(author.getId(), 0)).containsExactly(200L);
+        assertThat(notificationQueryRepository.findByReceiverIdOrderByCreatedAtDesc(subscriber.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("outbox 가 만료된 작성자만 celebrity 목록에서 제거한다")
+    void celebrity_정리() {
+        // given
+        celebrityId = 300L;
+        outboxRepository.append(celebrityId, 1L, System.currentTimeMillis());
+        usedKeys.add(generateOutboxKey(celebrityId));
+
+        // when
+        int prunedWhileAlive = outboxRepository.pruneCelebrities();
+        redisTemplate.delete(generateOutboxKey(celebrityId));
+        outboxRepository.pruneCelebrities();
+
+        // then
+        assertThat(prunedWhileAlive).isZero();
+        assertThat(outboxRepository.findCelebrities()).doesNotContain(celebrityId);
+    }
+
+    private Member saveMember(String name) {
+        return memberRepository.save(Member.createMember(name + "@fanout.com", "password", name));
+    }
+
+    private void subscribe(Member subscriber, Member target) {
+        subscriptionCommandRepository.save(Subscription.createSubscription(subscriber.getId(), target.getId()));
+        memberRepository.incrementFollowerCount(target.getId(), 1);
+    }
+}
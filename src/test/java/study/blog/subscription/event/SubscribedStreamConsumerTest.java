@@ -0,0 +1,167 @@
+package study.blog.subscription.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import study.blog.subscription.infrastructure.command.StreamDeadLetterRepository;
+import study.blog.subscription.infrastructure.event.StreamPendingReclaimer;
+import study.blog.subscription.infrastructure.event.StreamPendingReclaimer.ReclaimedRecord;
+import study.blog.subscription.infrastructure.event.SubscribedStreamConsumer;
+import study.blog.subscription.infrastructure.event.SubscribedStreamMessage;
+import study.blog.subscription.infrastructure.event.SubscribedStreamTopology;
+import study.blog.subscription.infrastructure.event.SubscriptionNotificationProcessor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubscribedStreamConsumer 단위 테스트")
+class SubscribedStreamConsumerTest {
+
+    private static final String STREAM_KEY = "stream:subscribed";
+    private static final String GROUP = "subscription-notification-group";
+
+    @Mock
+    private SubscriptionNotificationProcessor processor;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private StreamDeadLetterRepository deadLetterRepository;
+
+    @Mock
+    private StreamPendingReclaimer pendingReclaimer;
+
+    private ThreadPoolTaskExecutor workerExecutor;
+
+    @AfterEach
+    void tearDown() {
+        if (workerExecutor != null) workerExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("PEL 재처리는 처리 중인 폴링 배치가 끝난 뒤에 실행되어 같은 targetId 메시지가 동시에 처리되지 않는다")
+    void 재처리_배치_직렬화() throws Exception {
+        // given
+        SubscribedStreamConsumer consumer = consumer(4);
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+        given(pendingReclaimer.claimIdle(eq(STREAM_KEY), eq(GROUP), anyString(), any(Duration.class), anyLong()))
+                .willReturn(List.of(new ReclaimedRecord(record("1-0", "10", "1"), 2)));
+
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch liveStarted = new CountDownLatch(1);
+        CountDownLatch releaseLive = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            List<SubscribedStreamMessage> messages = invocation.getArgument(0);
+            String messageId = messages.get(0).messageId();
+            if (messageId.equals("2-0")) {
+                liveStarted.countDown();
+                releaseLive.await(5, TimeUnit.SECONDS);
+            }
+            processed.add(messageId);
+            return null;
+        }).given(processor).processBatch(anyList());
+
+        // when - 폴링 배치(2-0) 처리 중에 스케줄러가 이전 메시지(1-0)를 재처리한다
+        Thread poller = new Thread(() -> consumer.consume(List.of(record("2-0", "11", "1"))));
+        poller.start();
+        assertThat(liveStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread scheduler = new Thread(consumer::reclaimPendingMessages);
+        scheduler.start();
+        Thread.sleep(200);
+        List<String> beforeRelease = List.copyOf(processed);
+        releaseLive.countDown();
+        poller.join();
+        scheduler.join();
+
+        // then
+        assertThat(beforeRelease).isEmpty();
+        assertThat(processed).containsExactly("2-0", "1-0");
+    }
+
+    @Test
+    @DisplayName("레인 배치 처리가 실패하면 메시지 단위로 다시 처리하고 성공한 메시지를 한 번에 ACK 한다")
+    void 배치_실패_메시지_단위_재처리() {
+        // given
+        SubscribedStreamConsumer consumer = consumer(1);
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+        willThrow(new IllegalStateException("배치 실패")).given(processor).processBatch(anyList());
+
+        // when
+        consumer.consume(List.of(record("1-0", "10", "1"), record("2-0", "11", "2")));
+
+        // then
+        then(processor).should().process(new SubscribedStreamMessage("1-0", 10L, 1L));
+        then(processor).should().process(new SubscribedStreamMessage("2-0", 11L, 2L));
+        then(streamOperations).should().acknowledge(STREAM_KEY, GROUP, RecordId.of("1-0"), RecordId.of("2-0"));
+    }
+
+    @Test
+    @DisplayName("메시지 단위 처리에서 실패한 targetId 의 이후 메시지는 처리하지 않고 ACK 하지 않는다")
+    void 실패_이후_같은_키_보류() {
+        // given - 레인이 하나라 모든 메시지가 같은 레인에 들어간다
+        SubscribedStreamConsumer consumer = consumer(1);
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+        willThrow(new IllegalStateException("배치 실패")).given(processor).processBatch(anyList());
+        willThrow(new IllegalStateException("처리 실패")).given(processor)
+                .process(new SubscribedStreamMessage("1-0", 10L, 1L));
+
+        // when
+        consumer.consume(List.of(
+                record("1-0", "10", "1"),
+                record("2-0", "11", "1"),
+                record("3-0", "12", "2")));
+
+        // then
+        then(processor).should(never()).process(new SubscribedStreamMessage("2-0", 11L, 1L));
+        then(processor).should().process(new SubscribedStreamMessage("3-0", 12L, 2L));
+        then(streamOperations).should().acknowledge(STREAM_KEY, GROUP, RecordId.of("3-0"));
+    }
+
+    private SubscribedStreamConsumer consumer(int workerCount) {
+        workerExecutor = new ThreadPoolTaskExecutor();
+        workerExecutor.setCorePoolSize(workerCount);
+        workerExecutor.setMaxPoolSize(workerCount);
+        workerExecutor.initialize();
+        return new SubscribedStreamConsumer(processor, redisTemplate, deadLetterRepository,
+                new SubscribedStreamTopology(1, "test-consumer"), pendingReclaimer, workerExecutor, workerCount);
+    }
+
+    private static MapRecord<String, Object, Object> record(String id, String subscriberId, String targetId) {
+        return StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .withId(RecordId.of(id))
+                .ofMap(Map.<Object, Object>of("subscriberId", subscriberId, "targetId", targetId));
+    }
+}
@@ -0,0 +1,79 @@
+package study.blog.subscription.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.subscription.infrastructure.command.StreamDeadLetterRepository;
+import study.blog.subscription.infrastructure.event.RedisStreamInitializer;
+import study.blog.subscription.infrastructure.event.StreamPendingReclaimer;
+import study.blog.subscription.infrastructure.event.SubscribedStreamConsumer;
+import study.blog.subscription.infrastructure.event.SubscribedStreamMessage;
+import study.blog.subscription.infrastructure.event.SubscribedStreamTopology;
+import study.blog.subscription.infrastructure.event.SubscriptionNotificationProcessor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+/**
+ * partitions 변경 전 키(stream:subscribed:{n})에 남은 메시지를 실제 Redis 로 drain 한다.
+ * 처리기는 mock 으로 두어 DB 에 커밋되는 데이터가 없게 한다.
+ */
+@DisplayName("이전 파티션 구독 스트림 drain 통합 테스트")
+class SubscribedStreamDrainTest extends IntegrationTestSupport {
+
+    private static final String LEGACY_KEY = "stream:subscribed:7";
+    private static final String GROUP = "subscription-notification-group";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisStreamInitializer streamInitializer;
+
+    @Autowired
+    private StreamPendingReclaimer pendingReclaimer;
+
+    private final SubscriptionNotificationProcessor processor = mock(SubscriptionNotificationProcessor.class);
+    private ThreadPoolTaskExecutor workerExecutor;
+
+    @BeforeEach
+    void setUp() {
+        workerExecutor = new ThreadPoolTaskExecutor();
+        workerExecutor.setCorePoolSize(1);
+        workerExecutor.initialize();
+        streamInitializer.initStreamAndGroup(LEGACY_KEY, GROUP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workerExecutor.shutdown();
+        redisTemplate.delete(LEGACY_KEY);
+    }
+
+    @Test
+    @DisplayName("현재 구성에 없는 키의 미처리 메시지를 처리하고 ACK 한다")
+    void 이전_키_drain() {
+        // given - 파티션 1 개 구성(stream:subscribed)으로 기동했는데 이전 구성의 키에 메시지가 남아 있다
+        RecordId recordId = redisTemplate.opsForStream().add(LEGACY_KEY, Map.of("subscriberId", "10", "targetId", "7"));
+        SubscribedStreamConsumer consumer = new SubscribedStreamConsumer(processor, redisTemplate,
+                mock(StreamDeadLetterRepository.class), new SubscribedStreamTopology(1, "drain-test"),
+                pendingReclaimer, workerExecutor, 1);
+
+        // when
+        consumer.drainLegacyStreams();
+
+        // then
+        then(processor).should().processBatch(List.of(new SubscribedStreamMessage(recordId.getValue(), 10L, 7L)));
+        assertThat(redisTemplate.opsForStream().pending(LEGACY_KEY, GROUP).getTotalPendingMessages()).isZero();
+    }
+}
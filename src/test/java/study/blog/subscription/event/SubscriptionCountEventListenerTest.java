@@ -0,0 +1,100 @@
+package study.blog.subscription.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import study.blog.member.repository.MemberProfileCacheRepository;
+import study.blog.member.repository.MemberRepository;
+import study.blog.subscription.domain.event.SubscribedEvent;
+import study.blog.subscription.domain.event.UnsubscribedEvent;
+import study.blog.subscription.infrastructure.event.SubscriptionCountEventListener;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubscriptionCountEventListener 단위 테스트")
+class SubscriptionCountEventListenerTest {
+
+    private static final Long SUBSCRIBER_ID = 1L;
+    private static final Long TARGET_ID = 2L;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberProfileCacheRepository profileCacheRepository;
+
+    @InjectMocks
+    private SubscriptionCountEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("구독하면 두 회원의 카운트를 올리고, 커밋 후에 프로필 캐시를 삭제한다")
+    void 구독_카운트_증가() {
+        // given
+        given(memberRepository.incrementFollowerCount(TARGET_ID, 1)).willReturn(1L);
+        given(memberRepository.incrementFollowingCount(SUBSCRIBER_ID, 1)).willReturn(1L);
+
+        // when
+        listener.on(new SubscribedEvent(SUBSCRIBER_ID, TARGET_ID));
+
+        // then
+        then(profileCacheRepository).should(never()).evict(any());
+        commit();
+        then(profileCacheRepository).should().evict(List.of(SUBSCRIBER_ID, TARGET_ID));
+    }
+
+    @Test
+    @DisplayName("구독 취소하면 두 회원의 카운트를 내린다")
+    void 구독_취소_카운트_감소() {
+        // given
+        given(memberRepository.incrementFollowerCount(TARGET_ID, -1)).willReturn(1L);
+        given(memberRepository.incrementFollowingCount(SUBSCRIBER_ID, -1)).willReturn(1L);
+
+        // when
+        listener.on(new UnsubscribedEvent(SUBSCRIBER_ID, TARGET_ID));
+
+        // then
+        then(memberRepository).should().incrementFollowerCount(TARGET_ID, -1);
+        then(memberRepository).should().incrementFollowingCount(SUBSCRIBER_ID, -1);
+    }
+
+    @Test
+    @DisplayName("한쪽 회원이 없어도 예외를 던지지 않고 다른 쪽 갱신과 캐시 삭제를 유지한다")
+    void 회원_없음_무시() {
+        // given
+        given(memberRepository.incrementFollowerCount(TARGET_ID, 1)).willReturn(0L);
+        given(memberRepository.incrementFollowingCount(SUBSCRIBER_ID, 1)).willReturn(1L);
+
+        // when & then
+        assertThatCode(() -> listener.on(new SubscribedEvent(SUBSCRIBER_ID, TARGET_ID))).doesNotThrowAnyException();
+        commit();
+        then(profileCacheRepository).should().evict(List.of(SUBSCRIBER_ID, TARGET_ID));
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+}
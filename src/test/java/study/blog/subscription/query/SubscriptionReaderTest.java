@@ -0,0 +1,96 @@
+package study.blog.subscription.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import study.blog.subscription.domain.entity.Subscription;
+import study.blog.subscription.infrastructure.persistence.query.SubscriptionQueryRepository;
+import study.blog.subscription.infrastructure.persistence.query.SubscriptionReader;
+import study.blog.subscription.infrastructure.redis.FollowingRedisRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubscriptionReader 단위 테스트")
+class SubscriptionReaderTest {
+
+    private static final Long SUBSCRIBER_ID = 1L;
+
+    @Mock
+    private SubscriptionQueryRepository subscriptionQueryRepository;
+
+    @Mock
+    private FollowingRedisRepository followingRedisRepository;
+
+    @InjectMocks
+    private SubscriptionReader subscriptionReader;
+
+    @Test
+    @DisplayName("구독 집합이 있으면 Redis 결과만으로 응답하고 DB 를 읽지 않는다")
+    void 집합_조회() {
+        // given
+        given(followingRedisRepository.findMembers(SUBSCRIBER_ID, List.of(10L, 20L))).willReturn(Optional.of(Set.of(20L)));
+
+        // when
+        Set<Long> subscribed = subscriptionReader.findSubscribedTargetIds(SUBSCRIBER_ID, List.of(10L, 20L, 10L));
+
+        // then
+        assertThat(subscribed).containsExactly(20L);
+        verifyNoInteractions(subscriptionQueryRepository);
+    }
+
+    @Test
+    @DisplayName("구독 집합이 없으면 DB 구독 목록으로 집합을 재구성하고 그 결과로 응답한다")
+    void 집합_재구성() {
+        // given
+        given(followingRedisRepository.findMembers(SUBSCRIBER_ID, List.of(10L, 20L))).willReturn(Optional.empty());
+        given(subscriptionQueryRepository.findTargetIds(SUBSCRIBER_ID)).willReturn(List.of(10L, 30L));
+
+        // when
+        Set<Long> subscribed = subscriptionReader.findSubscribedTargetIds(SUBSCRIBER_ID, List.of(10L, 20L));
+
+        // then
+        assertThat(subscribed).containsExactly(10L);
+        then(followingRedisRepository).should().startRebuild(SUBSCRIBER_ID);
+        then(followingRedisRepository).should().rebuild(SUBSCRIBER_ID, List.of(10L, 30L));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 (subscriber_id, target_id IN) 쿼리로 DB 에서 조회한다")
+    void Redis_장애_DB_조회() {
+        // given
+        given(followingRedisRepository.findMembers(SUBSCRIBER_ID, List.of(10L, 20L)))
+                .willThrow(new QueryTimeoutException("Redis 장애"));
+        given(subscriptionQueryRepository.findSubscriptions(SUBSCRIBER_ID, List.of(10L, 20L)))
+                .willReturn(List.of(Subscription.createSubscription(SUBSCRIBER_ID, 20L)));
+
+        // when
+        Set<Long> subscribed = subscriptionReader.findSubscribedTargetIds(SUBSCRIBER_ID, List.of(10L, 20L));
+
+        // then
+        assertThat(subscribed).containsExactly(20L);
+        then(subscriptionQueryRepository).should(never()).findTargetIds(anyLong());
+    }
+
+    @Test
+    @DisplayName("비회원이거나 대상이 없으면 조회하지 않는다")
+    void 비회원() {
+        assertThat(subscriptionReader.findSubscribedTargetIds(null, List.of(10L))).isEmpty();
+        assertThat(subscriptionReader.findSubscribedTargetIds(SUBSCRIBER_ID, List.of())).isEmpty();
+        then(followingRedisRepository).should(never()).findMembers(any(), any());
+    }
+}
@@ -0,0 +1,48 @@
+package study.blog.subscription.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.subscription.infrastructure.redis.FollowingRedisRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static study.blog.subscription.infrastructure.redis.FollowingRedisKeyGenerator.generateFollowingKey;
+import static study.blog.subscription.infrastructure.redis.FollowingRedisKeyGenerator.generateFollowingRebuildKey;
+
+class FollowingRedisRepositoryTest extends IntegrationTestSupport {
+
+    private static final Long MEMBER_ID = 9_000_002L;
+
+    @Autowired
+    private FollowingRedisRepository followingRedisRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(generateFollowingKey(MEMBER_ID), generateFollowingRebuildKey(MEMBER_ID)));
+    }
+
+    @Test
+    @DisplayName("재구성이 DB 를 읽은 뒤 들어온 구독 / 구독 취소도 재구성 결과에 반영된다")
+    void 재구성_중_변경_반영() {
+        // given - DB 에서 [1, 2] 를 읽은 직후 3 구독, 1 구독 취소가 커밋되었다
+        followingRedisRepository.startRebuild(MEMBER_ID);
+        followingRedisRepository.addIfPresent(MEMBER_ID, 3L);
+        followingRedisRepository.removeIfPresent(MEMBER_ID, 1L);
+
+        // when
+        followingRedisRepository.rebuild(MEMBER_ID, List.of(1L, 2L));
+
+        // then
+        assertThat(followingRedisRepository.findMembers(MEMBER_ID, List.of(1L, 2L, 3L)))
+                .hasValueSatisfying(subscribed -> assertThat(subscribed).containsExactlyInAnyOrder(2L, 3L));
+        assertThat(redisTemplate.hasKey(generateFollowingRebuildKey(MEMBER_ID))).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package study.blog.subscription.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.subscription.infrastructure.redis.TimelineEntry;
+import study.blog.subscription.infrastructure.redis.TimelineRedisRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static study.blog.subscription.infrastructure.redis.TimelineRedisKeyGenerator.generateTimelineKey;
+import static study.blog.subscription.infrastructure.redis.TimelineRedisKeyGenerator.generateTimelineRebuildKey;
+
+class TimelineRedisRepositoryTest extends IntegrationTestSupport {
+
+    private static final Long MEMBER_ID = 9_000_001L;
+
+    @Autowired
+    private TimelineRedisRepository timelineRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(generateTimelineKey(MEMBER_ID), generateTimelineRebuildKey(MEMBER_ID)));
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 발행된 글이 페이지 경계에 걸려도 빠지거나 중복되지 않는다")
+    void 같은_score_페이징() {
+        // given - postId 9, 10, 11 은 문자열 순과 숫자 순이 다르다
+        long sameMillis = 1_700_000_000_000L;
+        timelineRepository.rebuild(MEMBER_ID, List.of(
+                new TimelineEntry(9L, sameMillis),
+                new TimelineEntry(10L, sameMillis),
+                new TimelineEntry(11L, sameMillis),
+                new TimelineEntry(5L, sameMillis - 1)));
+
+        // when
+        List<Long> read = new ArrayList<>();
+        Long cursor = null;
+        Long cursorPostId = null;
+        while (true) {
+            List<TimelineEntry> page = timelineRepository.findBefore(MEMBER_ID, cursor, cursorPostId, 2);
+            page.forEach(entry -> read.add(entry.postId()));
+            if (page.size() < 2) break;
+            cursor = page.get(1).score();
+            cursorPostId = page.get(1).postId();
+        }
+
+        // then
+        assertThat(read).containsExactly(11L, 10L, 9L, 5L);
+    }
+
+    @Test
+    @DisplayName("재구성이 DB 를 읽은 뒤 push 된 글도 재구성 결과에 반영된다")
+    void 재구성_중_push_반영() {
+        // given
+        timelineRepository.startRebuild(MEMBER_ID);
+        timelineRepository.addToTimelines(List.of(MEMBER_ID), 2L, 2_000L);
+
+        // when
+        timelineRepository.rebuild(MEMBER_ID, List.of(new TimelineEntry(1L, 1_000L)));
+
+        // then
+        assertThat(timelineRepository.findBefore(MEMBER_ID, null, null, 10))
+                .containsExactly(new TimelineEntry(2L, 2_000L), new TimelineEntry(1L, 1_000L));
+    }
+}
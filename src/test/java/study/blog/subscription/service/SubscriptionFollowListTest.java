@@ -0,0 +1,82 @@
+package study.blog.subscription.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import study.blog.global.IntegrationTestSupport;
+import study.blog.member.entity.Member;
+import study.blog.member.repository.MemberRepository;
+import study.blog.subscription.application.SubscriptionQueryService;
+import study.blog.subscription.domain.entity.Subscription;
+import study.blog.subscription.infrastructure.command.SubscriptionCommandRepository;
+import study.blog.subscription.persenation.response.FollowListResponse;
+import study.blog.subscription.persenation.response.FollowMemberResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("구독자 / 구독 목록 커서 페이징 통합 테스트")
+class SubscriptionFollowListTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SubscriptionQueryService subscriptionQueryService;
+
+    @Autowired
+    private SubscriptionCommandRepository subscriptionCommandRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("구독자 목록은 최신 구독순으로 size 만큼 읽고, 마지막 페이지에서 nextCursor 가 null 이다")
+    void 구독자_목록_페이징() {
+        // given - follower1, follower2, follower3 순서로 구독했다
+        Member target = saveMember("target");
+        List<Member> followers = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Member follower = saveMember("follower" + i);
+            followers.add(follower);
+            subscriptionCommandRepository.save(Subscription.createSubscription(follower.getId(), target.getId()));
+        }
+
+        // when
+        FollowListResponse first = subscriptionQueryService.getFollowers(target.getId(), null, 2);
+        FollowListResponse second = subscriptionQueryService.getFollowers(target.getId(), first.nextCursor(), 2);
+
+        // then
+        assertThat(first.members()).extracting(FollowMemberResponse::nickname)
+                .containsExactly(followers.get(2).getNickname(), followers.get(1).getNickname());
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.members()).extracting(FollowMemberResponse::nickname)
+                .containsExactly(followers.get(0).getNickname());
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("구독 목록은 회원이 구독한 대상만 최신 구독순으로 읽는다")
+    void 구독_목록() {
+        // given
+        Member subscriber = saveMember("subscriber");
+        Member first = saveMember("first");
+        Member second = saveMember("second");
+        Member other = saveMember("other");
+        subscriptionCommandRepository.save(Subscription.createSubscription(subscriber.getId(), first.getId()));
+        subscriptionCommandRepository.save(Subscription.createSubscription(subscriber.getId(), second.getId()));
+        subscriptionCommandRepository.save(Subscription.createSubscription(other.getId(), first.getId()));
+
+        // when
+        FollowListResponse response = subscriptionQueryService.getFollowings(subscriber.getId(), null, 10);
+
+        // then
+        assertThat(response.members()).extracting(FollowMemberResponse::memberId)
+                .containsExactly(second.getId(), first.getId());
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    private Member saveMember(String prefix) {
+        String suffix = String.valueOf(System.nanoTime() % 1_000_000_000L);
+        return memberRepository.save(Member.createMember(prefix + suffix + "@test.com", "password", prefix + suffix));
+    }
+}